@@ -16,6 +16,9 @@
  */
 package com.djrapitops.plan.delivery.web.resolver;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -33,6 +36,8 @@ public final class Response {
     final Map<String, String> headers;
     int code = 200;
     byte[] bytes;
+    byte[] gzippedBytes; // can be null (compressed when sent)
+    StreamedContent streamedContent; // can be null (bytes used)
     Charset charset; // can be null (raw bytes)
 
     Response() {
@@ -43,12 +48,46 @@ public final class Response {
         return new ResponseBuilder();
     }
 
+    /**
+     * Get the content of the response.
+     * <p>
+     * Streamed content is written into memory on first call.
+     *
+     * @return Bytes of the content.
+     * @throws UncheckedIOException If writing streamed content fails.
+     */
     public byte[] getBytes() {
+        if (bytes == null && streamedContent != null) {
+            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                streamedContent.writeTo(out);
+                bytes = out.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return bytes;
     }
 
+    /**
+     * Get content that should be written to the connection as it is sent.
+     *
+     * @return Streamed content, or empty if the content is given as bytes.
+     */
+    public Optional<StreamedContent> getStreamedContent() {
+        return Optional.ofNullable(streamedContent);
+    }
+
+    /**
+     * Get gzip compressed form of the content if it was given when building the response.
+     *
+     * @return Compressed bytes, or empty if the content should be compressed when sending.
+     */
+    public Optional<byte[]> getGzippedBytes() {
+        return Optional.ofNullable(gzippedBytes);
+    }
+
     public String getAsString() {
-        return new String(bytes, StandardCharsets.UTF_8);
+        return new String(getBytes(), StandardCharsets.UTF_8);
     }
 
     public int getCode() {
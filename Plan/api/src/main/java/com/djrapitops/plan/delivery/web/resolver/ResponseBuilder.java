@@ -18,7 +18,11 @@ package com.djrapitops.plan.delivery.web.resolver;
 
 import com.djrapitops.plan.delivery.web.resource.WebResource;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -87,6 +91,8 @@ public class ResponseBuilder {
 
     public ResponseBuilder setContent(byte[] bytes) {
         response.bytes = bytes;
+        response.streamedContent = null;
+        response.gzippedBytes = null; // Compressed form of previous content
         return setHeader("Content-Length", bytes.length)
                 .setHeader("Accept-Ranges", "bytes"); // Does not compress
     }
@@ -98,6 +104,26 @@ public class ResponseBuilder {
     public ResponseBuilder setContent(String content, Charset charset) {
         if (content == null) return setContent(new byte[0]);
         if (charset == null) return setContent(content); // UTF-8 used
+        return setContent(content.getBytes(charset), charset);
+    }
+
+    /**
+     * Set content as text that has already been encoded.
+     * <p>
+     * Allows sending the same encoded text to multiple users without encoding it again.
+     *
+     * @param encoded Text encoded with the given charset.
+     * @param charset Charset used to encode the text.
+     * @return this builder.
+     */
+    public ResponseBuilder setContent(byte[] encoded, Charset charset) {
+        if (charset == null) return setContent(encoded);
+        return setCharset(charset)
+                .setContent(encoded)
+                .removeHeader("Accept-Ranges"); // Can compress
+    }
+
+    private ResponseBuilder setCharset(Charset charset) {
         String mimeType = getMimeType();
         response.charset = charset;
 
@@ -107,11 +133,65 @@ public class ResponseBuilder {
                 setMimeType(parts[0] + "; charset=" + charset.name().toLowerCase());
             }
         }
+        return this;
+    }
 
-        return setContent(content.getBytes(charset))
+    /**
+     * Set content that is written to the connection when the response is sent.
+     * <p>
+     * Content length is not known beforehand, so the response is sent in chunks.
+     * Use for large content that should not be held in memory as a whole.
+     *
+     * @param content Writes the content.
+     * @return this builder.
+     */
+    public ResponseBuilder setStreamedContent(StreamedContent content) {
+        response.bytes = null;
+        response.streamedContent = content;
+        response.gzippedBytes = null; // Compressed form of previous content
+        return removeHeader("Content-Length")
                 .removeHeader("Accept-Ranges"); // Can compress
     }
 
+    /**
+     * Set content as JSON that is serialized while the response is being sent.
+     * <p>
+     * Avoids holding serialized form of large objects in memory.
+     *
+     * @param objectToSerialize Object to serialize into JSON with Gson. If the object is a String it is assumed to be valid JSON.
+     * @return this builder.
+     */
+    public ResponseBuilder setStreamedJSONContent(Object objectToSerialize) {
+        setMimeType(MimeType.JSON).setCharset(StandardCharsets.UTF_8);
+        if (objectToSerialize instanceof String) {
+            String json = (String) objectToSerialize;
+            return setStreamedContent(out -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write(json);
+                writer.flush();
+            });
+        }
+        return setStreamedContent(out -> {
+            JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            new Gson().toJson(objectToSerialize, objectToSerialize.getClass(), writer);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Set already gzip compressed form of the content.
+     * <p>
+     * Avoids compressing the same content again when it is sent to multiple users.
+     * Call after setting the content, setting content again discards the compressed form.
+     *
+     * @param gzippedBytes Content compressed with gzip, must decompress to the bytes given as content.
+     * @return this builder.
+     */
+    public ResponseBuilder setGzippedContent(byte[] gzippedBytes) {
+        response.gzippedBytes = gzippedBytes;
+        return this;
+    }
+
     /**
      * Set content as serialized JSON object.
      *
@@ -138,14 +218,16 @@ public class ResponseBuilder {
      */
     public Response build() {
         byte[] content = response.bytes;
-        if(content == null && response.code == 204) {
+        boolean streamed = response.streamedContent != null;
+        if(content == null && !streamed && response.code == 204) {
             // HTTP Code 204 requires no response, so there is no need to validate it.
             return response;
         }
-        exceptionIf(content == null, "Content not defined for Response");
+        exceptionIf(content == null && !streamed, "Content not defined for Response");
         String mimeType = getMimeType();
-        exceptionIf(content.length > 0 && mimeType == null, "MIME Type not defined for Response");
-        exceptionIf(content.length > 0 && mimeType.isEmpty(), "MIME Type empty for Response");
+        boolean hasContent = streamed || content.length > 0;
+        exceptionIf(hasContent && mimeType == null, "MIME Type not defined for Response");
+        exceptionIf(hasContent && mimeType.isEmpty(), "MIME Type empty for Response");
         exceptionIf(response.code < 100 || response.code >= 600, "HTTP Status code out of bounds (" + response.code + ")");
         return response;
     }
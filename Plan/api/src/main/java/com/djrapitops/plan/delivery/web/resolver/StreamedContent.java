@@ -0,0 +1,42 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web.resolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Content of a {@link Response} that is written to the connection when the response is sent.
+ * <p>
+ * Allows sending large content without holding it in memory as a byte array.
+ *
+ * @author AuroraLS3
+ * @see ResponseBuilder#setStreamedContent(StreamedContent)
+ */
+@FunctionalInterface
+public interface StreamedContent {
+
+    /**
+     * Write the content.
+     * <p>
+     * The content may be written more than once, eg. when the response is exported.
+     *
+     * @param out Stream to write the content to, closed after writing by the caller.
+     * @throws IOException If writing to the stream fails.
+     */
+    void writeTo(OutputStream out) throws IOException;
+}
@@ -0,0 +1,93 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web.resolver;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for streamed content of {@link ResponseBuilder}.
+ *
+ * @author AuroraLS3
+ */
+class ResponseBuilderTest {
+
+    @Test
+    void streamedJSONMatchesSerializedJSON() throws IOException {
+        Map<String, Object> json = Collections.singletonMap("players", Collections.nCopies(100, "Player"));
+        Response response = Response.builder().setStreamedJSONContent(json).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getStreamedContent().orElseThrow(AssertionError::new).writeTo(out);
+        assertEquals(new Gson().toJson(json), out.toString("UTF-8"));
+    }
+
+    @Test
+    void streamedContentCanBeReadAsBytes() {
+        Response response = Response.builder().setStreamedJSONContent("{\"value\":\"ä\"}").build();
+
+        assertEquals("{\"value\":\"ä\"}", response.getAsString());
+    }
+
+    @Test
+    void streamedJSONHasCharsetAndNoLength() {
+        Response response = Response.builder()
+                .setContent(new byte[]{1, 2, 3})
+                .setStreamedJSONContent("{}")
+                .build();
+
+        assertEquals(MimeType.JSON + "; charset=utf-8", response.getHeaders().get("Content-Type"));
+        assertFalse(response.getHeaders().containsKey("Content-Length"));
+        assertTrue(response.getStreamedContent().isPresent());
+    }
+
+    @Test
+    void bytesReplaceStreamedContent() {
+        Response response = Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setStreamedContent(out -> out.write(1))
+                .setContent("{}")
+                .build();
+
+        assertFalse(response.getStreamedContent().isPresent());
+        assertEquals("{}", response.getAsString());
+    }
+
+    @Test
+    void newContentDiscardsGzippedContent() {
+        Response replacedWithBytes = Response.builder()
+                .setContent("{}")
+                .setGzippedContent(new byte[]{1, 2, 3})
+                .setContent("{\"value\":1}")
+                .build();
+        Response replacedWithStream = Response.builder()
+                .setContent("{}")
+                .setGzippedContent(new byte[]{1, 2, 3})
+                .setStreamedJSONContent("{\"value\":1}")
+                .build();
+
+        assertFalse(replacedWithBytes.getGzippedBytes().isPresent());
+        assertFalse(replacedWithStream.getGzippedBytes().isPresent());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Benchmarks for the {@link ActivityIndexQueries}, the slowest queries on the server overview.
+ *
+ * @author AuroraLS3
+ */
+public class ActivityIndexQueriesBenchmark {
+
+    @Benchmark
+    public Map<String, Integer> activityIndexGroupings(DatabaseState state) {
+        return state.db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(DatabaseState.BEFORE, state.serverUUID(), DatabaseState.PLAYTIME_THRESHOLD));
+    }
+
+    @Benchmark
+    public Integer regularPlayerCount(DatabaseState state) {
+        return state.db().query(ActivityIndexQueries.fetchRegularPlayerCount(DatabaseState.BEFORE, state.serverUUID(), DatabaseState.PLAYTIME_THRESHOLD));
+    }
+
+    @Benchmark
+    public Integer newPlayersTurnedRegular(DatabaseState state) {
+        return state.db().query(ActivityIndexQueries.countNewPlayersTurnedRegular(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID(), DatabaseState.PLAYTIME_THRESHOLD));
+    }
+
+    @Benchmark
+    public Integer regularPlayersTurnedInactive(DatabaseState state) {
+        return state.db().query(ActivityIndexQueries.countRegularPlayersTurnedInactive(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID(), DatabaseState.PLAYTIME_THRESHOLD));
+    }
+
+    @Benchmark
+    public Collection<ActivityIndex> activityIndexForNewPlayers(DatabaseState state) {
+        return state.db().query(ActivityIndexQueries.activityIndexForNewPlayers(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID(), DatabaseState.PLAYTIME_THRESHOLD));
+    }
+}
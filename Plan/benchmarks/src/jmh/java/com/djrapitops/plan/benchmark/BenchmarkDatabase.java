@@ -0,0 +1,144 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.DaggerDatabaseTestComponent;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseTestComponent;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import utilities.TestConstants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Database with a {@link BenchmarkDataset} for benchmarks to query.
+ * <p>
+ * SQLite databases are kept in the data folder and reused while they contain the expected amount of users.
+ * MySQL databases are served by an embedded MariaDB in a temporary folder, and are generated again for each trial.
+ *
+ * @author AuroraLS3
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String DATA_FOLDER_PROPERTY = "plan.benchmark.dataFolder";
+    private static final String MYSQL_DATABASE = "plan";
+
+    private final DatabaseTestComponent component;
+    private final DB mariaDB;
+    private final Database database;
+
+    private BenchmarkDatabase(DatabaseTestComponent component, DB mariaDB, Database database) {
+        this.component = component;
+        this.mariaDB = mariaDB;
+        this.database = database;
+    }
+
+    public static BenchmarkDatabase prepare(DBType type, int userCount) throws IOException {
+        Path dataFolder = getDataFolder().resolve(type.getName() + "-" + userCount + "-" + BenchmarkDataset.SEED);
+        Files.createDirectories(dataFolder);
+
+        DatabaseTestComponent component = DaggerDatabaseTestComponent.builder()
+                .bindTemporaryDirectory(dataFolder)
+                .build();
+        PlanConfig config = component.config();
+        config.set(DatabaseSettings.TYPE, type.getName());
+        DB mariaDB = type == DBType.MYSQL ? startMariaDB(config) : null;
+
+        component.enable();
+        Database database = component.dbSystem().getDatabase();
+        populate(database, userCount);
+        return new BenchmarkDatabase(component, mariaDB, database);
+    }
+
+    private static Path getDataFolder() {
+        String dataFolder = System.getProperty(DATA_FOLDER_PROPERTY);
+        if (dataFolder != null) return Path.of(dataFolder);
+        return Path.of(System.getProperty("java.io.tmpdir"), "plan-benchmark-data");
+    }
+
+    private static DB startMariaDB(PlanConfig config) throws IOException {
+        try {
+            DB mariaDB = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder()
+                    .setPort(0) // Any free port
+                    .build());
+            mariaDB.start();
+            mariaDB.createDB(MYSQL_DATABASE);
+
+            config.set(DatabaseSettings.MYSQL_HOST, "127.0.0.1");
+            config.set(DatabaseSettings.MYSQL_PORT, Integer.toString(mariaDB.getConfiguration().getPort()));
+            config.set(DatabaseSettings.MYSQL_DATABASE, MYSQL_DATABASE);
+            config.set(DatabaseSettings.MYSQL_USER, "root");
+            config.set(DatabaseSettings.MYSQL_PASS, "");
+            return mariaDB;
+        } catch (ManagedProcessException e) {
+            throw new IOException("Failed to start embedded MariaDB: " + e.getMessage(), e);
+        }
+    }
+
+    private static void populate(Database database, int userCount) {
+        int existingUsers = database.query(PlayerCountQueries.newPlayerCount(0L, Long.MAX_VALUE));
+        if (existingUsers == userCount) return;
+
+        try {
+            if (existingUsers > 0) {
+                database.executeTransaction(new RemoveEverythingTransaction()).get();
+            }
+            database.executeTransaction(new StoreServerInformationTransaction(
+                    new Server(getServerUUID(), "Benchmark", "", TestConstants.VERSION)
+            )).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while preparing benchmark database", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to prepare benchmark database", e.getCause());
+        }
+        new BenchmarkDataset(userCount, getServerUUID()).writeTo(database);
+    }
+
+    public static ServerUUID getServerUUID() {
+        return TestConstants.SERVER_UUID;
+    }
+
+    public Database getDatabase() {
+        return database;
+    }
+
+    public DatabaseTestComponent getComponent() {
+        return component;
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        component.disable();
+        if (mariaDB != null) {
+            mariaDB.stop();
+        }
+    }
+}
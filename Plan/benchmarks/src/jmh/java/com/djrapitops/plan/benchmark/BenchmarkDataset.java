@@ -0,0 +1,190 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
+import com.djrapitops.plan.gathering.domain.event.JoinAddress;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the same synthetic dataset for the same user count on every run.
+ * <p>
+ * All randomness comes from a fixed seed and all timestamps are relative to {@link #DATASET_END} instead of the
+ * current time, so that query results (and the work done for them) do not change between runs.
+ *
+ * @author AuroraLS3
+ */
+public class BenchmarkDataset {
+
+    public static final long SEED = 20240101L;
+    public static final long DATASET_END = 1735689600000L; // 2025-01-01T00:00:00Z
+    public static final long DATASET_START = DATASET_END - TimeUnit.DAYS.toMillis(365L);
+    public static final long TPS_START = DATASET_END - TimeUnit.DAYS.toMillis(30L);
+
+    private static final int USERS_PER_TRANSACTION = 5000;
+    private static final int MAX_SESSIONS_PER_USER = 8;
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end"};
+    private static final String[] JOIN_ADDRESSES = {"play.example.com", "mc.example.com", "example.com", "127.0.0.1"};
+
+    private final int userCount;
+    private final ServerUUID serverUUID;
+    private final Random random;
+
+    public BenchmarkDataset(int userCount, ServerUUID serverUUID) {
+        this.userCount = userCount;
+        this.serverUUID = serverUUID;
+        this.random = new Random(SEED);
+    }
+
+    public void writeTo(Database database) {
+        for (int written = 0; written < userCount; written += USERS_PER_TRANSACTION) {
+            int batchSize = Math.min(USERS_PER_TRANSACTION, userCount - written);
+            waitFor(database.executeTransaction(generateUsers(written, batchSize)));
+        }
+        waitFor(database.executeTransaction(generateTPS()));
+    }
+
+    private static void waitFor(Future<?> transaction) {
+        try {
+            transaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing benchmark dataset", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to write benchmark dataset", e.getCause());
+        }
+    }
+
+    private Transaction generateUsers(int firstIndex, int batchSize) {
+        List<BaseUser> users = new ArrayList<>(batchSize);
+        List<UserInfo> userInfo = new ArrayList<>(batchSize);
+        List<FinishedSession> sessions = new ArrayList<>(batchSize * MAX_SESSIONS_PER_USER / 2);
+        Map<UUID, List<Ping>> pings = new HashMap<>();
+
+        for (int i = 0; i < batchSize; i++) {
+            UUID playerUUID = new UUID(random.nextLong(), random.nextLong());
+            long registered = DATASET_START + randomLong(DATASET_END - DATASET_START - TimeUnit.HOURS.toMillis(4L));
+            String joinAddress = JOIN_ADDRESSES[random.nextInt(JOIN_ADDRESSES.length)];
+
+            users.add(new BaseUser(playerUUID, "Player" + (firstIndex + i), registered, random.nextInt(3)));
+            userInfo.add(new UserInfo(playerUUID, serverUUID, registered, random.nextInt(100) == 0, joinAddress, random.nextInt(200) == 0));
+
+            int sessionCount = 1 + random.nextInt(MAX_SESSIONS_PER_USER);
+            List<Ping> playerPings = new ArrayList<>(sessionCount);
+            for (int s = 0; s < sessionCount; s++) {
+                FinishedSession session = generateSession(playerUUID, registered, joinAddress);
+                sessions.add(session);
+                playerPings.add(generatePing(session.getStart()));
+            }
+            pings.put(playerUUID, playerPings);
+        }
+
+        return new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(LargeStoreQueries.storeAllCommonUserInformation(users));
+                execute(LargeStoreQueries.storePerServerUserInformation(Collections.singletonMap(serverUUID, userInfo)));
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions, dbType));
+                execute(LargeStoreQueries.storeAllPingData(pings));
+            }
+        };
+    }
+
+    private FinishedSession generateSession(UUID playerUUID, long registered, String joinAddress) {
+        long length = TimeUnit.MINUTES.toMillis(5L) + randomLong(TimeUnit.HOURS.toMillis(3L));
+        long start = registered + randomLong(DATASET_END - registered - length);
+        long end = start + length;
+        long afkTime = random.nextInt(4) == 0 ? randomLong(length / 4) : 0L;
+
+        DataMap extraData = new DataMap();
+        extraData.put(WorldTimes.class, generateWorldTimes(length));
+        extraData.put(JoinAddress.class, new JoinAddress(joinAddress));
+        extraData.put(MobKillCounter.class, new MobKillCounter());
+        extraData.put(DeathCounter.class, new DeathCounter());
+        return new FinishedSession(playerUUID, serverUUID, start, end, afkTime, extraData);
+    }
+
+    private WorldTimes generateWorldTimes(long length) {
+        String[] gms = GMTimes.getGMKeyArray();
+        Map<String, GMTimes> times = new HashMap<>();
+        long remaining = length;
+        int worldCount = 1 + random.nextInt(WORLDS.length);
+        for (int w = 0; w < worldCount; w++) {
+            long worldTime = w == worldCount - 1 ? remaining : randomLong(remaining);
+            remaining -= worldTime;
+
+            Map<String, Long> gmTimes = new HashMap<>();
+            long survival = worldTime - randomLong(worldTime / 10 + 1);
+            gmTimes.put(gms[0], survival);
+            gmTimes.put(gms[1], worldTime - survival);
+            gmTimes.put(gms[2], 0L);
+            gmTimes.put(gms[3], 0L);
+            times.put(WORLDS[w], new GMTimes(gmTimes));
+        }
+        return new WorldTimes(times);
+    }
+
+    private Ping generatePing(long date) {
+        int min = 5 + random.nextInt(50);
+        int max = min + random.nextInt(150);
+        return new Ping(date, serverUUID, min, max, (min + max) / 2.0);
+    }
+
+    private Transaction generateTPS() {
+        long interval = TimeUnit.MINUTES.toMillis(1L);
+        int maxPlayers = Math.max(10, userCount / 500);
+        List<TPS> tps = new ArrayList<>();
+        for (long date = TPS_START; date < DATASET_END; date += interval) {
+            tps.add(TPSBuilder.get()
+                    .date(date)
+                    .tps(20.0 - random.nextDouble() * 3.0)
+                    .playersOnline(random.nextInt(maxPlayers))
+                    .usedCPU(random.nextDouble() * 100.0)
+                    .usedMemory(1024L + random.nextInt(3072))
+                    .entities(random.nextInt(5000))
+                    .chunksLoaded(random.nextInt(2000))
+                    .freeDiskSpace(50000L + random.nextInt(1000))
+                    .msptAverage(20.0 + random.nextDouble() * 30.0)
+                    .mspt95thPercentile(40.0 + random.nextDouble() * 30.0)
+                    .toTPS());
+        }
+        return new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(LargeStoreQueries.storeAllTPSData(Collections.singletonMap(serverUUID, tps)));
+            }
+        };
+    }
+
+    private long randomLong(long bound) {
+        if (bound <= 0) return 0L;
+        return (long) (random.nextDouble() * bound);
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.Database;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared JMH state that holds a populated database of each type and size.
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+public class DatabaseState {
+
+    public static final long AFTER = BenchmarkDataset.DATASET_END - TimeUnit.DAYS.toMillis(30L);
+    public static final long BEFORE = BenchmarkDataset.DATASET_END;
+    public static final long PLAYTIME_THRESHOLD = TimeUnit.HOURS.toMillis(1L);
+    public static final long TIMEZONE_OFFSET = 0L;
+
+    @Param({"10000", "100000", "1000000"})
+    public int users;
+
+    @Param({"SQLITE", "MYSQL"})
+    public DBType databaseType;
+
+    private BenchmarkDatabase benchmarkDatabase;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        benchmarkDatabase = BenchmarkDatabase.prepare(databaseType, users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (benchmarkDatabase != null) benchmarkDatabase.close();
+    }
+
+    public Database db() {
+        return benchmarkDatabase.getDatabase();
+    }
+
+    public BenchmarkDatabase getBenchmarkDatabase() {
+        return benchmarkDatabase;
+    }
+
+    public ServerUUID serverUUID() {
+        return BenchmarkDatabase.getServerUUID();
+    }
+}
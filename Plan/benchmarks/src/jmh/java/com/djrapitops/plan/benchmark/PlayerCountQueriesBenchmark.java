@@ -0,0 +1,50 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.NavigableMap;
+
+/**
+ * Benchmarks for the {@link PlayerCountQueries} used by server overview and online activity.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerCountQueriesBenchmark {
+
+    @Benchmark
+    public Integer uniquePlayerCount(DatabaseState state) {
+        return state.db().query(PlayerCountQueries.uniquePlayerCount(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+
+    @Benchmark
+    public NavigableMap<Long, Integer> uniquePlayerCountsPerDay(DatabaseState state) {
+        return state.db().query(PlayerCountQueries.uniquePlayerCounts(DatabaseState.AFTER, DatabaseState.BEFORE, DatabaseState.TIMEZONE_OFFSET, state.serverUUID()));
+    }
+
+    @Benchmark
+    public NavigableMap<Long, Integer> newPlayerCountsPerDay(DatabaseState state) {
+        return state.db().query(PlayerCountQueries.newPlayerCounts(DatabaseState.AFTER, DatabaseState.BEFORE, DatabaseState.TIMEZONE_OFFSET, state.serverUUID()));
+    }
+
+    @Benchmark
+    public Integer retainedPlayerCount(DatabaseState state) {
+        return state.db().query(PlayerCountQueries.retainedPlayerCount(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.rendering.json.PlayersTableJSONCreator;
+import com.djrapitops.plan.extension.implementation.results.ExtensionTabData;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerTableDataQuery;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
+import com.djrapitops.plan.settings.locale.Locale;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Benchmarks the players table pipeline: database query, {@link PlayersTableJSONCreator} and serialization.
+ *
+ * @author AuroraLS3
+ */
+public class PlayersTableJSONCreatorBenchmark {
+
+    @Benchmark
+    public List<TablePlayer> tablePlayersQuery(DatabaseState state, PipelineState pipeline) {
+        return state.db().query(new ServerTablePlayersQuery(state.serverUUID(), DatabaseState.BEFORE, DatabaseState.PLAYTIME_THRESHOLD, pipeline.xMostRecentPlayers));
+    }
+
+    @Benchmark
+    public String playersTableJSON(DatabaseState state, PipelineState pipeline) {
+        Database db = state.db();
+        List<TablePlayer> players = db.query(new ServerTablePlayersQuery(state.serverUUID(), DatabaseState.BEFORE, DatabaseState.PLAYTIME_THRESHOLD, pipeline.xMostRecentPlayers));
+        Map<UUID, ExtensionTabData> extensionData = db.query(new ExtensionServerTableDataQuery(state.serverUUID(), pipeline.xMostRecentPlayers));
+        PlayersTableJSONCreator creator = new PlayersTableJSONCreator(players, extensionData, false, pipeline.formatters, pipeline.locale);
+        return pipeline.gson.toJson(creator.toPlayerList());
+    }
+
+    @State(Scope.Benchmark)
+    public static class PipelineState {
+        Formatters formatters;
+        Locale locale;
+        Gson gson;
+        int xMostRecentPlayers;
+
+        @Setup(Level.Trial)
+        public void setUp(DatabaseState state) {
+            formatters = state.getBenchmarkDatabase().getComponent().deliveryUtilities().getFormatters();
+            locale = new Locale();
+            gson = new Gson();
+            xMostRecentPlayers = state.getBenchmarkDatabase().getComponent().config().get(DisplaySettings.PLAYERS_PER_SERVER_PAGE);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks concurrent page loads on SQLite, which are served from the pool of read connections.
+ * <p>
+ * Compare the single thread score to the multi thread scores to see how well reads scale.
+ *
+ * @author AuroraLS3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SQLiteConcurrentReadBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public long singleReader(SQLiteState state) {
+        return read(state.db());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long fourReaders(SQLiteState state) {
+        return read(state.db());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long eightReaders(SQLiteState state) {
+        return read(state.db());
+    }
+
+    private static long read(Database db) {
+        long playtime = db.query(SessionQueries.playtime(DatabaseState.AFTER, DatabaseState.BEFORE, BenchmarkDatabase.getServerUUID()));
+        int players = db.query(PlayerCountQueries.uniquePlayerCount(DatabaseState.AFTER, DatabaseState.BEFORE, BenchmarkDatabase.getServerUUID()));
+        return playtime + players;
+    }
+
+    @State(Scope.Benchmark)
+    public static class SQLiteState {
+        @Param({"10000", "100000", "1000000"})
+        public int users;
+
+        private BenchmarkDatabase benchmarkDatabase;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            benchmarkDatabase = BenchmarkDatabase.prepare(DBType.SQLITE, users);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            if (benchmarkDatabase != null) benchmarkDatabase.close();
+        }
+
+        public Database db() {
+            return benchmarkDatabase.getDatabase();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.NavigableMap;
+
+/**
+ * Benchmarks for the {@link SessionQueries} used by server and network pages.
+ *
+ * @author AuroraLS3
+ */
+public class SessionQueriesBenchmark {
+
+    @Benchmark
+    public Long playtime(DatabaseState state) {
+        return state.db().query(SessionQueries.playtime(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+
+    @Benchmark
+    public NavigableMap<Long, Long> playtimePerDay(DatabaseState state) {
+        return state.db().query(SessionQueries.playtimePerDay(DatabaseState.AFTER, DatabaseState.BEFORE, DatabaseState.TIMEZONE_OFFSET, state.serverUUID()));
+    }
+
+    @Benchmark
+    public NavigableMap<Long, Integer> sessionCountPerDay(DatabaseState state) {
+        return state.db().query(SessionQueries.sessionCountPerDay(DatabaseState.AFTER, DatabaseState.BEFORE, DatabaseState.TIMEZONE_OFFSET, state.serverUUID()));
+    }
+
+    @Benchmark
+    public Long averagePlaytimePerPlayer(DatabaseState state) {
+        return state.db().query(SessionQueries.averagePlaytimePerPlayer(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+
+    @Benchmark
+    public Long activePlaytime(DatabaseState state) {
+        return state.db().query(SessionQueries.activePlaytime(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+
+    @Benchmark
+    public List<FinishedSession> latestSessionsOfServer(DatabaseState state) {
+        return state.db().query(SessionQueries.fetchLatestSessionsOfServer(state.serverUUID(), 50));
+    }
+
+    @Benchmark
+    public List<FinishedSession> serverSessionsWithoutKillOrWorldData(DatabaseState state) {
+        return state.db().query(SessionQueries.fetchServerSessionsWithoutKillOrWorldData(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+}
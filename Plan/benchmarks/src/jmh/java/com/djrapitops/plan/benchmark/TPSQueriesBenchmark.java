@@ -0,0 +1,53 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.benchmark;
+
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link TPSQueries} used by performance graphs and server overview.
+ *
+ * @author AuroraLS3
+ */
+public class TPSQueriesBenchmark {
+
+    @Benchmark
+    public List<TPS> tpsDataOfServer(DatabaseState state) {
+        return state.db().query(TPSQueries.fetchTPSDataOfServer(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+
+    @Benchmark
+    public List<TPS> tpsDataOfServerInResolution(DatabaseState state) {
+        return state.db().query(TPSQueries.fetchTPSDataOfServerInResolution(DatabaseState.AFTER, DatabaseState.BEFORE, TimeUnit.MINUTES.toMillis(5L), state.serverUUID()));
+    }
+
+    @Benchmark
+    public Double averageTPS(DatabaseState state) {
+        return state.db().query(TPSQueries.averageTPS(DatabaseState.AFTER, DatabaseState.BEFORE, state.serverUUID()));
+    }
+
+    @Benchmark
+    public Optional<Long> latestServerStartTime(DatabaseState state) {
+        return state.db().query(TPSQueries.fetchLatestServerStartTime(state.serverUUID(), TimeUnit.MINUTES.toMillis(3L)));
+    }
+}
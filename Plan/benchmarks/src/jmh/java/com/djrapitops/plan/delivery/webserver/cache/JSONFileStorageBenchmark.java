@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.storage.file.PlanFiles;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import utilities.TestPluginLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks {@link JSONFileStorage} lookups when the json directory contains 10 000 files.
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+public class JSONFileStorageBenchmark {
+
+    private static final int IDENTIFIERS = 100;
+    private static final int FILES_PER_IDENTIFIER = 100;
+    private static final long FIRST_TIMESTAMP = 1735689600000L;
+
+    private Path jsonDirectory;
+    private PlanFiles files;
+    private JSONFileStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jsonDirectory = Files.createTempDirectory("plan-json-benchmark");
+        files = Mockito.mock(PlanFiles.class);
+        when(files.getJSONStorageDirectory()).thenReturn(jsonDirectory);
+
+        JSONFileStorage writer = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+        for (int i = 0; i < IDENTIFIERS; i++) {
+            for (int j = 0; j < FILES_PER_IDENTIFIER; j++) {
+                writer.storeJson(identifier(i), "{\"value\":" + j + "}", timestamp(j));
+            }
+        }
+
+        storage = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+        storage.enable();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(jsonDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static String identifier(int index) {
+        return "serverOverview_" + index;
+    }
+
+    private static long timestamp(int index) {
+        return FIRST_TIMESTAMP + index * 1000L;
+    }
+
+    @Benchmark
+    public Optional<JSONStorage.StoredJSON> fetchLatest() {
+        return storage.fetchJSON(identifier(IDENTIFIERS / 2));
+    }
+
+    @Benchmark
+    public Optional<JSONStorage.StoredJSON> fetchMadeAfter() {
+        return storage.fetchJsonMadeAfter(identifier(IDENTIFIERS / 2), timestamp(FILES_PER_IDENTIFIER / 2));
+    }
+
+    @Benchmark
+    public Optional<JSONStorage.StoredJSON> fetchMadeBefore() {
+        return storage.fetchJsonMadeBefore(identifier(IDENTIFIERS / 2), timestamp(FILES_PER_IDENTIFIER / 2));
+    }
+
+    @Benchmark
+    public Optional<Long> timestampOf() {
+        return storage.getTimestamp(identifier(IDENTIFIERS / 2));
+    }
+
+    @Benchmark
+    public JSONFileStorage buildIndex() {
+        JSONFileStorage restarted = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+        restarted.enable();
+        return restarted;
+    }
+}
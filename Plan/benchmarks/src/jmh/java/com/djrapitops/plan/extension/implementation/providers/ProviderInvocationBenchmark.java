@@ -0,0 +1,100 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.annotation.NumberProvider;
+import com.djrapitops.plan.extension.annotation.PluginInfo;
+import com.djrapitops.plan.extension.annotation.StringProvider;
+import com.djrapitops.plan.identification.ServerUUID;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-call cost of calling DataExtension provider methods through {@link MethodWrapper} and plain reflection.
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderInvocationBenchmark {
+
+    private BenchmarkExtension extension;
+    private Parameters playerParameters;
+    private Parameters serverParameters;
+
+    private Method playerMethod;
+    private Method serverMethod;
+    private MethodWrapper<Long> playerWrapper;
+    private MethodWrapper<String> serverWrapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        extension = new BenchmarkExtension();
+        playerParameters = Parameters.player(ServerUUID.randomUUID(), UUID.randomUUID(), "Player");
+        serverParameters = Parameters.server(ServerUUID.randomUUID());
+
+        // ExtensionExtractor makes the methods accessible the same way.
+        playerMethod = BenchmarkExtension.class.getMethod("playerValue", UUID.class);
+        playerMethod.setAccessible(true);
+        serverMethod = BenchmarkExtension.class.getMethod("serverValue");
+        serverMethod.setAccessible(true);
+
+        playerWrapper = new MethodWrapper<>(playerMethod, Long.class);
+        serverWrapper = new MethodWrapper<>(serverMethod, String.class);
+    }
+
+    @Benchmark
+    public Object playerMethodReflection() throws InvocationTargetException, IllegalAccessException {
+        return playerParameters.usingOn(extension, playerMethod);
+    }
+
+    @Benchmark
+    public Long playerMethodWrapper() {
+        return playerWrapper.callMethod(extension, playerParameters);
+    }
+
+    @Benchmark
+    public Object serverMethodReflection() throws InvocationTargetException, IllegalAccessException {
+        return serverParameters.usingOn(extension, serverMethod);
+    }
+
+    @Benchmark
+    public String serverMethodWrapper() {
+        return serverWrapper.callMethod(extension, serverParameters);
+    }
+
+    @PluginInfo(name = "Benchmark")
+    public static class BenchmarkExtension implements DataExtension {
+        private long counter;
+
+        @NumberProvider(text = "Player value")
+        public long playerValue(UUID playerUUID) {
+            return ++counter;
+        }
+
+        @StringProvider(text = "Server value")
+        public String serverValue() {
+            return "value";
+        }
+    }
+}
@@ -139,7 +139,7 @@ public abstract class BukkitImporter implements Importer {
             @Override
             protected void performOperations() {
                 execute(LargeStoreQueries.storeAllCommonUserInformation(users.values()));
-                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions, dbType));
                 Map<ServerUUID, List<UserInfo>> userInformation = Collections.singletonMap(serverUUID.get(), userInfo);
                 execute(LargeStoreQueries.storePerServerUserInformation(userInformation));
                 execute(LargeStoreQueries.storeAllNicknameData(Collections.singletonMap(serverUUID.get(), nickNames)));
@@ -28,9 +28,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.*;
 
 import javax.inject.Inject;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -45,13 +43,11 @@ public class BukkitAFKListener implements Listener {
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker afkTracker;
 
-    private final Map<UUID, Boolean> ignorePermissionInfo;
     private final ErrorLogger errorLogger;
 
     @Inject
     public BukkitAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         BukkitAFKListener.assignAFKTracker(config);
     }
@@ -66,22 +62,14 @@ public class BukkitAFKListener implements Listener {
         return afkTracker;
     }
 
+    private static boolean hasIgnorePermission(Player player) {
+        return player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+    }
+
     private void event(PlayerEvent event) {
         try {
             Player player = event.getPlayer();
-            UUID uuid = player.getUniqueId();
-            long time = System.currentTimeMillis();
-
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
-            if (ignored) {
-                afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-                return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
-            }
-
-            afkTracker.performedAction(uuid, time);
+            afkTracker.performedAction(player.getUniqueId(), System.currentTimeMillis(), player, BukkitAFKListener::hasIgnorePermission);
         } catch (Exception e) {
             errorLogger.error(e, ErrorContext.builder().related(event).build());
         }
@@ -107,9 +95,4 @@ public class BukkitAFKListener implements Listener {
         }
     }
 
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onLeave(PlayerQuitEvent event) {
-        ignorePermissionInfo.remove(event.getPlayer().getUniqueId());
-    }
-
 }
\ No newline at end of file
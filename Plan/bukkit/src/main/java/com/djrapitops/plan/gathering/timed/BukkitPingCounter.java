@@ -24,7 +24,7 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -65,7 +65,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
 
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -87,7 +87,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         startRecording = new ConcurrentHashMap<>();
-        playerHistory = new ConcurrentHashMap<>();
+        playerHistory = new PingSampler(() -> serverInfo.getServerUUID());
 
         Optional<PingMethod> loaded = loadPingMethod();
         if (loaded.isPresent()) {
@@ -149,25 +149,17 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = playerHistory.players();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 int ping = getPing(player);
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                int samplesPerRow = PingSampler.getSamplesPerRow(dbSystem.getDatabase().getBackpressure());
+                Optional<Ping> row = playerHistory.addSample(uuid, time, ping, samplesPerRow);
+                if (row.isPresent()) {
+                    dbSystem.getDatabase().executeTransaction(new PingStoreTransaction(uuid, row.get()));
                 }
             } else {
                 iterator.remove();
@@ -176,12 +168,12 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.addPlayer(uuid);
     }
 
     public void removePlayer(Player player) {
         startRecording.remove(player.getUniqueId());
-        playerHistory.remove(player.getUniqueId());
+        playerHistory.removePlayer(player.getUniqueId());
     }
 
     private int getPing(Player player) {
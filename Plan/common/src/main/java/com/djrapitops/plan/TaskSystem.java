@@ -53,6 +53,7 @@ public class TaskSystem implements SubSystem {
     @Override
     public void disable() {
         runnableFactory.cancelAllKnownTasks();
+        for (Task task : tasks) task.onDisable();
     }
 
     public <T extends Task> Optional<T> getTask(Class<T> ofType) {
@@ -64,6 +65,13 @@ public class TaskSystem implements SubSystem {
 
     public abstract static class Task extends PluginRunnable {
         public abstract void register(RunnableFactory runnableFactory);
+
+        /**
+         * Called after the task has been cancelled when the plugin disables, before database is closed.
+         */
+        public void onDisable() {
+            // Nothing to store by default
+        }
     }
 
 }
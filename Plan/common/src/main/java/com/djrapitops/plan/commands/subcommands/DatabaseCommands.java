@@ -41,6 +41,7 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.transactions.BackupCopyProgress;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.*;
@@ -56,7 +57,9 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -81,6 +84,9 @@ public class DatabaseCommands {
     private final Formatter<Long> timestamp;
     private final Formatter<Long> clock;
 
+    // Progress of restores and moves that failed midway, resumed when the same copy is attempted again.
+    private final Map<String, BackupCopyProgress> unfinishedCopies = new ConcurrentHashMap<>();
+
     @Inject
     public DatabaseCommands(
             Locale locale,
@@ -140,7 +146,7 @@ public class DatabaseCommands {
             sender.send(locale.getString(CommandLang.DB_BACKUP_CREATE, fileName, dbName));
             toDB = sqliteFactory.usingFileCalled(fileName);
             toDB.init();
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, new BackupCopyProgress(progressListenerFor(sender)))).get();
         } catch (DBOpException | ExecutionException e) {
             errorLogger.error(e, ErrorContext.builder().related(sender, arguments).build());
         } catch (InterruptedException e) {
@@ -199,7 +205,9 @@ public class DatabaseCommands {
             fromDB.init();
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getType().getName()));
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            String copy = backupDBFile.getAbsolutePath() + "->" + toDB.getType().getName();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, getCopyProgress(sender, copy))).get();
+            unfinishedCopies.remove(copy);
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -242,7 +250,9 @@ public class DatabaseCommands {
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getName()));
 
-            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+            String copy = fromDB.getName() + "->" + toDB.getName();
+            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase, getCopyProgress(sender, copy))).get();
+            unfinishedCopies.remove(copy);
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
@@ -259,6 +269,22 @@ public class DatabaseCommands {
     }
 
 
+    private BackupCopyProgress getCopyProgress(CMDSender sender, String copy) {
+        BackupCopyProgress unfinished = unfinishedCopies.get(copy);
+        if (unfinished != null && unfinished.isStarted()) {
+            sender.send(locale.getString(CommandLang.DB_COPY_RESUME, copy));
+            unfinished.setProgressListener(progressListenerFor(sender));
+            return unfinished;
+        }
+        BackupCopyProgress progress = new BackupCopyProgress(progressListenerFor(sender));
+        unfinishedCopies.put(copy, progress);
+        return progress;
+    }
+
+    private BiConsumer<String, Integer> progressListenerFor(CMDSender sender) {
+        return (tableName, percent) -> sender.send(locale.getString(CommandLang.DB_COPY_PROGRESS, tableName, percent));
+    }
+
     public void onClear(CMDSender sender, @Untrusted Arguments arguments) {
         DBType fromDB = arguments.get(0).flatMap(DBType::getForName)
                 .orElseThrow(() -> new IllegalArgumentException(locale.getString(CommandLang.FAIL_INCORRECT_DB, arguments.get(0).orElse(SUPPORTED_DB_OPTIONS))));
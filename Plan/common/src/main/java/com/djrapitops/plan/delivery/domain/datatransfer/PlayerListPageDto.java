@@ -0,0 +1,49 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain.datatransfer;
+
+import com.djrapitops.plan.delivery.domain.datatransfer.extension.ExtensionDescriptionDto;
+
+import java.util.List;
+
+/**
+ * One page of the players table.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerListPageDto extends PlayerListDto {
+
+    private final String nextCursor; // null on last page
+
+    public PlayerListPageDto(List<TablePlayerDto> players, List<ExtensionDescriptionDto> extensionDescriptors, String nextCursor) {
+        super(players, extensionDescriptors);
+        this.nextCursor = nextCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerListPageDto{" +
+                "players=" + getPlayers() +
+                ", extensionDescriptors=" + getExtensionDescriptors() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
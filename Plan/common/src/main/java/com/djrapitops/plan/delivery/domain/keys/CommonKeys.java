@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.domain.keys;
 
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
@@ -42,6 +43,7 @@ public class CommonKeys {
     public static final Key<List<Ping>> PING = new Key<>(new Type<>() {}, "ping");
 
     public static final Key<List<FinishedSession>> SESSIONS = new Key<>(new Type<>() {}, "sessions");
+    public static final Key<SessionsMutator.Summary> SESSION_SUMMARY = new Key<>(SessionsMutator.Summary.class, "session_summary");
     public static final Key<WorldTimes> WORLD_TIMES = new Key<>(WorldTimes.class, "world_times");
     public static final PlaceholderKey<Long> LAST_SEEN = new PlaceholderKey<>(Long.class, "lastSeen");
 
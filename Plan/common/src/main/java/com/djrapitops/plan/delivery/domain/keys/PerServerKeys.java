@@ -17,6 +17,7 @@
 package com.djrapitops.plan.delivery.domain.keys;
 
 import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
@@ -40,6 +41,7 @@ public class PerServerKeys {
     public static final Key<List<Ping>> PING = CommonKeys.PING;
 
     public static final Key<List<FinishedSession>> SESSIONS = CommonKeys.SESSIONS;
+    public static final Key<SessionsMutator.Summary> SESSION_SUMMARY = CommonKeys.SESSION_SUMMARY;
     public static final Key<WorldTimes> WORLD_TIMES = CommonKeys.WORLD_TIMES;
 
     public static final Key<Integer> PLAYER_KILL_COUNT = CommonKeys.PLAYER_KILL_COUNT;
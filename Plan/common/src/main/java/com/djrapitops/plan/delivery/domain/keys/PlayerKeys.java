@@ -19,6 +19,7 @@ package com.djrapitops.plan.delivery.domain.keys;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
 
 import java.util.List;
@@ -48,6 +49,7 @@ public class PlayerKeys {
 
     public static final Key<ActiveSession> ACTIVE_SESSION = new Key<>(ActiveSession.class, "active_session");
     public static final Key<List<FinishedSession>> SESSIONS = CommonKeys.SESSIONS;
+    public static final Key<SessionsMutator.Summary> SESSION_SUMMARY = CommonKeys.SESSION_SUMMARY;
     public static final Key<WorldTimes> WORLD_TIMES = CommonKeys.WORLD_TIMES;
 
     public static final Key<List<PlayerKill>> PLAYER_KILLS = CommonKeys.PLAYER_KILLS;
@@ -25,6 +25,7 @@ import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.ServerUUID;
 
 import java.util.*;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 /**
@@ -79,7 +80,55 @@ public class PerServerMutator {
         ServerUUID maxServer = null;
 
         for (Map.Entry<ServerUUID, DataContainer> entry : data.entrySet()) {
-            long total = SessionsMutator.forContainer(entry.getValue()).toPlaytime();
+            long total = summaryOf(entry.getValue()).toPlaytime();
+            if (total > max) {
+                max = total;
+                maxServer = entry.getKey();
+            }
+        }
+
+        return Optional.ofNullable(maxServer);
+    }
+
+    /**
+     * Combine the session summaries of all servers.
+     *
+     * @return Summary of the sessions on all servers.
+     */
+    public SessionsMutator.Summary toSessionSummary() {
+        SessionsMutator.Summary total = new SessionsMutator.Summary();
+        for (DataContainer container : data.values()) {
+            total.combine(summaryOf(container));
+        }
+        return total;
+    }
+
+    private static SessionsMutator.Summary summaryOf(DataContainer container) {
+        return container.getValue(PerServerKeys.SESSION_SUMMARY)
+                .orElseGet(() -> SessionsMutator.forContainer(container).toSummary());
+    }
+
+    /**
+     * Collector that reduces sessions into a {@link SessionsMutator.Summary} of each server in a single pass.
+     *
+     * @return Collector for sessions, Map: Server UUID - Summary of sessions on the server.
+     */
+    public static Collector<FinishedSession, ?, Map<ServerUUID, SessionsMutator.Summary>> summarizingPerServer() {
+        return Collectors.groupingBy(FinishedSession::getServerUUID, SessionsMutator.summarizing());
+    }
+
+    /**
+     * Find the server with the most playtime from per server summaries.
+     *
+     * @param summaries Map: Server UUID - Summary of sessions on the server, see {@link #summarizingPerServer()}.
+     * @return UUID of the server with the most playtime, or empty if there is no playtime.
+     */
+    public static Optional<ServerUUID> favoriteServer(Map<ServerUUID, SessionsMutator.Summary> summaries) {
+        long max = 0;
+        ServerUUID maxServer = null;
+
+        for (Map.Entry<ServerUUID, SessionsMutator.Summary> entry : summaries.entrySet()) {
+            long total = entry.getValue().toPlaytime();
             if (total > max) {
                 max = total;
                 maxServer = entry.getKey();
@@ -38,6 +38,7 @@ import com.djrapitops.plan.utilities.java.Lists;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 /**
@@ -70,6 +71,30 @@ public class SessionsMutator {
         return sorted;
     }
 
+    /**
+     * Collector that reduces sessions into a {@link Summary} in a single pass.
+     * <p>
+     * Can be given to a streaming session query so that sessions do not need to be held in memory.
+     *
+     * @return Collector for sessions.
+     */
+    public static Collector<FinishedSession, Summary, Summary> summarizing() {
+        return Collector.of(Summary::new, Summary::add, Summary::combine, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Calculate the totals of the sessions in a single pass.
+     *
+     * @return Summary of the sessions.
+     */
+    public Summary toSummary() {
+        Summary summary = new Summary();
+        for (FinishedSession session : sessions) {
+            summary.add(session);
+        }
+        return summary;
+    }
+
     public SessionsMutator sort(Comparator<DateHolder> sessionComparator) {
         sessions.sort(sessionComparator);
         return this;
@@ -323,4 +348,108 @@ public class SessionsMutator {
 
         return Optional.empty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Totals of a group of sessions, calculated one session at a time.
+     * <p>
+     * Values match the ones given by the equivalent methods of {@link SessionsMutator}.
+     */
+    public static class Summary {
+        private int count;
+        private long playtime;
+        private long afkTime;
+        private long activePlaytime;
+        private long longestSessionLength = -1;
+        private long lastSeen = -1;
+        private int mobKillCount;
+        private int deathCount;
+        private int playerKillCount;
+        private final WorldTimes worldTimes = new WorldTimes();
+        private long latestSessionStart = -1;
+        private String latestJoinAddress;
+
+        public void add(FinishedSession session) {
+            count++;
+            long length = session.getLength();
+            playtime += length;
+            afkTime += session.getAfkTime();
+            activePlaytime += session.getActiveTime();
+            longestSessionLength = Math.max(longestSessionLength, length);
+            lastSeen = Math.max(lastSeen, Math.max(session.getStart(), session.getEnd()));
+            mobKillCount += session.getMobKillCount();
+            deathCount += session.getDeathCount();
+            playerKillCount += session.getExtraData(PlayerKills.class).map(kills -> kills.asList().size()).orElse(0);
+            session.getExtraData(WorldTimes.class).ifPresent(worldTimes::add);
+            if (session.getStart() > latestSessionStart) {
+                latestSessionStart = session.getStart();
+                latestJoinAddress = session.getExtraData(JoinAddress.class).map(JoinAddress::getAddress).orElse(null);
+            }
+        }
+
+        public Summary combine(Summary other) {
+            count += other.count;
+            playtime += other.playtime;
+            afkTime += other.afkTime;
+            activePlaytime += other.activePlaytime;
+            longestSessionLength = Math.max(longestSessionLength, other.longestSessionLength);
+            lastSeen = Math.max(lastSeen, other.lastSeen);
+            mobKillCount += other.mobKillCount;
+            deathCount += other.deathCount;
+            playerKillCount += other.playerKillCount;
+            worldTimes.add(other.worldTimes);
+            if (other.latestSessionStart > latestSessionStart) {
+                latestSessionStart = other.latestSessionStart;
+                latestJoinAddress = other.latestJoinAddress;
+            }
+            return this;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long toPlaytime() {
+            return playtime;
+        }
+
+        public long toAfkTime() {
+            return afkTime;
+        }
+
+        public long toActivePlaytime() {
+            return activePlaytime;
+        }
+
+        public long toLongestSessionLength() {
+            return longestSessionLength;
+        }
+
+        public long toAverageSessionLength() {
+            return count != 0 ? playtime / count : 0L;
+        }
+
+        public long toLastSeen() {
+            return lastSeen;
+        }
+
+        public int toMobKillCount() {
+            return mobKillCount;
+        }
+
+        public int toDeathCount() {
+            return deathCount;
+        }
+
+        public int toPlayerKillCount() {
+            return playerKillCount;
+        }
+
+        public WorldTimes toTotalWorldTimes() {
+            return worldTimes;
+        }
+
+        public Optional<String> toLatestJoinAddress() {
+            return Optional.ofNullable(latestJoinAddress);
+        }
+    }
+}
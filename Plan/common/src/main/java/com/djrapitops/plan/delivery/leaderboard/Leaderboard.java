@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.leaderboard;
+
+import com.djrapitops.plan.storage.database.queries.analysis.TopListQueries.TopListEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable top list of players for a metric, timespan and server.
+ *
+ * @author AuroraLS3
+ */
+public class Leaderboard {
+
+    private final List<TopListEntry<Long>> entries;
+    private final long loadedAt;
+
+    public Leaderboard(List<TopListEntry<Long>> entries, long loadedAt) {
+        this.entries = entries;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Get an entry by rank.
+     *
+     * @param index Rank starting from 0.
+     * @return The entry, or empty if there are not as many players on the list.
+     */
+    public Optional<TopListEntry<Long>> getEntry(int index) {
+        return index >= 0 && index < entries.size() ? Optional.of(entries.get(index)) : Optional.empty();
+    }
+
+    public List<TopListEntry<Long>> getEntries() {
+        return entries;
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Add to the value of a player on the list.
+     * <p>
+     * Players that are not on the list are ignored, they might belong on it only after the next load,
+     * since their previous value is not known.
+     *
+     * @param playerUUID UUID of the player.
+     * @param value      Amount to add.
+     * @return New leaderboard, or this one if the player is not on the list.
+     */
+    Leaderboard withAddedValue(UUID playerUUID, long value) {
+        List<TopListEntry<Long>> updated = new ArrayList<>(entries);
+        for (int i = 0; i < updated.size(); i++) {
+            TopListEntry<Long> entry = updated.get(i);
+            if (playerUUID.equals(entry.getPlayerUUID())) {
+                updated.set(i, new TopListEntry<>(playerUUID, entry.getPlayerName(), entry.getValue() + value));
+                updated.sort(Comparator.comparing(TopListEntry<Long>::getValue).reversed());
+                return new Leaderboard(updated, loadedAt);
+            }
+        }
+        return this;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.leaderboard;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.analysis.TopListQueries;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Values players can be ranked by in a {@link Leaderboard}.
+ *
+ * @author AuroraLS3
+ */
+public enum LeaderboardMetric {
+
+    PLAYTIME("playtime", true),
+    ACTIVE_PLAYTIME("active_playtime", true),
+    PLAYER_KILLS("player_kills", false);
+
+    private final String name;
+    private final boolean time;
+
+    LeaderboardMetric(String name, boolean time) {
+        this.name = name;
+        this.time = time;
+    }
+
+    public static Optional<LeaderboardMetric> fromName(@Untrusted String name) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.name.equalsIgnoreCase(name)) return Optional.of(metric);
+        }
+        return Optional.empty();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true if the values are milliseconds.
+     */
+    public boolean isTime() {
+        return time;
+    }
+
+    Query<List<TopListQueries.TopListEntry<Long>>> createQuery(ServerUUID serverUUID, long after, long before, int limit) {
+        switch (this) {
+            case PLAYTIME:
+                return TopListQueries.fetchTopPlaytimePlayers(serverUUID, after, before, limit);
+            case ACTIVE_PLAYTIME:
+                return TopListQueries.fetchTopActivePlaytimePlayers(serverUUID, after, before, limit);
+            case PLAYER_KILLS:
+                return TopListQueries.fetchTopPlayerKillCounts(serverUUID, after, before, limit);
+            default:
+                throw new IllegalStateException("No query for leaderboard metric " + this);
+        }
+    }
+
+    long getValueOf(FinishedSession session) {
+        switch (this) {
+            case PLAYTIME:
+                return session.getLength();
+            case ACTIVE_PLAYTIME:
+                return session.getActiveTime();
+            case PLAYER_KILLS:
+                return session.getPlayerKillCount();
+            default:
+                return 0L;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.leaderboard;
+
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time ranges a {@link Leaderboard} can be calculated over, ending at current time.
+ *
+ * @author AuroraLS3
+ */
+public enum LeaderboardTimespan {
+
+    DAY("day", TimeUnit.DAYS.toMillis(1L)),
+    WEEK("week", TimeUnit.DAYS.toMillis(7L)),
+    MONTH("month", TimeUnit.DAYS.toMillis(30L)),
+    TOTAL("total", -1L);
+
+    private final String name;
+    private final long length;
+
+    LeaderboardTimespan(String name, long length) {
+        this.name = name;
+        this.length = length;
+    }
+
+    public static Optional<LeaderboardTimespan> fromName(@Untrusted String name) {
+        for (LeaderboardTimespan timespan : values()) {
+            if (timespan.name.equalsIgnoreCase(name)) return Optional.of(timespan);
+        }
+        return Optional.empty();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get start of the time range.
+     *
+     * @param now Current epoch ms.
+     * @return Epoch ms, 0 for {@link #TOTAL}.
+     */
+    public long getStart(long now) {
+        return length < 0 ? 0L : now - length;
+    }
+}
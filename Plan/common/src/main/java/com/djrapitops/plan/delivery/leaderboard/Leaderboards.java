@@ -0,0 +1,140 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.leaderboard;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBSystem;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps top lists of players in memory so that placeholders and the web API do not query them on every use.
+ * <p>
+ * Each list is loaded from the database at most once per {@link #REFRESH_INTERVAL_MS}, values of players on the list
+ * are updated as their sessions end. Players that climb on the list appear after the next load.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class Leaderboards {
+
+    public static final int SIZE = 10;
+    static final long REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5L);
+
+    private final DBSystem dbSystem;
+
+    private final Map<Key, Leaderboard> leaderboards;
+    private final Map<Key, CompletableFuture<Leaderboard>> loading;
+
+    @Inject
+    public Leaderboards(DBSystem dbSystem) {
+        this.dbSystem = dbSystem;
+        leaderboards = new ConcurrentHashMap<>();
+        loading = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a top list.
+     * <p>
+     * Old list is returned while another thread is loading a new one.
+     *
+     * @param metric     What to rank players by.
+     * @param timespan   Time range of the values.
+     * @param serverUUID Server to rank players on, null for whole network.
+     * @return Top {@link #SIZE} players.
+     */
+    public Leaderboard getLeaderboard(LeaderboardMetric metric, LeaderboardTimespan timespan, ServerUUID serverUUID) {
+        Key key = new Key(metric, timespan, serverUUID);
+        Leaderboard leaderboard = leaderboards.get(key);
+        if (leaderboard != null && System.currentTimeMillis() - leaderboard.getLoadedAt() < REFRESH_INTERVAL_MS) {
+            return leaderboard;
+        }
+        return load(key, leaderboard);
+    }
+
+    private Leaderboard load(Key key, Leaderboard previous) {
+        CompletableFuture<Leaderboard> loaded = new CompletableFuture<>();
+        CompletableFuture<Leaderboard> alreadyLoading = loading.putIfAbsent(key, loaded);
+        if (alreadyLoading != null) {
+            return previous != null ? previous : alreadyLoading.join();
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            Leaderboard leaderboard = new Leaderboard(dbSystem.getDatabase().query(
+                    key.metric.createQuery(key.serverUUID, key.timespan.getStart(now), now, SIZE)
+            ), now);
+            leaderboards.put(key, leaderboard);
+            loaded.complete(leaderboard);
+            return leaderboard;
+        } catch (RuntimeException e) {
+            loaded.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key);
+        }
+    }
+
+    /**
+     * Update values of the players on loaded top lists.
+     *
+     * @param session Session that ended, before it is stored.
+     */
+    public void sessionEnded(FinishedSession session) {
+        long now = System.currentTimeMillis();
+        for (Key key : leaderboards.keySet()) {
+            if (key.serverUUID != null && !key.serverUUID.equals(session.getServerUUID())) continue;
+            if (session.getStart() <= key.timespan.getStart(now)) continue;
+
+            long value = key.metric.getValueOf(session);
+            if (value <= 0) continue;
+            leaderboards.computeIfPresent(key, (k, leaderboard) -> leaderboard.withAddedValue(session.getPlayerUUID(), value));
+        }
+    }
+
+    private static class Key {
+        private final LeaderboardMetric metric;
+        private final LeaderboardTimespan timespan;
+        private final ServerUUID serverUUID; // null for network
+
+        Key(LeaderboardMetric metric, LeaderboardTimespan timespan, ServerUUID serverUUID) {
+            this.metric = metric;
+            this.timespan = timespan;
+            this.serverUUID = serverUUID;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return metric == key.metric && timespan == key.timespan && Objects.equals(serverUUID, key.serverUUID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, timespan, serverUUID);
+        }
+    }
+}
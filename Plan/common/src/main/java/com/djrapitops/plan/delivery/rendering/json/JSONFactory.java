@@ -18,7 +18,10 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.RetentionData;
+import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.datatransfer.PlayerJoinAddresses;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto;
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListPageDto;
 import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
 import com.djrapitops.plan.delivery.domain.mutators.PlayerKillMutator;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
@@ -27,6 +30,7 @@ import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
 import com.djrapitops.plan.extension.implementation.results.ExtensionTabData;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionQueryResultTableDataQuery;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerTableDataQuery;
 import com.djrapitops.plan.gathering.ServerUptimeCalculator;
 import com.djrapitops.plan.gathering.cache.SessionCache;
@@ -44,10 +48,12 @@ import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageQuery;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
 import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
 import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
@@ -59,6 +65,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -119,6 +126,19 @@ public class JSONFactory {
 
         Database database = dbSystem.getDatabase();
 
+        Map<UUID, ExtensionTabData> allPluginData = networkExtensionTableData(serverUUID -> new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers));
+
+        return new PlayersTableJSONCreator(
+                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
+                allPluginData,
+                openPlayerLinksInNewTab,
+                formatters, locale,
+                true // players page
+        );
+    }
+
+    private Map<UUID, ExtensionTabData> networkExtensionTableData(Function<ServerUUID, Query<Map<UUID, ExtensionTabData>>> queryForServer) {
+        Database database = dbSystem.getDatabase();
         List<ServerUUID> mainServerUUIDs = database.query(ServerQueries.fetchProxyServers())
                 .stream()
                 .map(Server::getUuid)
@@ -128,7 +148,7 @@ public class JSONFactory {
         Map<UUID, ExtensionTabData> allPluginData = new HashMap<>();
 
         for (ServerUUID serverUUID : mainServerUUIDs) {
-            Map<UUID, ExtensionTabData> pluginData = database.query(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers));
+            Map<UUID, ExtensionTabData> pluginData = database.query(queryForServer.apply(serverUUID));
             for (Map.Entry<UUID, ExtensionTabData> entry : pluginData.entrySet()) {
                 UUID playerUUID = entry.getKey();
                 ExtensionTabData dataFromServer = entry.getValue();
@@ -140,14 +160,51 @@ public class JSONFactory {
                 }
             }
         }
+        return allPluginData;
+    }
+
+    /**
+     * Create a single page of the players table.
+     *
+     * @param serverUUID UUID of the server for server players tab, null for /players page.
+     * @param pageQuery  Query that selects the players on the page.
+     * @return Page with the players in the order given by the query.
+     */
+    public PlayerListPageDto playersTablePageJSON(ServerUUID serverUUID, PlayersTablePageQuery pageQuery) {
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+        long now = System.currentTimeMillis();
 
+        Database database = dbSystem.getDatabase();
+        PlayersTablePageQuery.Page page = database.query(pageQuery);
+        List<Integer> userIds = page.getUserIds();
+
+        List<TablePlayer> players;
+        Map<UUID, ExtensionTabData> pluginData;
+        if (serverUUID == null) {
+            players = database.query(new NetworkTablePlayersQuery(now, playtimeThreshold, userIds));
+            pluginData = userIds.isEmpty() ? new HashMap<>()
+                    : networkExtensionTableData(mainServerUUID -> new ExtensionQueryResultTableDataQuery(mainServerUUID, userIds));
+        } else {
+            players = database.query(new ServerTablePlayersQuery(serverUUID, now, playtimeThreshold, userIds));
+            pluginData = userIds.isEmpty() ? new HashMap<>()
+                    : database.query(new ExtensionQueryResultTableDataQuery(serverUUID, userIds));
+        }
 
-        return new PlayersTableJSONCreator(
-                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
-                allPluginData,
-                openPlayerLinksInNewTab,
-                formatters, locale,
-                true // players page
+        // Player data query does not keep the order of the page
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (UUID playerUUID : page.getPlayerUUIDs()) {
+            positions.put(playerUUID, positions.size());
+        }
+        players.sort(Comparator.comparingInt(player -> positions.getOrDefault(player.getPlayerUUID(), Integer.MAX_VALUE)));
+
+        PlayerListDto playerList = new PlayersTableJSONCreator(
+                players, pluginData, openPlayerLinksInNewTab, formatters, locale, serverUUID == null
+        ).toPlayerList();
+        return new PlayerListPageDto(
+                playerList.getPlayers(),
+                playerList.getExtensionDescriptors(),
+                page.getNext().map(PlayersTablePageQuery.Cursor::toString).orElse(null)
         );
     }
 
@@ -32,7 +32,6 @@ import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
-import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -169,34 +168,37 @@ public class PlayerJSONCreator {
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
         SessionsMutator sessions30d = sessionsMutator.filterSessionsBetween(monthAgo, now);
         SessionsMutator sessions7d = sessions30d.filterSessionsBetween(weekAgo, now);
+        SessionsMutator.Summary summary30d = sessions30d.toSummary();
+        SessionsMutator.Summary summary7d = sessions7d.toSummary();
 
         Map<String, Object> onlineActivity = new HashMap<>();
 
-        onlineActivity.put("playtime_30d", sessions30d.toPlaytime());
-        onlineActivity.put("active_playtime_30d", sessions30d.toActivePlaytime());
-        onlineActivity.put("afk_time_30d", sessions30d.toAfkTime());
-        onlineActivity.put("average_session_length_30d", sessions30d.toAverageSessionLength());
+        onlineActivity.put("playtime_30d", summary30d.toPlaytime());
+        onlineActivity.put("active_playtime_30d", summary30d.toActivePlaytime());
+        onlineActivity.put("afk_time_30d", summary30d.toAfkTime());
+        onlineActivity.put("average_session_length_30d", summary30d.toAverageSessionLength());
         onlineActivity.put("median_session_length_30d", sessions30d.toMedianSessionLength());
-        onlineActivity.put("session_count_30d", sessions30d.count());
-        onlineActivity.put("player_kill_count_30d", sessions30d.toPlayerKillCount());
-        onlineActivity.put("mob_kill_count_30d", sessions30d.toMobKillCount());
-        onlineActivity.put("death_count_30d", sessions30d.toDeathCount());
-
-        onlineActivity.put("playtime_7d", sessions7d.toPlaytime());
-        onlineActivity.put("active_playtime_7d", sessions7d.toActivePlaytime());
-        onlineActivity.put("afk_time_7d", sessions7d.toAfkTime());
-        onlineActivity.put("average_session_length_7d", sessions7d.toAverageSessionLength());
+        onlineActivity.put("session_count_30d", summary30d.count());
+        onlineActivity.put("player_kill_count_30d", summary30d.toPlayerKillCount());
+        onlineActivity.put("mob_kill_count_30d", summary30d.toMobKillCount());
+        onlineActivity.put("death_count_30d", summary30d.toDeathCount());
+
+        onlineActivity.put("playtime_7d", summary7d.toPlaytime());
+        onlineActivity.put("active_playtime_7d", summary7d.toActivePlaytime());
+        onlineActivity.put("afk_time_7d", summary7d.toAfkTime());
+        onlineActivity.put("average_session_length_7d", summary7d.toAverageSessionLength());
         onlineActivity.put("median_session_length_7d", sessions7d.toMedianSessionLength());
-        onlineActivity.put("session_count_7d", sessions7d.count());
-        onlineActivity.put("player_kill_count_7d", sessions7d.toPlayerKillCount());
-        onlineActivity.put("mob_kill_count_7d", sessions7d.toMobKillCount());
-        onlineActivity.put("death_count_7d", sessions7d.toDeathCount());
+        onlineActivity.put("session_count_7d", summary7d.count());
+        onlineActivity.put("player_kill_count_7d", summary7d.toPlayerKillCount());
+        onlineActivity.put("mob_kill_count_7d", summary7d.toMobKillCount());
+        onlineActivity.put("death_count_7d", summary7d.toDeathCount());
 
         return onlineActivity;
     }
 
     private Map<String, Object> createInfoJSONMap(PlayerContainer player, Map<ServerUUID, String> serverNames) {
         SessionsMutator sessions = SessionsMutator.forContainer(player);
+        SessionsMutator.Summary summary = player.getValue(PlayerKeys.SESSION_SUMMARY).orElseGet(sessions::toSummary);
         ActivityIndex activityIndex = player.getActivityIndex(System.currentTimeMillis(), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD));
         PerServerMutator perServer = PerServerMutator.forContainer(player);
         PingMutator ping = PingMutator.forContainer(player);
@@ -212,19 +214,16 @@ public class PlayerJSONCreator {
         info.put("player_kill_count", player.getValue(PlayerKeys.PLAYER_KILL_COUNT).orElse(0));
         info.put("mob_kill_count", player.getValue(PlayerKeys.MOB_KILL_COUNT).orElse(0));
         info.put("death_count", player.getValue(PlayerKeys.DEATH_COUNT).orElse(0));
-        info.put("playtime", sessions.toPlaytime());
-        info.put("active_playtime", sessions.toActivePlaytime());
-        info.put("afk_time", sessions.toAfkTime());
-        info.put("session_count", sessions.count());
-        info.put("longest_session_length", sessions.toLongestSessionLength());
+        info.put("playtime", summary.toPlaytime());
+        info.put("active_playtime", summary.toActivePlaytime());
+        info.put("afk_time", summary.toAfkTime());
+        info.put("session_count", summary.count());
+        info.put("longest_session_length", summary.toLongestSessionLength());
         info.put("session_median", sessions.toMedianSessionLength());
         info.put("activity_index", activityIndex.getValue());
         info.put("activity_index_group", activityIndex.getGroupLang());
         info.put("favorite_server", perServer.favoriteServer().map(favoriteServer -> serverNames.getOrDefault(favoriteServer, favoriteServer.toString())).orElse(GenericLang.UNKNOWN.getKey()));
-        info.put("latest_join_address", sessions.latestSession()
-                .flatMap(session -> session.getExtraData(JoinAddress.class))
-                .map(JoinAddress::getAddress)
-                .orElse("-"));
+        info.put("latest_join_address", summary.toLatestJoinAddress().orElse("-"));
         double averagePing = ping.average();
         int worstPing = ping.max();
         int bestPing = ping.min();
@@ -24,6 +24,7 @@ import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
 import com.djrapitops.plan.delivery.rendering.json.graphs.pie.WorldPie;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.ServerUUID;
 
@@ -41,6 +42,7 @@ public class ServerAccordion {
 
     private final Map<ServerUUID, String> serverNames;
     private final PerServerContainer perServer;
+    private final List<FinishedSession> sessions;
     private final String unknown;
 
     private final Graphs graphs;
@@ -55,11 +57,13 @@ public class ServerAccordion {
         this.serverNames = serverNames;
         perServer = container.getValue(PlayerKeys.PER_SERVER)
                 .orElse(new PerServerContainer());
+        sessions = container.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>());
         this.unknown = unknown;
     }
 
     public List<Map<String, Object>> asMaps() {
         List<Map<String, Object>> servers = new ArrayList<>();
+        Map<ServerUUID, List<FinishedSession>> sessionsPerServer = SessionsMutator.sortByServers(sessions);
 
         for (Map.Entry<ServerUUID, DataContainer> entry : perServer.entrySet()) {
             ServerUUID serverUUID = entry.getKey();
@@ -68,7 +72,9 @@ public class ServerAccordion {
 
             String serverName = serverNames.getOrDefault(serverUUID, unknown);
             WorldTimes worldTimes = ofServer.getValue(PerServerKeys.WORLD_TIMES).orElse(new WorldTimes());
-            SessionsMutator sessionsMutator = SessionsMutator.forContainer(ofServer);
+            SessionsMutator.Summary summary = ofServer.getValue(PerServerKeys.SESSION_SUMMARY)
+                    .orElseGet(() -> SessionsMutator.forContainer(ofServer).toSummary());
+            SessionsMutator sessionsMutator = new SessionsMutator(sessionsPerServer.getOrDefault(serverUUID, new ArrayList<>()));
 
             server.put("server_name", serverName);
             server.put("server_uuid", serverUUID.toString());
@@ -76,18 +82,18 @@ public class ServerAccordion {
             server.put("banned", ofServer.getValue(PerServerKeys.BANNED).orElse(false));
             server.put("operator", ofServer.getValue(PerServerKeys.OPERATOR).orElse(false));
             server.put("registered", ofServer.getValue(PerServerKeys.REGISTERED).orElse(0L));
-            server.put("last_seen", sessionsMutator.toLastSeen());
+            server.put("last_seen", summary.toLastSeen());
             server.put("join_address", ofServer.getValue(PerServerKeys.JOIN_ADDRESS).orElse("-"));
 
-            server.put("session_count", sessionsMutator.count());
-            server.put("playtime", sessionsMutator.toPlaytime());
-            server.put("afk_time", sessionsMutator.toAfkTime());
+            server.put("session_count", summary.count());
+            server.put("playtime", summary.toPlaytime());
+            server.put("afk_time", summary.toAfkTime());
             server.put("session_median", sessionsMutator.toMedianSessionLength());
-            server.put("longest_session_length", sessionsMutator.toLongestSessionLength());
+            server.put("longest_session_length", summary.toLongestSessionLength());
 
-            server.put("mob_kills", sessionsMutator.toMobKillCount());
-            server.put("player_kills", sessionsMutator.toPlayerKillCount());
-            server.put("deaths", sessionsMutator.toDeathCount());
+            server.put("mob_kills", summary.toMobKillCount());
+            server.put("player_kills", summary.toPlayerKillCount());
+            server.put("deaths", summary.toDeathCount());
 
             WorldPie worldPie = graphs.pie().worldPie(worldTimes);
             server.put("world_pie_series", worldPie.getSlices());
@@ -30,6 +30,7 @@ import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.ResponseBuilder;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resource.WebResource;
+import com.djrapitops.plan.delivery.webserver.cache.StaticAssetStore;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -55,9 +56,11 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Factory for creating different {@link Response} objects.
@@ -77,6 +80,7 @@ public class ResponseFactory {
     private final Lazy<Addresses> addresses;
     private final Lazy<BundleAddressCorrection> bundleAddressCorrection;
     private final Formatter<Long> httpLastModifiedFormatter;
+    private final StaticAssetStore staticAssetStore;
 
     @Inject
     public ResponseFactory(
@@ -87,7 +91,8 @@ public class ResponseFactory {
             DBSystem dbSystem,
             Formatters formatters,
             Lazy<Addresses> addresses,
-            Lazy<BundleAddressCorrection> bundleAddressCorrection
+            Lazy<BundleAddressCorrection> bundleAddressCorrection,
+            StaticAssetStore staticAssetStore
     ) {
         this.files = files;
         this.publicHtmlFiles = publicHtmlFiles;
@@ -98,6 +103,7 @@ public class ResponseFactory {
 
         httpLastModifiedFormatter = formatters.httpLastModifiedLong();
         this.bundleAddressCorrection = bundleAddressCorrection;
+        this.staticAssetStore = staticAssetStore;
     }
 
     /**
@@ -211,14 +217,14 @@ public class ResponseFactory {
     public Response javaScriptResponse(@Untrusted String fileName) {
         try {
             WebResource resource = getPublicOrJarResource(fileName);
-            String content = UnaryChain.of(resource.asString())
+            Supplier<String> content = () -> UnaryChain.of(resource.asString())
                     .chain(this::replaceMainAddressPlaceholder)
                     .chain(contents -> bundleAddressCorrection.get().correctAddressForWebserver(contents, fileName))
                     .apply();
             ResponseBuilder responseBuilder = Response.builder()
                     .setMimeType(MimeType.JS)
-                    .setContent(content)
                     .setStatus(200);
+            setTextAssetContent(responseBuilder, resource, fileName, content);
 
             if (fileName.contains(STATIC_BUNDLE_FOLDER)) {
                 resource.getLastModified().ifPresent(lastModified -> responseBuilder
@@ -233,6 +239,27 @@ public class ResponseFactory {
         }
     }
 
+    /**
+     * Set content of a js or css file, using the stored compressed form for bundle files.
+     */
+    private void setTextAssetContent(ResponseBuilder responseBuilder, WebResource resource, @Untrusted String fileName, Supplier<String> content) {
+        Optional<Long> lastModified = resource.getLastModified();
+        if (fileName.contains(STATIC_BUNDLE_FOLDER) && lastModified.isPresent()) {
+            StaticAssetStore.StaticAsset asset = staticAssetStore.get(fileName, lastModified.get(), getAddressVariant(),
+                    () -> content.get().getBytes(StandardCharsets.UTF_8));
+            responseBuilder.setContent(asset.getContent(), StandardCharsets.UTF_8)
+                    .setGzippedContent(asset.getGzipped());
+        } else {
+            responseBuilder.setContent(content.get());
+        }
+    }
+
+    private String getAddressVariant() {
+        Addresses addressInfo = addresses.get();
+        String fallback = addressInfo.getFallbackLocalhostAddress();
+        return addressInfo.getAccessAddress().orElse(fallback) + ' ' + addressInfo.getMainAddress().orElse(fallback);
+    }
+
     private String replaceMainAddressPlaceholder(String resource) {
         String address = addresses.get().getAccessAddress()
                 .orElseGet(addresses.get()::getFallbackLocalhostAddress);
@@ -246,14 +273,14 @@ public class ResponseFactory {
     public Response cssResponse(@Untrusted String fileName) {
         try {
             WebResource resource = getPublicOrJarResource(fileName);
-            String content = UnaryChain.of(resource.asString())
+            Supplier<String> content = () -> UnaryChain.of(resource.asString())
                     .chain(contents -> bundleAddressCorrection.get().correctAddressForWebserver(contents, fileName))
                     .apply();
 
             ResponseBuilder responseBuilder = Response.builder()
                     .setMimeType(MimeType.CSS)
-                    .setContent(content)
                     .setStatus(200);
+            setTextAssetContent(responseBuilder, resource, fileName, content);
 
             if (fileName.contains(STATIC_BUNDLE_FOLDER)) {
                 resource.getLastModified().ifPresent(lastModified -> responseBuilder
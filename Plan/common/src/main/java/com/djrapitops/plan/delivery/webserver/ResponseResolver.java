@@ -18,6 +18,7 @@ package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.delivery.web.ResolverService;
 import com.djrapitops.plan.delivery.web.ResolverSvc;
+import com.djrapitops.plan.delivery.web.resolver.CompositeResolver;
 import com.djrapitops.plan.delivery.web.resolver.NoAuthResolver;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
@@ -25,6 +26,7 @@ import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.exception.MethodNotAllowedException;
 import com.djrapitops.plan.delivery.web.resolver.exception.NotFoundException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIPath;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.auth.FailReason;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
@@ -38,6 +40,7 @@ import com.djrapitops.plan.exceptions.WebUserAuthException;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.Metric;
 import dagger.Lazy;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
@@ -232,7 +235,7 @@ public class ResponseResolver {
                 }
 
                 if (resolver.canAccess(request)) {
-                    Optional<Response> resolved = resolver.resolve(request);
+                    Optional<Response> resolved = resolve(resolver, request);
                     if (resolved.isPresent()) return resolved.get();
                 } else {
                     if (request.getPath().startsWith("/v1/")) {
@@ -242,10 +245,29 @@ public class ResponseResolver {
                     }
                 }
             } else {
-                Optional<Response> resolved = resolver.resolve(request);
+                Optional<Response> resolved = resolve(resolver, request);
                 if (resolved.isPresent()) return resolved.get();
             }
         }
         return responseFactory.pageNotFound404();
     }
+
+    private Optional<Response> resolve(Resolver resolver, @Untrusted Request request) {
+        long start = System.nanoTime();
+        Optional<Response> resolved = resolver.resolve(request);
+        // Only resolved requests are recorded, so that made up addresses do not create new metrics.
+        if (resolved.isPresent()) {
+            Metric.RESOLVER.record(getMetricName(resolver, request), System.nanoTime() - start);
+        }
+        return resolved;
+    }
+
+    private String getMetricName(Resolver resolver, @Untrusted Request request) {
+        if (resolver instanceof CompositeResolver) {
+            // Named by the registered prefix and the child that resolved it, eg. /v1/sessions
+            URIPath path = request.getPath();
+            return '/' + path.getPart(0).orElse("") + '/' + path.getPart(1).orElse("");
+        }
+        return Metric.nameOf(resolver.getClass());
+    }
 }
@@ -36,12 +36,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -60,6 +59,10 @@ public class JSONFileStorage implements JSONStorage {
 
     private final ReentrantLockHelper readWriteProtectionLock = new ReentrantLockHelper();
     private final Pattern timestampRegex = Pattern.compile(".*-(\\d*).json");
+    private final Pattern fileNameRegex = Pattern.compile("(.*)-(\\d+)\\.json");
+    // Identifier -> timestamps of the stored files, built from the directory on first use.
+    private final Map<String, NavigableSet<Long>> timestampIndex = new ConcurrentHashMap<>();
+    private volatile boolean indexBuilt = false;
     private static final String JSON_FILE_EXTENSION = ".json";
 
     private final Formatter<Long> dateFormatter;
@@ -87,19 +90,42 @@ public class JSONFileStorage implements JSONStorage {
         jsonDirectory = files.getJSONStorageDirectory();
     }
 
+    @Override
+    public void enable() {
+        buildIndex();
+    }
+
     @Override
     public StoredJSON storeJson(String identifier, String json, long timestamp) {
-        Path writingTo = jsonDirectory.resolve(identifier + '-' + timestamp + JSON_FILE_EXTENSION);
-        String jsonToWrite = addMissingTimestamp(json, timestamp);
-        write(writingTo, jsonToWrite);
-        return new StoredJSON(jsonToWrite, timestamp);
+        StoredJSON prepared = prepareJson(json, timestamp);
+        writeJson(identifier, prepared);
+        return prepared;
+    }
+
+    /**
+     * Add timestamp fields to the json in the same way as {@link #storeJson(String, String, long)}, without writing it.
+     *
+     * @param json      Json to store
+     * @param timestamp Epoch ms the json was created.
+     * @return Json as it would be stored.
+     */
+    public StoredJSON prepareJson(String json, long timestamp) {
+        return new StoredJSON(addMissingTimestamp(json, timestamp), timestamp);
     }
 
-    private void write(Path writingTo, String jsonToWrite) {
+    /**
+     * Write json that was prepared with {@link #prepareJson(String, long)} to disk.
+     *
+     * @param identifier Identifier of the json
+     * @param prepared   Prepared json
+     */
+    public void writeJson(String identifier, StoredJSON prepared) {
+        Path writingTo = getFile(identifier, prepared.timestamp);
         readWriteProtectionLock.performWriteOperation(() -> {
             try {
                 if (!Files.isSymbolicLink(jsonDirectory)) Files.createDirectories(jsonDirectory);
-                Files.write(writingTo, jsonToWrite.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                Files.write(writingTo, prepared.json.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                addToIndex(identifier, prepared.timestamp);
             } catch (IOException e) {
                 logger.warn("Could not write a file to " + writingTo.toFile().getAbsolutePath() + ": " + e.getMessage());
             }
@@ -127,17 +153,25 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchJSON(String identifier) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
+        return fetchFirstOf(identifier, getTimestamps(identifier).descendingIterator());
+    }
 
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                return Optional.ofNullable(readStoredJSON(file));
+    private Optional<StoredJSON> fetchFirstOf(String identifier, Iterator<Long> timestamps) {
+        List<Long> missing = new ArrayList<>();
+        Optional<StoredJSON> found = Optional.empty();
+        while (timestamps.hasNext() && found.isEmpty()) {
+            long timestamp = timestamps.next();
+            File file = getFile(identifier, timestamp).toFile();
+            if (file.exists()) {
+                found = Optional.ofNullable(readStoredJSON(file));
+            } else {
+                missing.add(timestamp); // File was removed by something else than Plan.
             }
         }
-        return Optional.empty();
+        for (Long timestamp : missing) {
+            removeFromIndex(identifier, timestamp);
+        }
+        return found;
     }
 
     private StoredJSON readStoredJSON(File from) {
@@ -163,137 +197,100 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchExactJson(String identifier, long timestamp) {
-        File found = jsonDirectory.resolve(identifier + "-" + timestamp + JSON_FILE_EXTENSION).toFile();
+        File found = getFile(identifier, timestamp).toFile();
         if (!found.exists()) return Optional.empty();
         return Optional.ofNullable(readStoredJSON(found));
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeBefore(String identifier, long timestamp) {
-        return fetchJSONWithTimestamp(identifier, timestamp, (timestampMatch, time) -> Long.parseLong(timestampMatch.group(1)) < time);
+        return fetchFirstOf(identifier, getTimestamps(identifier).headSet(timestamp, false).descendingIterator());
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeAfter(String identifier, long timestamp) {
-        return fetchJSONWithTimestamp(identifier, timestamp, (timestampMatch, time) -> Long.parseLong(timestampMatch.group(1)) > time);
-    }
-
-    private Optional<StoredJSON> fetchJSONWithTimestamp(String identifier, long timestamp, BiPredicate<Matcher, Long> timestampComparator) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
-
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            try {
-                String fileName = file.getName();
-                if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                    Matcher timestampMatch = timestampRegex.matcher(fileName);
-                    if (timestampMatch.find() && timestampComparator.test(timestampMatch, timestamp)) {
-                        return Optional.ofNullable(readStoredJSON(file));
-                    }
-                }
-            } catch (NumberFormatException e) {
-                // Ignore this file, malformed timestamp
-            }
-        }
-        return Optional.empty();
+        return fetchFirstOf(identifier, getTimestamps(identifier).tailSet(timestamp, false).descendingIterator());
     }
 
     @Override
     public void invalidateOlder(String identifier, long timestamp) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return;
-
-        List<File> toDelete = new ArrayList<>();
-        for (File file : stored) {
-            if (shouldDeleteFile(identifier, timestamp, file)) {
-                toDelete.add(file);
-            }
-        }
-        deleteFiles(toDelete);
-    }
-
-    private boolean shouldDeleteFile(String identifier, long timestamp, File file) {
-        try {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(identifier + '-')) {
-                Matcher timestampMatch = timestampRegex.matcher(fileName);
-                if (timestampMatch.find() && Long.parseLong(timestampMatch.group(1)) < timestamp) {
-                    return true;
-                }
-            }
-        } catch (NumberFormatException e) {
-            // Ignore this file, malformed timestamp
-        }
-        return false;
+        deleteFiles(identifier, new ArrayList<>(getTimestamps(identifier).headSet(timestamp, false)));
     }
 
     private void invalidateOlderButIgnore(long timestamp, String... ignoredIdentifiers) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return;
-
-        List<File> toDelete = new ArrayList<>();
-        for (File file : stored) {
-            if (shouldDeleteFile(timestamp, file, ignoredIdentifiers)) {
-                toDelete.add(file);
+        List<String> ignored = Arrays.asList(ignoredIdentifiers);
+        for (String identifier : new ArrayList<>(getIndex().keySet())) {
+            if (!ignored.contains(identifier)) {
+                invalidateOlder(identifier, timestamp);
             }
         }
-
-        deleteFiles(toDelete);
-    }
-
-    private boolean shouldDeleteFile(long timestamp, File file, String[] ignoredIdentifiers) {
-        try {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION)) {
-                Matcher timestampMatch = timestampRegex.matcher(fileName);
-                boolean isOlder = timestampMatch.find() && Long.parseLong(timestampMatch.group(1)) < timestamp;
-                if (isOlder) {
-                    for (String ignoredIdentifier : ignoredIdentifiers) {
-                        if (fileName.startsWith(ignoredIdentifier + "-")) return false;
-                    }
-                    return true;
-                }
-            }
-        } catch (NumberFormatException e) {
-            // Ignore this file, malformed timestamp
-        }
-        return false;
     }
 
-    private void deleteFiles(List<File> toDelete) {
+    private void deleteFiles(String identifier, List<Long> timestamps) {
+        if (timestamps.isEmpty()) return;
         readWriteProtectionLock.performWriteOperation(() -> {
-            for (File fileToDelete : toDelete) {
+            for (Long timestamp : timestamps) {
+                File fileToDelete = getFile(identifier, timestamp).toFile();
                 try {
-                    Files.delete(fileToDelete.toPath());
+                    Files.deleteIfExists(fileToDelete.toPath());
                 } catch (IOException e) {
                     // Failed to delete, set for deletion on next server shutdown.
                     fileToDelete.deleteOnExit();
                 }
+                removeFromIndex(identifier, timestamp);
             }
         });
     }
 
     @Override
     public Optional<Long> getTimestamp(String identifier) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
+        NavigableSet<Long> timestamps = getTimestamps(identifier);
+        return timestamps.isEmpty() ? Optional.empty() : Optional.of(timestamps.last());
+    }
 
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            try {
-                String fileName = file.getName();
-                if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                    Matcher timestampMatch = timestampRegex.matcher(fileName);
-                    if (timestampMatch.find()) {
-                        return Optional.of(Long.parseLong(timestampMatch.group(1)));
-                    }
-                }
-            } catch (NumberFormatException e) {
-                // Ignore this file, malformed timestamp
+    private Path getFile(String identifier, long timestamp) {
+        return jsonDirectory.resolve(identifier + '-' + timestamp + JSON_FILE_EXTENSION);
+    }
+
+    private NavigableSet<Long> getTimestamps(String identifier) {
+        return getIndex().getOrDefault(identifier, Collections.emptyNavigableSet());
+    }
+
+    private Map<String, NavigableSet<Long>> getIndex() {
+        if (!indexBuilt) buildIndex();
+        return timestampIndex;
+    }
+
+    private synchronized void buildIndex() {
+        if (indexBuilt) return;
+        File[] stored = jsonDirectory.toFile().listFiles();
+        if (stored != null) {
+            for (File file : stored) {
+                indexFile(file.getName());
             }
         }
-        return Optional.empty();
+        indexBuilt = true;
+    }
+
+    private void indexFile(String fileName) {
+        Matcher match = fileNameRegex.matcher(fileName);
+        if (!match.matches()) return;
+        try {
+            addToIndex(match.group(1), Long.parseLong(match.group(2)));
+        } catch (NumberFormatException e) {
+            // Ignore this file, malformed timestamp
+        }
+    }
+
+    private void addToIndex(String identifier, long timestamp) {
+        timestampIndex.computeIfAbsent(identifier, key -> new ConcurrentSkipListSet<>()).add(timestamp);
+    }
+
+    private void removeFromIndex(String identifier, long timestamp) {
+        timestampIndex.computeIfPresent(identifier, (key, timestamps) -> {
+            timestamps.remove(timestamp);
+            return timestamps.isEmpty() ? null : timestamps;
+        });
     }
 
     @Singleton
@@ -20,36 +20,139 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Size bounded memory tier in front of {@link JSONFileStorage}.
+ * <p>
+ * Entries are indexed by identifier and timestamp so lookups do not need to go through every cached entry.
+ * Identifiers are matched case-insensitively, identifiers without cached entries are removed from the index.
+ * Json is written to disk in the background, so storing json does not wait for the disk.
+ */
 public class JSONMemoryStorageShim implements JSONStorage {
 
     private final PlanConfig config;
-    private final JSONStorage underlyingStorage;
+    private final JSONFileStorage underlyingStorage;
 
+    private final Map<String, NavigableSet<Long>> timestampIndex;
     private Cache<TimestampedIdentifier, StoredJSON> cache;
+    private ExecutorService diskWriter;
 
     public JSONMemoryStorageShim(
             PlanConfig config,
-            JSONStorage underlyingStorage
+            JSONFileStorage underlyingStorage
     ) {
         this.config = config;
         this.underlyingStorage = underlyingStorage;
+        timestampIndex = new ConcurrentHashMap<>();
     }
 
     @Override
-    public void enable() {
-        cache = Caffeine.newBuilder()
-                .expireAfterWrite(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE), TimeUnit.MILLISECONDS)
-                .build();
+    public synchronized void enable() {
+        underlyingStorage.enable();
+        if (cache == null) {
+            cache = Caffeine.newBuilder()
+                    .expireAfterWrite(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE), TimeUnit.MILLISECONDS)
+                    .maximumWeight(getMaximumWeight())
+                    .weigher((TimestampedIdentifier key, StoredJSON value) -> value.json.length())
+                    .removalListener(this::removeFromIndex)
+                    .executor(Runnable::run) // Keeps the index up to date with the cache
+                    .build();
+        }
+        if (diskWriter == null || diskWriter.isShutdown()) {
+            diskWriter = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern("Plan JSON disk writer-%d")
+                    .build());
+        }
+    }
+
+    private static long getMaximumWeight() {
+        // Json is mostly ASCII, so length is close to the amount of bytes used.
+        return Math.max(Runtime.getRuntime().maxMemory() / 20, 16L * 1024L * 1024L);
+    }
+
+    @Override
+    public synchronized void disable() {
+        if (diskWriter == null) return;
+        diskWriter.shutdown();
+        try {
+            if (!diskWriter.awaitTermination(10, TimeUnit.SECONDS)) {
+                diskWriter.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String indexKey(String identifier) {
+        return identifier.toLowerCase(Locale.ROOT);
+    }
+
+    private void removeFromIndex(TimestampedIdentifier key, StoredJSON value, RemovalCause cause) {
+        if (key == null || cause == RemovalCause.REPLACED || getCache().asMap().containsKey(key)) return;
+        timestampIndex.computeIfPresent(key.identifier, (identifier, timestamps) -> {
+            timestamps.remove(key.timestamp);
+            return timestamps.isEmpty() ? null : timestamps;
+        });
+    }
+
+    private void putToMemory(String identifier, StoredJSON storedJSON) {
+        String key = indexKey(identifier);
+        getCache().put(new TimestampedIdentifier(key, storedJSON.timestamp), storedJSON);
+        timestampIndex.compute(key, (indexed, timestamps) -> {
+            NavigableSet<Long> updated = timestamps != null ? timestamps : new ConcurrentSkipListSet<>();
+            updated.add(storedJSON.timestamp);
+            return updated;
+        });
+    }
+
+    private Optional<StoredJSON> getFromMemory(String identifier, long timestamp) {
+        return Optional.ofNullable(getCache().getIfPresent(new TimestampedIdentifier(indexKey(identifier), timestamp)));
+    }
+
+    private Optional<StoredJSON> getFirstFromMemory(String identifier, Iterator<Long> timestamps) {
+        while (timestamps.hasNext()) {
+            Optional<StoredJSON> found = getFromMemory(identifier, timestamps.next());
+            if (found.isPresent()) return found;
+        }
+        return Optional.empty();
+    }
+
+    private NavigableSet<Long> getTimestamps(String identifier) {
+        return timestampIndex.getOrDefault(indexKey(identifier), Collections.emptyNavigableSet());
+    }
+
+    // VisibleForTesting
+    int getIndexedIdentifierCount() {
+        return timestampIndex.size();
+    }
+
+    private void writeToDisk(Runnable operation) {
+        if (diskWriter == null || diskWriter.isShutdown()) {
+            operation.run();
+            return;
+        }
+        try {
+            diskWriter.execute(operation);
+        } catch (RejectedExecutionException shuttingDown) {
+            operation.run();
+        }
     }
 
     @Override
     public StoredJSON storeJson(String identifier, String json, long timestamp) {
-        StoredJSON storedJSON = underlyingStorage.storeJson(identifier, json, timestamp);
-        getCache().put(new TimestampedIdentifier(identifier, timestamp), storedJSON);
+        StoredJSON storedJSON = underlyingStorage.prepareJson(json, timestamp);
+        putToMemory(identifier, storedJSON);
+        writeToDisk(() -> underlyingStorage.writeJson(identifier, storedJSON));
         return storedJSON;
     }
 
@@ -60,74 +163,60 @@ public class JSONMemoryStorageShim implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchJSON(String identifier) {
-        for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
-            if (entry.getKey().identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(entry.getValue());
-            }
-        }
+        Optional<StoredJSON> cached = getFirstFromMemory(identifier, getTimestamps(identifier).descendingIterator());
+        if (cached.isPresent()) return cached;
+
         Optional<StoredJSON> found = underlyingStorage.fetchJSON(identifier);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
+        found.ifPresent(storedJSON -> putToMemory(identifier, storedJSON));
         return found;
     }
 
     @Override
     public Optional<StoredJSON> fetchExactJson(String identifier, long timestamp) {
-        StoredJSON cached = getCache().getIfPresent(new TimestampedIdentifier(identifier, timestamp));
-        if (cached != null) return Optional.of(cached);
+        Optional<StoredJSON> cached = getFromMemory(identifier, timestamp);
+        if (cached.isPresent()) return cached;
 
         Optional<StoredJSON> found = underlyingStorage.fetchExactJson(identifier, timestamp);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, timestamp), storedJSON));
+        found.ifPresent(storedJSON -> putToMemory(identifier, storedJSON));
         return found;
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeBefore(String identifier, long timestamp) {
-        for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
-            TimestampedIdentifier key = entry.getKey();
-            if (key.timestamp < timestamp && key.identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(entry.getValue());
-            }
-        }
+        Iterator<Long> madeBefore = getTimestamps(identifier).headSet(timestamp, false).descendingIterator();
+        Optional<StoredJSON> cached = getFirstFromMemory(identifier, madeBefore);
+        if (cached.isPresent()) return cached;
 
         Optional<StoredJSON> found = underlyingStorage.fetchJsonMadeBefore(identifier, timestamp);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
+        found.ifPresent(storedJSON -> putToMemory(identifier, storedJSON));
         return found;
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeAfter(String identifier, long timestamp) {
-        for (Map.Entry<TimestampedIdentifier, StoredJSON> entry : getCache().asMap().entrySet()) {
-            TimestampedIdentifier key = entry.getKey();
-            if (key.timestamp > timestamp && key.identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(entry.getValue());
-            }
-        }
+        Iterator<Long> madeAfter = getTimestamps(identifier).tailSet(timestamp, false).descendingIterator();
+        Optional<StoredJSON> cached = getFirstFromMemory(identifier, madeAfter);
+        if (cached.isPresent()) return cached;
+
         Optional<StoredJSON> found = underlyingStorage.fetchJsonMadeAfter(identifier, timestamp);
-        found.ifPresent(storedJSON -> getCache().put(new TimestampedIdentifier(identifier, storedJSON.timestamp), storedJSON));
+        found.ifPresent(storedJSON -> putToMemory(identifier, storedJSON));
         return found;
     }
 
     @Override
     public void invalidateOlder(String identifier, long timestamp) {
-        Set<TimestampedIdentifier> toInvalidate = new HashSet<>();
-        for (TimestampedIdentifier key : getCache().asMap().keySet()) {
-            if (key.timestamp < timestamp && key.identifier.equalsIgnoreCase(identifier)) {
-                toInvalidate.add(key);
-            }
+        List<Long> toInvalidate = new ArrayList<>(getTimestamps(identifier).headSet(timestamp, false));
+        for (Long invalidated : toInvalidate) {
+            getCache().invalidate(new TimestampedIdentifier(indexKey(identifier), invalidated));
         }
-        toInvalidate.forEach(getCache()::invalidate);
 
-        underlyingStorage.invalidateOlder(identifier, timestamp);
+        writeToDisk(() -> underlyingStorage.invalidateOlder(identifier, timestamp));
     }
 
     @Override
     public Optional<Long> getTimestamp(String identifier) {
-        for (TimestampedIdentifier key : getCache().asMap().keySet()) {
-            if (key.identifier.equalsIgnoreCase(identifier)) {
-                return Optional.of(key.timestamp);
-            }
-        }
-        return Optional.empty();
+        NavigableSet<Long> timestamps = getTimestamps(identifier);
+        return timestamps.isEmpty() ? Optional.empty() : Optional.of(timestamps.last());
     }
 
     static class TimestampedIdentifier {
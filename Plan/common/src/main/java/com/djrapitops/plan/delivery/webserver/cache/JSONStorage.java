@@ -17,8 +17,10 @@
 package com.djrapitops.plan.delivery.webserver.cache;
 
 import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.utilities.GzipUtil;
 import com.google.gson.Gson;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -68,6 +70,7 @@ public interface JSONStorage extends SubSystem {
     final class StoredJSON {
         public final String json;
         public final long timestamp;
+        private byte[] gzipped;
 
         public StoredJSON(String json, long timestamp) {
             this.json = json;
@@ -86,6 +89,20 @@ public interface JSONStorage extends SubSystem {
             return timestamp;
         }
 
+        /**
+         * Get the json compressed with gzip.
+         * <p>
+         * The compressed form is created on first call, so stored json that is kept in memory is compressed only once.
+         *
+         * @return gzip compressed UTF-8 bytes of the json.
+         */
+        public synchronized byte[] getGzipped() {
+            if (gzipped == null) {
+                gzipped = GzipUtil.gzip(json.getBytes(StandardCharsets.UTF_8));
+            }
+            return gzipped;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
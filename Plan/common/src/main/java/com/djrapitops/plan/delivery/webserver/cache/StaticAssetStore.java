@@ -0,0 +1,98 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.utilities.GzipUtil;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory store for static text assets (the React bundle js and css) with their compressed forms.
+ * <p>
+ * Assets are compressed on first access and kept until the file or the addresses used in its content change,
+ * so the same multi-megabyte bundle is not compressed again for every request.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class StaticAssetStore {
+
+    private final Map<String, StaticAsset> assets;
+
+    @Inject
+    public StaticAssetStore() {
+        assets = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get stored asset or create it.
+     * <p>
+     * Concurrent requests for the same asset wait for the first one to finish compressing.
+     *
+     * @param fileName        Name of the file.
+     * @param lastModified    Last modified date of the file, used as the ETag.
+     * @param variant         Other values the content depends on, eg. address of the webserver.
+     * @param contentSupplier Supplier for the UTF-8 content of the file, called only if the stored asset is missing or outdated.
+     * @return Stored asset.
+     */
+    public StaticAsset get(String fileName, long lastModified, String variant, Supplier<byte[]> contentSupplier) {
+        return assets.compute(fileName, (name, stored) -> {
+            if (stored != null && stored.matches(lastModified, variant)) return stored;
+            byte[] content = contentSupplier.get();
+            return new StaticAsset(content, GzipUtil.gzip(content), lastModified, variant);
+        });
+    }
+
+    public void clear() {
+        assets.clear();
+    }
+
+    public static final class StaticAsset {
+        private final byte[] content;
+        private final byte[] gzipped;
+        private final long etag;
+        private final String variant;
+
+        StaticAsset(byte[] content, byte[] gzipped, long etag, String variant) {
+            this.content = content;
+            this.gzipped = gzipped;
+            this.etag = etag;
+            this.variant = variant;
+        }
+
+        boolean matches(long lastModified, String variant) {
+            return etag == lastModified && Objects.equals(this.variant, variant);
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        public long getEtag() {
+            return etag;
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.webserver.http;
 
+import com.djrapitops.plan.TaskSystem;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
@@ -25,26 +26,49 @@ import com.djrapitops.plan.storage.database.transactions.events.StoreRequestTran
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Logs requests to console and stores them in the access log table.
+ * <p>
+ * Entries are buffered in memory and stored in bulk by {@link FlushTask} or when enough have been gathered,
+ * so that loading a page with many requests does not queue a transaction per request.
+ * Remaining entries are stored when the task system disables.
+ * If the database can not keep up the oldest entries are dropped.
+ */
 @Singleton
 public class AccessLogger {
 
+    static final int FLUSH_SIZE = 500;
+    static final int BUFFER_CAPACITY = 10000;
+
     private final WebserverConfiguration webserverConfiguration;
     private final DBSystem dbSystem;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
+    private final Deque<StoreRequestTransaction.Entry> buffer;
+    private int droppedEntries;
+    private boolean storing;
+
     @Inject
     public AccessLogger(WebserverConfiguration webserverConfiguration, DBSystem dbSystem, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.dbSystem = dbSystem;
         this.logger = logger;
         this.errorLogger = errorLogger;
+        buffer = new ArrayDeque<>();
     }
 
     public void log(@Untrusted InternalRequest internalRequest, @Untrusted Request request, Response response) {
@@ -74,27 +98,102 @@ public class AccessLogger {
                     break;
             }
         }
+        long timestamp = internalRequest.getTimestamp();
+        String accessAddress = internalRequest.getAccessAddress(webserverConfiguration);
+        String method = internalRequest.getMethod();
+        method = method != null ? method : "?";
+        String url = StoreRequestTransaction.getTruncatedURI(request, internalRequest);
+        int responseCode = response.getCode();
+        if (add(new StoreRequestTransaction.Entry(timestamp, accessAddress, method, url, responseCode))) {
+            flush();
+        }
+    }
+
+    private synchronized boolean add(StoreRequestTransaction.Entry entry) {
+        if (buffer.size() >= BUFFER_CAPACITY) {
+            buffer.removeFirst();
+            droppedEntries++;
+        }
+        buffer.addLast(entry);
+        return buffer.size() >= FLUSH_SIZE;
+    }
+
+    /**
+     * Store buffered entries to the database.
+     * <p>
+     * While the previous batch is waiting for the database new entries are kept in the buffer.
+     */
+    public void flush() {
+        store(false);
+    }
+
+    /**
+     * Store all buffered entries, even if the previous batch is still waiting for the database.
+     * <p>
+     * Used when the plugin disables so that the last entries are not lost.
+     */
+    public void flushRemaining() {
+        store(true);
+    }
+
+    private void store(boolean evenIfStoring) {
+        List<StoreRequestTransaction.Entry> entries;
+        int dropped;
+        synchronized (this) {
+            if ((storing && !evenIfStoring) || buffer.isEmpty()) return;
+            entries = new ArrayList<>(buffer);
+            buffer.clear();
+            dropped = droppedEntries;
+            droppedEntries = 0;
+            storing = true;
+        }
+        if (dropped > 0) {
+            logger.warn("Access log could not keep up with requests, " + dropped + " oldest entries were not stored.");
+        }
         try {
-            long timestamp = internalRequest.getTimestamp();
-            String accessAddress = internalRequest.getAccessAddress(webserverConfiguration);
-            String method = internalRequest.getMethod();
-            method = method != null ? method : "?";
-            String url = StoreRequestTransaction.getTruncatedURI(request, internalRequest);
-            int responseCode = response.getCode();
-            dbSystem.getDatabase().executeTransaction(
-                    new StoreRequestTransaction(timestamp, accessAddress, method, url, responseCode)
-            );
+            dbSystem.getDatabase().executeTransaction(new StoreRequestTransaction(entries))
+                    .whenComplete((done, failure) -> finishedStoring());
         } catch (CompletionException | DBOpException e) {
+            finishedStoring();
             errorLogger.warn(e, ErrorContext.builder()
-                    .related("Logging request failed")
-                    .related(getRequestURI(internalRequest, request))
+                    .related("Logging requests failed")
+                    .related(entries.size() + " entries")
                     .build());
         }
     }
 
+    private synchronized void finishedStoring() {
+        storing = false;
+    }
+
     @Untrusted
     private String getRequestURI(InternalRequest internalRequest, Request request) {
         return request != null ? request.getPath().asString() + request.getQuery().asString()
                 : internalRequest.getRequestedURIString();
     }
+
+    public static class FlushTask extends TaskSystem.Task {
+        private final AccessLogger accessLogger;
+
+        @Inject
+        public FlushTask(AccessLogger accessLogger) {
+            this.accessLogger = accessLogger;
+        }
+
+        @Override
+        public void register(RunnableFactory runnableFactory) {
+            long period = TimeAmount.toTicks(5, TimeUnit.SECONDS);
+            runnableFactory.create(this).runTaskTimerAsynchronously(period, period);
+        }
+
+        @Override
+        public void run() {
+            accessLogger.flush();
+        }
+
+        @Override
+        public void onDisable() {
+            accessLogger.flushRemaining();
+        }
+    }
 }
@@ -18,14 +18,15 @@ package com.djrapitops.plan.delivery.webserver.http;
 
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.StreamedContent;
 import com.djrapitops.plan.delivery.webserver.Addresses;
+import com.djrapitops.plan.utilities.GzipUtil;
+import com.djrapitops.plan.utilities.dev.Untrusted;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
@@ -50,7 +51,14 @@ public class JettyResponseSender {
             setResponseHeaders();
             sendHeadResponse();
         } else if (canGzip()) {
-            sendCompressed();
+            if (response.getGzippedBytes().isEmpty() && response.getStreamedContent().isPresent()) {
+                sendStreamedCompressed(response.getStreamedContent().get());
+            } else {
+                sendCompressed();
+            }
+        } else if (response.getStreamedContent().isPresent()) {
+            setResponseHeaders();
+            sendStreamed(response.getStreamedContent().get());
         } else {
             setResponseHeaders();
             sendRawBytes();
@@ -59,8 +67,44 @@ public class JettyResponseSender {
 
     private boolean canGzip() {
         String method = servletRequest.getMethod();
+        if (!"GET".equals(method) || !isCompressible()) return false;
+        // Compressed and uncompressed forms are sent for the same address, so caches need to tell them apart
+        response.getHeaders().put(HttpHeader.VARY.asString(), HttpHeader.ACCEPT_ENCODING.asString());
+        return acceptsGzip(servletRequest.getHeader(HttpHeader.ACCEPT_ENCODING.asString()));
+    }
+
+    private boolean isCompressible() {
         String mimeType = response.getHeaders().get(HttpHeader.CONTENT_TYPE.asString());
-        return "GET".equals(method) && StringUtils.containsAny(mimeType, MimeType.HTML, MimeType.CSS, MimeType.JS, MimeType.JSON, "text/plain");
+        return StringUtils.containsAny(mimeType, MimeType.HTML, MimeType.CSS, MimeType.JS, MimeType.JSON, "text/plain");
+    }
+
+    /**
+     * Check if the client accepts gzip encoding.
+     *
+     * @param acceptEncoding Value of Accept-Encoding header, can be null.
+     * @return true if gzip or any encoding is accepted with a quality value above zero.
+     */
+    static boolean acceptsGzip(@Untrusted String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (@Untrusted String coding : StringUtils.split(acceptEncoding, ',')) {
+            String[] parts = StringUtils.split(coding, ';');
+            if (parts.length == 0) continue;
+            String name = parts[0].trim();
+            if (("gzip".equalsIgnoreCase(name) || "*".equals(name)) && !isZeroQuality(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(@Untrusted String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = StringUtils.deleteWhitespace(parts[i]);
+            if (StringUtils.startsWithIgnoreCase(parameter, "q=")) {
+                return parameter.substring(2).matches("0(\\.0{0,3})?");
+            }
+        }
+        return false;
     }
 
     public void sendHeadResponse() throws IOException {
@@ -93,7 +137,7 @@ public class JettyResponseSender {
         response.getHeaders().remove(HttpHeader.ACCEPT_RANGES.asString());
         response.getHeaders().put(HttpHeader.CONTENT_ENCODING.asString(), "gzip");
 
-        byte[] gzipped = gzip();
+        byte[] gzipped = response.getGzippedBytes().orElseGet(() -> GzipUtil.gzip(response.getBytes()));
         try (OutputStream out = servletResponse.getOutputStream()) {
             response.getHeaders().put(HttpHeader.CONTENT_LENGTH.asString(), String.valueOf(gzipped.length));
             setResponseHeaders();
@@ -104,14 +148,26 @@ public class JettyResponseSender {
         }
     }
 
-    private byte[] gzip() throws IOException {
-        try (ByteArrayOutputStream bufferStream = new ByteArrayOutputStream();
-             GZIPOutputStream gzipStream = new GZIPOutputStream(bufferStream)
+    private void sendStreamedCompressed(StreamedContent content) throws IOException {
+        response.getHeaders().remove(HttpHeader.ACCEPT_RANGES.asString());
+        response.getHeaders().remove(HttpHeader.CONTENT_LENGTH.asString());
+        response.getHeaders().put(HttpHeader.CONTENT_ENCODING.asString(), "gzip");
+        setResponseHeaders();
+        beginSend();
+
+        // Content is compressed as it is written, so the whole response is never in memory.
+        try (
+                OutputStream out = servletResponse.getOutputStream();
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192)
         ) {
-            gzipStream.write(response.getBytes());
-            gzipStream.finish();
-            gzipStream.flush();
-            return bufferStream.toByteArray();
+            content.writeTo(gzipOut);
+        }
+    }
+
+    private void sendStreamed(StreamedContent content) throws IOException {
+        beginSend();
+        try (OutputStream out = servletResponse.getOutputStream()) {
+            content.writeTo(out);
         }
     }
 
@@ -142,14 +198,7 @@ public class JettyResponseSender {
     }
 
     private void send(OutputStream out, byte[] bytes) throws IOException {
-        try (
-                ByteArrayInputStream bis = new ByteArrayInputStream(bytes)
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
-            }
-        }
+        // Written in one go so that Jetty can send large content straight from the array without copying it.
+        out.write(bytes);
     }
 }
@@ -56,12 +56,27 @@ public abstract class JSONResolver implements Resolver {
         return Response.builder()
                 .setMimeType(MimeType.JSON)
                 .setJSONContent(storedJSON.getJson())
+                .setGzippedContent(storedJSON.getGzipped())
                 .setHeader(HttpHeader.CACHE_CONTROL.asString(), CacheStrategy.CHECK_ETAG_USER_SPECIFIC)
                 .setHeader(HttpHeader.LAST_MODIFIED.asString(), getHttpLastModifiedFormatter().apply(storedJSON.getTimestamp()))
                 .setHeader(HttpHeader.ETAG.asString(), storedJSON.getTimestamp())
                 .build();
     }
 
+    /**
+     * Create a response for json that is not kept in {@link JSONStorage}.
+     * <p>
+     * The json is serialized while the response is being sent, so it is not held in memory as a String.
+     *
+     * @param json Object to serialize into JSON.
+     * @return Response with streamed content.
+     */
+    protected Response getStreamedResponse(Object json) {
+        return Response.builder()
+                .setStreamedJSONContent(json)
+                .build();
+    }
+
     protected abstract Formatter<Long> getHttpLastModifiedFormatter();
 
 }
@@ -0,0 +1,136 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.leaderboard.Leaderboard;
+import com.djrapitops.plan.delivery.leaderboard.LeaderboardMetric;
+import com.djrapitops.plan.delivery.leaderboard.LeaderboardTimespan;
+import com.djrapitops.plan.delivery.leaderboard.Leaderboards;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.djrapitops.plan.utilities.java.Maps;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/leaderboard JSON requests from the in-memory top lists.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+@Path("/v1/leaderboard")
+public class LeaderboardJSONResolver implements Resolver {
+
+    private final Identifiers identifiers;
+    private final Leaderboards leaderboards;
+
+    @Inject
+    public LeaderboardJSONResolver(Identifiers identifiers, Leaderboards leaderboards) {
+        this.identifiers = identifiers;
+        this.leaderboards = leaderboards;
+    }
+
+    @Override
+    public boolean canAccess(@Untrusted Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        if (request.getQuery().get("server").isPresent()) {
+            return user.hasPermission(WebPermission.PAGE_SERVER_PLAYERS);
+        }
+        return user.hasPermission(WebPermission.PAGE_NETWORK_PLAYERS);
+    }
+
+    @GET
+    @Operation(
+            description = "Get top players of server or network by a metric",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
+                    @ApiResponse(responseCode = "400", description = "If a parameter is missing or invalid, or 'server' is not an existing server")
+            },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, required = true, name = "metric", description = "playtime, active_playtime or player_kills", examples = @ExampleObject("playtime")),
+                    @Parameter(in = ParameterIn.QUERY, required = true, name = "timespan", description = "day, week, month or total", examples = @ExampleObject("week")),
+                    @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for, whole network if not given (optional)", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Number of players, 1-" + Leaderboards.SIZE + " (optional)", examples = @ExampleObject("5")),
+            },
+            requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
+    )
+    @Override
+    public Optional<Response> resolve(@Untrusted Request request) {
+        @Untrusted URIQuery query = request.getQuery();
+        LeaderboardMetric metric = query.get("metric")
+                .map(name -> LeaderboardMetric.fromName(name)
+                        .orElseThrow(() -> new BadRequestException("'metric' should be one of playtime, active_playtime or player_kills")))
+                .orElseThrow(() -> new BadRequestException("Missing 'metric' query parameter"));
+        LeaderboardTimespan timespan = query.get("timespan")
+                .map(name -> LeaderboardTimespan.fromName(name)
+                        .orElseThrow(() -> new BadRequestException("'timespan' should be one of day, week, month or total")))
+                .orElseThrow(() -> new BadRequestException("Missing 'timespan' query parameter"));
+        ServerUUID serverUUID = query.get("server").isPresent()
+                ? identifiers.getServerUUID(request) // Can throw BadRequestException
+                : null; // Network
+        int limit = getLimit(query);
+
+        Leaderboard leaderboard = leaderboards.getLeaderboard(metric, timespan, serverUUID);
+        int size = Math.min(limit, leaderboard.getEntries().size());
+        return Optional.of(Response.builder()
+                .setJSONContent(Maps.builder(String.class, Object.class)
+                        .put("metric", metric.getName())
+                        .put("timespan", timespan.getName())
+                        .put("server", serverUUID != null ? serverUUID.toString() : null)
+                        .put("timestamp", leaderboard.getLoadedAt())
+                        .put("players", leaderboard.getEntries().subList(0, size))
+                        .build())
+                .build());
+    }
+
+    private int getLimit(@Untrusted URIQuery query) {
+        int limit;
+        try {
+            limit = query.get("limit").map(Integer::parseInt).orElse(Leaderboards.SIZE);
+        } catch (@Untrusted NumberFormatException e) {
+            throw new BadRequestException("'limit' is not a number");
+        }
+        if (limit < 1 || limit > Leaderboards.SIZE) {
+            throw new BadRequestException("'limit' should be between 1 and " + Leaderboards.SIZE);
+        }
+        return limit;
+    }
+}
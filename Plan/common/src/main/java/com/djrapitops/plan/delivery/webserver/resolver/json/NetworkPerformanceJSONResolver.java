@@ -112,7 +112,7 @@ public class NetworkPerformanceJSONResolver implements Resolver {
                 .stream().map(ServerUUID::from)
                 .collect(Collectors.toList());
         return Optional.of(Response.builder()
-                .setJSONContent(createJSONAsMap(serverUUIDs))
+                .setStreamedJSONContent(createJSONAsMap(serverUUIDs))
                 .build());
     }
 
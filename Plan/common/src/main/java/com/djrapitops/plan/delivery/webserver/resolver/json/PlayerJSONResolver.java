@@ -96,9 +96,9 @@ public class PlayerJSONResolver implements Resolver {
                 .map(user -> (Predicate<WebPermission>) user::hasPermission)
                 .orElse(permission -> true); // No user means auth disabled inside resolve
         Map<String, Object> jsonAsMap = jsonCreator.createJSONAsMap(playerUUID, hasPermission);
+        // Serialized while sending, players with many sessions have large responses.
         return Response.builder()
-                .setMimeType(MimeType.JSON)
-                .setJSONContent(jsonAsMap)
+                .setStreamedJSONContent(jsonAsMap)
                 .build();
     }
 }
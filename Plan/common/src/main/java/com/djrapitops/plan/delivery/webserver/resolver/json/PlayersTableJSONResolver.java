@@ -22,6 +22,8 @@ import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.AsyncJSONResolverService;
@@ -29,6 +31,8 @@ import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTableSort;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -43,6 +47,7 @@ import jakarta.ws.rs.Path;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -54,6 +59,11 @@ import java.util.Optional;
 @Path("/v1/playersTable")
 public class PlayersTableJSONResolver extends JSONResolver {
 
+    private static final List<String> PAGE_PARAMETERS = List.of("page", "pageSize", "sort", "order", "search", "cursor");
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_LENGTH = 36;
+
     private final Identifiers identifiers;
     private final AsyncJSONResolverService jsonResolverService;
     private final JSONFactory jsonFactory;
@@ -89,11 +99,19 @@ public class PlayersTableJSONResolver extends JSONResolver {
             responses = {
                     @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
             },
-            parameters = @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
-                    @ExampleObject("Server 1"),
-                    @ExampleObject("1"),
-                    @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
-            }),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page number starting from 0, giving any page parameter returns a single page instead of most recent players (optional)", examples = @ExampleObject("0")),
+                    @Parameter(in = ParameterIn.QUERY, name = "pageSize", description = "Players on a page, 1-" + MAX_PAGE_SIZE + ", default " + DEFAULT_PAGE_SIZE + " (optional)", examples = @ExampleObject("50")),
+                    @Parameter(in = ParameterIn.QUERY, name = "sort", description = "Sort column: lastSeen, name or registered, default lastSeen (optional)", examples = @ExampleObject("name")),
+                    @Parameter(in = ParameterIn.QUERY, name = "order", description = "Sort order: asc or desc, default desc for dates and asc for names (optional)", examples = @ExampleObject("asc")),
+                    @Parameter(in = ParameterIn.QUERY, name = "search", description = "Only include players whose name starts with this (optional)", examples = @ExampleObject("Aurora")),
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "'nextCursor' of previous page, faster than 'page' for going through pages (optional)"),
+            },
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = PlayerListDto.class)))
     )
     @Override
@@ -101,7 +119,15 @@ public class PlayersTableJSONResolver extends JSONResolver {
         return Optional.of(getResponse(request));
     }
 
-    private Response getResponse(Request request) {
+    private Response getResponse(@Untrusted Request request) {
+        @Untrusted URIQuery query = request.getQuery();
+        if (PAGE_PARAMETERS.stream().anyMatch(parameter -> query.get(parameter).isPresent())) {
+            return getPageResponse(request);
+        }
+        if (Identifiers.getTimestamp(request).isEmpty()) {
+            // Json is always created anew without a timestamp, so it is streamed instead of stored.
+            return getStreamedResponse(createPlayerList(request));
+        }
         JSONStorage.StoredJSON storedJSON = getStoredJSON(request);
         return getCachedOrNewResponse(request, storedJSON);
     }
@@ -118,4 +144,66 @@ public class PlayersTableJSONResolver extends JSONResolver {
         }
         return storedJSON;
     }
-}
\ No newline at end of file
+
+    private PlayerListDto createPlayerList(@Untrusted Request request) {
+        if (request.getQuery().get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            return jsonFactory.serverPlayersTableJSON(serverUUID).toPlayerList();
+        }
+        // Assume players page
+        return jsonFactory.networkPlayersTableJSON().toPlayerList();
+    }
+
+    private Response getPageResponse(@Untrusted Request request) {
+        ServerUUID serverUUID = request.getQuery().get("server").isPresent()
+                ? identifiers.getServerUUID(request) // Can throw BadRequestException
+                : null; // Players page
+        // Pages are not stored in JSONStorage since the parameters are chosen by the user.
+        return Response.builder()
+                .setStreamedJSONContent(jsonFactory.playersTablePageJSON(serverUUID, getPageQuery(serverUUID, request.getQuery())))
+                .build();
+    }
+
+    private PlayersTablePageQuery getPageQuery(ServerUUID serverUUID, @Untrusted URIQuery query) {
+        PlayersTableSort sort = query.get("sort")
+                .map(parameter -> PlayersTableSort.fromParameter(parameter)
+                        .orElseThrow(() -> new BadRequestException("'sort' should be one of lastSeen, name or registered")))
+                .orElse(PlayersTableSort.LAST_SEEN);
+        boolean descending = query.get("order").map(order -> {
+            if ("asc".equalsIgnoreCase(order)) return false;
+            if ("desc".equalsIgnoreCase(order)) return true;
+            throw new BadRequestException("'order' should be asc or desc");
+        }).orElse(sort.isDescendingByDefault());
+
+        @Untrusted String search = query.get("search").orElse(null);
+        if (search != null && search.length() > MAX_SEARCH_LENGTH) {
+            throw new BadRequestException("'search' can be at most " + MAX_SEARCH_LENGTH + " characters");
+        }
+
+        int pageSize = getIntParameter(query, "pageSize", DEFAULT_PAGE_SIZE);
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("'pageSize' should be between 1 and " + MAX_PAGE_SIZE);
+        }
+        int page = getIntParameter(query, "page", 0);
+        if (page < 0 || (long) page * pageSize > Integer.MAX_VALUE) {
+            throw new BadRequestException("'page' should be a positive number");
+        }
+
+        PlayersTablePageQuery.Cursor cursor;
+        try {
+            cursor = query.get("cursor").map(value -> PlayersTablePageQuery.Cursor.parse(value, sort)).orElse(null);
+        } catch (@Untrusted IllegalArgumentException e) {
+            throw new BadRequestException("'cursor' is not valid, use 'nextCursor' of the previous page with same sort");
+        }
+
+        return new PlayersTablePageQuery(serverUUID, sort, descending, search, cursor, page, pageSize);
+    }
+
+    private int getIntParameter(@Untrusted URIQuery query, String parameter, int defaultValue) {
+        try {
+            return query.get(parameter).map(Integer::parseInt).orElse(defaultValue);
+        } catch (@Untrusted NumberFormatException e) {
+            throw new BadRequestException("'" + parameter + "' is not a number");
+        }
+    }
+}
@@ -76,10 +76,12 @@ public class RootJSONResolver {
             OnlineActivityOverviewJSONCreator onlineActivityOverviewJSONCreator,
             SessionsOverviewJSONCreator sessionsOverviewJSONCreator,
             PlayerKillsJSONResolver playerKillsJSONResolver,
+            LeaderboardJSONResolver leaderboardJSONResolver,
             PvPPvEJSONCreator pvPPvEJSONCreator,
             PlayerBaseOverviewJSONCreator playerBaseOverviewJSONCreator,
             PerformanceJSONCreator performanceJSONCreator,
             ErrorsJSONResolver errorsJSONResolver,
+            MetricsResolver metricsResolver,
             LocaleJSONResolver localeJSONResolver,
 
             PlayerJSONResolver playerJSONResolver,
@@ -118,6 +120,7 @@ public class RootJSONResolver {
                 .add("playersTable", playersTableJSONResolver)
                 .add("sessions", sessionsJSONResolver)
                 .add("kills", playerKillsJSONResolver)
+                .add("leaderboard", leaderboardJSONResolver)
                 .add("graph", graphsJSONResolver)
                 .add("pingTable", forJSON(DataID.PING_TABLE, jsonFactory::pingPerGeolocation, WebPermission.PAGE_SERVER_GEOLOCATIONS_PING_PER_COUNTRY))
                 .add("serverOverview", forJSON(DataID.SERVER_OVERVIEW, serverOverviewJSONCreator, WebPermission.PAGE_SERVER_OVERVIEW_NUMBERS))
@@ -131,6 +134,7 @@ public class RootJSONResolver {
                 .add("filters", filtersJSONResolver)
                 .add("query", queryJSONResolver)
                 .add("errors", errorsJSONResolver)
+                .add("metrics", metricsResolver)
                 .add("version", versionJSONResolver)
                 .add("locale", localeJSONResolver)
                 .add("metadata", metadataJSONResolver)
@@ -42,6 +42,7 @@ import jakarta.ws.rs.Path;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -100,10 +101,23 @@ public class SessionsJSONResolver extends JSONResolver {
     }
 
     private Response getResponse(Request request) {
+        if (Identifiers.getTimestamp(request).isEmpty()) {
+            // Json is always created anew without a timestamp, so it is streamed instead of stored.
+            return getStreamedResponse(createSessionsJSON(request));
+        }
         JSONStorage.StoredJSON result = getStoredJSON(request);
         return getCachedOrNewResponse(request, result);
     }
 
+    private Map<String, Object> createSessionsJSON(@Untrusted Request request) {
+        if (request.getQuery().get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request);
+            return Collections.singletonMap("sessions", jsonFactory.serverSessionsAsJSONMap(serverUUID));
+        }
+        // Assume network
+        return Collections.singletonMap("sessions", jsonFactory.networkSessionsAsJSONMap());
+    }
+
     private JSONStorage.StoredJSON getStoredJSON(@Untrusted Request request) {
         Optional<Long> timestamp = Identifiers.getTimestamp(request);
         if (request.getQuery().get("server").isPresent()) {
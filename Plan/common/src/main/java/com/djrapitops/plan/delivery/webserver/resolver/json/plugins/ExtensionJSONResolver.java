@@ -29,9 +29,11 @@ import com.djrapitops.plan.delivery.webserver.cache.AsyncJSONResolverService;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.delivery.webserver.resolver.json.JSONResolver;
+import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.extension.implementation.results.ExtensionData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerDataQuery;
 import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.dev.Untrusted;
@@ -46,6 +48,7 @@ import jakarta.ws.rs.GET;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,12 +63,22 @@ public class ExtensionJSONResolver extends JSONResolver {
     private final DBSystem dbSystem;
     private final Identifiers identifiers;
     private final AsyncJSONResolverService jsonResolverService;
+    private final ExtensionSvc extensionService;
+    private final ServerInfo serverInfo;
 
     @Inject
-    public ExtensionJSONResolver(DBSystem dbSystem, Identifiers identifiers, AsyncJSONResolverService jsonResolverService) {
+    public ExtensionJSONResolver(
+            DBSystem dbSystem,
+            Identifiers identifiers,
+            AsyncJSONResolverService jsonResolverService,
+            ExtensionSvc extensionService,
+            ServerInfo serverInfo
+    ) {
         this.dbSystem = dbSystem;
         this.identifiers = identifiers;
         this.jsonResolverService = jsonResolverService;
+        this.extensionService = extensionService;
+        this.serverInfo = serverInfo;
     }
 
     @Override
@@ -85,11 +98,14 @@ public class ExtensionJSONResolver extends JSONResolver {
                     @ApiResponse(responseCode = "400", description = "If 'server' parameter is not given"),
                     @ApiResponse(responseCode = "404", description = "If 'server' parameter is not an existing server")
             },
-            parameters = @Parameter(in = ParameterIn.QUERY, required = true, name = "server", description = "Server identifier to get data for", examples = {
-                    @ExampleObject("Server 1"),
-                    @ExampleObject("1"),
-                    @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
-            }),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, required = true, name = "server", description = "Server identifier to get data for", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "providerStatistics", description = "Include call latency of extension methods on this server under 'providerStatistics', response is not cached (optional)", examples = @ExampleObject("true"))
+            },
             requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
     )
     @Override
@@ -98,9 +114,22 @@ public class ExtensionJSONResolver extends JSONResolver {
                 .orElseThrow(() -> new BadRequestException("'server' parameter was not given"));
         ServerUUID serverUUID = identifiers.getServerUUID(identifier)
                 .orElseThrow(() -> new NotFoundException("Server with given server-parameter was not found in database"));
+        if (request.getQuery().get("providerStatistics").isPresent()) {
+            return Optional.of(getResponseWithStatistics(serverUUID));
+        }
         return Optional.of(getResponse(request, serverUUID));
     }
 
+    private Response getResponseWithStatistics(ServerUUID serverUUID) {
+        // Statistics are kept in memory, so only the server that handles the request has them.
+        boolean isThisServer = serverUUID.equals(serverInfo.getServerUUID());
+        return Response.builder()
+                .setJSONContent(Map.of(
+                        "extensions", getExtensionData(serverUUID).get("extensions"),
+                        "providerStatistics", isThisServer ? extensionService.getProviderStatistics() : Collections.emptyList()
+                )).build();
+    }
+
     private JSONStorage.StoredJSON getJSON(@Untrusted Request request, ServerUUID serverUUID) {
         Optional<Long> timestamp = Identifiers.getTimestamp(request);
 
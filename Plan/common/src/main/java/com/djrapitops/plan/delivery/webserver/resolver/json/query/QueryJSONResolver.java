@@ -46,6 +46,7 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.filter.Filter;
 import com.djrapitops.plan.storage.database.queries.filter.QueryFilters;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.queries.objects.GeoInfoQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.QueryTablePlayersQuery;
@@ -231,8 +232,7 @@ public class QueryJSONResolver implements Resolver {
                     .map(Long::parseLong)
                     .flatMap(queryTimestamp -> jsonStorage.fetchExactJson("query", queryTimestamp))
                     .map(results -> Response.builder()
-                            .setMimeType(MimeType.JSON)
-                            .setJSONContent(results.json)
+                            .setStreamedJSONContent(results.json)
                             .build());
         } catch (@Untrusted NumberFormatException e) {
             throw new BadRequestException("Could not parse 'timestamp' into a number. Remove parameter or fix it.");
@@ -254,16 +254,16 @@ public class QueryJSONResolver implements Resolver {
 
             JSONStorage.StoredJSON stored = jsonStorage.storeJson("query", json, timestamp);
 
+            // Stored json is written to the connection as is, instead of being copied into bytes and compressed in memory.
             return Response.builder()
-                    .setMimeType(MimeType.JSON)
-                    .setJSONContent(stored.json)
+                    .setStreamedJSONContent(stored.json)
                     .build();
         } catch (ParseException e) {
             throw new BadRequestException("'view' date format was incorrect (expecting afterDate dd/mm/yyyy, afterTime hh:mm, beforeDate dd/mm/yyyy, beforeTime hh:mm})");
         }
     }
 
-    private Map<String, Object> getDataFor(Set<Integer> userIds, ViewDto view) throws ParseException {
+    private Map<String, Object> getDataFor(UserIdSet userIds, ViewDto view) throws ParseException {
         long after = view.getAfterEpochMs();
         long before = view.getBeforeEpochMs();
         List<ServerUUID> serverUUIDs = view.getServerUUIDs();
@@ -276,7 +276,7 @@ public class QueryJSONResolver implements Resolver {
                 .build();
     }
 
-    private Map<String, String> getSessionSummaryData(Set<Integer> userIds, List<ServerUUID> serverUUIDs, long after, long before) {
+    private Map<String, String> getSessionSummaryData(UserIdSet userIds, List<ServerUUID> serverUUIDs, long after, long before) {
         Database database = dbSystem.getDatabase();
         Map<String, Long> summary = database.query(SessionQueries.summaryOfPlayers(userIds, serverUUIDs, after, before));
         Map<String, String> formattedSummary = new HashMap<>();
@@ -289,14 +289,14 @@ public class QueryJSONResolver implements Resolver {
         return formattedSummary;
     }
 
-    private Map<String, Object> getGeolocationData(Set<Integer> userIds) {
+    private Map<String, Object> getGeolocationData(UserIdSet userIds) {
         Database database = dbSystem.getDatabase();
         return graphJSONCreator.createGeolocationJSON(
                 database.query(GeoInfoQueries.networkGeolocationCounts(userIds))
         );
     }
 
-    private Map<String, Object> getActivityGraphData(Set<Integer> userIds, List<ServerUUID> serverUUIDs, long after, long before) {
+    private Map<String, Object> getActivityGraphData(UserIdSet userIds, List<ServerUUID> serverUUIDs, long after, long before) {
         Database database = dbSystem.getDatabase();
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
@@ -311,7 +311,7 @@ public class QueryJSONResolver implements Resolver {
         return graphJSONCreator.createActivityGraphJSON(activityData);
     }
 
-    private PlayerListDto getPlayersTableData(Set<Integer> userIds, List<ServerUUID> serverUUIDs, long after, long before) {
+    private PlayerListDto getPlayersTableData(UserIdSet userIds, List<ServerUUID> serverUUIDs, long after, long before) {
         Database database = dbSystem.getDatabase();
         return new PlayersTableJSONCreator(
                 database.query(new QueryTablePlayersQuery(userIds, serverUUIDs, after, before, config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD))),
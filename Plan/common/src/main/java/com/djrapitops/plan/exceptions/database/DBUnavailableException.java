@@ -0,0 +1,56 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.exceptions.database;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown when a connection to the database could not be obtained, eg. because MySQL is down.
+ *
+ * @author AuroraLS3
+ */
+public class DBUnavailableException extends DBOpException {
+
+    public DBUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Check if a failure was caused by the database connection being unavailable or lost.
+     *
+     * @param failure Exception thrown by a database operation.
+     * @return true if this exception, a connection exception or an SQLState of class 08 (connection exception) is in the causes.
+     */
+    public static boolean isCausedByUnavailableDatabase(Throwable failure) {
+        Throwable cause = failure;
+        while (cause != null) {
+            if (cause instanceof DBUnavailableException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String sqlState = ((SQLException) cause).getSQLState();
+                if (sqlState != null && sqlState.startsWith("08")) return true;
+            }
+            cause = cause.getCause() != cause ? cause.getCause() : null;
+        }
+        return false;
+    }
+}
@@ -23,6 +23,7 @@ import com.djrapitops.plan.extension.implementation.ExtensionRegister;
 import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
 import com.djrapitops.plan.extension.implementation.builder.ExtDataBuilder;
 import com.djrapitops.plan.extension.implementation.providers.gathering.DataValueGatherer;
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderStatistics;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.UUIDUtility;
 import com.djrapitops.plan.processing.Processing;
@@ -32,15 +33,15 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import net.playeranalytics.plugin.server.PluginLogger;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Implementation for {@link ExtensionService}.
@@ -50,6 +51,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Singleton
 public class ExtensionSvc implements ExtensionService {
 
+    private static final int GATHERING_THREADS = 16;
+    private static final long GATHERING_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5L);
+
     private final PlanConfig config;
     private final DBSystem dbSystem;
     private final ComponentSvc componentService;
@@ -62,6 +66,7 @@ public class ExtensionSvc implements ExtensionService {
 
     private final Map<String, DataValueGatherer> extensionGatherers;
     private final AtomicBoolean enabled;
+    private ExecutorService gatheringExecutor;
 
     @Inject
     public ExtensionSvc(
@@ -85,7 +90,7 @@ public class ExtensionSvc implements ExtensionService {
         this.logger = logger;
         this.errorLogger = errorLogger;
 
-        extensionGatherers = new HashMap<>();
+        extensionGatherers = new ConcurrentHashMap<>();
         enabled = new AtomicBoolean(true);
     }
 
@@ -120,7 +125,7 @@ public class ExtensionSvc implements ExtensionService {
             logger.warn("DataExtension API implementation mistake for " + pluginName + ": " + warning);
         }
 
-        DataValueGatherer gatherer = new DataValueGatherer(extension, dbSystem, componentService, serverInfo, errorLogger);
+        DataValueGatherer gatherer = new DataValueGatherer(extension, dbSystem, componentService, serverInfo, logger, errorLogger);
         gatherer.storeExtensionInformation();
         extensionGatherers.put(pluginName, gatherer);
 
@@ -161,9 +166,7 @@ public class ExtensionSvc implements ExtensionService {
 
     public void updatePlayerValues(UUID playerUUID, String playerName, CallEvents event) {
         if (!enabled.get()) return; // Plugin is disabling
-        for (DataValueGatherer gatherer : extensionGatherers.values()) {
-            updatePlayerValues(gatherer, playerUUID, playerName, event);
-        }
+        gatherInParallel(gatherer -> updatePlayerValues(gatherer, playerUUID, playerName, event));
     }
 
     public void updatePlayerValues(DataValueGatherer gatherer, UUID playerUUID, String playerName, CallEvents event) {
@@ -183,9 +186,109 @@ public class ExtensionSvc implements ExtensionService {
 
     public void updateServerValues(CallEvents event) {
         if (!enabled.get()) return; // Plugin is disabling
+        gatherInParallel(gatherer -> updateServerValues(gatherer, event));
+    }
+
+    /**
+     * Gather values of every extension at the same time, so that one slow extension does not delay the others.
+     * <p>
+     * Each extension is given {@link #GATHERING_TIMEOUT_MS} from the moment it starts running, the ones that are still
+     * running after that are interrupted. Extensions that do not get a gathering thread before the others would have
+     * timed out are skipped for this round without interrupting anything.
+     *
+     * @param gathering What to do with each extension.
+     */
+    private void gatherInParallel(Consumer<DataValueGatherer> gathering) {
+        List<Gathering> running = new ArrayList<>();
+        try {
+            ExecutorService executor = getGatheringExecutor();
+            for (DataValueGatherer gatherer : extensionGatherers.values()) {
+                Gathering task = new Gathering(gatherer, gathering);
+                task.future = executor.submit(task);
+                running.add(task);
+            }
+        } catch (RejectedExecutionException pluginIsDisabling) {
+            running.forEach(task -> task.future.cancel(true));
+            return;
+        }
+
+        // Time it takes for the tasks to run in waves of GATHERING_THREADS if each of them times out.
+        int waves = (running.size() + GATHERING_THREADS - 1) / GATHERING_THREADS;
+        long startDeadline = System.currentTimeMillis() + waves * GATHERING_TIMEOUT_MS;
+        for (Gathering task : running) {
+            waitForGathering(task, startDeadline);
+        }
+    }
+
+    private void waitForGathering(Gathering task, long startDeadline) {
+        DataValueGatherer gatherer = task.gatherer;
+        try {
+            if (!task.awaitStart(startDeadline) && task.skip()) {
+                // Gathering threads were held by other extensions, this one did not run so it is not to blame.
+                task.future.cancel(false);
+                logger.warn("Gathering data of " + gatherer.getPluginName() + " extension was skipped, other extensions did not finish in time.");
+                return;
+            }
+            long deadline = task.getStartTime() + GATHERING_TIMEOUT_MS;
+            task.future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException timedOut) {
+            // Method is looked up before interrupting, the interrupt may end the call.
+            String methodName = task.getRunningMethod().orElse("");
+            task.future.cancel(true);
+            if (gatherer.getStatistics().recordTimeout(methodName, System.currentTimeMillis())) {
+                logger.warn("DataExtension method " + gatherer.getPluginName() + "#" + methodName + " took over " + GATHERING_TIMEOUT_MS +
+                        "ms and was interrupted. It will not be called for the next " + TimeUnit.MILLISECONDS.toMinutes(ProviderStatistics.DISABLE_MS) + " minutes.");
+            } else {
+                logger.warn("Gathering data of " + gatherer.getPluginName() + " extension took over " + GATHERING_TIMEOUT_MS + "ms and was interrupted.");
+            }
+        } catch (ExecutionException failed) {
+            errorLogger.warn(failed.getCause(), ErrorContext.builder()
+                    .whatToDo("Report and/or disable " + gatherer.getPluginName() + " extension in the Plan config.")
+                    .related(gatherer.getPluginName()).build());
+        } catch (CancellationException ignored) {
+            // Cancelled by plugin disable
+        } catch (InterruptedException e) {
+            task.future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized ExecutorService getGatheringExecutor() {
+        if (!enabled.get()) throw new RejectedExecutionException("Plugin is disabling");
+        if (gatheringExecutor == null || gatheringExecutor.isShutdown()) {
+            gatheringExecutor = Executors.newFixedThreadPool(GATHERING_THREADS, createGatheringThreadFactory());
+        }
+        return gatheringExecutor;
+    }
+
+    private ThreadFactory createGatheringThreadFactory() {
+        // Extension methods mostly wait on other plugins or their databases, so virtual threads are used when the server runs on Java 21+.
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "Plan Extension Gathering-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException noVirtualThreads) {
+            return new BasicThreadFactory.Builder()
+                    .namingPattern("Plan Extension Gathering-%d")
+                    .uncaughtExceptionHandler((thread, throwable) -> errorLogger.warn(throwable, ErrorContext.builder().build()))
+                    .build();
+        }
+    }
+
+    /**
+     * Get how long calls to the provider methods of registered extensions have taken.
+     *
+     * @return Statistics of each provider method that has been called.
+     */
+    public List<ProviderStatistics.Snapshot> getProviderStatistics() {
+        List<ProviderStatistics.Snapshot> snapshots = new ArrayList<>();
         for (DataValueGatherer gatherer : extensionGatherers.values()) {
-            updateServerValues(gatherer, event);
+            snapshots.addAll(gatherer.getStatistics().getSnapshots());
         }
+        snapshots.sort(Comparator.comparing(ProviderStatistics.Snapshot::getPluginName)
+                .thenComparing(snapshot -> Objects.toString(snapshot.getMethodName(), "")));
+        return snapshots;
     }
 
     public void updateServerValues(DataValueGatherer gatherer, CallEvents event) {
@@ -197,5 +300,58 @@ public class ExtensionSvc implements ExtensionService {
 
     public void disableUpdates() {
         enabled.set(false);
+        synchronized (this) {
+            if (gatheringExecutor != null) gatheringExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gathering of one extension, remembers the thread it runs on so that a timeout can be recorded against the running method.
+     * <p>
+     * Either starts running or is skipped, whichever happens first, so a skipped gathering never runs without a time limit.
+     */
+    private static class Gathering implements Runnable {
+        private final DataValueGatherer gatherer;
+        private final Consumer<DataValueGatherer> gathering;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile long startTime;
+        private volatile Thread thread;
+        private Future<?> future;
+
+        Gathering(DataValueGatherer gatherer, Consumer<DataValueGatherer> gathering) {
+            this.gatherer = gatherer;
+            this.gathering = gathering;
+        }
+
+        @Override
+        public void run() {
+            startTime = System.currentTimeMillis();
+            if (!claimed.compareAndSet(false, true)) return; // Skipped
+            thread = Thread.currentThread();
+            started.countDown();
+            try {
+                gathering.accept(gatherer);
+            } finally {
+                thread = null;
+            }
+        }
+
+        boolean awaitStart(long deadline) throws InterruptedException {
+            return started.await(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+
+        boolean skip() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        long getStartTime() {
+            return startTime;
+        }
+
+        Optional<String> getRunningMethod() {
+            Thread runningOn = thread;
+            return runningOn != null ? gatherer.getRunningMethod(runningOn) : Optional.empty();
+        }
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,8 @@ import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -28,6 +30,10 @@ import java.util.Optional;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * The method is turned into a {@link MethodHandle} when the wrapper is created, so calls skip the access checks,
+ * argument arrays and exception wrapping of {@link Method#invoke(Object, Object...)}.
+ * Reflection is used if the handle can not be created.
  *
  * @author AuroraLS3
  */
@@ -36,16 +42,48 @@ public class MethodWrapper<T> {
     private final Method method;
     private final Class<T> returnType;
     private final MethodType methodType;
+    private final Class<?> parameterType;  // null if method has no parameters
+    private final MethodHandle methodHandle; // null if the method could not be unreflected
     private boolean disabled = false;
 
     public MethodWrapper(Method method, Class<T> returnType) {
         this.method = method;
         this.returnType = returnType;
         methodType = MethodType.forMethod(this.method);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        parameterType = parameterTypes.length == 1 ? parameterTypes[0] : null;
+        methodHandle = createHandle(method, parameterTypes.length);
+    }
+
+    private static MethodHandle createHandle(Method method, int parameterCount) {
+        if (parameterCount > 1) return null;
+        try {
+            // Lookup respects setAccessible(true) done by ExtensionExtractor
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            return handle.asType(parameterCount == 0
+                    ? java.lang.invoke.MethodType.methodType(Object.class, DataExtension.class)
+                    : java.lang.invoke.MethodType.methodType(Object.class, DataExtension.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException cannotCreate) {
+            return null;
+        }
     }
 
     public T callMethod(DataExtension extension, Parameters with) {
         if (disabled) return null;
+        if (methodHandle == null) return callWithReflection(extension, with);
+
+        Object result;
+        try {
+            result = with.usingOn(extension, methodHandle, parameterType);
+        } catch (NotReadyException | UnsupportedOperationException notReadyToBeCalled) {
+            return null; // Data or API not available to make the call.
+        } catch (Throwable e) {
+            throw new DataExtensionMethodCallException(getErrorMessage(extension, e), e, extension.getPluginName(), getMethodName());
+        }
+        return returnType.cast(result);
+    }
+
+    private T callWithReflection(DataExtension extension, Parameters with) {
         try {
             return returnType.cast(with.usingOn(extension, method));
         } catch (InvocationTargetException notReadyToBeCalled) {
@@ -62,7 +100,11 @@ public class MethodWrapper<T> {
 
     private String getErrorMessage(DataExtension extension, InvocationTargetException e) {
         Optional<Throwable> actualCause = Optional.ofNullable(e.getCause()); // InvocationTargetException
-        return extension.getPluginName() + '.' + getMethodName() + " errored: " + actualCause.orElse(e).toString();
+        return getErrorMessage(extension, actualCause.orElse(e));
+    }
+
+    private String getErrorMessage(DataExtension extension, Throwable cause) {
+        return extension.getPluginName() + '.' + getMethodName() + " errored: " + cause.toString();
     }
 
     public String getMethodName() {
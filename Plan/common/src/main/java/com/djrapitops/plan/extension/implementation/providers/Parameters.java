@@ -21,6 +21,7 @@ import com.djrapitops.plan.extension.Group;
 import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.identification.ServerUUID;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.UUID;
@@ -40,6 +41,17 @@ public interface Parameters {
 
     Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException;
 
+    /**
+     * Call a method handle with these parameters.
+     *
+     * @param extension     Extension to call the method on.
+     * @param method        Handle of type (DataExtension)Object for server methods, (DataExtension,Object)Object for others.
+     * @param parameterType Type of the single parameter of the method, or null if it has none.
+     * @return Return value of the method.
+     * @throws Throwable Anything the method throws, as is.
+     */
+    Object usingOn(DataExtension extension, MethodHandle method, Class<?> parameterType) throws Throwable;
+
     MethodType getMethodType();
 
     ServerUUID getServerUUID();
@@ -64,6 +76,11 @@ public interface Parameters {
             return method.invoke(extension);
         }
 
+        @Override
+        public Object usingOn(DataExtension extension, MethodHandle method, Class<?> parameterType) throws Throwable {
+            return (Object) method.invokeExact(extension);
+        }
+
         @Override
         public MethodType getMethodType() {
             return MethodType.SERVER;
@@ -100,6 +117,12 @@ public interface Parameters {
             }
         }
 
+        @Override
+        public Object usingOn(DataExtension extension, MethodHandle method, Class<?> parameterType) throws Throwable {
+            Object parameter = UUID.class.equals(parameterType) ? playerUUID : playerName;
+            return (Object) method.invokeExact(extension, parameter);
+        }
+
         @Override
         public MethodType getMethodType() {
             return MethodType.PLAYER;
@@ -125,6 +148,12 @@ public interface Parameters {
             return method.invoke(extension, group);
         }
 
+        @Override
+        public Object usingOn(DataExtension extension, MethodHandle method, Class<?> parameterType) throws Throwable {
+            Object group = (Group) this::getGroupName;
+            return (Object) method.invokeExact(extension, group);
+        }
+
         public String getGroupName() {
             return groupName;
         }
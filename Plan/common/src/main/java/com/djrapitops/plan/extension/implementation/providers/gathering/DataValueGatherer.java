@@ -37,8 +37,6 @@ import com.djrapitops.plan.extension.implementation.providers.Parameters;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.*;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -47,12 +45,12 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.server.PluginLogger;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Object that can be called to place data about players to the database.
@@ -66,15 +64,21 @@ public class DataValueGatherer {
     private final DBSystem dbSystem;
     private final ComponentSvc componentService;
     private final ServerInfo serverInfo;
+    private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
     private final Set<ExtensionMethod> brokenMethods;
+    private final Map<ExtensionMethod, MethodWrapper<Object>> methodWrappers;
+    private final ProviderStatistics statistics;
+    private final Map<Thread, String> runningMethods;
+    private final StoredResultCache storedResults;
 
     public DataValueGatherer(
             ExtensionWrapper extension,
             DBSystem dbSystem,
             ComponentSvc componentService,
             ServerInfo serverInfo,
+            PluginLogger logger,
             ErrorLogger errorLogger
     ) {
         this.callEvents = extension.getCallEvents();
@@ -82,9 +86,33 @@ public class DataValueGatherer {
         this.dbSystem = dbSystem;
         this.componentService = componentService;
         this.serverInfo = serverInfo;
+        this.logger = logger;
         this.errorLogger = errorLogger;
 
-        this.brokenMethods = new HashSet<>();
+        // Values of different extensions are gathered in parallel, and the same extension can be called from multiple threads.
+        this.brokenMethods = ConcurrentHashMap.newKeySet();
+        this.statistics = new ProviderStatistics(extension.getPluginName());
+        this.runningMethods = new ConcurrentHashMap<>();
+        this.storedResults = new StoredResultCache();
+        this.methodWrappers = new ConcurrentHashMap<>();
+        prepareMethods();
+    }
+
+    private void prepareMethods() {
+        // Creating the method handles at registration keeps it out of gathering.
+        for (ExtensionMethods methods : extension.getMethods().values()) {
+            for (List<ExtensionMethod> providers : List.of(
+                    methods.getBooleanProviders(), methods.getNumberProviders(), methods.getDoubleProviders(),
+                    methods.getPercentageProviders(), methods.getStringProviders(), methods.getComponentProviders(),
+                    methods.getTableProviders(), methods.getGroupProviders(), methods.getDataBuilderProviders()
+            )) {
+                providers.forEach(this::getMethodWrapper);
+            }
+        }
+    }
+
+    private MethodWrapper<Object> getMethodWrapper(ExtensionMethod provider) {
+        return methodWrappers.computeIfAbsent(provider, method -> new MethodWrapper<>(method.getMethod(), Object.class));
     }
 
     public boolean shouldSkipEvent(CallEvents event) {
@@ -103,6 +131,20 @@ public class DataValueGatherer {
         return extension.getPluginName();
     }
 
+    public ProviderStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Get the provider method a thread is calling at the moment.
+     *
+     * @param thread Thread that is gathering values of this extension.
+     * @return Name of the method, or empty if the thread is not inside a provider method.
+     */
+    public Optional<String> getRunningMethod(Thread thread) {
+        return Optional.ofNullable(runningMethods.get(thread));
+    }
+
     public void storeExtensionInformation() {
         String pluginName = extension.getPluginName();
         Icon pluginIcon = extension.getPluginIcon();
@@ -317,12 +359,26 @@ public class DataValueGatherer {
     }
 
     private <T> T callMethod(ExtensionMethod provider, Parameters params, Class<T> returnType) {
+        String methodName = provider.getMethodName();
+        // Skipped value is not stored, so the previous value stays visible until the method is called again.
+        if (statistics.isDisabled(methodName, System.currentTimeMillis())) return null;
+
+        Thread thread = Thread.currentThread();
+        runningMethods.put(thread, methodName);
+        long start = System.nanoTime();
         try {
-            return new MethodWrapper<>(provider.getMethod(), returnType)
-                    .callMethod(extension.getExtension(), params);
+            return returnType.cast(getMethodWrapper(provider).callMethod(extension.getExtension(), params));
         } catch (DataExtensionMethodCallException e) {
             brokenMethods.add(provider);
             throw e;
+        } finally {
+            runningMethods.remove(thread);
+            long took = System.nanoTime() - start;
+            if (statistics.record(methodName, took, System.currentTimeMillis())) {
+                logger.warn("DataExtension method " + getPluginName() + "#" + methodName + " took " +
+                        TimeUnit.NANOSECONDS.toMillis(took) + "ms, which is too slow too many times in a row." +
+                        " It will not be called for the next " + TimeUnit.MILLISECONDS.toMinutes(ProviderStatistics.DISABLE_MS) + " minutes.");
+            }
         }
     }
 
@@ -341,9 +397,10 @@ public class DataValueGatherer {
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters);
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters);
 
-        gatherPlayer(parameters, (ExtDataBuilder) dataBuilder);
-
-        dbSystem.getDatabase().executeTransaction(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
+        StoredResultCache.Changes changes = storedResults.newChanges();
+        gatherPlayer(parameters, (ExtDataBuilder) dataBuilder, changes);
+        changes.removeInvalidated(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues());
+        storeChanges(changes);
     }
 
     public void updateValues() {
@@ -360,28 +417,35 @@ public class DataValueGatherer {
 
         addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.SERVER_NONE), parameters);
 
-        gather(parameters, (ExtDataBuilder) dataBuilder);
+        StoredResultCache.Changes changes = storedResults.newChanges();
+        gather(parameters, (ExtDataBuilder) dataBuilder, changes);
+        storeChanges(changes);
     }
 
+    private void storeChanges(StoredResultCache.Changes changes) {
+        // Unchanged results are left out, so often there is nothing to store.
+        if (changes.getTransactions().isEmpty()) return;
+        dbSystem.getDatabase().executeTransaction(new StoreExtensionResultsTransaction(changes.getTransactions(), changes::stored));
+    }
 
-    private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder, StoredResultCache.Changes changes) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, changes, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storePlayerNumber(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerNumber(parameters, conditions, changes, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storePlayerDouble(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerDouble(parameters, conditions, changes, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storePlayerString(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerString(parameters, conditions, changes, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storePlayerComponent(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerComponent(parameters, conditions, changes, data));
                 pair.getValue(String[].class).flatMap(data -> data.getMetadata(GroupsDataValue.class))
-                        .ifPresent(data -> storePlayerGroups(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerGroups(parameters, conditions, changes, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storePlayerTable(parameters, conditions, data));
+                        .ifPresent(data -> storePlayerTable(parameters, conditions, changes, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
@@ -390,22 +454,22 @@ public class DataValueGatherer {
         }
     }
 
-    private void gather(Parameters parameters, ExtDataBuilder dataBuilder) {
+    private void gather(Parameters parameters, ExtDataBuilder dataBuilder, StoredResultCache.Changes changes) {
         Conditions conditions = new Conditions();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storeBoolean(parameters, conditions, data));
+                        .ifPresent(data -> storeBoolean(parameters, conditions, changes, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storeNumber(parameters, conditions, data));
+                        .ifPresent(data -> storeNumber(parameters, conditions, changes, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storeDouble(parameters, conditions, data));
+                        .ifPresent(data -> storeDouble(parameters, conditions, changes, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storeString(parameters, conditions, data));
+                        .ifPresent(data -> storeString(parameters, conditions, changes, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storeComponent(parameters, conditions, data));
+                        .ifPresent(data -> storeComponent(parameters, conditions, changes, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storeTable(parameters, conditions, data));
+                        .ifPresent(data -> storeTable(parameters, conditions, changes, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (RejectedExecutionException ignore) {
@@ -462,7 +526,7 @@ public class DataValueGatherer {
         return json;
     }
 
-    private void storeBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storeBoolean(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -472,71 +536,57 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerBooleanResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeCondition(information, parameters, value, new StoreServerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storeNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storeNumber(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerNumberResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StoreServerNumberResultTransaction(information, parameters, value));
     }
 
 
-    private void storeDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storeDouble(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerDoubleResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StoreServerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storeString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storeString(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storeComponent(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StoreServerStringResultTransaction(information, parameters, value));
     }
 
-    private void storeTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storeTable(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
-        }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StoreServerTableResultTransaction(information, parameters, value));
+        changes.storeTableProvider(information, parameters, value);
+        changes.storeValue(information, parameters, value, new StoreServerTableResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void storePlayerBoolean(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -546,77 +596,61 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerBooleanResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeCondition(information, parameters, value, new StorePlayerBooleanResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void storePlayerNumber(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerNumberResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StorePlayerNumberResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void storePlayerDouble(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerDoubleResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StorePlayerDoubleResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void storePlayerString(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void storePlayerComponent(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, value, new StorePlayerStringResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerGroups(Parameters parameters, Conditions conditions, GroupsDataValue data) {
+    private void storePlayerGroups(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, GroupsDataValue data) {
         ProviderInformation information = data.getInformation();
         String[] value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerGroupsResultTransaction(information, parameters, value));
+        changes.storeProvider(information, parameters);
+        changes.storeValue(information, parameters, Arrays.asList(value), new StorePlayerGroupsResultTransaction(information, parameters, value));
     }
 
-    private void storePlayerTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void storePlayerTable(Parameters parameters, Conditions conditions, StoredResultCache.Changes changes, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
-        }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StorePlayerTableResultTransaction(information, parameters, value));
+        changes.storeTableProvider(information, parameters, value);
+        changes.storeValue(information, parameters, value, new StorePlayerTableResultTransaction(information, parameters, value));
     }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of how long calls to provider methods of an extension take.
+ * <p>
+ * A provider that is slow on too many consecutive calls is skipped for a while (circuit breaker),
+ * so that one slow plugin does not hold back gathering of its other values.
+ * After the wait one call is let through, and if it is slow as well the provider is skipped again.
+ *
+ * @author AuroraLS3
+ */
+public class ProviderStatistics {
+
+    static final long SLOW_CALL_NS = TimeUnit.MILLISECONDS.toNanos(1000L);
+    static final int SLOW_CALLS_BEFORE_DISABLE = 3;
+    public static final long DISABLE_MS = TimeUnit.MINUTES.toMillis(10L);
+
+    private final String pluginName;
+    private final Map<String, MethodStatistics> byMethod;
+
+    public ProviderStatistics(String pluginName) {
+        this.pluginName = pluginName;
+        byMethod = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Check if calls to a provider method should be skipped at the moment.
+     *
+     * @param methodName Name of the provider method.
+     * @param now        Current epoch ms.
+     * @return true if the method has been too slow recently.
+     */
+    public boolean isDisabled(String methodName, long now) {
+        MethodStatistics statistics = byMethod.get(methodName);
+        return statistics != null && statistics.isDisabled(now);
+    }
+
+    /**
+     * Record a finished call to a provider method.
+     *
+     * @param methodName    Name of the provider method.
+     * @param durationNanos How long the call took.
+     * @param now           Current epoch ms.
+     * @return true if the method was disabled because of this call.
+     */
+    public boolean record(String methodName, long durationNanos, long now) {
+        return byMethod.computeIfAbsent(methodName, MethodStatistics::new)
+                .record(durationNanos, now);
+    }
+
+    /**
+     * Record that gathering of the extension did not finish in time.
+     * <p>
+     * A method that timed out is skipped right away, so that the next gatherings do not wait for it.
+     *
+     * @param methodName Name of the provider method that was running, or empty if no method was running.
+     * @param now        Current epoch ms.
+     * @return true if the method was disabled because of the timeout.
+     */
+    public boolean recordTimeout(String methodName, long now) {
+        return byMethod.computeIfAbsent(methodName, MethodStatistics::new)
+                .recordTimeout(now);
+    }
+
+    public List<Snapshot> getSnapshots() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (MethodStatistics statistics : byMethod.values()) {
+            snapshots.add(statistics.toSnapshot());
+        }
+        return snapshots;
+    }
+
+    private class MethodStatistics {
+        private final String methodName;
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+        private long slowCalls;
+        private long timeouts;
+        private int consecutiveSlowCalls;
+        private long disabledUntil;
+
+        MethodStatistics(String methodName) {
+            this.methodName = methodName;
+        }
+
+        synchronized boolean isDisabled(long now) {
+            return now < disabledUntil;
+        }
+
+        synchronized boolean record(long durationNanos, long now) {
+            calls++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            if (durationNanos < SLOW_CALL_NS) {
+                consecutiveSlowCalls = 0;
+                return false;
+            }
+            slowCalls++;
+            consecutiveSlowCalls++;
+            if (consecutiveSlowCalls >= SLOW_CALLS_BEFORE_DISABLE && now >= disabledUntil) {
+                disabledUntil = now + DISABLE_MS;
+                // Next slow call after the wait disables the method again.
+                consecutiveSlowCalls = SLOW_CALLS_BEFORE_DISABLE - 1;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean recordTimeout(long now) {
+            timeouts++;
+            if (methodName.isEmpty()) return false;
+            disabledUntil = now + DISABLE_MS;
+            consecutiveSlowCalls = SLOW_CALLS_BEFORE_DISABLE - 1;
+            return true;
+        }
+
+        synchronized Snapshot toSnapshot() {
+            return new Snapshot(pluginName, methodName.isEmpty() ? null : methodName,
+                    calls, calls > 0 ? totalNanos / calls : 0L, maxNanos, slowCalls, timeouts, disabledUntil);
+        }
+    }
+
+    /**
+     * Statistics of a provider method at a point in time.
+     */
+    public static class Snapshot {
+        private final String pluginName;
+        private final String methodName; // null for timeouts of the whole extension
+        private final long calls;
+        private final double averageMs;
+        private final double maxMs;
+        private final long slowCalls;
+        private final long timeouts;
+        private final long disabledUntil;
+
+        Snapshot(String pluginName, String methodName, long calls, long averageNanos, long maxNanos, long slowCalls, long timeouts, long disabledUntil) {
+            this.pluginName = pluginName;
+            this.methodName = methodName;
+            this.calls = calls;
+            this.averageMs = averageNanos / 1_000_000.0;
+            this.maxMs = maxNanos / 1_000_000.0;
+            this.slowCalls = slowCalls;
+            this.timeouts = timeouts;
+            this.disabledUntil = disabledUntil;
+        }
+
+        public String getPluginName() {
+            return pluginName;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public double getAverageMs() {
+            return averageMs;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public long getSlowCalls() {
+            return slowCalls;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getDisabledUntil() {
+            return disabledUntil;
+        }
+    }
+}
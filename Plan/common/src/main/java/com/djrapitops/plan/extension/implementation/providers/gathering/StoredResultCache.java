@@ -0,0 +1,193 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveInvalidResultsTransaction;
+import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers what providers and values of an extension have been stored to the database, so that unchanged ones are not written again.
+ * <p>
+ * Entries expire after a while so that rows removed by something else (eg. player removal) are eventually written again.
+ *
+ * @author AuroraLS3
+ */
+class StoredResultCache {
+
+    private final Cache<Key, Object> storedFingerprints = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .build();
+
+    Changes newChanges() {
+        return new Changes();
+    }
+
+    void invalidate(ServerUUID serverUUID, Collection<String> providerNames) {
+        if (providerNames.isEmpty()) return;
+        storedFingerprints.asMap().keySet()
+                .removeIf(key -> key.serverUUID.equals(serverUUID) && providerNames.contains(key.providerName));
+    }
+
+    private static Object providerFingerprint(ProviderInformation information) {
+        // ProviderInformation#equals does not compare every stored field
+        return Arrays.asList(information, information.isHidden(), information.isShownInPlayersTable(),
+                information.getProvidedCondition(), information.getFormatType(), information.isPlayerName(),
+                information.getTableColor(), information.isPercentage(), information.isComponent());
+    }
+
+    private static Object tableProviderFingerprint(ProviderInformation information, Table table) {
+        return Arrays.asList(providerFingerprint(information), Arrays.asList(table.getColumns()),
+                Arrays.asList(table.getIcons()), Arrays.asList(table.getTableColumnFormats()));
+    }
+
+    private enum Kind {
+        PROVIDER, TABLE_PROVIDER, VALUE
+    }
+
+    private static class Key {
+        private final Kind kind;
+        private final ServerUUID serverUUID;
+        private final String providerName;
+        private final UUID playerUUID; // null for server values
+
+        Key(Kind kind, ServerUUID serverUUID, String providerName, UUID playerUUID) {
+            this.kind = kind;
+            this.serverUUID = serverUUID;
+            this.providerName = providerName;
+            this.playerUUID = playerUUID;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return kind == key.kind && serverUUID.equals(key.serverUUID) && providerName.equals(key.providerName) && Objects.equals(playerUUID, key.playerUUID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, serverUUID, providerName, playerUUID);
+        }
+    }
+
+    /**
+     * Transactions needed to store the changed results of a single gather.
+     */
+    class Changes {
+        private final List<Transaction> transactions = new ArrayList<>();
+        // Cache is updated only after the transaction has been stored.
+        private final Map<Transaction, Runnable> afterStore = new IdentityHashMap<>();
+
+        private boolean hasChanged(Key key, Object fingerprint) {
+            return !fingerprint.equals(storedFingerprints.getIfPresent(key));
+        }
+
+        private void add(Transaction transaction, Key key, Object fingerprint) {
+            transactions.add(transaction);
+            if (key != null) afterStore.put(transaction, () -> storedFingerprints.put(key, fingerprint));
+        }
+
+        void storeProvider(ProviderInformation information, Parameters parameters) {
+            Key key = new Key(Kind.PROVIDER, parameters.getServerUUID(), information.getName(), null);
+            Object fingerprint = providerFingerprint(information);
+            if (!hasChanged(key, fingerprint)) return;
+
+            add(new StoreIconTransaction(information.getIcon()), null, null);
+            add(new StoreProviderTransaction(information, parameters), key, fingerprint);
+        }
+
+        void storeTableProvider(ProviderInformation information, Parameters parameters, Table table) {
+            Key key = new Key(Kind.TABLE_PROVIDER, parameters.getServerUUID(), information.getName(), null);
+            Object fingerprint = tableProviderFingerprint(information, table);
+            if (!hasChanged(key, fingerprint)) return;
+
+            for (Icon icon : table.getIcons()) {
+                if (icon != null) add(new StoreIconTransaction(icon), null, null);
+            }
+            add(new StoreTableProviderTransaction(information, parameters, table), key, fingerprint);
+        }
+
+        /**
+         * Store a value if it is different from the last stored value.
+         *
+         * @param information Provider of the value.
+         * @param parameters  Parameters the value was gathered with.
+         * @param value       The value, or a fingerprint of it. Needs to implement equals.
+         * @param store       Transaction that stores the value.
+         */
+        void storeValue(ProviderInformation information, Parameters parameters, Object value, Transaction store) {
+            Key key = new Key(Kind.VALUE, parameters.getServerUUID(), information.getName(), parameters.getPlayerUUID());
+            if (!hasChanged(key, value)) return;
+
+            add(store, key, value);
+        }
+
+        /**
+         * Store a boolean value if it is different from the last stored value.
+         * <p>
+         * Storing a condition removes results of unfulfilled conditional providers from the database,
+         * so when it changes the other values are forgotten to store them again if their condition is fulfilled later.
+         *
+         * @param information Provider of the value.
+         * @param parameters  Parameters the value was gathered with.
+         * @param value       The value.
+         * @param store       Transaction that stores the value.
+         */
+        void storeCondition(ProviderInformation information, Parameters parameters, boolean value, Transaction store) {
+            Key key = new Key(Kind.VALUE, parameters.getServerUUID(), information.getName(), parameters.getPlayerUUID());
+            if (!hasChanged(key, value)) return;
+
+            if (information.getProvidedCondition() != null) {
+                storedFingerprints.asMap().keySet().removeIf(other -> other.kind == Kind.VALUE
+                        && other.serverUUID.equals(key.serverUUID)
+                        && Objects.equals(other.playerUUID, key.playerUUID));
+            }
+            add(store, key, value);
+        }
+
+        void removeInvalidated(String pluginName, ServerUUID serverUUID, Collection<String> providerNames) {
+            if (providerNames.isEmpty()) return;
+            RemoveInvalidResultsTransaction remove = new RemoveInvalidResultsTransaction(pluginName, serverUUID, providerNames);
+            transactions.add(remove);
+            afterStore.put(remove, () -> invalidate(serverUUID, providerNames));
+        }
+
+        List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        void stored(Transaction transaction) {
+            Runnable updateCache = afterStore.get(transaction);
+            if (updateCache != null) updateCache.run();
+        }
+    }
+}
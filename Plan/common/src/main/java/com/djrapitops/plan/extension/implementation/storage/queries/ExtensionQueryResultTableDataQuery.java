@@ -25,10 +25,10 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.*;
-import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -118,7 +118,7 @@ public class ExtensionQueryResultTableDataQuery implements Query<Map<UUID, Exten
     private Query<Map<UUID, ExtensionTabData>> fetchPlayerGroups() {
         String selectUuids = SELECT + UsersTable.USER_UUID +
                 FROM + UsersTable.TABLE_NAME +
-                WHERE + UsersTable.ID + " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ")";
+                WHERE + UsersTable.ID + " IN (" + UserIdSet.join(userIds, ",") + ")";
 
         String sql = SELECT +
                 "v1." + ExtensionGroupsTable.USER_UUID + " as uuid," +
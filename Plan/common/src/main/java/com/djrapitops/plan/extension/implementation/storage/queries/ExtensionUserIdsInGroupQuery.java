@@ -18,6 +18,7 @@ package com.djrapitops.plan.extension.implementation.storage.queries;
 
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionGroupsTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionProviderTable;
@@ -27,13 +28,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
-public class ExtensionUserIdsInGroupQuery extends QueryStatement<Set<Integer>> {
+public class ExtensionUserIdsInGroupQuery extends QueryStatement<UserIdSet> {
 
     private final String pluginName;
     private final String groupProvider;
@@ -68,10 +67,10 @@ public class ExtensionUserIdsInGroupQuery extends QueryStatement<Set<Integer>> {
     }
 
     @Override
-    public Set<Integer> processResults(ResultSet set) throws SQLException {
-        Set<Integer> userIds = new HashSet<>();
+    public UserIdSet processResults(ResultSet set) throws SQLException {
+        UserIdSet userIds = new UserIdSet();
         while (set.next()) {
-            userIds.add(set.getInt(UsersTable.ID));
+            userIds.addId(set.getInt(UsersTable.ID));
         }
         return userIds;
     }
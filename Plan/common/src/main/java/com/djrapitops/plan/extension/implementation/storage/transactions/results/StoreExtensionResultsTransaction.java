@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transaction to store results of a single extension gather at once.
+ * <p>
+ * A failing result does not prevent storing the others, failures are thrown after the rest have been committed.
+ * Deadlocks and connection failures fail all results, since results stored before them might have been rolled back.
+ *
+ * @author AuroraLS3
+ */
+public class StoreExtensionResultsTransaction extends ThrowawayTransaction {
+
+    private final List<Transaction> transactions;
+    private final Consumer<Transaction> onStored;
+
+    /**
+     * Create the transaction.
+     *
+     * @param transactions Transactions to execute in order.
+     * @param onStored     Called with each transaction that was committed successfully.
+     */
+    public StoreExtensionResultsTransaction(List<Transaction> transactions, Consumer<Transaction> onStored) {
+        this.transactions = transactions;
+        this.onStored = onStored;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !transactions.isEmpty() && super.shouldBeExecuted();
+    }
+
+    @Override
+    protected void performOperations() {
+        List<Transaction> stored = new ArrayList<>();
+        RuntimeException failure = null;
+        for (Transaction transaction : transactions) {
+            try {
+                executeOtherIsolated(transaction);
+                stored.add(transaction);
+            } catch (RuntimeException failed) {
+                // Results stored before this one might have been rolled back, so none of them are reported as stored.
+                if (failsWholeTransaction(failed)) throw failed;
+                if (failure == null) {
+                    failure = failed;
+                } else {
+                    failure.addSuppressed(failed);
+                }
+            }
+        }
+        commitMidTransaction();
+        stored.forEach(onStored);
+
+        if (failure != null) throw failure;
+    }
+}
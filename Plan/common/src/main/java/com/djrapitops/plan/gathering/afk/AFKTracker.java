@@ -17,31 +17,27 @@
 package com.djrapitops.plan.gathering.afk;
 
 import com.djrapitops.plan.gathering.cache.SessionCache;
-import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Actions are recorded in the {@link ActivityTable} of online players, and the AFK time is added to the
+ * {@link com.djrapitops.plan.gathering.domain.ActiveSession} only when the player stops being AFK.
  *
  * @author AuroraLS3
  */
 public class AFKTracker {
 
-    public static final long IGNORES_AFK = -1L;
-
-    private final Set<UUID> usedAFKCommand;
     private final PlanConfig config;
     private Long afkThresholdMs;
 
     public AFKTracker(PlanConfig config) {
         this.config = config;
-        usedAFKCommand = new HashSet<>();
     }
 
     public long getAfkThreshold() {
@@ -51,72 +47,77 @@ public class AFKTracker {
         return afkThresholdMs;
     }
 
-    public void hasIgnorePermission(UUID playerUUID) {
-        storeLastMovement(playerUUID, IGNORES_AFK);
-    }
-
-    private void storeLastMovement(UUID playerUUID, long time) {
-        SessionCache.getCachedSession(playerUUID)
-                .ifPresent(activeSession -> activeSession.setLastMovementForAfkCalculation(time));
+    private static ActivityTable activity() {
+        return SessionCache.getActivityTable();
     }
 
-    private long getLastMovement(UUID playerUUID, long time) {
-        return getLastMovement(playerUUID)
-                .orElse(time);
+    public void hasIgnorePermission(UUID playerUUID) {
+        ActivityTable activity = activity();
+        int slot = activity.getSlot(playerUUID);
+        if (slot != ActivityTable.NO_SLOT) {
+            activity.setIgnoresAfk(playerUUID, slot, true);
+        }
     }
 
-    private Optional<Long> getLastMovement(UUID playerUUID) {
-        return SessionCache.getCachedSession(playerUUID)
-                .map(ActiveSession::getLastMovementForAfkCalculation);
+    public void usedAfkCommand(UUID playerUUID, long time) {
+        ActivityTable activity = activity();
+        int slot = activity.getSlot(playerUUID);
+        if (slot != ActivityTable.NO_SLOT) {
+            activity.recordAfkCommand(playerUUID, slot, time);
+        }
     }
 
-    public void usedAfkCommand(UUID playerUUID, long time) {
-        long lastMoved = getLastMovement(playerUUID, time);
-        if (lastMoved == IGNORES_AFK) {
-            return;
+    /**
+     * Record an action of a player, checking if the player has the ignore permission on their first action of the session.
+     * <p>
+     * Give a non-capturing permission check, such as a static method reference, so that nothing is allocated per action.
+     *
+     * @param playerUUID          UUID of the player.
+     * @param time                Epoch ms of the action.
+     * @param player              Platform player object given to the permission check.
+     * @param hasIgnorePermission Check for the permission to be ignored by AFK calculation.
+     * @param <P>                 Type of the platform player.
+     * @return Time the player was AFK before this action, 0 if they were not AFK.
+     */
+    public <P> long performedAction(UUID playerUUID, long time, P player, Predicate<P> hasIgnorePermission) {
+        ActivityTable activity = activity();
+        int slot = activity.getSlot(playerUUID);
+        if (slot == ActivityTable.NO_SLOT) {
+            return 0L;
         }
-        usedAFKCommand.add(playerUUID);
-        storeLastMovement(playerUUID, time - getAfkThreshold());
+        if (!activity.isPermissionChecked(slot)) {
+            activity.setIgnoresAfk(playerUUID, slot, hasIgnorePermission.test(player));
+        }
+        return performedAction(activity, slot, playerUUID, time);
     }
 
     public long performedAction(UUID playerUUID, long time) {
-        long lastMoved = getLastMovement(playerUUID, time);
-        // Ignore afk permission
-        if (lastMoved == IGNORES_AFK) {
+        ActivityTable activity = activity();
+        int slot = activity.getSlot(playerUUID);
+        if (slot == ActivityTable.NO_SLOT) {
             return 0L;
         }
-        storeLastMovement(playerUUID, time);
-
-        try {
-            if (time - lastMoved < getAfkThreshold()) {
-                // Threshold not crossed, no action required.
-                return 0L;
-            }
-
-            long removeAfkCommandEffect = usedAFKCommand.contains(playerUUID) ? getAfkThreshold() : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
+        return performedAction(activity, slot, playerUUID, time);
+    }
 
-            SessionCache.getCachedSession(playerUUID)
-                    .ifPresent(session -> session.addAfkTime(timeAFK));
-            return timeAFK;
-        } finally {
-            usedAFKCommand.remove(playerUUID);
+    private long performedAction(ActivityTable activity, int slot, UUID playerUUID, long time) {
+        long lastAction = activity.recordAction(playerUUID, slot, time);
+        if (lastAction == ActivityTable.NOT_RECORDED || time - lastAction < getAfkThreshold()) {
+            // Ignored or threshold not crossed, no action required.
+            return 0L;
         }
+
+        long timeAFK = time - lastAction;
+        SessionCache.getCachedSession(playerUUID)
+                .ifPresent(session -> session.addAfkTime(timeAFK));
+        return timeAFK;
     }
 
     public long loggedOut(UUID uuid, long time) {
-        long timeAFK = performedAction(uuid, time);
-        usedAFKCommand.remove(uuid);
-        return timeAFK;
+        return performedAction(uuid, time);
     }
 
     public boolean isAfk(UUID playerUUID) {
-        long time = System.currentTimeMillis();
-
-        Optional<Long> lastMoved = getLastMovement(playerUUID);
-        if (lastMoved.isEmpty() || lastMoved.get() == IGNORES_AFK) {
-            return false;
-        }
-        return time - lastMoved.get() > getAfkThreshold();
+        return activity().isAfk(playerUUID, System.currentTimeMillis(), getAfkThreshold());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,181 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.afk;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense table of activity of online players, used for AFK calculation.
+ * <p>
+ * Each player with an active session has a slot that holds the time of their last action and flags as primitives,
+ * so that recording an action on every movement of every player does not allocate or touch the session.
+ * Slots of players that leave are reused by players that join.
+ * <p>
+ * All access holds the lock of the table, so that nothing is lost when the table grows.
+ * Writes are given the player the slot was looked up for, and are ignored if the slot has been given to
+ * another player in between.
+ *
+ * @author AuroraLS3
+ */
+public class ActivityTable {
+
+    public static final int NO_SLOT = -1;
+    public static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte IGNORES_AFK = 1;
+    private static final byte USED_AFK_COMMAND = 1 << 1;
+    private static final byte PERMISSION_CHECKED = 1 << 2;
+
+    private final Map<UUID, Integer> slots;
+
+    private long[] lastActions;
+    private byte[] flags;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int nextUnusedSlot;
+
+    public ActivityTable() {
+        slots = new ConcurrentHashMap<>();
+        lastActions = new long[INITIAL_CAPACITY];
+        flags = new byte[INITIAL_CAPACITY];
+        freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Give a player a slot, resetting any earlier activity of the player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param time       Epoch ms the player's session started.
+     * @return Slot of the player.
+     */
+    public synchronized int assign(UUID playerUUID, long time) {
+        Integer existing = slots.get(playerUUID);
+        int slot = existing != null ? existing : nextFreeSlot();
+        lastActions[slot] = time;
+        flags[slot] = 0;
+        slots.put(playerUUID, slot);
+        return slot;
+    }
+
+    private int nextFreeSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (nextUnusedSlot == lastActions.length) {
+            int capacity = lastActions.length * 2;
+            lastActions = Arrays.copyOf(lastActions, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return nextUnusedSlot++;
+    }
+
+    public synchronized void release(UUID playerUUID) {
+        Integer slot = slots.remove(playerUUID);
+        if (slot == null) return;
+        flags[slot] = 0;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    public synchronized void clear() {
+        slots.clear();
+        freeSlotCount = 0;
+        nextUnusedSlot = 0;
+    }
+
+    /**
+     * Find the slot of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Slot of the player, or {@link #NO_SLOT} if the player has no active session.
+     */
+    public int getSlot(UUID playerUUID) {
+        Integer slot = slots.get(playerUUID);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    private boolean isOwner(UUID playerUUID, int slot) {
+        Integer owned = slots.get(playerUUID);
+        return owned != null && owned == slot;
+    }
+
+    /**
+     * Check if a player has not performed any actions within the AFK threshold, or used the AFK command.
+     *
+     * @param playerUUID   UUID of the player.
+     * @param time         Current epoch ms.
+     * @param afkThreshold Time in ms without actions after which the player is AFK.
+     * @return false if the player is not online or is ignored by AFK calculation.
+     */
+    public synchronized boolean isAfk(UUID playerUUID, long time, long afkThreshold) {
+        int slot = getSlot(playerUUID);
+        if (slot == NO_SLOT || (flags[slot] & IGNORES_AFK) != 0) return false;
+        return (flags[slot] & USED_AFK_COMMAND) != 0 || time - lastActions[slot] > afkThreshold;
+    }
+
+    /**
+     * Record an action of a player, ending the effect of the AFK command.
+     *
+     * @param playerUUID UUID of the player the slot was looked up for.
+     * @param slot       Slot of the player.
+     * @param time       Epoch ms of the action.
+     * @return Epoch ms of the previous action or AFK command, or {@link #NOT_RECORDED} if the player is ignored by
+     * AFK calculation or the slot has been given to another player.
+     */
+    public synchronized long recordAction(UUID playerUUID, int slot, long time) {
+        if (!isOwner(playerUUID, slot) || (flags[slot] & IGNORES_AFK) != 0) return NOT_RECORDED;
+        long previous = lastActions[slot];
+        lastActions[slot] = time;
+        flags[slot] &= ~USED_AFK_COMMAND;
+        return previous;
+    }
+
+    /**
+     * Record that a player used the AFK command, so that they are AFK until their next action.
+     *
+     * @param playerUUID UUID of the player the slot was looked up for.
+     * @param slot       Slot of the player.
+     * @param time       Epoch ms of the command.
+     */
+    public synchronized void recordAfkCommand(UUID playerUUID, int slot, long time) {
+        if (!isOwner(playerUUID, slot) || (flags[slot] & IGNORES_AFK) != 0) return;
+        lastActions[slot] = time;
+        flags[slot] |= USED_AFK_COMMAND;
+    }
+
+    public synchronized boolean isPermissionChecked(int slot) {
+        return (flags[slot] & PERMISSION_CHECKED) != 0;
+    }
+
+    /**
+     * Record if the player has permission to be ignored by AFK calculation.
+     *
+     * @param playerUUID UUID of the player the slot was looked up for.
+     * @param slot       Slot of the player.
+     * @param ignoresAfk true if AFK time should not be counted for the player.
+     */
+    public synchronized void setIgnoresAfk(UUID playerUUID, int slot, boolean ignoresAfk) {
+        if (!isOwner(playerUUID, slot)) return;
+        byte slotFlags = (byte) (flags[slot] | PERMISSION_CHECKED);
+        flags[slot] = ignoresAfk ? (byte) (slotFlags | IGNORES_AFK) : (byte) (slotFlags & ~IGNORES_AFK);
+    }
+}
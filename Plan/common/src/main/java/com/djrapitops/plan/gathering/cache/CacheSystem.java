@@ -64,6 +64,7 @@ public class CacheSystem implements SubSystem {
     @Override
     public void disable() {
         geolocationCache.clearCache();
+        jsonStorage.disable();
     }
 
     public NicknameCache getNicknameCache() {
@@ -0,0 +1,132 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.PlayerKill;
+import com.djrapitops.plan.gathering.domain.PlayerKills;
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.queries.objects.PlayerSummaryQueries;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link PlayerSummary} of recently seen players in memory.
+ * <p>
+ * Summary is loaded again when the player joins and updated when their sessions on this server end,
+ * so that placeholders do not need to read all sessions of the player from the database.
+ * Sessions on other servers are only seen when the summary is loaded, so summaries expire a while after loading.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class PlayerSummaryCache {
+
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final Cache<UUID, PlayerSummary> summaries;
+
+    @Inject
+    public PlayerSummaryCache(DBSystem dbSystem, ServerInfo serverInfo) {
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        summaries = Caffeine.newBuilder()
+                .maximumSize(5000)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Get summary of a player, including their active session.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Summary, loaded from the database if not in memory.
+     */
+    public PlayerSummary getSummary(UUID playerUUID) {
+        PlayerSummary summary = summaries.get(playerUUID, this::loadSummary);
+        return SessionCache.getCachedSession(playerUUID)
+                .map(ActiveSession::toFinishedSessionFromStillActive)
+                .map(summary::withActiveSession)
+                .orElse(summary);
+    }
+
+    /**
+     * Get summary of a player if it is in memory and up to date for the given server.
+     *
+     * @param playerUUID UUID of the player.
+     * @param serverUUID UUID of the server the values are needed for.
+     * @return Summary of stored sessions, active session is not included.
+     * Empty if not in memory or if the server is not this server, since sessions of other servers are not followed.
+     */
+    public Optional<PlayerSummary> getLoadedSummary(UUID playerUUID, ServerUUID serverUUID) {
+        if (!serverInfo.getServerUUID().equals(serverUUID)) return Optional.empty();
+        return Optional.ofNullable(summaries.getIfPresent(playerUUID));
+    }
+
+    /**
+     * Load summary of a player that joined so that it is ready when placeholders are requested.
+     * <p>
+     * Summary that was already in memory is replaced, it may be missing sessions the player had on other servers.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void load(UUID playerUUID) {
+        summaries.invalidate(playerUUID);
+        summaries.get(playerUUID, this::loadSummary);
+    }
+
+    private PlayerSummary loadSummary(UUID playerUUID) {
+        return dbSystem.getDatabase().query(PlayerSummaryQueries.fetchPlayerSummary(playerUUID, System.currentTimeMillis()));
+    }
+
+    /**
+     * Add a finished session to the summaries that are in memory.
+     * <p>
+     * Call before the session is stored, summaries loaded afterwards already include it.
+     *
+     * @param session Session that ended.
+     */
+    public void sessionEnded(FinishedSession session) {
+        PlayerSummary summary = summaries.getIfPresent(session.getPlayerUUID());
+        if (summary != null) summary.addSession(session);
+
+        for (PlayerKill kill : session.getExtraData(PlayerKills.class).map(PlayerKills::asList).orElse(Collections.emptyList())) {
+            UUID victimUUID = kill.getVictim().getUuid();
+            PlayerSummary victimSummary = summaries.getIfPresent(victimUUID);
+            if (victimSummary != null) victimSummary.addPlayerDeath();
+        }
+    }
+
+    public void remove(UUID playerUUID) {
+        summaries.invalidate(playerUUID);
+    }
+
+    public void clear() {
+        summaries.invalidateAll();
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.gathering.cache;
 
+import com.djrapitops.plan.gathering.afk.ActivityTable;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 
@@ -33,6 +34,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SessionCache {
 
     private static final Map<UUID, ActiveSession> ACTIVE_SESSIONS = new ConcurrentHashMap<>();
+    private static final ActivityTable ACTIVITY = new ActivityTable();
 
     @Inject
     public SessionCache() {
@@ -46,6 +48,16 @@ public class SessionCache {
 
     public static void clear() {
         ACTIVE_SESSIONS.clear();
+        ACTIVITY.clear();
+    }
+
+    /**
+     * Get the activity of players with an active session, used for AFK calculation.
+     *
+     * @return Table with a slot for each player in the cache.
+     */
+    public static ActivityTable getActivityTable() {
+        return ACTIVITY;
     }
 
     public static void refreshActiveSessionsState() {
@@ -78,6 +90,7 @@ public class SessionCache {
             finished = endSession(playerUUID, newSession.getStart(), inProgress.get());
         }
         ACTIVE_SESSIONS.put(playerUUID, newSession);
+        ACTIVITY.assign(playerUUID, newSession.getStart());
         return finished;
     }
 
@@ -94,6 +107,7 @@ public class SessionCache {
             return Optional.empty();
         }
         ACTIVE_SESSIONS.remove(playerUUID);
+        ACTIVITY.release(playerUUID);
         if (activeSession.getStart() > time) {
             return Optional.empty();
         }
@@ -31,8 +31,6 @@ public class ActiveSession {
     private final DataMap extraData;
     private long afkTime;
 
-    private long lastMovementForAfkCalculation;
-
     public ActiveSession(UUID playerUUID, ServerUUID serverUUID, long start, String world, String gameMode) {
         this.playerUUID = playerUUID;
         this.serverUUID = serverUUID;
@@ -44,8 +42,6 @@ public class ActiveSession {
         extraData.put(MobKillCounter.class, new MobKillCounter());
         extraData.put(DeathCounter.class, new DeathCounter());
         extraData.put(PlayerKills.class, new PlayerKills());
-
-        lastMovementForAfkCalculation = start;
     }
 
     public FinishedSession toFinishedSessionFromStillActive() {
@@ -144,13 +140,5 @@ public class ActiveSession {
                 '}';
     }
 
-    public long getLastMovementForAfkCalculation() {
-        return lastMovementForAfkCalculation;
-    }
-
-    public void setLastMovementForAfkCalculation(long lastMovementForAfkCalculation) {
-        this.lastMovementForAfkCalculation = lastMovementForAfkCalculation;
-    }
-
     public static class FirstSession {}
 }
@@ -0,0 +1,268 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import com.djrapitops.plan.identification.ServerUUID;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Running totals of a player's sessions, kills and deaths.
+ * <p>
+ * Sessions of the last {@link #RECENT_MS} are kept to answer questions about the last day, week or month.
+ * Values of the active session are not included unless {@link #withActiveSession(FinishedSession)} is used.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerSummary {
+
+    public static final long RECENT_MS = TimeUnit.DAYS.toMillis(30L);
+
+    private final UUID playerUUID;
+    private final Map<ServerUUID, ServerTotals> perServer;
+    private final List<RecentSession> recentSessions;
+    private int playerKillCount;
+    private int playerDeathCount;
+
+    public PlayerSummary(UUID playerUUID, int playerKillCount, int playerDeathCount) {
+        this.playerUUID = playerUUID;
+        this.playerKillCount = playerKillCount;
+        this.playerDeathCount = playerDeathCount;
+        perServer = new HashMap<>();
+        recentSessions = new ArrayList<>();
+    }
+
+    private PlayerSummary(PlayerSummary copyOf) {
+        this(copyOf.playerUUID, copyOf.playerKillCount, copyOf.playerDeathCount);
+        copyOf.perServer.forEach((serverUUID, totals) -> perServer.put(serverUUID, new ServerTotals(totals)));
+        recentSessions.addAll(copyOf.recentSessions);
+    }
+
+    /**
+     * Add totals of a server loaded from the database.
+     *
+     * @param serverUUID   Server the sessions were on.
+     * @param sessionCount Number of sessions.
+     * @param playtime     Sum of session lengths.
+     * @param afkTime      Sum of afk time.
+     * @param lastSeen     Latest session end.
+     * @param mobKillCount Sum of mob kills.
+     * @param deathCount   Sum of deaths.
+     */
+    public synchronized void addServerTotals(ServerUUID serverUUID, int sessionCount, long playtime, long afkTime, long lastSeen, int mobKillCount, int deathCount) {
+        ServerTotals totals = perServer.computeIfAbsent(serverUUID, key -> new ServerTotals());
+        totals.sessionCount += sessionCount;
+        totals.playtime += playtime;
+        totals.afkTime += afkTime;
+        totals.lastSeen = Math.max(totals.lastSeen, lastSeen);
+        totals.mobKillCount += mobKillCount;
+        totals.deathCount += deathCount;
+    }
+
+    /**
+     * Add a session loaded from the database to the recent sessions.
+     *
+     * @param serverUUID Server the session was on.
+     * @param start      Session start epoch ms.
+     * @param end        Session end epoch ms.
+     * @param afkTime    Afk time of the session.
+     */
+    public synchronized void addRecentSession(ServerUUID serverUUID, long start, long end, long afkTime) {
+        recentSessions.add(new RecentSession(serverUUID, start, end, afkTime));
+    }
+
+    /**
+     * Add a session that just ended.
+     *
+     * @param session Finished session of this player.
+     */
+    public synchronized void addSession(FinishedSession session) {
+        addSessionTotals(session);
+        playerKillCount += session.getPlayerKillCount();
+    }
+
+    private void addSessionTotals(FinishedSession session) {
+        addServerTotals(session.getServerUUID(), 1, session.getLength(), session.getAfkTime(), session.getEnd(),
+                session.getMobKillCount(), session.getDeathCount());
+        long recentAfter = session.getEnd() - RECENT_MS;
+        recentSessions.removeIf(recent -> recent.end < recentAfter);
+        recentSessions.add(new RecentSession(session.getServerUUID(), session.getStart(), session.getEnd(), session.getAfkTime()));
+    }
+
+    public synchronized void addPlayerDeath() {
+        playerDeathCount++;
+    }
+
+    /**
+     * Create a copy that includes the session that is still going on.
+     * <p>
+     * Player kills of the active session are not included, since they are only counted once stored.
+     *
+     * @param activeSession Active session as finished at current time.
+     * @return New summary.
+     */
+    public synchronized PlayerSummary withActiveSession(FinishedSession activeSession) {
+        PlayerSummary summary = new PlayerSummary(this);
+        summary.addSessionTotals(activeSession);
+        return summary;
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    /**
+     * Get playtime.
+     *
+     * @param serverUUID Server to count, null for all servers.
+     * @param after      Count sessions that ended after this epoch ms, at most {@link #RECENT_MS} ago. 0 for all sessions.
+     * @return Sum of session lengths.
+     */
+    public synchronized long getPlaytime(ServerUUID serverUUID, long after) {
+        if (after <= 0) return sumTotals(serverUUID, totals -> totals.playtime);
+        return sumRecent(serverUUID, after, recent -> recent.end - recent.start);
+    }
+
+    /**
+     * Get afk time.
+     *
+     * @param serverUUID Server to count, null for all servers.
+     * @param after      Count sessions that ended after this epoch ms, at most {@link #RECENT_MS} ago. 0 for all sessions.
+     * @return Sum of afk time.
+     */
+    public synchronized long getAfkTime(ServerUUID serverUUID, long after) {
+        if (after <= 0) return sumTotals(serverUUID, totals -> totals.afkTime);
+        return sumRecent(serverUUID, after, recent -> recent.afkTime);
+    }
+
+    public long getActivePlaytime(ServerUUID serverUUID, long after) {
+        return getPlaytime(serverUUID, after) - getAfkTime(serverUUID, after);
+    }
+
+    public synchronized int getSessionCount() {
+        return (int) sumTotals(null, totals -> totals.sessionCount);
+    }
+
+    public synchronized int getMobKillCount() {
+        return (int) sumTotals(null, totals -> totals.mobKillCount);
+    }
+
+    public synchronized int getDeathCount() {
+        return (int) sumTotals(null, totals -> totals.deathCount);
+    }
+
+    public synchronized int getPlayerKillCount() {
+        return playerKillCount;
+    }
+
+    public synchronized int getPlayerDeathCount() {
+        return playerDeathCount;
+    }
+
+    public int getMobDeathCount() {
+        return getDeathCount() - getPlayerDeathCount();
+    }
+
+    public double getKillDeathRatio() {
+        int deathCount = getPlayerDeathCount();
+        return getPlayerKillCount() * 1.0 / (deathCount != 0 ? deathCount : 1);
+    }
+
+    public double getMobKillDeathRatio() {
+        int deathCount = getMobDeathCount();
+        return getMobKillCount() * 1.0 / (deathCount != 0 ? deathCount : 1);
+    }
+
+    /**
+     * Get the latest time the player was seen.
+     *
+     * @return Epoch ms, 0 if the player has no sessions.
+     */
+    public synchronized long getLastSeen() {
+        long lastSeen = 0;
+        for (ServerTotals totals : perServer.values()) {
+            lastSeen = Math.max(lastSeen, totals.lastSeen);
+        }
+        return lastSeen;
+    }
+
+    public synchronized Optional<ServerUUID> getFavoriteServer() {
+        long max = 0;
+        ServerUUID maxServer = null;
+        for (Map.Entry<ServerUUID, ServerTotals> entry : perServer.entrySet()) {
+            if (entry.getValue().playtime > max) {
+                max = entry.getValue().playtime;
+                maxServer = entry.getKey();
+            }
+        }
+        return Optional.ofNullable(maxServer);
+    }
+
+    private long sumTotals(ServerUUID serverUUID, ToLongFunction<ServerTotals> value) {
+        long sum = 0;
+        for (Map.Entry<ServerUUID, ServerTotals> entry : perServer.entrySet()) {
+            if (serverUUID == null || serverUUID.equals(entry.getKey())) sum += value.applyAsLong(entry.getValue());
+        }
+        return sum;
+    }
+
+    private long sumRecent(ServerUUID serverUUID, long after, ToLongFunction<RecentSession> value) {
+        long sum = 0;
+        for (RecentSession recent : recentSessions) {
+            if (recent.end >= after && (serverUUID == null || serverUUID.equals(recent.serverUUID))) {
+                sum += value.applyAsLong(recent);
+            }
+        }
+        return sum;
+    }
+
+    private static class ServerTotals {
+        private int sessionCount;
+        private long playtime;
+        private long afkTime;
+        private long lastSeen;
+        private int mobKillCount;
+        private int deathCount;
+
+        ServerTotals() {}
+
+        ServerTotals(ServerTotals copyOf) {
+            sessionCount = copyOf.sessionCount;
+            playtime = copyOf.playtime;
+            afkTime = copyOf.afkTime;
+            lastSeen = copyOf.lastSeen;
+            mobKillCount = copyOf.mobKillCount;
+            deathCount = copyOf.deathCount;
+        }
+    }
+
+    private static class RecentSession {
+        private final ServerUUID serverUUID;
+        private final long start;
+        private final long end;
+        private final long afkTime;
+
+        RecentSession(ServerUUID serverUUID, long start, long end, long afkTime) {
+            this.serverUUID = serverUUID;
+            this.start = start;
+            this.end = end;
+            this.afkTime = afkTime;
+        }
+    }
+}
@@ -20,10 +20,12 @@ import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerName;
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.leaderboard.Leaderboards;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.JoinAddressValidator;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
@@ -56,9 +58,11 @@ public class PlayerJoinEventConsumer {
     private final GeolocationCache geolocationCache;
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
+    private final PlayerSummaryCache playerSummaryCache;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
+    private final Leaderboards leaderboards;
 
     @Inject
     public PlayerJoinEventConsumer(
@@ -68,8 +72,10 @@ public class PlayerJoinEventConsumer {
             GeolocationCache geolocationCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
+            PlayerSummaryCache playerSummaryCache,
             ExtensionSvc extensionService,
-            Exporter exporter
+            Exporter exporter,
+            Leaderboards leaderboards
     ) {
         this.processing = processing;
         this.config = config;
@@ -78,8 +84,10 @@ public class PlayerJoinEventConsumer {
         this.geolocationCache = geolocationCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
+        this.playerSummaryCache = playerSummaryCache;
         this.extensionService = extensionService;
         this.exporter = exporter;
+        this.leaderboards = leaderboards;
     }
 
     public void onJoinGameServer(PlayerJoin join) {
@@ -89,7 +97,8 @@ public class PlayerJoinEventConsumer {
             storeGamePlayer(join)
                     .thenRunAsync(() -> {
                         storeJoinAddress(join);
-                        interruptedSession.ifPresent(this::storeInterruptedSession);
+                        storeInterruptedSession(interruptedSession)
+                                .thenRun(() -> loadPlayerSummary(join));
                         storeGeolocation(join);
                         storeOperatorStatus(join);
                         storeNickname(join);
@@ -104,6 +113,7 @@ public class PlayerJoinEventConsumer {
         processing.submitCritical(() -> storeProxyPlayer(join)
                 .thenRunAsync(() -> {
                     storeGeolocation(join);
+                    loadPlayerSummary(join);
                     updatePlayerDataExtensionValues(join);
                     updateExport(join);
                 }, processing.getCriticalExecutor())
@@ -172,8 +182,17 @@ public class PlayerJoinEventConsumer {
         return sessionCache.cacheSession(join.getPlayerUUID(), session);
     }
 
-    private void storeInterruptedSession(FinishedSession finishedSession) {
-        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
+    private CompletableFuture<?> storeInterruptedSession(Optional<FinishedSession> interruptedSession) {
+        if (interruptedSession.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        FinishedSession finishedSession = interruptedSession.get();
+        leaderboards.sessionEnded(finishedSession);
+        playerSummaryCache.sessionEnded(finishedSession);
+        return dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
+    }
+
+    private void loadPlayerSummary(PlayerJoin join) {
+        processing.submitNonCritical(() -> playerSummaryCache.load(join.getPlayerUUID()));
     }
 
     private ActiveSession mapToActiveSession(PlayerJoin join) {
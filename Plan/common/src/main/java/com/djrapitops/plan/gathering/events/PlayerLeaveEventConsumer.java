@@ -17,10 +17,12 @@
 package com.djrapitops.plan.gathering.events;
 
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.leaderboard.Leaderboards;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.JoinAddressCache;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
@@ -47,20 +49,24 @@ public class PlayerLeaveEventConsumer {
     private final JoinAddressCache joinAddressCache;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
+    private final PlayerSummaryCache playerSummaryCache;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
+    private final Leaderboards leaderboards;
 
     @Inject
-    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, ExtensionSvc extensionService, Exporter exporter) {
+    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, PlayerSummaryCache playerSummaryCache, ExtensionSvc extensionService, Exporter exporter, Leaderboards leaderboards) {
         this.processing = processing;
         this.config = config;
         this.dbSystem = dbSystem;
         this.joinAddressCache = joinAddressCache;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
+        this.playerSummaryCache = playerSummaryCache;
         this.extensionService = extensionService;
         this.exporter = exporter;
+        this.leaderboards = leaderboards;
     }
 
     public void beforeLeave(PlayerLeave leave) {
@@ -96,6 +102,8 @@ public class PlayerLeaveEventConsumer {
     }
 
     private void storeFinishedSession(FinishedSession finishedSession) {
+        leaderboards.sessionEnded(finishedSession);
+        playerSummaryCache.sessionEnded(finishedSession);
         dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
     }
 
@@ -0,0 +1,173 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.Backpressure;
+import com.djrapitops.plan.utilities.Predicates;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Gathers ping samples of online players into primitive buffers and aggregates them into {@link Ping} rows.
+ * <p>
+ * Each player has a fixed size buffer that is reused for the whole time they are online, so adding samples does
+ * not allocate. Minimum, maximum and median are calculated in place when a row is full.
+ * <p>
+ * Platform ping counters only need to look up the ping of each player returned by {@link #players()}.
+ *
+ * @author AuroraLS3
+ */
+public class PingSampler {
+
+    public static final int SAMPLES_PER_ROW = 30;
+    private static final int MAX_SAMPLES_PER_ROW = SAMPLES_PER_ROW * Backpressure.HIGH.getBatchMultiplier();
+    private static final long MAX_ACCEPTED_PING = TimeUnit.SECONDS.toMillis(8L);
+
+    private final Supplier<ServerUUID> serverUUIDSupplier;
+    private final Map<UUID, Samples> samplesOfPlayers;
+
+    public PingSampler(Supplier<ServerUUID> serverUUIDSupplier) {
+        this.serverUUIDSupplier = serverUUIDSupplier;
+        samplesOfPlayers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get how many samples are aggregated into one row.
+     *
+     * @param backpressure Current backpressure of the database, more samples are put in a row when it falls behind.
+     * @return Amount of samples per row.
+     */
+    public static int getSamplesPerRow(Backpressure backpressure) {
+        return SAMPLES_PER_ROW * backpressure.getBatchMultiplier();
+    }
+
+    public void addPlayer(UUID playerUUID) {
+        samplesOfPlayers.put(playerUUID, new Samples(MAX_SAMPLES_PER_ROW));
+    }
+
+    public void removePlayer(UUID playerUUID) {
+        samplesOfPlayers.remove(playerUUID);
+    }
+
+    /**
+     * Iterate over players that are being sampled.
+     *
+     * @return Iterator that supports {@link Iterator#remove()} for players that went offline.
+     */
+    public Iterator<UUID> players() {
+        return samplesOfPlayers.keySet().iterator();
+    }
+
+    /**
+     * Add a ping sample of a player.
+     *
+     * @param playerUUID    UUID of the player.
+     * @param date          Epoch ms the ping was measured.
+     * @param ping          Ping value, values below 0 or over 8 seconds are ignored.
+     * @param samplesPerRow How many samples are aggregated into one row, see {@link #getSamplesPerRow(Backpressure)}.
+     * @return Aggregated row if the buffer of the player became full, empty otherwise.
+     */
+    public Optional<Ping> addSample(UUID playerUUID, long date, int ping, int samplesPerRow) {
+        if (ping <= -1 || ping > MAX_ACCEPTED_PING) return Optional.empty(); // Don't accept bad values
+
+        Samples samples = samplesOfPlayers.get(playerUUID);
+        if (samples == null) return Optional.empty();
+
+        samples.add(date, ping);
+        if (samples.size() < Math.min(samplesPerRow, MAX_SAMPLES_PER_ROW)) return Optional.empty();
+
+        return Optional.of(samples.aggregateAndReset(serverUUIDSupplier.get()));
+    }
+
+    public boolean isEmpty() {
+        return samplesOfPlayers.isEmpty();
+    }
+
+    public void clear() {
+        samplesOfPlayers.clear();
+    }
+
+    /**
+     * Ring buffer of one player's samples.
+     */
+    static class Samples {
+        private final int[] values;
+        private int head;
+        private int size;
+        private long lastDate;
+
+        Samples(int capacity) {
+            values = new int[capacity];
+        }
+
+        void add(long date, int value) {
+            values[(head + size) % values.length] = value;
+            if (size < values.length) {
+                size++;
+            } else {
+                head = (head + 1) % values.length; // Overwrite the oldest sample
+            }
+            lastDate = date;
+        }
+
+        int size() {
+            return size;
+        }
+
+        Ping aggregateAndReset(ServerUUID serverUUID) {
+            int min = -1;
+            int max = -1;
+            for (int i = 0; i < size; i++) {
+                int value = values[(head + i) % values.length];
+                if (Predicates.pingInRange(value)) {
+                    if (min == -1 || value < min) min = value;
+                    if (value > max) max = value;
+                }
+            }
+            int median = calculateMedian();
+            Ping ping = new Ping(lastDate, serverUUID, min, max, median);
+            head = 0;
+            size = 0;
+            return ping;
+        }
+
+        // Order of the samples does not matter for the median, so they can be sorted in place.
+        int calculateMedian() {
+            if (size == 0) return -1;
+            if (size < values.length) {
+                Arrays.sort(values, 0, size);
+            } else {
+                Arrays.sort(values);
+            }
+            head = 0;
+            int half = size / 2;
+            if (size % 2 == 0) {
+                return (int) ((values[half] + (double) values[half - 1]) / 2);
+            }
+            return values[half];
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.gathering.ServerSensor;
+import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -30,6 +31,8 @@ import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -54,6 +57,8 @@ public class ServerTPSCounter<W> extends TPSCounter {
     private final Average mspt;
     private final Distribution msptDistribution;
 
+    private final List<TPS> unsaved;
+
     private int pulseCounter = 0;
 
     @Inject
@@ -82,6 +87,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
         ram = new Average();
         mspt = new Average();
         msptDistribution = new Distribution();
+        unsaved = new ArrayList<>();
     }
 
     private static long nanosToMillis(Long value) {
@@ -125,22 +131,39 @@ public class ServerTPSCounter<W> extends TPSCounter {
                 .orElse(null);
         msptDistribution.reset();
 
-        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
-                logger,
-                serverInfo.getServerUUID(),
-                TPSBuilder.get()
-                        .date(timeLastMinute)
-                        .tps(averageTPS)
-                        .playersOnline(maxPlayers)
-                        .usedCPU(averageCPU)
-                        .usedMemory(averageRAM)
-                        .entities(entityCount)
-                        .chunksLoaded(chunkCount)
-                        .freeDiskSpace(freeDiskSpace)
-                        .msptAverage(msptAverage)
-                        .mspt95thPercentile(mspt95thPercentile)
-                        .toTPS()
-        ));
+        TPS tps = TPSBuilder.get()
+                .date(timeLastMinute)
+                .tps(averageTPS)
+                .playersOnline(maxPlayers)
+                .usedCPU(averageCPU)
+                .usedMemory(averageRAM)
+                .entities(entityCount)
+                .chunksLoaded(chunkCount)
+                .freeDiskSpace(freeDiskSpace)
+                .msptAverage(msptAverage)
+                .mspt95thPercentile(mspt95thPercentile)
+                .toTPS();
+
+        synchronized (unsaved) {
+            unsaved.add(tps);
+            // When database is falling behind, the minutes are stored less often in one batch.
+            if (unsaved.size() >= dbSystem.getDatabase().getBackpressure().getBatchMultiplier()) {
+                storeUnsaved();
+            }
+        }
+    }
+
+    @Override
+    public void onDisable() {
+        synchronized (unsaved) {
+            storeUnsaved();
+        }
+    }
+
+    private void storeUnsaved() {
+        if (unsaved.isEmpty()) return;
+        dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(logger, serverInfo.getServerUUID(), new ArrayList<>(unsaved)));
+        unsaved.clear();
     }
 
     public Optional<Double> pulseTPS(long time) {
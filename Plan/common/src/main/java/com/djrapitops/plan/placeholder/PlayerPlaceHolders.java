@@ -21,12 +21,13 @@ import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.*;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.gathering.afk.AFKTracker;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.gathering.domain.PlayerKill;
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -58,6 +59,7 @@ public class PlayerPlaceHolders implements Placeholders {
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final Formatters formatters;
+    private final PlayerSummaryCache playerSummaryCache;
 
     @Inject
     public PlayerPlaceHolders(
@@ -65,13 +67,15 @@ public class PlayerPlaceHolders implements Placeholders {
             PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            Formatters formatters
+            Formatters formatters,
+            PlayerSummaryCache playerSummaryCache
     ) {
         this.locale = locale;
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.formatters = formatters;
+        this.playerSummaryCache = playerSummaryCache;
     }
 
     @Override
@@ -96,8 +100,7 @@ public class PlayerPlaceHolders implements Placeholders {
         );
 
         placeholders.register("player_sessions_count",
-                player -> SessionsMutator.forContainer(player)
-                        .count()
+                player -> summary(player).getSessionCount()
         );
 
         placeholders.register("player_kick_count",
@@ -106,22 +109,19 @@ public class PlayerPlaceHolders implements Placeholders {
         );
 
         placeholders.register("player_death_count",
-                player -> player.getValue(PlayerKeys.DEATH_COUNT)
-                        .orElse(0)
+                player -> summary(player).getDeathCount()
         );
 
         placeholders.register("player_mob_kill_count",
-                player -> player.getValue(PlayerKeys.MOB_KILL_COUNT)
-                        .orElse(0)
+                player -> summary(player).getMobKillCount()
         );
 
         placeholders.register("player_player_kill_count",
-                player -> player.getValue(PlayerKeys.PLAYER_KILL_COUNT)
-                        .orElse(0)
+                player -> summary(player).getPlayerKillCount()
         );
 
         placeholders.register("player_kill_death_ratio",
-                player -> PlayerVersusMutator.forContainer(player).toKillDeathRatio());
+                player -> summary(player).getKillDeathRatio());
 
         placeholders.register("player_ping_average_day",
                 player -> decimals.apply(PingMutator.forContainer(player)
@@ -142,8 +142,7 @@ public class PlayerPlaceHolders implements Placeholders {
         );
 
         placeholders.register("player_lastseen",
-                player -> year.apply(player.getValue(PlayerKeys.LAST_SEEN)
-                        .orElse((long) 0))
+                player -> year.apply(summary(player).getLastSeen())
         );
 
         placeholders.register("player_registered",
@@ -170,7 +169,7 @@ public class PlayerPlaceHolders implements Placeholders {
         registerSessionLengethPlaceholders(placeholders, time);
 
         placeholders.register("player_favorite_server",
-                player -> PerServerMutator.forContainer(player).favoriteServer()
+                player -> summary(player).getFavoriteServer()
                         .flatMap(serverUUID -> dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverUUID)))
                         .map(Server::getName)
                         .orElse("-")
@@ -219,30 +218,31 @@ public class PlayerPlaceHolders implements Placeholders {
                         .orElse(0L));
     }
 
+    private PlayerSummary summary(PlayerContainer player) {
+        return playerSummaryCache.getSummary(player.getUnsafe(PlayerKeys.UUID));
+    }
+
     private boolean isAfk(PlayerContainer player) {
-        return SessionCache.getCachedSession(player.getUnsafe(PlayerKeys.UUID))
-                .map(ActiveSession::getLastMovementForAfkCalculation)
-                .filter(lastMovement -> lastMovement != AFKTracker.IGNORES_AFK
-                        && now() - lastMovement > config.get(TimeSettings.AFK_THRESHOLD))
-                .isPresent();
+        return SessionCache.getActivityTable()
+                .isAfk(player.getUnsafe(PlayerKeys.UUID), now(), config.get(TimeSettings.AFK_THRESHOLD));
     }
 
     private void registerKillPlaceholders(PlanPlaceholders placeholders) {
         Formatter<Double> decimals = formatters.decimals();
         placeholders.register("player_player_caused_deaths",
-                player -> PlayerVersusMutator.forContainer(player).toPlayerDeathCount()
+                player -> summary(player).getPlayerDeathCount()
         );
         placeholders.register("player_deaths",
-                player -> PlayerVersusMutator.forContainer(player).toDeathCount()
+                player -> summary(player).getDeathCount()
         );
         placeholders.register("player_mob_caused_deaths",
-                player -> PlayerVersusMutator.forContainer(player).toMobDeathCount()
+                player -> summary(player).getMobDeathCount()
         );
         placeholders.register("player_kdr",
-                player -> decimals.apply(PlayerVersusMutator.forContainer(player).toKillDeathRatio())
+                player -> decimals.apply(summary(player).getKillDeathRatio())
         );
         placeholders.register("player_mob_kdr",
-                player -> decimals.apply(PlayerVersusMutator.forContainer(player).toMobKillDeathRatio())
+                player -> decimals.apply(summary(player).getMobKillDeathRatio())
         );
         for (int i = 1; i <= 10; i++) {
             final int index = i;
@@ -274,174 +274,114 @@ public class PlayerPlaceHolders implements Placeholders {
 
     private void registerServerSpecificPlaytimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
         placeholders.register("player_server_time_active",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toActivePlaytime())
+                player -> time.apply(summary(player).getActivePlaytime(serverInfo.getServerUUID(), 0L))
         );
         placeholders.register("player_server_time_active_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toActivePlaytime()
+                player -> summary(player).getActivePlaytime(serverInfo.getServerUUID(), 0L)
         );
 
         placeholders.register("player_server_time_afk",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toAfkTime())
+                player -> time.apply(summary(player).getAfkTime(serverInfo.getServerUUID(), 0L))
         );
         placeholders.register("player_server_time_afk_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toAfkTime()
+                player -> summary(player).getAfkTime(serverInfo.getServerUUID(), 0L)
         );
 
         placeholders.register("player_server_time_total",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(serverInfo.getServerUUID(), 0L))
         );
         placeholders.register("player_server_time_total_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(serverInfo.getServerUUID(), 0L)
         );
 
         placeholders.register("player_server_time_day",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(dayAgo(), now())
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(serverInfo.getServerUUID(), dayAgo()))
         );
         placeholders.register("player_server_time_day_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(dayAgo(), now())
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(serverInfo.getServerUUID(), dayAgo())
         );
 
         placeholders.register("player_server_time_week",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(weekAgo(), now())
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(serverInfo.getServerUUID(), weekAgo()))
         );
         placeholders.register("player_server_time_week_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(weekAgo(), now())
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(serverInfo.getServerUUID(), weekAgo())
         );
 
         placeholders.register("player_server_time_month",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(monthAgo(), now())
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(serverInfo.getServerUUID(), monthAgo()))
         );
         placeholders.register("player_server_time_month_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(monthAgo(), now())
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(serverInfo.getServerUUID(), monthAgo())
         );
     }
 
     private void registerPlayerPlaytimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
         placeholders.register("player_time_total",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(null, 0L))
         );
         placeholders.register("player_time_total_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(null, 0L)
         );
 
         placeholders.register("player_time_day",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(dayAgo(), now())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(null, dayAgo()))
         );
         placeholders.register("player_time_day_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(dayAgo(), now())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(null, dayAgo())
         );
 
         placeholders.register("player_time_week",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(weekAgo(), now())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(null, weekAgo()))
         );
         placeholders.register("player_time_week_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(weekAgo(), now())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(null, weekAgo())
         );
 
         placeholders.register("player_time_month",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(monthAgo(), now())
-                        .toPlaytime())
+                player -> time.apply(summary(player).getPlaytime(null, monthAgo()))
         );
         placeholders.register("player_time_month_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(monthAgo(), now())
-                        .toPlaytime()
+                player -> summary(player).getPlaytime(null, monthAgo())
         );
     }
 
     private void registerAfkTimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
         placeholders.register("player_time_afk",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .toAfkTime())
+                player -> time.apply(summary(player).getAfkTime(null, 0L))
         );
         placeholders.register("player_time_afk_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .toAfkTime()
+                player -> summary(player).getAfkTime(null, 0L)
         );
     }
 
     private void registerActivePlaytimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
         placeholders.register("player_time_active",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .toActivePlaytime())
+                player -> time.apply(summary(player).getActivePlaytime(null, 0L))
         );
         placeholders.register("player_time_active_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .toActivePlaytime()
+                player -> summary(player).getActivePlaytime(null, 0L)
         );
 
         placeholders.register("player_time_active_day",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(dayAgo(), now())
-                        .toActivePlaytime())
+                player -> time.apply(summary(player).getActivePlaytime(null, dayAgo()))
         );
         placeholders.register("player_time_active_day_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(dayAgo(), now())
-                        .toActivePlaytime()
+                player -> summary(player).getActivePlaytime(null, dayAgo())
         );
 
         placeholders.register("player_time_active_week",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(weekAgo(), now())
-                        .toActivePlaytime())
+                player -> time.apply(summary(player).getActivePlaytime(null, weekAgo()))
         );
         placeholders.register("player_time_active_week_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(weekAgo(), now())
-                        .toActivePlaytime()
+                player -> summary(player).getActivePlaytime(null, weekAgo())
         );
 
         placeholders.register("player_time_active_month",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(monthAgo(), now())
-                        .toActivePlaytime())
+                player -> time.apply(summary(player).getActivePlaytime(null, monthAgo()))
         );
         placeholders.register("player_time_active_month_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterSessionsBetween(monthAgo(), now())
-                        .toActivePlaytime()
+                player -> summary(player).getActivePlaytime(null, monthAgo())
         );
     }
 
@@ -21,6 +21,9 @@ import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.mutators.DateObjMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.leaderboard.LeaderboardMetric;
+import com.djrapitops.plan.delivery.leaderboard.LeaderboardTimespan;
+import com.djrapitops.plan.delivery.leaderboard.Leaderboards;
 import com.djrapitops.plan.gathering.ServerUptimeCalculator;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -29,7 +32,6 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
@@ -59,19 +61,22 @@ public class ServerPlaceHolders implements Placeholders {
     private final ServerInfo serverInfo;
     private final Formatters formatters;
     private final ServerUptimeCalculator serverUptimeCalculator;
+    private final Leaderboards leaderboards;
 
     @Inject
     public ServerPlaceHolders(
             PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            Formatters formatters, ServerUptimeCalculator serverUptimeCalculator
+            Formatters formatters, ServerUptimeCalculator serverUptimeCalculator,
+            Leaderboards leaderboards
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.formatters = formatters;
         this.serverUptimeCalculator = serverUptimeCalculator;
+        this.leaderboards = leaderboards;
     }
 
     @Override
@@ -245,7 +250,7 @@ public class ServerPlaceHolders implements Placeholders {
         placeholders.registerStatic("network_regular_players",
                 () -> database.query(NetworkActivityIndexQueries.fetchRegularPlayerCount(System.currentTimeMillis(), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD))));
 
-        registerDynamicCategoryPlaceholders(placeholders, database);
+        registerDynamicCategoryPlaceholders(placeholders);
     }
 
     private ServerUUID getServerUUID(@Untrusted Arguments parameters) {
@@ -257,71 +262,41 @@ public class ServerPlaceHolders implements Placeholders {
                 .map(Server::getUuid);
     }
 
-    private void registerDynamicCategoryPlaceholders(PlanPlaceholders placeholders, Database database) {
-        List<TopCategoryQuery<Long>> queries = new ArrayList<>();
-        queries.addAll(createCategoryQueriesForAllTimespans("playtime", (index, timespan, parameters) -> TopListQueries.fetchNthTop10PlaytimePlayerOn(getServerUUID(parameters), index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-        queries.addAll(createCategoryQueriesForAllTimespans("network_playtime", (index, timespan, parameters) -> TopListQueries.fetchNthTop10PlaytimePlayerOn(null, index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-        queries.addAll(createCategoryQueriesForAllTimespans("active_playtime", (index, timespan, parameters) -> TopListQueries.fetchNthTop10ActivePlaytimePlayerOn(getServerUUID(parameters), index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-        queries.addAll(createCategoryQueriesForAllTimespans("network_active_playtime", (index, timespan, parameters) -> TopListQueries.fetchNthTop10ActivePlaytimePlayerOn(null, index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
-        queries.addAll(createCategoryQueriesForAllTimespans("player_kills", (index, timespan, parameters) -> TopListQueries.fetchNthTop10PlayerKillCountOn(getServerUUID(parameters), index, System.currentTimeMillis() - timespan, System.currentTimeMillis())));
+    private void registerDynamicCategoryPlaceholders(PlanPlaceholders placeholders) {
+        registerTopListPlaceholders(placeholders, "playtime", LeaderboardMetric.PLAYTIME, this::getServerUUID);
+        registerTopListPlaceholders(placeholders, "network_playtime", LeaderboardMetric.PLAYTIME, parameters -> null);
+        registerTopListPlaceholders(placeholders, "active_playtime", LeaderboardMetric.ACTIVE_PLAYTIME, this::getServerUUID);
+        registerTopListPlaceholders(placeholders, "network_active_playtime", LeaderboardMetric.ACTIVE_PLAYTIME, parameters -> null);
+        registerTopListPlaceholders(placeholders, "player_kills", LeaderboardMetric.PLAYER_KILLS, this::getServerUUID);
+    }
 
-        for (int i = 0; i < 10; i++) {
-            for (TopCategoryQuery<Long> query : queries) {
+    private void registerTopListPlaceholders(
+            PlanPlaceholders placeholders, String category, LeaderboardMetric metric,
+            Function<Arguments, ServerUUID> scope
+    ) {
+        Function<Long, String> valueFormat = metric.isTime() ? formatters.timeAmount() : String::valueOf;
+        for (LeaderboardTimespan timespan : LeaderboardTimespan.values()) {
+            for (int i = 0; i < Leaderboards.SIZE; i++) {
                 final int nth = i;
-                placeholders.registerStatic(String.format("top_%s_%s_%s", query.getCategory(), query.getTimeSpan(), nth + 1),
-                        parameters -> database.query(query.getQuery(nth, parameters))
+                Function<Arguments, Optional<TopListQueries.TopListEntry<Long>>> entry =
+                        parameters -> leaderboards.getLeaderboard(metric, timespan, scope.apply(parameters)).getEntry(nth);
+                String placeholder = String.format("top_%s_%s_%s", category, timespan.getName(), nth + 1);
+
+                placeholders.registerStatic(placeholder,
+                        parameters -> entry.apply(parameters)
                                 .map(TopListQueries.TopListEntry::getPlayerName)
                                 .orElse("-"));
-                placeholders.registerStatic(String.format("top_%s_%s_%s_value", query.getCategory(), query.getTimeSpan(), nth + 1),
-                        parameters -> database.query(query.getQuery(nth, parameters))
+                placeholders.registerStatic(placeholder + "_value",
+                        parameters -> entry.apply(parameters)
                                 .map(TopListQueries.TopListEntry::getValue)
-                                .map(query.getCategory().equals("player_kills") ? Function.identity() : formatters.timeAmount())
+                                .map(valueFormat)
                                 .orElse("-"));
-                placeholders.registerStatic(String.format("top_%s_%s_%s_value_raw", query.getCategory(), query.getTimeSpan(), nth + 1),
-                        parameters -> database.query(query.getQuery(nth, parameters))
+                placeholders.registerStatic(placeholder + "_value_raw",
+                        parameters -> entry.apply(parameters)
                                 .map(TopListQueries.TopListEntry::getValue)
                                 .map(String::valueOf)
                                 .orElse("-"));
             }
         }
     }
-
-    private <T> List<TopCategoryQuery<T>> createCategoryQueriesForAllTimespans(String category, QueryCreator<T> queryCreator) {
-        return Arrays.asList(
-                new TopCategoryQuery<>(category, queryCreator, "month", TimeUnit.DAYS.toMillis(30)),
-                new TopCategoryQuery<>(category, queryCreator, "week", TimeUnit.DAYS.toMillis(7)),
-                new TopCategoryQuery<>(category, queryCreator, "day", TimeUnit.DAYS.toMillis(1)),
-                new TopCategoryQuery<>(category, queryCreator, "total", System.currentTimeMillis())
-        );
-    }
-
-    public interface QueryCreator<T> {
-        Query<Optional<TopListQueries.TopListEntry<T>>> apply(Integer number, Long timespan, @Untrusted Arguments parameters);
-    }
-
-    public static class TopCategoryQuery<T> {
-        private final String category;
-        private final QueryCreator<T> queryCreator;
-        private final String timeSpan;
-        private final long timeSpanMillis;
-
-        public TopCategoryQuery(String category, QueryCreator<T> queryCreator, String timeSpan, long timespan) {
-            this.category = category;
-            this.queryCreator = queryCreator;
-            this.timeSpan = timeSpan;
-            this.timeSpanMillis = timespan;
-        }
-
-        public String getCategory() {
-            return category;
-        }
-
-        public String getTimeSpan() {
-            return timeSpan;
-        }
-
-        public Query<Optional<TopListQueries.TopListEntry<T>>> getQuery(int i, @Untrusted Arguments parameters) {
-            return queryCreator.apply(i, timeSpanMillis, parameters);
-        }
-    }
 }
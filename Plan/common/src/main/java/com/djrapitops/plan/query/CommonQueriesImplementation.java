@@ -17,9 +17,11 @@
 package com.djrapitops.plan.query;
 
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
@@ -41,14 +43,25 @@ public class CommonQueriesImplementation implements CommonQueries {
 
     private final Database db;
     private final PlanConfig config;
+    private final PlayerSummaryCache playerSummaryCache;
 
-    CommonQueriesImplementation(Database db, PlanConfig config) {
+    CommonQueriesImplementation(Database db, PlanConfig config, PlayerSummaryCache playerSummaryCache) {
         this.db = db;
         this.config = config;
+        this.playerSummaryCache = playerSummaryCache;
     }
 
     @Override
     public long fetchPlaytime(UUID playerUUID, UUID serverUUID, long after, long before) {
+        long now = System.currentTimeMillis();
+        // Summary of players in memory covers all stored sessions of this server up to now, and the most recent ones one by one.
+        boolean coveredBySummary = serverUUID != null && before >= now && (after <= 0 || after >= now - PlayerSummary.RECENT_MS);
+        if (coveredBySummary) {
+            Optional<PlayerSummary> summary = playerSummaryCache.getLoadedSummary(playerUUID, ServerUUID.from(serverUUID));
+            if (summary.isPresent()) {
+                return summary.get().getPlaytime(ServerUUID.from(serverUUID), after);
+            }
+        }
         return db.query(SessionQueries.playtimeOfPlayer(after, before, playerUUID))
                 .getOrDefault(ServerUUID.from(serverUUID), 0L);
     }
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.query;
 
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -45,6 +46,7 @@ public class QuerySvc implements QueryService {
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final ErrorLogger errorLogger;
+    private final PlayerSummaryCache playerSummaryCache;
 
     private final Set<Consumer<UUID>> playerRemoveSubscribers;
     private final Set<VoidFunction> clearSubscribers;
@@ -54,12 +56,14 @@ public class QuerySvc implements QueryService {
             PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            PlayerSummaryCache playerSummaryCache
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.errorLogger = errorLogger;
+        this.playerSummaryCache = playerSummaryCache;
 
         playerRemoveSubscribers = new HashSet<>();
         clearSubscribers = new HashSet<>();
@@ -104,6 +108,7 @@ public class QuerySvc implements QueryService {
     }
 
     public void playerRemoved(UUID playerUUID) {
+        playerSummaryCache.remove(playerUUID);
         playerRemoveSubscribers.forEach(subscriber -> {
             try {
                 subscriber.accept(playerUUID);
@@ -116,6 +121,7 @@ public class QuerySvc implements QueryService {
     }
 
     public void dataCleared() {
+        playerSummaryCache.clear();
         clearSubscribers.forEach(function -> {
             try {
                 function.apply();
@@ -136,6 +142,6 @@ public class QuerySvc implements QueryService {
     public CommonQueries getCommonQueries() {
         Database database = dbSystem.getDatabase();
         if (database == null) throw new IllegalStateException("Database has not been initialized.");
-        return new CommonQueriesImplementation(database, config);
+        return new CommonQueriesImplementation(database, config, playerSummaryCache);
     }
 }
@@ -103,6 +103,8 @@ public enum CommandLang implements Lang {
     INGAME_MOB_KILLS("command.ingame.mobKills", "Cmd Qinspect - Mob Kills", "  §2Mob Kills: §f${0}"),
     INGAME_DEATHS("command.ingame.deaths", "Cmd Qinspect - Deaths", "  §2Deaths: §f${0}"),
 
+    DB_COPY_PROGRESS("command.database.copyProgress", "Cmd db - copy progress", "Copied ${1}% of ${0}"),
+    DB_COPY_RESUME("command.database.copyResume", "Cmd db - copy resume", "Resuming unfinished copy ${0}"),
     DB_BACKUP_CREATE("command.database.creatingBackup", "Cmd db - creating backup", "Creating a backup file '${0}.db' with contents of ${1}"),
     DB_WRITE("command.database.write", "Cmd db - write", "Writing to ${0}.."),
     DB_REMOVAL("command.database.removal", "Cmd db - removal", "Removing Plan-data from ${0}.."),
@@ -134,6 +134,7 @@ public enum HtmlLang implements Lang {
     TITLE_PLAYERBASE_OVERVIEW("html.label.playerbaseOverview", "Playerbase Overview"),
     TITLE_PLAYERBASE_DEVELOPMENT("html.label.playerbaseDevelopment", "Playerbase development"),
     TITLE_CURRENT_PLAYERBASE("html.label.currentPlayerbase", "Current Playerbase"),
+    TEXT_ACTIVITY_APPROXIMATE("html.text.activityApproximate", "Calculated from daily playtime, so it can differ slightly from the Players table."),
     TITLE_JOIN_ADDRESSES("html.label.joinAddresses", "Join Addresses"),
     TITLE_LATEST_JOIN_ADDRESSES("html.label.latestJoinAddresses", "Latest Join Addresses"),
     LABEL_SELECT_SOME_ADDRESSES("html.label.selectSomeAddresses", "Select some addresses"),
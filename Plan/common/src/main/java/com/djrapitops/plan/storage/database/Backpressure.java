@@ -0,0 +1,52 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+/**
+ * Signal about how far behind the database is with storing gathered data.
+ * <p>
+ * Data gathering can use this to store data in larger batches, instead of the database having to drop transactions.
+ *
+ * @author AuroraLS3
+ */
+public enum Backpressure {
+
+    NONE(1),
+    ELEVATED(2),
+    HIGH(4);
+
+    private final int batchMultiplier;
+
+    Backpressure(int batchMultiplier) {
+        this.batchMultiplier = batchMultiplier;
+    }
+
+    static Backpressure forQueueSize(int queueSize) {
+        if (queueSize >= 500) return HIGH;
+        if (queueSize >= 100) return ELEVATED;
+        return NONE;
+    }
+
+    /**
+     * Get how many times more data should be gathered before it is stored.
+     *
+     * @return 1 when the database is keeping up, larger when it is not.
+     */
+    public int getBatchMultiplier() {
+        return batchMultiplier;
+    }
+}
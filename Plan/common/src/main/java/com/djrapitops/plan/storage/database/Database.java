@@ -143,6 +143,15 @@ public interface Database {
 
     int getTransactionQueueSize();
 
+    /**
+     * Get the signal for data gathering about how far behind the database is with storing data.
+     *
+     * @return Backpressure that data gathering can use to store data in larger batches.
+     */
+    default Backpressure getBackpressure() {
+        return Backpressure.NONE;
+    }
+
     /**
      * Possible State changes:
      * CLOSED to PATCHING (Database init),
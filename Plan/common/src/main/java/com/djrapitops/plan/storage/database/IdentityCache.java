@@ -0,0 +1,146 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache for database ids of players, servers, worlds and join addresses.
+ * <p>
+ * Frequent event transactions bind the cached ids to their statements instead of selecting the id by UUID or name
+ * for every inserted row. Transactions update the cache only after they have been committed, see
+ * {@link com.djrapitops.plan.storage.database.transactions.Transaction#updateIdentityCache(java.util.function.Consumer)}.
+ * <p>
+ * Other servers on the same database can remove rows, so ids expire a while after they were cached.
+ *
+ * @author AuroraLS3
+ */
+public class IdentityCache {
+
+    static final int MAX_CACHED_IDS = 50000;
+    static final long EXPIRE_AFTER_WRITE_MINUTES = 10;
+
+    private final Ids<UUID> userIds;
+    private final Ids<ServerUUID> serverIds;
+    private final Ids<List<Object>> worldIds;
+    private final Ids<String> joinAddressIds;
+
+    public IdentityCache() {
+        this(Ticker.systemTicker());
+    }
+
+    // VisibleForTesting
+    IdentityCache(Ticker ticker) {
+        userIds = new Ids<>(ticker);
+        serverIds = new Ids<>(ticker);
+        worldIds = new Ids<>(ticker);
+        joinAddressIds = new Ids<>(ticker);
+    }
+
+    public static List<Object> worldKey(ServerUUID serverUUID, String worldName) {
+        return List.of(serverUUID, worldName);
+    }
+
+    /**
+     * Get ids of plan_users rows.
+     *
+     * @return Ids by player UUID.
+     */
+    public Ids<UUID> getUserIds() {
+        return userIds;
+    }
+
+    /**
+     * Get ids of plan_servers rows.
+     *
+     * @return Ids by server UUID.
+     */
+    public Ids<ServerUUID> getServerIds() {
+        return serverIds;
+    }
+
+    /**
+     * Get ids of plan_worlds rows.
+     *
+     * @return Ids by {@link #worldKey(ServerUUID, String)}.
+     */
+    public Ids<List<Object>> getWorldIds() {
+        return worldIds;
+    }
+
+    /**
+     * Get ids of plan_join_address rows.
+     *
+     * @return Ids by join address.
+     */
+    public Ids<String> getJoinAddressIds() {
+        return joinAddressIds;
+    }
+
+    public void clear() {
+        userIds.clear();
+        serverIds.clear();
+        worldIds.clear();
+        joinAddressIds.clear();
+    }
+
+    /**
+     * Ids of a single table.
+     *
+     * @param <K> Type of the unique value the id is looked up with.
+     */
+    public static class Ids<K> {
+        private final Cache<K, Integer> byKey;
+
+        Ids(Ticker ticker) {
+            byKey = Caffeine.newBuilder()
+                    .maximumSize(MAX_CACHED_IDS)
+                    .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+                    .ticker(ticker)
+                    .build();
+        }
+
+        public Optional<Integer> get(K key) {
+            return Optional.ofNullable(byKey.getIfPresent(key));
+        }
+
+        public void put(K key, int id) {
+            byKey.put(key, id);
+        }
+
+        public void remove(K key) {
+            byKey.invalidate(key);
+        }
+
+        public void clear() {
+            byKey.invalidateAll();
+        }
+
+        public long size() {
+            byKey.cleanUp();
+            return byKey.estimatedSize();
+        }
+    }
+}
@@ -17,7 +17,7 @@
 package com.djrapitops.plan.storage.database;
 
 import com.djrapitops.plan.exceptions.database.DBInitException;
-import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.exceptions.database.DBUnavailableException;
 import com.djrapitops.plan.exceptions.database.MariaDB11Exception;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -90,6 +90,11 @@ public class MySQLDB extends SQLDB {
         return DBType.MYSQL;
     }
 
+    @Override
+    protected boolean usesTransactionJournal() {
+        return true;
+    }
+
     @Override
     protected List<String> getDependencyResource() {
         try {
@@ -200,6 +205,22 @@ public class MySQLDB extends SQLDB {
         }
     }
 
+    @Override
+    protected long getQueryCacheMaxAge() {
+        // Other servers of the network write to the same database without invalidating the cache of this server.
+        return TimeUnit.SECONDS.toMillis(10L);
+    }
+
+    @Override
+    protected int getEventParallelism() {
+        // Most of the connections are left for queries.
+        try {
+            return Math.max(1, config.get(DatabaseSettings.MAX_CONNECTIONS) / 4);
+        } catch (IllegalStateException e) {
+            return 1;
+        }
+    }
+
     private void unloadMySQLDriver() {
         // Avoid issues with other plugins by removing the mysql driver from driver manager
         Enumeration<Driver> drivers = DriverManager.getDrivers();
@@ -226,7 +247,7 @@ public class MySQLDB extends SQLDB {
             try {
                 return getConnection();
             } catch (StackOverflowError databaseHasGoneDown) {
-                throw new DBOpException("Valid connection could not be fetched (Is MySQL down?) - attempted until StackOverflowError occurred.", databaseHasGoneDown);
+                throw new DBUnavailableException("Valid connection could not be fetched (Is MySQL down?) - attempted until StackOverflowError occurred.", databaseHasGoneDown);
             }
         }
         if (connection.getAutoCommit()) connection.setAutoCommit(false);
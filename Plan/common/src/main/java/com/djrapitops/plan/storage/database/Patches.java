@@ -87,7 +87,9 @@ public class Patches {
                 new SecurityTableGroupPatch(),
                 new ExtensionStringValueLengthPatch(),
                 new CookieTableIpAddressPatch(),
-                new TPSTableMSPTPatch()
+                new TPSTableMSPTPatch(),
+                new ActivePlaytimeTablePatch(),
+                new ActivePlaytimeUniqueDayPatch()
         };
     }
 }
@@ -0,0 +1,180 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.queries.CacheableQuery;
+import com.djrapitops.plan.storage.database.queries.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache for results of {@link CacheableQuery}s, invalidated by writes to the tables they read.
+ * <p>
+ * Every write bumps the epoch of the written tables to the next value of a shared clock after the transaction commits.
+ * A result is valid while none of its tables have an epoch later than the clock value read before the query started,
+ * so results that may have missed a write are never returned.
+ * <p>
+ * Only writes of this process are seen. When other servers write to the same database (MySQL network) results are
+ * also limited by a maximum age, see {@link #setMaxAge(long)}, so their writes show up within that time.
+ *
+ * @author AuroraLS3
+ */
+public class QueryCache {
+
+    /**
+     * Table name that stands for every table, writing to it invalidates all cached results.
+     */
+    public static final String ANY_TABLE = "*";
+
+    private static final int MAX_CACHED_RESULTS = 512;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, Long> tableEpochs = new ConcurrentHashMap<>();
+    private final Map<List<?>, CachedResult> results = new ConcurrentHashMap<>();
+    private final Map<List<?>, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final LongSupplier currentTimeMs;
+    private volatile long maxAgeMs = Long.MAX_VALUE;
+
+    public QueryCache() {
+        this(System::currentTimeMillis);
+    }
+
+    // VisibleForTesting
+    QueryCache(LongSupplier currentTimeMs) {
+        this.currentTimeMs = currentTimeMs;
+    }
+
+    /**
+     * Limit how long results are cached regardless of writes.
+     *
+     * @param maxAgeMs Maximum age of a returned result in milliseconds, {@link Long#MAX_VALUE} for no limit.
+     */
+    public void setMaxAge(long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Invalidate cached results that read from the given tables.
+     * <p>
+     * Call after the writes have been committed.
+     *
+     * @param writtenTables Names of the written tables, {@link #ANY_TABLE} to invalidate everything.
+     */
+    public void tablesWritten(Collection<String> writtenTables) {
+        long epoch = clock.incrementAndGet();
+        for (String table : writtenTables) {
+            // Concurrent writers might put out of order, the later epoch is kept.
+            tableEpochs.merge(table, epoch, Math::max);
+        }
+    }
+
+    public void clear() {
+        tablesWritten(List.of(ANY_TABLE));
+        results.clear();
+    }
+
+    private boolean isValid(long startedAt, Collection<String> readTables) {
+        if (tableEpochs.getOrDefault(ANY_TABLE, 0L) > startedAt) return false;
+        for (String table : readTables) {
+            if (tableEpochs.getOrDefault(table, 0L) > startedAt) return false;
+        }
+        return true;
+    }
+
+    private boolean isExpired(CachedResult cached) {
+        return currentTimeMs.getAsLong() - cached.createdAt > maxAgeMs;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T query(CacheableQuery<T> query, Function<Query<T>, T> executor) {
+        List<?> key = query.getKey();
+        Collection<String> readTables = query.getReadTables();
+
+        CachedResult cached = results.get(key);
+        if (cached != null && !isExpired(cached) && isValid(cached.startedAt, readTables)) return (T) cached.result;
+
+        InFlight started = new InFlight(clock.get());
+        InFlight running = inFlight.putIfAbsent(key, started);
+        if (running != null) {
+            // Same thread would wait for itself, results started before a write might be out of date.
+            boolean canJoin = running.thread != Thread.currentThread() && isValid(running.startedAt, readTables);
+            return canJoin ? (T) running.join() : executeAndCache(key, query, executor, new InFlight(clock.get()));
+        }
+        try {
+            return executeAndCache(key, query, executor, started);
+        } finally {
+            inFlight.remove(key, started);
+        }
+    }
+
+    private <T> T executeAndCache(List<?> key, CacheableQuery<T> query, Function<Query<T>, T> executor, InFlight execution) {
+        try {
+            T result = executor.apply(query.getQuery());
+            if (results.size() >= MAX_CACHED_RESULTS) results.clear();
+            results.merge(key, new CachedResult(execution.startedAt, currentTimeMs.getAsLong(), result),
+                    (previous, next) -> previous.startedAt > next.startedAt ? previous : next);
+            execution.future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            execution.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static class CachedResult {
+        private final long startedAt;
+        private final long createdAt;
+        private final Object result;
+
+        CachedResult(long startedAt, long createdAt, Object result) {
+            this.startedAt = startedAt;
+            this.createdAt = createdAt;
+            this.result = result;
+        }
+    }
+
+    private static class InFlight {
+        private final long startedAt;
+        private final Thread thread;
+        private final CompletableFuture<Object> future;
+
+        InFlight(long startedAt) {
+            this.startedAt = startedAt;
+            this.thread = Thread.currentThread();
+            this.future = new CompletableFuture<>();
+        }
+
+        Object join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw e;
+            }
+        }
+    }
+}
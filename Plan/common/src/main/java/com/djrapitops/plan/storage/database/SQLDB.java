@@ -19,16 +19,23 @@ package com.djrapitops.plan.storage.database;
 import com.djrapitops.plan.exceptions.database.DBClosedException;
 import com.djrapitops.plan.exceptions.database.DBInitException;
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.exceptions.database.DBUnavailableException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
+import com.djrapitops.plan.storage.database.queries.CacheableQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.transactions.CoalescableTransaction;
+import com.djrapitops.plan.storage.database.transactions.CoalescedTransaction;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.OperationCriticalTransaction;
@@ -37,6 +44,8 @@ import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.java.ThrowableUtils;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.djrapitops.plan.utilities.metrics.Metric;
+import com.djrapitops.plan.utilities.metrics.SlowQueryLog;
 import dev.vankka.dependencydownload.ApplicationDependencyManager;
 import dev.vankka.dependencydownload.DependencyManager;
 import dev.vankka.dependencydownload.classloader.IsolatedClassLoader;
@@ -49,6 +58,8 @@ import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
@@ -67,6 +78,9 @@ public abstract class SQLDB extends AbstractDatabase {
 
     private static boolean downloadDriver = true;
 
+    private static final int JOURNAL_REPLAY_BATCH_SIZE = 500;
+    private static final long JOURNAL_REPLAY_PERIOD_SECONDS = 30L;
+
     private static final List<Repository> DRIVER_REPOSITORIES = Arrays.asList(
             new MavenRepository("https://repo.papermc.io/repository/maven-public"),
             new MavenRepository("https://repo1.maven.org/maven2")
@@ -87,10 +101,18 @@ public abstract class SQLDB extends AbstractDatabase {
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
     private ExecutorService transactionExecutor;
     private static final ThreadLocal<StackTraceElement[]> TRANSACTION_ORIGIN = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> QUERYING_WITHIN_TRANSACTION = ThreadLocal.withInitial(() -> false);
 
     private final AtomicInteger transactionQueueSize = new AtomicInteger(0);
     private final AtomicBoolean dropUnimportantTransactions = new AtomicBoolean(false);
     private final AtomicBoolean ranIntoFatalError = new AtomicBoolean(false);
+    private final TransactionCoalescer transactionCoalescer = new TransactionCoalescer(this::executeCoalesced);
+    private final TransactionScheduler transactionScheduler = new TransactionScheduler(this::isOperable);
+    private final QueryCache queryCache = new QueryCache();
+    private final IdentityCache identityCache = new IdentityCache();
+    private final AtomicBoolean databaseUnavailable = new AtomicBoolean(false);
+    private final AtomicBoolean replayingJournal = new AtomicBoolean(false);
+    private TransactionJournal transactionJournal;
 
     protected SQLDB(
             Supplier<ServerUUID> serverUUIDSupplier,
@@ -113,7 +135,8 @@ public abstract class SQLDB extends AbstractDatabase {
 
         this.transactionExecutorServiceProvider = () -> {
             String nameFormat = "Plan " + getClass().getSimpleName() + "-transaction-thread-%d";
-            return Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+            int threads = TransactionScheduler.getMaxConcurrency(getEventParallelism());
+            return Executors.newFixedThreadPool(threads, new BasicThreadFactory.Builder()
                     .namingPattern(nameFormat)
                     .uncaughtExceptionHandler((thread, throwable) -> {
                         if (config.isTrue(PluginSettings.DEV_MODE)) {
@@ -163,20 +186,56 @@ public abstract class SQLDB extends AbstractDatabase {
         return TRANSACTION_ORIGIN;
     }
 
+    /**
+     * Get how many event transactions can be executed at once.
+     *
+     * @return 1 unless the database supports concurrent writes from multiple connections.
+     */
+    protected int getEventParallelism() {
+        return 1;
+    }
+
+    /**
+     * Get how long cached query results can be used without checking the database.
+     *
+     * @return Milliseconds, no limit unless other servers can write to the database.
+     * @see QueryCache#setMaxAge(long)
+     */
+    protected long getQueryCacheMaxAge() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Check if event transactions should be journaled to disk while the database is unavailable.
+     *
+     * @return false unless the database is on another machine that can go down while the server is running.
+     */
+    protected boolean usesTransactionJournal() {
+        return false;
+    }
+
+    private boolean isOperable() {
+        State state = getState();
+        return state == State.OPEN || state == State.CLOSING;
+    }
+
     @Override
     public void init() {
-        List<Runnable> unfinishedTransactions = forceCloseTransactionExecutor();
-        this.transactionExecutor = transactionExecutorServiceProvider.get();
+        // Unfinished transactions are kept in the scheduler and executed after patching.
+        forceCloseTransactionExecutor();
+        transactionExecutor = null;
+        getTransactionExecutor();
 
         setState(State.PATCHING);
+        queryCache.setMaxAge(getQueryCacheMaxAge());
+        queryCache.clear();
+        identityCache.clear();
 
+        setupSlowQueryLog();
+        setupTransactionJournal();
         setupDataSource();
         setupDatabase();
 
-        for (Runnable unfinishedTransaction : unfinishedTransactions) {
-            transactionExecutor.submit(unfinishedTransaction);
-        }
-
         // If an OperationCriticalTransaction fails open is set to false.
         // See executeTransaction method below.
         if (getState() == State.CLOSED) {
@@ -185,10 +244,10 @@ public abstract class SQLDB extends AbstractDatabase {
     }
 
     protected boolean attemptToCloseTransactionExecutor() {
+        transactionCoalescer.flushAll();
         if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
             return true;
         }
-        transactionExecutor.shutdown();
         try {
             logger.info(locale.getString(PluginLang.DISABLED_WAITING_TRANSACTIONS));
             Long waitMs = config.getOrDefault(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY, TimeUnit.SECONDS.toMillis(20L));
@@ -196,7 +255,11 @@ public abstract class SQLDB extends AbstractDatabase {
                 logger.warn(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY.getPath() + " was set to over 5 minutes, using 5 min instead.");
                 waitMs = TimeUnit.MINUTES.toMillis(5L);
             }
-            return transactionExecutor.awaitTermination(waitMs, TimeUnit.MILLISECONDS);
+            long waitUntil = System.currentTimeMillis() + waitMs;
+            // Queued transactions are in the scheduler, so the executor can be shut down only after they have been started.
+            if (!transactionScheduler.awaitIdle(waitMs)) return false;
+            transactionExecutor.shutdown();
+            return transactionExecutor.awaitTermination(Math.max(0L, waitUntil - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -207,6 +270,31 @@ public abstract class SQLDB extends AbstractDatabase {
         return Patches.getAll(logger, config);
     }
 
+    private void setupSlowQueryLog() {
+        if (config.isTrue(DatabaseSettings.SLOW_QUERY_LOG)) {
+            File logFile = new File(files.getLogsFolder(), SlowQueryLog.FILE_NAME);
+            SlowQueryLog.enable(config.get(DatabaseSettings.SLOW_QUERY_THRESHOLD), logFile);
+        } else {
+            SlowQueryLog.disable();
+        }
+    }
+
+    private void setupTransactionJournal() {
+        if (!usesTransactionJournal()) return;
+        if (transactionJournal == null) {
+            transactionJournal = new TransactionJournal(files.getDataDirectory().resolve(TransactionJournal.DIRECTORY_NAME));
+        }
+        try {
+            transactionJournal.open();
+            if (!transactionJournal.isEmpty()) {
+                logger.info(transactionJournal.getPendingCount() + " journaled transactions will be stored once the database is available.");
+            }
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder().related("Opening transaction journal").build());
+            transactionJournal = null;
+        }
+    }
+
     /**
      * Ensures connection functions correctly and all tables exist.
      * <p>
@@ -231,6 +319,7 @@ public abstract class SQLDB extends AbstractDatabase {
             }
         });
         registerIndexCreationTask();
+        registerJournalReplayTask();
     }
 
     private void registerIndexCreationTask() {
@@ -254,6 +343,25 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
+    private void registerJournalReplayTask() {
+        if (transactionJournal == null) return;
+        long period = TimeAmount.toTicks(JOURNAL_REPLAY_PERIOD_SECONDS, TimeUnit.SECONDS);
+        try {
+            runnableFactory.create(new PluginRunnable() {
+                @Override
+                public void run() {
+                    if (getState() == State.CLOSED || getState() == State.CLOSING) {
+                        cancel();
+                        return;
+                    }
+                    replayJournal();
+                }
+            }).runTaskTimerAsynchronously(period, period);
+        } catch (Exception ignore) {
+            // Task failed to register because plugin is being disabled
+        }
+    }
+
     /**
      * Set up the source for connections.
      *
@@ -261,17 +369,17 @@ public abstract class SQLDB extends AbstractDatabase {
      */
     public abstract void setupDataSource();
 
-    protected List<Runnable> forceCloseTransactionExecutor() {
+    protected void forceCloseTransactionExecutor() {
+        transactionCoalescer.flushAll();
         if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
-            return Collections.emptyList();
+            transactionScheduler.pause(Collections.emptyList());
+            return;
         }
         try {
-            List<Runnable> unfinished = transactionExecutor.shutdownNow();
-            int unfinishedCount = unfinished.size();
+            int unfinishedCount = transactionScheduler.pause(transactionExecutor.shutdownNow());
             if (unfinishedCount > 0) {
                 logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
             }
-            return unfinished;
         } finally {
             logger.info(locale.getString(PluginLang.DISABLED_WAITING_TRANSACTIONS_COMPLETE));
         }
@@ -286,6 +394,8 @@ public abstract class SQLDB extends AbstractDatabase {
         } else {
             forceCloseTransactionExecutor();
         }
+        // Transactions that failed during shutdown have been journaled by now.
+        if (transactionJournal != null) transactionJournal.close();
         unloadDriverClassloader();
         setState(State.CLOSED);
     }
@@ -294,13 +404,70 @@ public abstract class SQLDB extends AbstractDatabase {
 
     public abstract void returnToPool(Connection connection);
 
+    /**
+     * Get a connection for executing a read-only query.
+     * <p>
+     * Queries performed within a transaction use the same connections as transactions,
+     * so that they can see changes that have not been committed yet.
+     *
+     * @return Connection that should be returned with {@link #returnQueryConnectionToPool(Connection)}.
+     * @throws SQLException If connection could not be obtained.
+     */
+    public Connection getQueryConnection() throws SQLException {
+        return getConnection();
+    }
+
+    public void returnQueryConnectionToPool(Connection connection) {
+        returnToPool(connection);
+    }
+
+    protected boolean isQueryingWithinTransaction() {
+        return QUERYING_WITHIN_TRANSACTION.get();
+    }
+
     @Override
     public <T> T query(Query<T> query) {
-        return accessLock.performDatabaseOperation(() -> query.executeQuery(this));
+        // Results inside transactions might not be committed, so they are not cached.
+        if (query instanceof CacheableQuery && !isQueryingWithinTransaction()) {
+            return queryCache.query((CacheableQuery<T>) query, this::executeQuery);
+        }
+        return executeQuery(query);
+    }
+
+    private <T> T executeQuery(Query<T> query) {
+        return accessLock.performDatabaseOperation(() -> {
+            long start = System.nanoTime();
+            try {
+                return query.executeQuery(this);
+            } finally {
+                Metric.QUERY.recordFor(query, System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Invalidate cached query results after a transaction has written to tables.
+     *
+     * @param writtenTables Names of the written tables, {@link QueryCache#ANY_TABLE} for all tables.
+     */
+    public void tablesWritten(Collection<String> writtenTables) {
+        queryCache.tablesWritten(writtenTables);
+    }
+
+    public IdentityCache getIdentityCache() {
+        return identityCache;
     }
 
     public <T> T queryWithinTransaction(Query<T> query, Transaction transaction) {
-        return accessLock.performDatabaseOperation(() -> query.executeQuery(this), transaction);
+        return accessLock.performDatabaseOperation(() -> {
+            boolean wasWithinTransaction = QUERYING_WITHIN_TRANSACTION.get();
+            try {
+                QUERYING_WITHIN_TRANSACTION.set(true);
+                return query.executeQuery(this);
+            } finally {
+                QUERYING_WITHIN_TRANSACTION.set(wasWithinTransaction);
+            }
+        }, transaction);
     }
 
     protected void unloadDriverClassloader() {
@@ -316,40 +483,196 @@ public abstract class SQLDB extends AbstractDatabase {
             throw new DBClosedException("Transaction tried to execute although database is closed.");
         }
 
+        if (shouldJournal(transaction)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
         StackTraceElement[] origin = Thread.currentThread().getStackTrace();
 
         if (determineIfShouldDropUnimportantTransactions(transactionQueueSize.incrementAndGet())
                 && transaction instanceof ThrowawayTransaction) {
+            transactionQueueSize.decrementAndGet();
             // Drop throwaway transaction immediately.
             return CompletableFuture.completedFuture(null);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
+        if (transaction instanceof CoalescableTransaction && getState() == State.OPEN) {
+            return transactionCoalescer.add((CoalescableTransaction) transaction, origin);
+        }
+
+        getTransactionExecutor();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        // Keeps the execution order of gathered transactions before this one.
+        transactionCoalescer.flushAllThen(() -> submit(transaction, origin, future));
+        return future.exceptionally(errorHandler(transaction, origin));
+    }
+
+    private void submit(Transaction transaction, StackTraceElement[] origin, CompletableFuture<Object> future) {
+        TransactionLane lane = transaction.getLane();
+        long queuedAt = System.nanoTime();
+        transactionScheduler.submit(lane, null, () -> {
+            Metric.TRANSACTION_QUEUE_WAIT.record(lane.name(), System.nanoTime() - queuedAt);
             try {
                 TRANSACTION_ORIGIN.set(origin);
-                if (getState() == State.CLOSED) return CompletableFuture.completedFuture(null);
-
-                accessLock.performDatabaseOperation(() -> {
-                    if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
-                }, transaction);
-                return CompletableFuture.completedFuture(null);
+                if (getState() != State.CLOSED) {
+                    accessLock.performDatabaseOperation(() -> {
+                        if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
+                    }, transaction);
+                }
+                future.complete(null);
+            } catch (RuntimeException | Error e) {
+                if (DBUnavailableException.isCausedByUnavailableDatabase(e) && journalAfterFailure(List.of(transaction))) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(new CompletionException(e));
+                }
             } finally {
                 transactionQueueSize.decrementAndGet();
                 TRANSACTION_ORIGIN.remove();
             }
-        }, getTransactionExecutor()).exceptionally(errorHandler(transaction, origin));
+        });
+    }
+
+    private void executeCoalesced(TransactionCoalescer.Batch batch) {
+        CoalescedTransaction coalesced = new CoalescedTransaction(batch.getTransactions());
+        long queuedAt = System.nanoTime();
+        // Batches with different keys do not depend on each other, so they can be executed in parallel.
+        // A player new to several servers at once is registered by all of them, see Transaction#registerUser.
+        transactionScheduler.submit(TransactionLane.EVENT, batch.getKey(), () -> {
+            Metric.TRANSACTION_QUEUE_WAIT.record(TransactionLane.EVENT.name(), System.nanoTime() - queuedAt);
+            Throwable failure = null;
+            try {
+                TRANSACTION_ORIGIN.set(batch.getOrigin(0));
+                if (getState() != State.CLOSED) {
+                    accessLock.performDatabaseOperation(() -> {
+                        if (!ranIntoFatalError.get()) {coalesced.executeTransaction(this);}
+                    }, coalesced);
+                }
+            } catch (RuntimeException | Error e) {
+                boolean journaled = DBUnavailableException.isCausedByUnavailableDatabase(e) && journalAfterFailure(batch.getTransactions());
+                failure = journaled ? null : new CompletionException(e);
+            } finally {
+                transactionQueueSize.addAndGet(-batch.size());
+                TRANSACTION_ORIGIN.remove();
+            }
+            completeCoalesced(batch, coalesced, failure);
+        });
+    }
+
+    private void completeCoalesced(TransactionCoalescer.Batch batch, CoalescedTransaction coalesced, Throwable throwable) {
+        if (throwable != null) {
+            errorHandler(coalesced, batch.getOrigin(0)).apply(throwable);
+        }
+        List<Transaction> transactions = batch.getTransactions();
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            StackTraceElement[] origin = batch.getOrigin(i);
+            if (throwable == null) {
+                coalesced.getFailure(transaction).ifPresent(failure ->
+                        errorHandler(transaction, origin).apply(new CompletionException(failure)));
+            }
+        }
+        // Failure is passed to every member, so that waiting callers know their transaction was not stored.
+        batch.complete(throwable, transaction -> coalesced.getFailure(transaction).map(CompletionException::new));
+    }
+
+    private boolean shouldJournal(Transaction transaction) {
+        if (transactionJournal == null || !(transaction instanceof JournalableTransaction)) return false;
+        // New transactions are journaled until the journal has been replayed, so they are not stored before journaled ones.
+        // Transactions that were queued before the database became unavailable are journaled later, once they fail.
+        boolean useJournal = !transactionJournal.isEmpty() || databaseUnavailable.get()
+                || transactionScheduler.getBackpressure() == Backpressure.HIGH;
+        return useJournal && appendToJournal((JournalableTransaction) transaction);
+    }
+
+    private boolean journalAfterFailure(List<Transaction> transactions) {
+        if (transactionJournal == null) return false;
+        if (databaseUnavailable.compareAndSet(false, true)) {
+            logger.warn("Database is unavailable, storing events to " + TransactionJournal.DIRECTORY_NAME + " until it can be reached.");
+        }
+        boolean allJournaled = true;
+        for (Transaction transaction : transactions) {
+            allJournaled &= transaction instanceof JournalableTransaction && appendToJournal((JournalableTransaction) transaction);
+        }
+        return allJournaled;
+    }
+
+    private boolean appendToJournal(JournalableTransaction transaction) {
+        try {
+            return transactionJournal.append(transaction);
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder().related("Writing transaction journal").build());
+            return false;
+        }
+    }
+
+    private void replayJournal() {
+        if (transactionJournal == null || !replayingJournal.compareAndSet(false, true)) return;
+        try {
+            replayJournalBatches();
+        } catch (IOException e) {
+            errorLogger.warn(e, ErrorContext.builder().related("Reading transaction journal").build());
+        } finally {
+            replayingJournal.set(false);
+        }
+    }
+
+    private void replayJournalBatches() throws IOException {
+        // Replaying is postponed while the queue is full, so that new events are not slowed down further.
+        while (getState() == State.OPEN && transactionScheduler.getBackpressure() != Backpressure.HIGH) {
+            Optional<TransactionJournal.Batch> read = transactionJournal.readBatch(JOURNAL_REPLAY_BATCH_SIZE);
+            if (read.isEmpty()) {
+                if (databaseUnavailable.compareAndSet(true, false)) {
+                    logger.info("Database is available again, journaled events have been stored.");
+                }
+                return;
+            }
+            TransactionJournal.Batch batch = read.get();
+            if (!replay(batch)) return;
+            transactionJournal.markReplayed(batch);
+        }
+    }
+
+    private boolean replay(TransactionJournal.Batch batch) {
+        List<Transaction> transactions = batch.getTransactions();
+        int malformed = batch.getEntryCount() - transactions.size();
+        if (malformed > 0) {
+            logger.warn(malformed + " malformed entries in " + TransactionJournal.DIRECTORY_NAME + " were skipped.");
+        }
+        if (transactions.isEmpty()) return true;
+
+        CoalescedTransaction coalesced = new CoalescedTransaction(transactions);
+        StackTraceElement[] origin = Thread.currentThread().getStackTrace();
+        try {
+            TRANSACTION_ORIGIN.set(origin);
+            accessLock.performDatabaseOperation(() -> coalesced.executeTransaction(this), coalesced);
+        } catch (RuntimeException failed) {
+            // The batch was not committed, so it is replayed again on the next attempt.
+            if (!DBUnavailableException.isCausedByUnavailableDatabase(failed)) {
+                errorHandler(coalesced, origin).apply(new CompletionException(failed));
+            }
+            return false;
+        } finally {
+            TRANSACTION_ORIGIN.remove();
+        }
+        for (Transaction transaction : transactions) {
+            coalesced.getFailure(transaction).ifPresent(failure ->
+                    errorHandler(transaction, origin).apply(new CompletionException(failure)));
+        }
+        return true;
     }
 
     private boolean determineIfShouldDropUnimportantTransactions(int queueSize) {
         if (getState() == State.CLOSING) {
             return true;
         }
+        // Data gathering is slowed down with backpressure first, so dropping is a last resort to avoid running out of memory.
         boolean dropTransactions = dropUnimportantTransactions.get();
-        if (queueSize >= 500 && !dropTransactions) {
+        if (queueSize >= 2500 && !dropTransactions) {
             logger.warn("Database queue size: " + queueSize + ", dropping some unimportant transactions. If this keeps happening disable some extensions or optimize MySQL.");
             dropUnimportantTransactions.set(true);
             return true;
-        } else if (queueSize < 50 && dropTransactions) {
+        } else if (queueSize < 250 && dropTransactions) {
             dropUnimportantTransactions.set(false);
             return false;
         }
@@ -390,6 +713,7 @@ public abstract class SQLDB extends AbstractDatabase {
     private ExecutorService getTransactionExecutor() {
         if (transactionExecutor == null) {
             transactionExecutor = transactionExecutorServiceProvider.get();
+            transactionScheduler.setExecutor(transactionExecutor, getEventParallelism());
         }
         return transactionExecutor;
     }
@@ -427,6 +751,16 @@ public abstract class SQLDB extends AbstractDatabase {
         return locale;
     }
 
+    /**
+     * Get the signal for data gathering about how far behind the database is with storing data.
+     *
+     * @return Backpressure based on the amount of queued event transactions.
+     */
+    @Override
+    public Backpressure getBackpressure() {
+        return transactionScheduler.getBackpressure();
+    }
+
     public boolean shouldDropUnimportantTransactions() {
         return dropUnimportantTransactions.get();
     }
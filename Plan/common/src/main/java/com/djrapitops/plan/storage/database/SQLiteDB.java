@@ -49,10 +49,15 @@ import java.util.Properties;
  */
 public class SQLiteDB extends SQLDB {
 
+    // See https://www.sqlite.org/c3ref/c_open_autoproxy.html
+    private static final int SQLITE_OPEN_READONLY = 0x00000001;
+
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
     private Task connectionPingTask;
+    private boolean walEnabled;
+    private SQLiteReadConnectionPool readConnectionPool;
 
     /*
      * In charge of keeping a single thread in control of the connection to avoid
@@ -107,9 +112,38 @@ public class SQLiteDB extends SQLDB {
         } catch (SQLException e) {
             throw new DBInitException(e.toString(), e);
         }
+        setupReadConnectionPool();
         startConnectionPingTask();
     }
 
+    private void setupReadConnectionPool() {
+        if (readConnectionPool != null) readConnectionPool.close();
+        // Without WAL readers would be blocked by the writer and cause SQLITE_BUSY errors.
+        if (walEnabled) {
+            int maxReaders = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+            readConnectionPool = new SQLiteReadConnectionPool(() -> getNewReadConnection(databaseFile), maxReaders);
+        } else {
+            readConnectionPool = null;
+        }
+    }
+
+    private Connection getNewReadConnection(File dbFile) throws SQLException {
+        ensureConstructorIsAvailable();
+        String dbFilePath = dbFile.getAbsolutePath();
+        try {
+            Properties properties = new Properties();
+            properties.put("open_mode", String.valueOf(SQLITE_OPEN_READONLY));
+            // Auto commit is kept on so that readers do not hold old snapshots of the WAL open.
+            return (Connection) connectionConstructor.newInstance("jdbc:sqlite:" + dbFilePath, dbFilePath, properties);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) throw (SQLException) cause;
+            throw new DBInitException("Failed to initialize SQLite Driver", cause);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new DBInitException("Failed to initialize SQLite Driver", e);
+        }
+    }
+
     public Connection getNewConnection(File dbFile) throws SQLException {
         if (driverClassLoader == null) {
             logger.info("Downloading SQLite Driver, this may take a while...");
@@ -145,7 +179,9 @@ public class SQLiteDB extends SQLDB {
             Properties properties = new Properties();
             if (withWAL) properties.put("journal_mode", "WAL");
 
-            return (Connection) connectionConstructor.newInstance("jdbc:sqlite:" + dbFilePath, dbFilePath, properties);
+            Connection newConnection = (Connection) connectionConstructor.newInstance("jdbc:sqlite:" + dbFilePath, dbFilePath, properties);
+            walEnabled = withWAL;
+            return newConnection;
         } catch (InvocationTargetException e) {
             Throwable cause = e.getCause();
             if (!withWAL && cause instanceof SQLException) {
@@ -199,6 +235,23 @@ public class SQLiteDB extends SQLDB {
         return connection;
     }
 
+    @Override
+    public Connection getQueryConnection() throws SQLException {
+        if (readConnectionPool == null || isQueryingWithinTransaction()) {
+            return getConnection();
+        }
+        return readConnectionPool.getConnection();
+    }
+
+    @Override
+    public void returnQueryConnectionToPool(Connection connection) {
+        if (readConnectionPool == null || connection == this.connection) {
+            returnToPool(connection);
+        } else {
+            readConnectionPool.returnToPool(connection);
+        }
+    }
+
     @Override
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
@@ -211,6 +264,7 @@ public class SQLiteDB extends SQLDB {
         stopConnectionPingTask();
 
         logger.info(locale.getString(PluginLang.DISABLED_WAITING_SQLITE));
+        if (readConnectionPool != null) readConnectionPool.close();
         connectionLock.waitUntilNothingAccessing();
 
         // Transaction queue can't be force-closed before all connections have terminated.
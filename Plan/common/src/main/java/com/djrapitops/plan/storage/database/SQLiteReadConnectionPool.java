@@ -0,0 +1,129 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.utilities.MiscUtils;
+import com.djrapitops.plan.utilities.SemaphoreAccessCounter;
+import com.djrapitops.plan.utilities.java.ThrowingSupplier;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of read-only SQLite connections that allows queries to run while a transaction is writing.
+ * <p>
+ * Concurrent readers are only possible when the database is in WAL journal mode.
+ *
+ * @author AuroraLS3
+ */
+class SQLiteReadConnectionPool {
+
+    private final ThrowingSupplier<Connection, SQLException> connectionSupplier;
+    private final int maxConnections;
+    private final BlockingQueue<Connection> idleConnections;
+    private final AtomicInteger openConnections;
+
+    /*
+     * Prevents closing connections while another thread is still executing a statement,
+     * which might lead to a SIGSEGV signal JVM crash.
+     */
+    private final SemaphoreAccessCounter connectionLock;
+    private volatile boolean closed;
+
+    SQLiteReadConnectionPool(ThrowingSupplier<Connection, SQLException> connectionSupplier, int maxConnections) {
+        this.connectionSupplier = connectionSupplier;
+        this.maxConnections = maxConnections;
+        idleConnections = new LinkedBlockingQueue<>();
+        openConnections = new AtomicInteger(0);
+        connectionLock = new SemaphoreAccessCounter();
+        closed = false;
+    }
+
+    Connection getConnection() throws SQLException {
+        if (closed) throw new DBOpException("Read connection pool is closed");
+        connectionLock.enter();
+        Connection idle = idleConnections.poll();
+        if (idle != null) return idle;
+
+        if (openConnections.incrementAndGet() <= maxConnections) {
+            return openNewConnection();
+        }
+        openConnections.decrementAndGet();
+        try {
+            return waitForIdleConnection();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            connectionLock.exit();
+            throw new DBOpException("Interrupted while waiting for a read connection", e);
+        }
+    }
+
+    private Connection waitForIdleConnection() throws InterruptedException {
+        Connection available = idleConnections.poll(1, TimeUnit.SECONDS);
+        while (available == null) {
+            if (closed) {
+                connectionLock.exit();
+                throw new DBOpException("Read connection pool was closed while waiting for a connection");
+            }
+            available = idleConnections.poll(1, TimeUnit.SECONDS);
+        }
+        return available;
+    }
+
+    private Connection openNewConnection() throws SQLException {
+        try {
+            return connectionSupplier.get();
+        } catch (SQLException | RuntimeException e) {
+            openConnections.decrementAndGet();
+            connectionLock.exit();
+            throw e;
+        }
+    }
+
+    void returnToPool(Connection connection) {
+        if (connection == null) return;
+        try {
+            if (closed || connection.isClosed()) {
+                openConnections.decrementAndGet();
+                MiscUtils.close(connection);
+            } else {
+                idleConnections.offer(connection);
+            }
+        } catch (SQLException e) {
+            openConnections.decrementAndGet();
+            MiscUtils.close(connection);
+        } finally {
+            connectionLock.exit();
+        }
+    }
+
+    void close() {
+        closed = true;
+        connectionLock.waitUntilNothingAccessing();
+        Connection idle = idleConnections.poll();
+        while (idle != null) {
+            openConnections.decrementAndGet();
+            MiscUtils.close(idle);
+            idle = idleConnections.poll();
+        }
+    }
+}
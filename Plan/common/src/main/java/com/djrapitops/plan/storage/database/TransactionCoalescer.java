@@ -0,0 +1,156 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.CoalescableTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Gathers {@link CoalescableTransaction}s with equal keys into batches that are executed with a single commit.
+ * <p>
+ * A batch is flushed after a short window from its first transaction, or immediately if it grows too large.
+ * All batches are flushed before other transactions are queued to keep the execution order.
+ * Batches are handed to the flusher while holding the lock, so a batch that is being flushed can not be
+ * overtaken by a transaction that was submitted after it.
+ *
+ * @author AuroraLS3
+ */
+class TransactionCoalescer {
+
+    static final long FLUSH_WINDOW_MS = 250L;
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final Consumer<Batch> flusher;
+    private final Map<Object, Batch> pending;
+
+    TransactionCoalescer(Consumer<Batch> flusher) {
+        this.flusher = flusher;
+        pending = new HashMap<>();
+    }
+
+    CompletableFuture<Object> add(CoalescableTransaction transaction, StackTraceElement[] origin) {
+        Object key = transaction.getCoalescingKey();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        synchronized (this) {
+            Batch batch = pending.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                pending.put(key, batch);
+                scheduleFlush(key, batch);
+            }
+            batch.add((Transaction) transaction, future, origin);
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                pending.remove(key);
+                flusher.accept(batch);
+            }
+        }
+        return future;
+    }
+
+    private void scheduleFlush(Object key, Batch batch) {
+        CompletableFuture.delayedExecutor(FLUSH_WINDOW_MS, TimeUnit.MILLISECONDS)
+                .execute(() -> flush(key, batch));
+    }
+
+    private synchronized void flush(Object key, Batch batch) {
+        // Batch may have been flushed already due to size or shutdown.
+        if (pending.remove(key, batch)) flusher.accept(batch);
+    }
+
+    synchronized void flushAll() {
+        if (pending.isEmpty()) return;
+        List<Batch> batches = new ArrayList<>(pending.values());
+        pending.clear();
+        batches.forEach(flusher);
+    }
+
+    /**
+     * Flush all batches and queue another transaction after them without letting other batches in between.
+     *
+     * @param queueNext Queues the transaction that should be executed after the current batches.
+     */
+    synchronized void flushAllThen(Runnable queueNext) {
+        flushAll();
+        queueNext.run();
+    }
+
+    static class Batch {
+        private final Object key;
+        private final List<Transaction> transactions = new ArrayList<>();
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        private final List<StackTraceElement[]> origins = new ArrayList<>();
+
+        Batch(Object key) {
+            this.key = key;
+        }
+
+        Object getKey() {
+            return key;
+        }
+
+        void add(Transaction transaction, CompletableFuture<Object> future, StackTraceElement[] origin) {
+            transactions.add(transaction);
+            futures.add(future);
+            origins.add(origin);
+        }
+
+        int size() {
+            return transactions.size();
+        }
+
+        List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        CompletableFuture<Object> getFuture(int index) {
+            return futures.get(index);
+        }
+
+        /**
+         * Complete futures of the transactions in the batch.
+         *
+         * @param batchFailure  Failure of the whole batch, null if the batch was committed.
+         * @param memberFailure Failure of a single transaction that was rolled back inside a committed batch.
+         */
+        void complete(Throwable batchFailure, Function<Transaction, Optional<? extends Throwable>> memberFailure) {
+            for (int i = 0; i < transactions.size(); i++) {
+                Optional<? extends Throwable> failure = batchFailure != null
+                        ? Optional.of(batchFailure)
+                        : memberFailure.apply(transactions.get(i));
+                if (failure.isPresent()) {
+                    futures.get(i).completeExceptionally(failure.get());
+                } else {
+                    futures.get(i).complete(null);
+                }
+            }
+        }
+
+        StackTraceElement[] getOrigin(int index) {
+            return origins.get(index);
+        }
+    }
+}
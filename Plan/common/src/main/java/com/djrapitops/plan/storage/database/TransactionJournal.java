@@ -0,0 +1,346 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal for {@link JournalableTransaction}s that could not be executed because the database was unavailable.
+ * <p>
+ * The journal is split into memory-mapped segment files, so journaled transactions do not take up heap.
+ * Only the oldest and newest segment are mapped at a time.
+ * Each segment starts with an int offset of the first entry that has not been replayed,
+ * followed by entries of {@code [int length][UTF-8 "ClassName entry"]}. A length of 0 marks the end of the entries.
+ * <p>
+ * Entries are replayed in batches with at-least-once semantics: if the server stops between a batch being stored and
+ * the batch being marked as replayed, the batch is stored again on the next start.
+ *
+ * @author AuroraLS3
+ */
+public class TransactionJournal {
+
+    public static final String DIRECTORY_NAME = "transaction-journal";
+    static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final String FILE_SUFFIX = ".journal";
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final Map<String, Function<String, Transaction>> DECODERS = Map.of(
+            StoreSessionTransaction.class.getSimpleName(), StoreSessionTransaction::fromJournalEntry,
+            TPSStoreTransaction.class.getSimpleName(), TPSStoreTransaction::fromJournalEntry,
+            PingStoreTransaction.class.getSimpleName(), PingStoreTransaction::fromJournalEntry,
+            StoreGeoInfoTransaction.class.getSimpleName(), StoreGeoInfoTransaction::fromJournalEntry,
+            StoreNicknameTransaction.class.getSimpleName(), StoreNicknameTransaction::fromJournalEntry
+    );
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private final Deque<Long> segmentNumbers = new ArrayDeque<>();
+    private final AtomicLong pendingEntries = new AtomicLong();
+    private long nextSegmentNumber;
+    private Segment head;
+    private Segment tail;
+
+    public TransactionJournal(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    TransactionJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Read existing segments from disk, removing segments that have already been replayed.
+     *
+     * @throws IOException If the directory or a segment could not be read.
+     */
+    public synchronized void open() throws IOException {
+        close();
+        pendingEntries.set(0L);
+        nextSegmentNumber = 0L;
+        if (!Files.isDirectory(directory)) return;
+
+        List<Long> numbers;
+        try (Stream<Path> files = Files.list(directory)) {
+            numbers = files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.matches("\\d+" + FILE_SUFFIX))
+                    .map(fileName -> Long.parseLong(fileName.substring(0, fileName.length() - FILE_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (long number : numbers) {
+            nextSegmentNumber = number + 1;
+            int entries = countEntries(segmentFile(number));
+            if (entries == 0) {
+                Files.deleteIfExists(segmentFile(number));
+            } else {
+                segmentNumbers.add(number);
+                pendingEntries.addAndGet(entries);
+            }
+        }
+        if (!segmentNumbers.isEmpty()) {
+            head = mapSegment(segmentNumbers.getFirst());
+            tail = segmentNumbers.size() == 1 ? head : mapSegment(segmentNumbers.getLast());
+        }
+    }
+
+    /**
+     * Write a transaction at the end of the journal.
+     *
+     * @param transaction Transaction to journal.
+     * @return false if the transaction was too large for the journal.
+     * @throws IOException If a new segment could not be created.
+     */
+    public synchronized boolean append(JournalableTransaction transaction) throws IOException {
+        byte[] entry = (transaction.getClass().getSimpleName() + ' ' + transaction.toJournalEntry())
+                .getBytes(StandardCharsets.UTF_8);
+        if (HEADER_SIZE + Integer.BYTES + entry.length > segmentSize) return false;
+
+        if (tail == null || !tail.fits(entry.length)) {
+            rollOver();
+        }
+        tail.write(entry);
+        pendingEntries.incrementAndGet();
+        return true;
+    }
+
+    private void rollOver() throws IOException {
+        Files.createDirectories(directory);
+        if (tail != null) tail.buffer.force();
+        long number = nextSegmentNumber++;
+        Segment created = mapSegment(number);
+        segmentNumbers.add(number);
+        if (head == null) head = created;
+        tail = created;
+    }
+
+    /**
+     * Read the next entries that have not been replayed, without marking them replayed.
+     *
+     * @param maxEntries How many entries to read at most.
+     * @return Batch of transactions in journal order, empty if there is nothing to replay.
+     * @throws IOException If the next segment could not be opened.
+     */
+    public synchronized Optional<Batch> readBatch(int maxEntries) throws IOException {
+        dropReplayedSegments();
+        if (head == null || head.isReplayed()) return Optional.empty();
+
+        List<Transaction> transactions = new ArrayList<>();
+        int offset = head.readOffset;
+        int entries = 0;
+        while (entries < maxEntries && offset < head.writeOffset) {
+            int length = head.entryLength(offset);
+            decode(head.read(offset + Integer.BYTES, length)).ifPresent(transactions::add);
+            offset += Integer.BYTES + length;
+            entries++;
+        }
+        return Optional.of(new Batch(head, offset, entries, transactions));
+    }
+
+    /**
+     * Mark a batch as replayed after its transactions have been stored.
+     *
+     * @param batch Batch given by {@link #readBatch(int)}.
+     */
+    public synchronized void markReplayed(Batch batch) {
+        batch.segment.markReplayed(batch.endOffset);
+        pendingEntries.addAndGet(-batch.entryCount);
+    }
+
+    private void dropReplayedSegments() throws IOException {
+        while (head != null && head != tail && head.isReplayed()) {
+            try {
+                Files.deleteIfExists(head.file);
+            } catch (IOException ignored) {
+                // Mapped files can not be deleted on Windows, the segment is deleted on next open instead.
+            }
+            segmentNumbers.removeFirst();
+            long next = segmentNumbers.getFirst();
+            head = next == tail.number ? tail : mapSegment(next);
+        }
+    }
+
+    private Optional<Transaction> decode(String entry) {
+        int split = entry.indexOf(' ');
+        Function<String, Transaction> decoder = split != -1 ? DECODERS.get(entry.substring(0, split)) : null;
+        if (decoder == null) return Optional.empty();
+        try {
+            return Optional.of(decoder.apply(entry.substring(split + 1)));
+        } catch (RuntimeException malformed) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean isEmpty() {
+        return pendingEntries.get() == 0L;
+    }
+
+    public long getPendingCount() {
+        return pendingEntries.get();
+    }
+
+    /**
+     * Flush mapped segments to disk and release them.
+     */
+    public synchronized void close() {
+        if (head != null) head.buffer.force();
+        if (tail != null && tail != head) tail.buffer.force();
+        head = null;
+        tail = null;
+        segmentNumbers.clear();
+    }
+
+    private Path segmentFile(long number) {
+        return directory.resolve(number + FILE_SUFFIX);
+    }
+
+    private Segment mapSegment(long number) throws IOException {
+        Path file = segmentFile(number);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = Math.max(channel.size(), segmentSize);
+            return new Segment(number, file, channel.map(FileChannel.MapMode.READ_WRITE, 0L, size));
+        }
+    }
+
+    private static int countEntries(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer intBuffer = ByteBuffer.allocate(Integer.BYTES);
+            long offset = Math.max(HEADER_SIZE, readInt(channel, 0L, intBuffer));
+            int count = 0;
+            while (offset + Integer.BYTES <= size) {
+                int length = readInt(channel, offset, intBuffer);
+                if (length <= 0 || offset + Integer.BYTES + length > size) break;
+                offset += Integer.BYTES + length;
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static int readInt(FileChannel channel, long position, ByteBuffer intBuffer) throws IOException {
+        intBuffer.clear();
+        while (intBuffer.hasRemaining()) {
+            if (channel.read(intBuffer, position + intBuffer.position()) == -1) return 0;
+        }
+        return intBuffer.getInt(0);
+    }
+
+    /**
+     * Entries read from the journal, see {@link #readBatch(int)}.
+     */
+    public static class Batch {
+        private final Segment segment;
+        private final int endOffset;
+        private final int entryCount;
+        private final List<Transaction> transactions;
+
+        private Batch(Segment segment, int endOffset, int entryCount, List<Transaction> transactions) {
+            this.segment = segment;
+            this.endOffset = endOffset;
+            this.entryCount = entryCount;
+            this.transactions = transactions;
+        }
+
+        /**
+         * Get the transactions of this batch.
+         *
+         * @return Decoded transactions, malformed entries are left out.
+         */
+        public List<Transaction> getTransactions() {
+            return transactions;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+    }
+
+    private static class Segment {
+        private final long number;
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private int readOffset;
+        private int writeOffset;
+
+        Segment(long number, Path file, MappedByteBuffer buffer) {
+            this.number = number;
+            this.file = file;
+            this.buffer = buffer;
+            readOffset = Math.max(HEADER_SIZE, buffer.getInt(0));
+            writeOffset = readOffset;
+            int length = entryLength(writeOffset);
+            while (length > 0) {
+                writeOffset += Integer.BYTES + length;
+                length = entryLength(writeOffset);
+            }
+        }
+
+        int entryLength(int offset) {
+            if (offset + Integer.BYTES > buffer.capacity()) return 0;
+            int length = buffer.getInt(offset);
+            return length > 0 && offset + Integer.BYTES + length <= buffer.capacity() ? length : 0;
+        }
+
+        boolean fits(int length) {
+            return writeOffset + Integer.BYTES + length <= buffer.capacity();
+        }
+
+        void write(byte[] entry) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(writeOffset + Integer.BYTES);
+            target.put(entry);
+            // Length is written last so that an entry is never read before it has been completely written.
+            buffer.putInt(writeOffset, entry.length);
+            writeOffset += Integer.BYTES + entry.length;
+        }
+
+        String read(int offset, int length) {
+            byte[] entry = new byte[length];
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset);
+            source.get(entry);
+            return new String(entry, StandardCharsets.UTF_8);
+        }
+
+        void markReplayed(int offset) {
+            buffer.putInt(0, offset);
+            readOffset = offset;
+        }
+
+        boolean isReplayed() {
+            return readOffset >= writeOffset;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Schedules transactions from separate lanes onto the transaction executor.
+ * <p>
+ * Rules:
+ * - {@link TransactionLane#isExclusive()} lanes have priority and are executed alone, in the order they were submitted.
+ * - Event and maintenance lanes are only executed when the database is operable (schema has been patched).
+ * - Event transactions are executed in order, except for transactions with a partition key, which can be executed
+ * in parallel with transactions that have a different key, up to the event parallelism.
+ * - Maintenance and access log transactions are executed when events allow it, or after waiting too long.
+ *
+ * @author AuroraLS3
+ */
+class TransactionScheduler {
+
+    static final long MAINTENANCE_MAX_WAIT_MS = TimeUnit.SECONDS.toMillis(30L);
+
+    private final BooleanSupplier operable;
+    private final Map<TransactionLane, Deque<Entry>> queues;
+    private final Map<TransactionLane, Integer> running;
+    private final Set<Object> runningPartitions;
+    private final ThreadLocal<Boolean> dispatching;
+
+    private Executor executor;
+    private int eventParallelism;
+    private boolean orderedEventRunning;
+    private long sequence;
+
+    TransactionScheduler(BooleanSupplier operable) {
+        this.operable = operable;
+        queues = new EnumMap<>(TransactionLane.class);
+        running = new EnumMap<>(TransactionLane.class);
+        for (TransactionLane lane : TransactionLane.values()) {
+            queues.put(lane, new ArrayDeque<>());
+            running.put(lane, 0);
+        }
+        runningPartitions = new HashSet<>();
+        dispatching = ThreadLocal.withInitial(() -> false);
+        eventParallelism = 1;
+    }
+
+    /**
+     * Change the executor the transactions are executed with.
+     *
+     * @param executor         Executor with at least {@link #getMaxConcurrency(int)} threads.
+     * @param eventParallelism How many event transactions can be executed at once.
+     */
+    void setExecutor(Executor executor, int eventParallelism) {
+        synchronized (this) {
+            this.executor = executor;
+            this.eventParallelism = Math.max(1, eventParallelism);
+        }
+        dispatch();
+    }
+
+    static int getMaxConcurrency(int eventParallelism) {
+        // One more thread for maintenance if events are executed in parallel
+        return eventParallelism > 1 ? eventParallelism + 1 : 1;
+    }
+
+    /**
+     * Add a task to a lane.
+     *
+     * @param lane         Lane of the task.
+     * @param partitionKey Key of an event that can be executed in parallel with events of other keys, null if the event needs to be executed in order.
+     * @param task         Task that executes the transaction.
+     */
+    void submit(TransactionLane lane, Object partitionKey, Runnable task) {
+        synchronized (this) {
+            queues.get(lane).add(new Entry(lane, partitionKey, sequence++, task));
+        }
+        dispatch();
+    }
+
+    void dispatch() {
+        // Tasks run on the calling thread with direct executors, the outer loop continues the dispatching.
+        if (Boolean.TRUE.equals(dispatching.get())) return;
+        dispatching.set(true);
+        try {
+            Entry next = poll();
+            while (next != null && start(next)) {
+                next = poll();
+            }
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    private boolean start(Entry entry) {
+        Executor startWith;
+        synchronized (this) {
+            startWith = executor;
+        }
+        try {
+            if (startWith == null) throw new RejectedExecutionException("Transaction executor is not available");
+            startWith.execute(new StartedTask(entry));
+            return true;
+        } catch (RejectedExecutionException executorClosed) {
+            synchronized (this) {
+                requeue(entry);
+                executor = null;
+            }
+            return false;
+        }
+    }
+
+    private void requeue(Entry entry) {
+        markFinished(entry);
+        queues.get(entry.lane).addFirst(entry);
+    }
+
+    private void finished(Entry entry) {
+        synchronized (this) {
+            markFinished(entry);
+            notifyAll();
+        }
+        dispatch();
+    }
+
+    private void markFinished(Entry entry) {
+        running.merge(entry.lane, -1, Integer::sum);
+        if (entry.lane == TransactionLane.EVENT) {
+            if (entry.partitionKey == null) {
+                orderedEventRunning = false;
+            } else {
+                runningPartitions.remove(entry.partitionKey);
+            }
+        }
+    }
+
+    private synchronized Entry poll() {
+        if (executor == null) return null;
+
+        int runningCount = getRunningCount();
+        if (runningCount >= getMaxConcurrency(eventParallelism) || isExclusiveRunning()) return null;
+
+        Entry exclusive = peekExclusive();
+        if (exclusive != null) {
+            // Others are let to finish, but no new transactions are started before the exclusive one.
+            return runningCount == 0 ? take(exclusive) : null;
+        }
+        if (!operable.getAsBoolean()) return null;
+
+        Entry maintenance = peekBackground(TransactionLane.MAINTENANCE);
+        if (maintenance != null && maintenance.hasWaitedOver(MAINTENANCE_MAX_WAIT_MS)) {
+            return take(maintenance);
+        }
+        Entry accessLog = peekBackground(TransactionLane.ACCESS_LOG);
+        if (accessLog != null && accessLog.hasWaitedOver(MAINTENANCE_MAX_WAIT_MS)) {
+            return take(accessLog);
+        }
+
+        Entry event = queues.get(TransactionLane.EVENT).peek();
+        if (event != null && canStartEvent(event)) {
+            return take(event);
+        }
+        if (maintenance != null) return take(maintenance);
+        return accessLog != null ? take(accessLog) : null;
+    }
+
+    private Entry peekBackground(TransactionLane lane) {
+        // Only one transaction of a background lane is executed at a time.
+        return running.get(lane) == 0 ? queues.get(lane).peek() : null;
+    }
+
+    private boolean canStartEvent(Entry event) {
+        int runningEvents = running.get(TransactionLane.EVENT);
+        if (event.partitionKey == null) return runningEvents == 0;
+        return !orderedEventRunning
+                && runningEvents < eventParallelism
+                && !runningPartitions.contains(event.partitionKey);
+    }
+
+    private Entry peekExclusive() {
+        Entry critical = queues.get(TransactionLane.CRITICAL).peek();
+        Entry patch = queues.get(TransactionLane.PATCH).peek();
+        if (critical == null) return patch;
+        if (patch == null) return critical;
+        return critical.sequence < patch.sequence ? critical : patch;
+    }
+
+    private Entry take(Entry entry) {
+        queues.get(entry.lane).remove();
+        running.merge(entry.lane, 1, Integer::sum);
+        if (entry.lane == TransactionLane.EVENT) {
+            if (entry.partitionKey == null) {
+                orderedEventRunning = true;
+            } else {
+                runningPartitions.add(entry.partitionKey);
+            }
+        }
+        return entry;
+    }
+
+    private int getRunningCount() {
+        int count = 0;
+        for (Integer laneCount : running.values()) {
+            count += laneCount;
+        }
+        return count;
+    }
+
+    private boolean isExclusiveRunning() {
+        return running.get(TransactionLane.CRITICAL) > 0 || running.get(TransactionLane.PATCH) > 0;
+    }
+
+    synchronized int getQueueSize(TransactionLane lane) {
+        return queues.get(lane).size();
+    }
+
+    synchronized int getQueueSize() {
+        int size = 0;
+        for (Deque<Entry> queue : queues.values()) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    Backpressure getBackpressure() {
+        return Backpressure.forQueueSize(getQueueSize(TransactionLane.EVENT));
+    }
+
+    /**
+     * Wait until all queued transactions have been executed.
+     *
+     * @param timeoutMs Maximum time to wait.
+     * @return true if all transactions were executed, false if time ran out.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    synchronized boolean awaitIdle(long timeoutMs) throws InterruptedException {
+        long waitUntil = System.currentTimeMillis() + timeoutMs;
+        while (getQueueSize() > 0 || getRunningCount() > 0) {
+            long waitMs = waitUntil - System.currentTimeMillis();
+            if (waitMs <= 0 || executor == null) return false;
+            wait(waitMs);
+        }
+        return true;
+    }
+
+    /**
+     * Stop starting new transactions, queued transactions are kept until an executor is given again.
+     *
+     * @param notStarted Tasks that the executor did not start, they are queued again.
+     * @return Number of transactions left in the queue.
+     */
+    synchronized int pause(List<Runnable> notStarted) {
+        executor = null;
+        // Reverse order keeps the original order when adding to the front of the queues
+        for (int i = notStarted.size() - 1; i >= 0; i--) {
+            Runnable task = notStarted.get(i);
+            if (task instanceof StartedTask) {
+                requeue(((StartedTask) task).entry);
+            }
+        }
+        notifyAll();
+        return getQueueSize();
+    }
+
+    private class StartedTask implements Runnable {
+        private final Entry entry;
+
+        StartedTask(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void run() {
+            try {
+                entry.task.run();
+            } finally {
+                finished(entry);
+            }
+        }
+    }
+
+    private static class Entry {
+        private final TransactionLane lane;
+        private final Object partitionKey;
+        private final long sequence;
+        private final Runnable task;
+        private final long queuedAt;
+
+        Entry(TransactionLane lane, Object partitionKey, long sequence, Runnable task) {
+            this.lane = lane;
+            this.partitionKey = partitionKey;
+            this.sequence = sequence;
+            this.task = task;
+            queuedAt = System.currentTimeMillis();
+        }
+
+        boolean hasWaitedOver(long ms) {
+            return System.currentTimeMillis() - queuedAt > ms;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.storage.database.SQLDB;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Query that has its results cached by {@link SQLDB#query(Query)} until a table it reads is written to.
+ * <p>
+ * Concurrent executions of the same query are coalesced into one, so hot queries run once per change.
+ * The results are shared by all callers, so the wrapped query should return unmodifiable results.
+ *
+ * @author AuroraLS3
+ */
+public final class CacheableQuery<T> implements Query<T> {
+
+    private final List<?> key;
+    private final Collection<String> readTables;
+    private final Query<T> query;
+
+    private CacheableQuery(List<?> key, Collection<String> readTables, Query<T> query) {
+        this.key = key;
+        this.readTables = readTables;
+        this.query = query;
+    }
+
+    /**
+     * Allow caching the results of a query.
+     *
+     * @param key        Name of the query and its parameters, equal only for queries that return the same results.
+     * @param readTables Names of all tables the query reads.
+     * @param query      Query to execute when there is no valid cached result.
+     * @param <T>        Type of the results.
+     * @return Query that can be cached.
+     */
+    public static <T> CacheableQuery<T> of(List<?> key, Collection<String> readTables, Query<T> query) {
+        return new CacheableQuery<>(key, readTables, query);
+    }
+
+    @Override
+    public T executeQuery(SQLDB db) {
+        return query.executeQuery(db);
+    }
+
+    public List<?> getKey() {
+        return key;
+    }
+
+    public Collection<String> getReadTables() {
+        return readTables;
+    }
+
+    public Query<T> getQuery() {
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheableQuery " + key;
+    }
+}
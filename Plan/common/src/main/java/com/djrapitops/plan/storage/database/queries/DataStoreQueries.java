@@ -18,8 +18,8 @@ package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.gathering.domain.*;
-import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
@@ -29,7 +29,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.UUID;
+import java.util.*;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.AND;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
@@ -46,60 +46,104 @@ public class DataStoreQueries {
     }
 
     /**
-     * Store a finished session in the database.
+     * Store a finished session in the database using already resolved ids.
+     * <p>
+     * Binds the ids directly instead of selecting them by UUID for every row.
+     * Null ids are stored as NULL, the same way as a subselect that finds no row.
      *
-     * @param session a finished session
+     * @param session       a finished session
+     * @param userId        Id of the player in plan_users, null if not registered.
+     * @param serverId      Id of the server in plan_servers, null if not registered.
+     * @param joinAddressId Id of the join address in plan_join_address, null if not stored.
+     * @param worldIds      Ids of the worlds of the session by world name.
+     * @param dbType        Type of the database, for adding to the active playtime of the day.
      * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
      */
-    public static Executable storeSession(FinishedSession session) {
+    public static Executable storeSession(FinishedSession session, Integer userId, Integer serverId, Integer joinAddressId, Map<String, Integer> worldIds, DBType dbType) {
         return connection -> {
-            storeSessionInformation(session).execute(connection);
-            storeSessionKills(session).execute(connection);
-            return storeSessionWorldTimes(session).execute(connection);
+            int sessionId = storeSessionInformation(session, userId, serverId, joinAddressId).executeReturningId(connection);
+            new ExecBatchStatement(KillsTable.INSERT_WITH_SESSION_ID_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    KillsTable.addSessionKillsToBatch(statement, session, sessionId);
+                }
+            }.execute(connection);
+            storeActivePlaytime(session, userId, serverId, dbType).execute(connection);
+            return new ExecBatchStatement(WorldTimesTable.INSERT_WITH_IDS_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    WorldTimesTable.addSessionWorldTimesToBatch(statement, session, GMTimes.getGMKeyArray(), sessionId, userId, serverId, worldIds);
+                }
+            }.execute(connection);
         };
     }
 
-    private static Executable storeSessionInformation(FinishedSession session) {
-        return new ExecStatement(SessionsTable.INSERT_STATEMENT) {
+    private static ExecStatement storeSessionInformation(FinishedSession session, Integer userId, Integer serverId, Integer joinAddressId) {
+        return new ExecStatement(SessionsTable.INSERT_WITH_IDS_STATEMENT) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, session.getPlayerUUID().toString());
+                Sql.setIntOrNull(statement, 1, userId);
                 statement.setLong(2, session.getStart());
                 statement.setLong(3, session.getEnd());
                 statement.setInt(4, session.getDeathCount());
                 statement.setInt(5, session.getMobKillCount());
                 statement.setLong(6, session.getAfkTime());
-                statement.setString(7, session.getServerUUID().toString());
-                statement.setString(8, session.getExtraData(JoinAddress.class)
-                        .map(JoinAddress::getAddress).orElse(JoinAddressTable.DEFAULT_VALUE_FOR_LOOKUP));
+                Sql.setIntOrNull(statement, 7, serverId);
+                Sql.setIntOrNull(statement, 8, joinAddressId);
             }
         };
     }
 
-    private static Executable storeSessionKills(FinishedSession session) {
-        return new ExecBatchStatement(KillsTable.INSERT_STATEMENT) {
+    private static Executable storeActivePlaytime(FinishedSession session, Integer userId, Integer serverId, DBType dbType) {
+        long dayStart = ActivePlaytimeTable.getDayStart(session.getStart());
+        long activePlaytime = session.getEnd() - session.getStart() - session.getAfkTime();
+        return new ExecStatement(ActivePlaytimeTable.upsertWithIdsStatement(dbType)) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                KillsTable.addSessionKillsToBatch(statement, session);
+                Sql.setIntOrNull(statement, 1, userId);
+                Sql.setIntOrNull(statement, 2, serverId);
+                statement.setLong(3, dayStart);
+                statement.setLong(4, activePlaytime);
             }
         };
     }
 
-    public static Executable insertWorldName(ServerUUID serverUUID, String worldName) {
-        return new ExecStatement(WorldTable.INSERT_STATEMENT) {
+    /**
+     * Add active playtime of sessions to the per day totals in plan_active_playtime table.
+     *
+     * @param sessions Sessions that are being stored.
+     * @param dbType   Type of the database.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeActivePlaytime(Collection<FinishedSession> sessions, DBType dbType) {
+        Map<List<Object>, Long> activePlaytimePerDay = new HashMap<>();
+        for (FinishedSession session : sessions) {
+            List<Object> key = List.of(session.getPlayerUUID(), session.getServerUUID(), ActivePlaytimeTable.getDayStart(session.getStart()));
+            long activePlaytime = session.getEnd() - session.getStart() - session.getAfkTime();
+            activePlaytimePerDay.merge(key, activePlaytime, Long::sum);
+        }
+
+        return new ExecBatchStatement(ActivePlaytimeTable.upsertStatement(dbType)) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, StringUtils.truncate(worldName, 100));
-                statement.setString(2, serverUUID.toString());
+                for (Map.Entry<List<Object>, Long> entry : activePlaytimePerDay.entrySet()) {
+                    List<Object> key = entry.getKey();
+                    statement.setString(1, key.get(0).toString());
+                    statement.setString(2, key.get(1).toString());
+                    statement.setLong(3, (Long) key.get(2));
+                    statement.setLong(4, entry.getValue());
+                    statement.addBatch();
+                }
             }
         };
     }
 
-    private static Executable storeSessionWorldTimes(FinishedSession session) {
-        return new ExecBatchStatement(WorldTimesTable.INSERT_STATEMENT) {
+    public static Executable insertWorldName(ServerUUID serverUUID, String worldName) {
+        return new ExecStatement(WorldTable.INSERT_STATEMENT) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                WorldTimesTable.addSessionWorldTimesToBatch(statement, session, GMTimes.getGMKeyArray());
+                statement.setString(1, StringUtils.truncate(worldName, 100));
+                statement.setString(2, serverUUID.toString());
             }
         };
     }
@@ -120,6 +164,35 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Store player's Geo Information in the database using already resolved user id.
+     *
+     * @param userId  Id of the player in plan_users, null if not registered.
+     * @param geoInfo GeoInfo of the player.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeGeoInfo(Integer userId, GeoInfo geoInfo) {
+        return connection -> {
+            boolean updated = new ExecStatement(GeoInfoTable.UPDATE_WITH_USER_ID_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setLong(1, geoInfo.getDate());
+                    Sql.setIntOrNull(statement, 2, userId);
+                    statement.setString(3, geoInfo.getGeolocation());
+                }
+            }.execute(connection);
+            if (updated) return false;
+            return new ExecStatement(GeoInfoTable.INSERT_WITH_USER_ID_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    Sql.setIntOrNull(statement, 1, userId);
+                    statement.setString(2, geoInfo.getGeolocation());
+                    statement.setLong(3, geoInfo.getDate());
+                }
+            }.execute(connection);
+        };
+    }
+
     private static Executable updateGeoInfo(UUID playerUUID, GeoInfo geoInfo) {
         return new ExecStatement(GeoInfoTable.UPDATE_STATEMENT) {
             @Override
@@ -238,6 +311,28 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Store Ping data of a player on a server using already resolved ids.
+     *
+     * @param userId   Id of the player in plan_users, null if not registered.
+     * @param serverId Id of the server in plan_servers, null if not registered.
+     * @param ping     Ping data entry
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storePing(Integer userId, Integer serverId, Ping ping) {
+        return new ExecStatement(PingTable.INSERT_WITH_IDS_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                Sql.setIntOrNull(statement, 1, userId);
+                Sql.setIntOrNull(statement, 2, serverId);
+                statement.setLong(3, ping.getDate());
+                statement.setInt(4, ping.getMin());
+                statement.setInt(5, ping.getMax());
+                statement.setDouble(6, ping.getAverage());
+            }
+        };
+    }
+
     /**
      * Store TPS data of a server.
      *
@@ -264,6 +359,37 @@ public class DataStoreQueries {
         };
     }
 
+    /**
+     * Store TPS data of a server using already resolved server id.
+     *
+     * @param serverId Id of the server in plan_servers, null if not registered.
+     * @param tpsList  TPS data entries
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable storeTPS(Integer serverId, Collection<TPS> tpsList) {
+        if (tpsList.isEmpty()) return Executable.empty();
+
+        return new ExecBatchStatement(TPSTable.INSERT_WITH_SERVER_ID_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (TPS tps : tpsList) {
+                    Sql.setIntOrNull(statement, 1, serverId);
+                    statement.setLong(2, tps.getDate());
+                    statement.setDouble(3, tps.getTicksPerSecond());
+                    statement.setInt(4, tps.getPlayers());
+                    statement.setDouble(5, tps.getCPUUsage());
+                    statement.setLong(6, tps.getUsedMemory());
+                    statement.setDouble(7, tps.getEntityCount());
+                    statement.setDouble(8, tps.getChunksLoaded());
+                    statement.setLong(9, tps.getFreeDiskSpace());
+                    Sql.setDoubleOrNull(statement, 10, tps.getMsptAverage());
+                    Sql.setDoubleOrNull(statement, 11, tps.getMspt95thPercentile());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
     /**
      * Store nickname information of a player on a server.
      *
@@ -25,6 +25,7 @@ import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -41,6 +42,19 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class LargeFetchQueries {
 
+    private static final String SELECT_TPS_DATA = SELECT +
+            TPSTable.DATE + ',' +
+            TPSTable.TPS + ',' +
+            TPSTable.PLAYERS_ONLINE + ',' +
+            TPSTable.CPU_USAGE + ',' +
+            TPSTable.RAM_USAGE + ',' +
+            TPSTable.ENTITIES + ',' +
+            TPSTable.CHUNKS + ',' +
+            TPSTable.FREE_DISK + ',' +
+            ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid" +
+            FROM + TPSTable.TABLE_NAME +
+            INNER_JOIN + ServerTable.TABLE_NAME + " on " + ServerTable.TABLE_NAME + '.' + ServerTable.ID + "=" + TPSTable.SERVER_ID;
+
     private LargeFetchQueries() {
         /* Static method class */
     }
@@ -51,44 +65,78 @@ public class LargeFetchQueries {
      * @return Map: Server UUID - List of TPS data
      */
     public static Query<Map<ServerUUID, List<TPS>>> fetchAllTPSData() {
-        String serverIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.ID;
-        String serverUUIDColumn = ServerTable.TABLE_NAME + '.' + ServerTable.SERVER_UUID + " as s_uuid";
-        String sql = SELECT +
-                TPSTable.DATE + ',' +
-                TPSTable.TPS + ',' +
-                TPSTable.PLAYERS_ONLINE + ',' +
-                TPSTable.CPU_USAGE + ',' +
-                TPSTable.RAM_USAGE + ',' +
-                TPSTable.ENTITIES + ',' +
-                TPSTable.CHUNKS + ',' +
-                TPSTable.FREE_DISK + ',' +
-                serverUUIDColumn +
-                FROM + TPSTable.TABLE_NAME +
-                INNER_JOIN + ServerTable.TABLE_NAME + " on " + serverIDColumn + "=" + TPSTable.SERVER_ID;
-
-        return new QueryAllStatement<>(sql, 50000) {
+        return new QueryAllStatement<>(SELECT_TPS_DATA, 50000) {
             @Override
             public Map<ServerUUID, List<TPS>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, List<TPS>> serverMap = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString("s_uuid"));
-
-                    List<TPS> tpsList = serverMap.computeIfAbsent(serverUUID, Lists::create);
-
-                    TPS tps = TPSBuilder.get()
-                            .date(set.getLong(TPSTable.DATE))
-                            .tps(set.getDouble(TPSTable.TPS))
-                            .playersOnline(set.getInt(TPSTable.PLAYERS_ONLINE))
-                            .usedCPU(set.getDouble(TPSTable.CPU_USAGE))
-                            .usedMemory(set.getLong(TPSTable.RAM_USAGE))
-                            .entities(set.getInt(TPSTable.ENTITIES))
-                            .chunksLoaded(set.getInt(TPSTable.CHUNKS))
-                            .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
-                            .toTPS();
-
-                    tpsList.add(tps);
-                }
-                return serverMap;
+                return extractTPSData(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for TPS data in a range of row ids.
+     * <p>
+     * Used for copying the table a chunk at a time, see {@link #fetchMaxId(String)}.
+     *
+     * @param afterId Row id after which to fetch (exclusive).
+     * @param untilId Row id until which to fetch (inclusive).
+     * @return Map: Server UUID - List of TPS data
+     */
+    public static Query<Map<ServerUUID, List<TPS>>> fetchTPSDataInIdRange(int afterId, int untilId) {
+        String sql = SELECT_TPS_DATA +
+                WHERE + TPSTable.TABLE_NAME + '.' + TPSTable.ID + ">?" +
+                AND + TPSTable.TABLE_NAME + '.' + TPSTable.ID + "<=?";
+
+        return new QueryStatement<>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, untilId);
+            }
+
+            @Override
+            public Map<ServerUUID, List<TPS>> processResults(ResultSet set) throws SQLException {
+                return extractTPSData(set);
+            }
+        };
+    }
+
+    private static Map<ServerUUID, List<TPS>> extractTPSData(ResultSet set) throws SQLException {
+        Map<ServerUUID, List<TPS>> serverMap = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString("s_uuid"));
+
+            List<TPS> tpsList = serverMap.computeIfAbsent(serverUUID, Lists::create);
+
+            TPS tps = TPSBuilder.get()
+                    .date(set.getLong(TPSTable.DATE))
+                    .tps(set.getDouble(TPSTable.TPS))
+                    .playersOnline(set.getInt(TPSTable.PLAYERS_ONLINE))
+                    .usedCPU(set.getDouble(TPSTable.CPU_USAGE))
+                    .usedMemory(set.getLong(TPSTable.RAM_USAGE))
+                    .entities(set.getInt(TPSTable.ENTITIES))
+                    .chunksLoaded(set.getInt(TPSTable.CHUNKS))
+                    .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
+                    .toTPS();
+
+            tpsList.add(tps);
+        }
+        return serverMap;
+    }
+
+    /**
+     * Query database for the largest row id of a table.
+     *
+     * @param tableName Name of a table with an {@code id} column.
+     * @return Largest id in the table, or 0 if the table is empty.
+     */
+    public static Query<Integer> fetchMaxId(String tableName) {
+        String sql = SELECT + "MAX(id) as max_id" + FROM + tableName;
+
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("max_id") : 0;
             }
         };
     }
@@ -24,6 +24,7 @@ import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.queries.objects.JoinAddressQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
@@ -302,12 +303,13 @@ public class LargeStoreQueries {
         };
     }
 
-    public static Executable storeAllSessionsWithKillAndWorldData(Collection<FinishedSession> sessions) {
+    public static Executable storeAllSessionsWithKillAndWorldData(Collection<FinishedSession> sessions, DBType dbType) {
         return connection -> {
             Set<World> existingWorlds = WorldTimesQueries.fetchWorlds().executeWithConnection(connection);
             tryStoreAllJoinAddresses(sessions, connection, 0);
             storeAllWorldNames(sessions, existingWorlds).execute(connection);
             storeAllSessionsWithoutKillOrWorldData(sessions).execute(connection);
+            DataStoreQueries.storeActivePlaytime(sessions, dbType).execute(connection);
             storeSessionKillData(sessions).execute(connection);
             return storeSessionWorldTimeData(sessions).execute(connection);
         };
@@ -18,12 +18,17 @@ package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.utilities.metrics.Metric;
+import com.djrapitops.plan.utilities.metrics.SlowQueryLog;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * SQL query that closes proper elements.
@@ -32,6 +37,17 @@ import java.util.Objects;
  */
 public abstract class QueryStatement<T> implements Query<T> {
 
+    /**
+     * Fetch size for queries that read their result set from the cursor one row at a time.
+     * <p>
+     * MySQL Connector/J ignores positive fetch sizes unless cursor fetch is enabled and reads the whole result set
+     * into memory, so {@link Integer#MIN_VALUE} is given to MySQL and MariaDB drivers to stream the rows instead.
+     * The connection can not be used for other statements until the rows have been read.
+     */
+    public static final int STREAMING = Integer.MIN_VALUE;
+    // Rows fetched at a time when streaming from drivers that respect the fetch size.
+    private static final int STREAMING_FETCH_SIZE = 500;
+
     private final String sql;
     private final int fetchSize;
 
@@ -48,12 +64,14 @@ public abstract class QueryStatement<T> implements Query<T> {
     public T executeQuery(SQLDB db) {
         Connection connection = null;
         try {
-            connection = db.getConnection();
+            long start = System.nanoTime();
+            connection = db.getQueryConnection();
+            Metric.CONNECTION_ACQUIRE.record(db.getType().getName(), System.nanoTime() - start);
             return executeWithConnection(connection);
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
         } finally {
-            db.returnToPool(connection);
+            db.returnQueryConnectionToPool(connection);
         }
     }
 
@@ -67,7 +85,10 @@ public abstract class QueryStatement<T> implements Query<T> {
 
     public T executeQuery(PreparedStatement statement) throws SQLException {
         try (statement) {
-            statement.setFetchSize(fetchSize);
+            statement.setFetchSize(fetchSize != STREAMING ? fetchSize : getStreamingFetchSize(statement.getConnection()));
+            if (SlowQueryLog.isEnabled()) {
+                return executeQueryLoggingSlow(statement);
+            }
             prepare(statement);
             try (ResultSet set = statement.executeQuery()) {
                 return processResults(set);
@@ -75,6 +96,23 @@ public abstract class QueryStatement<T> implements Query<T> {
         }
     }
 
+    private static int getStreamingFetchSize(Connection connection) throws SQLException {
+        String databaseName = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        boolean mySQL = databaseName.contains("mysql") || databaseName.contains("mariadb");
+        return mySQL ? Integer.MIN_VALUE : STREAMING_FETCH_SIZE;
+    }
+
+    private T executeQueryLoggingSlow(PreparedStatement statement) throws SQLException {
+        long start = System.nanoTime();
+        Map<Integer, Object> parameters = new TreeMap<>();
+        prepare(SlowQueryLog.recordingParameters(statement, parameters));
+        try (ResultSet set = statement.executeQuery()) {
+            return processResults(set);
+        } finally {
+            SlowQueryLog.logIfSlow(sql, parameters, System.nanoTime() - start);
+        }
+    }
+
     public abstract void prepare(PreparedStatement statement) throws SQLException;
 
     public abstract T processResults(ResultSet set) throws SQLException;
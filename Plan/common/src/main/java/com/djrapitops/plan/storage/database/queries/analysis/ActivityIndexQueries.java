@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
@@ -120,6 +121,63 @@ public class ActivityIndexQueries {
         statement.setLong(index + 10, date - TimeUnit.DAYS.toMillis(14L));
     }
 
+    /**
+     * Select activity index of players using the per day totals in plan_active_playtime table.
+     * <p>
+     * Weeks are counted in whole days, so the result is close to, but not exactly the same as {@link #selectActivityIndexSQL()}.
+     * Cheaper to calculate for many dates, which is why this is used for activity graphs.
+     *
+     * @return SQL with 13 parameters, see {@link #setSelectActivityIndexFromActivePlaytimeSQLParameters(PreparedStatement, int, long, ServerUUID, long)}
+     */
+    public static String selectActivityIndexFromActivePlaytimeSQL() {
+        return selectActivityIndexFromActivePlaytimeSQL(AND + ActivePlaytimeTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID);
+    }
+
+    static String selectActivityIndexFromActivePlaytimeSQL(String serverRestriction) {
+        String selectWeeklyPlaytime = SELECT + ActivePlaytimeTable.USER_ID + ',' +
+                "SUM(CASE WHEN " + ActivePlaytimeTable.DAY_START + ">? THEN " + ActivePlaytimeTable.ACTIVE_PLAYTIME + " ELSE 0 END) as week_1," +
+                "SUM(CASE WHEN " + ActivePlaytimeTable.DAY_START + "<=?" + AND + ActivePlaytimeTable.DAY_START + ">? THEN " + ActivePlaytimeTable.ACTIVE_PLAYTIME + " ELSE 0 END) as week_2," +
+                "SUM(CASE WHEN " + ActivePlaytimeTable.DAY_START + "<=? THEN " + ActivePlaytimeTable.ACTIVE_PLAYTIME + " ELSE 0 END) as week_3" +
+                FROM + ActivePlaytimeTable.TABLE_NAME +
+                WHERE + ActivePlaytimeTable.DAY_START + ">?" +
+                AND + ActivePlaytimeTable.DAY_START + "<=?" +
+                serverRestriction +
+                GROUP_BY + ActivePlaytimeTable.USER_ID;
+
+        String weekActivity = "1.0 / (?/2.0 * (ax_w.%s*1.0/?) +1.0)";
+        return SELECT +
+                "5.0 - 5.0 * (" + String.format(weekActivity, "week_1") + '+' +
+                String.format(weekActivity, "week_2") + '+' +
+                String.format(weekActivity, "week_3") + ") / 3.0 as activity_index," +
+                "ax_u." + UsersTable.ID + " as user_id," +
+                "ax_u." + UsersTable.USER_UUID +
+                FROM + '(' + selectWeeklyPlaytime + ") ax_w" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " ax_u on ax_u." + UsersTable.ID + "=ax_w." + ActivePlaytimeTable.USER_ID;
+    }
+
+    public static void setSelectActivityIndexFromActivePlaytimeSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, ServerUUID serverUUID, long date) throws SQLException {
+        setSelectActivityIndexFromActivePlaytimeSQLParameters(statement, index, playtimeThreshold, date);
+        statement.setString(index + 12, serverUUID.toString());
+    }
+
+    public static void setSelectActivityIndexFromActivePlaytimeSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, long date) throws SQLException {
+        long dayStart = ActivePlaytimeTable.getDayStart(date);
+        long weekAgo = dayStart - TimeUnit.DAYS.toMillis(7L);
+        long twoWeeksAgo = dayStart - TimeUnit.DAYS.toMillis(14L);
+        long threeWeeksAgo = dayStart - TimeUnit.DAYS.toMillis(21L);
+
+        for (int week = 0; week < 3; week++) {
+            statement.setDouble(index + week * 2, Math.PI);
+            statement.setLong(index + week * 2 + 1, playtimeThreshold);
+        }
+        statement.setLong(index + 6, weekAgo);
+        statement.setLong(index + 7, weekAgo);
+        statement.setLong(index + 8, twoWeeksAgo);
+        statement.setLong(index + 9, twoWeeksAgo);
+        statement.setLong(index + 10, threeWeeksAgo);
+        statement.setLong(index + 11, dayStart);
+    }
+
     public static Query<Integer> fetchActivityGroupCount(long date, ServerUUID serverUUID, long playtimeThreshold, double above, double below) {
         String selectActivityIndex = selectActivityIndexSQL();
 
@@ -152,7 +210,7 @@ public class ActivityIndexQueries {
     }
 
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, ServerUUID serverUUID, long threshold) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectActivityIndexFromActivePlaytimeSQL();
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UserInfoTable.TABLE_NAME + " u" +
@@ -163,9 +221,9 @@ public class ActivityIndexQueries {
         return new QueryStatement<>(selectIndexes) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, serverUUID, date);
-                statement.setString(12, serverUUID.toString());
-                statement.setLong(13, date);
+                setSelectActivityIndexFromActivePlaytimeSQLParameters(statement, 1, threshold, serverUUID, date);
+                statement.setString(14, serverUUID.toString());
+                statement.setLong(15, date);
             }
 
             @Override
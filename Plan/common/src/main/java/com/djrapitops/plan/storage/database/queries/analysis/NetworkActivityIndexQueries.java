@@ -20,6 +20,8 @@ import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -110,6 +112,22 @@ public class NetworkActivityIndexQueries {
                 GROUP_BY + "ax_u." + UsersTable.ID + ",ax_u." + UsersTable.USER_UUID;
     }
 
+    /**
+     * Select activity index of players on the given servers using the per day totals in plan_active_playtime table.
+     *
+     * @param onServers Servers to take into account, empty for all servers.
+     * @return SQL with 12 parameters, see {@link ActivityIndexQueries#setSelectActivityIndexFromActivePlaytimeSQLParameters(PreparedStatement, int, long, long)}
+     * @see ActivityIndexQueries#selectActivityIndexFromActivePlaytimeSQL()
+     */
+    public static String selectActivityIndexFromActivePlaytimeSQL(Collection<ServerUUID> onServers) {
+        String selectServerIds = SELECT + ServerTable.ID +
+                FROM + ServerTable.TABLE_NAME +
+                WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(onServers, "','") + "')";
+        return ActivityIndexQueries.selectActivityIndexFromActivePlaytimeSQL(
+                onServers.isEmpty() ? "" : AND + ActivePlaytimeTable.SERVER_ID + " IN (" + selectServerIds + ")"
+        );
+    }
+
     public static void setSelectActivityIndexSQLParameters(PreparedStatement statement, int index, long playtimeThreshold, long date) throws SQLException {
         statement.setDouble(index, Math.PI);
         statement.setLong(index + 1, playtimeThreshold);
@@ -152,7 +170,7 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, long threshold) {
-        String selectActivityIndex = selectActivityIndexSQL();
+        String selectActivityIndex = selectActivityIndexFromActivePlaytimeSQL(Collections.emptyList());
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
@@ -162,8 +180,8 @@ public class NetworkActivityIndexQueries {
         return new QueryStatement<>(selectIndexes) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, date);
-                statement.setLong(9, date);
+                ActivityIndexQueries.setSelectActivityIndexFromActivePlaytimeSQLParameters(statement, 1, threshold, date);
+                statement.setLong(13, date);
             }
 
             @Override
@@ -180,20 +198,20 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, long threshold, Collection<Integer> userIds, List<ServerUUID> serverUUIDs) {
-        String selectActivityIndex = selectActivityIndexSQL(serverUUIDs);
+        String selectActivityIndex = selectActivityIndexFromActivePlaytimeSQL(serverUUIDs);
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
                 LEFT_JOIN + '(' + selectActivityIndex + ") s on s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "u." + UsersTable.REGISTERED + "<=?" +
                 AND + "u." + UsersTable.ID + " IN (" +
-                new TextStringBuilder().appendWithSeparators(userIds, ",").build() + ")";
+                UserIdSet.join(userIds, ",") + ")";
 
         return new QueryStatement<>(selectIndexes) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                setSelectActivityIndexSQLParameters(statement, 1, threshold, date);
-                statement.setLong(9, date);
+                ActivityIndexQueries.setSelectActivityIndexFromActivePlaytimeSQLParameters(statement, 1, threshold, date);
+                statement.setLong(13, date);
             }
 
             @Override
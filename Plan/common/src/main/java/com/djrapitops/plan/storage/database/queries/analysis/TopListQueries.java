@@ -24,7 +24,11 @@ import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import org.intellij.lang.annotations.Language;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -88,15 +92,78 @@ public class TopListQueries {
                 serverUUID, after, before, n);
     }
 
+    public static Query<List<TopListEntry<Long>>> fetchTopPlaytimePlayers(ServerUUID serverUUID, long after, long before, int limit) {
+        return fetchTopSessionSums("SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ')', serverUUID, after, before, limit);
+    }
+
+    public static Query<List<TopListEntry<Long>>> fetchTopActivePlaytimePlayers(ServerUUID serverUUID, long after, long before, int limit) {
+        return fetchTopSessionSums("SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ')', serverUUID, after, before, limit);
+    }
+
+    private static Query<List<TopListEntry<Long>>> fetchTopSessionSums(String sum, ServerUUID serverUUID, long after, long before, int limit) {
+        @Language("SQL")
+        String sql = SELECT + "u." + UsersTable.USER_UUID + ",u." + UsersTable.USER_NAME + ", " +
+                sum + " as top_value" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+                WHERE + "(? IS NULL OR " + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID + ')' +
+                AND + SessionsTable.SESSION_START + ">?" +
+                AND + SessionsTable.SESSION_END + "<?" +
+                GROUP_BY + "u." + UsersTable.USER_UUID + ",u." + UsersTable.USER_NAME +
+                ORDER_BY + "top_value DESC" +
+                LIMIT + "?";
+
+        return db -> db.queryList(sql, TopListQueries::extractEntryWithUUID, serverUUID, serverUUID, after, before, limit);
+    }
+
+    /**
+     * Fetch players with the most player kills.
+     *
+     * @param serverUUID Server to count the kills on, null for whole network.
+     * @param after      Kills after this epoch ms are counted.
+     * @param before     Kills before this epoch ms are counted.
+     * @param limit      How many players to fetch.
+     * @return Players in descending order of kills.
+     */
+    public static Query<List<TopListEntry<Long>>> fetchTopPlayerKillCounts(ServerUUID serverUUID, long after, long before, int limit) {
+        @Language("SQL")
+        String sql = SELECT + "u." + UsersTable.USER_UUID + ",u." + UsersTable.USER_NAME + ", " +
+                "COUNT(1) as top_value" +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=k." + KillsTable.KILLER_UUID +
+                WHERE + "(? IS NULL OR " + KillsTable.SERVER_UUID + "=?)" +
+                AND + KillsTable.DATE + ">?" +
+                AND + KillsTable.DATE + "<?" +
+                GROUP_BY + "u." + UsersTable.USER_UUID + ",u." + UsersTable.USER_NAME +
+                ORDER_BY + "top_value DESC" +
+                LIMIT + "?";
+
+        return db -> db.queryList(sql, TopListQueries::extractEntryWithUUID, serverUUID, serverUUID, after, before, limit);
+    }
+
+    private static TopListEntry<Long> extractEntryWithUUID(ResultSet set) throws SQLException {
+        return new TopListEntry<>(UUID.fromString(set.getString(UsersTable.USER_UUID)), set.getString(UsersTable.USER_NAME), set.getLong("top_value"));
+    }
+
     public static class TopListEntry<T> {
+        private final UUID playerUUID; // null if not fetched
         private final String playerName;
         private final T value;
 
         public TopListEntry(String playerName, T value) {
+            this(null, playerName, value);
+        }
+
+        public TopListEntry(UUID playerUUID, String playerName, T value) {
+            this.playerUUID = playerUUID;
             this.playerName = playerName;
             this.value = value;
         }
 
+        public UUID getPlayerUUID() {
+            return playerUUID;
+        }
+
         public String getPlayerName() {
             return playerName;
         }
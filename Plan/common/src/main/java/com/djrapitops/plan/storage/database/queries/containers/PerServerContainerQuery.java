@@ -16,14 +16,12 @@
  */
 package com.djrapitops.plan.storage.database.queries.containers;
 
-import com.djrapitops.plan.delivery.domain.container.DataContainer;
 import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
-import com.djrapitops.plan.delivery.domain.container.SupplierDataContainer;
 import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.PerServerKeys;
-import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.delivery.domain.mutators.PerServerMutator;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.UserInfo;
-import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.PerServerAggregateQueries;
@@ -32,7 +30,6 @@ import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -61,21 +58,17 @@ public class PerServerContainerQuery implements Query<PerServerContainer> {
         totalDeathCount(db, perServerContainer);
         worldTimes(db, perServerContainer);
 
-        Map<ServerUUID, List<FinishedSession>> sessions = db.query(SessionQueries.fetchSessionsOfPlayer(playerUUID));
-        for (Map.Entry<ServerUUID, List<FinishedSession>> entry : sessions.entrySet()) {
+        // Sessions are reduced while they are read from the cursor, so the session history is not held in memory.
+        Map<ServerUUID, SessionsMutator.Summary> summaries = db.query(SessionQueries.fetchSessionsOfPlayer(
+                playerUUID, PerServerMutator.summarizingPerServer()
+        ));
+        for (Map.Entry<ServerUUID, SessionsMutator.Summary> entry : summaries.entrySet()) {
             ServerUUID serverUUID = entry.getKey();
-            List<FinishedSession> serverSessions = entry.getValue();
-            if (!serverSessions.isEmpty()) {
-                serverSessions.get(0).getExtraData().get(JoinAddress.class).map(JoinAddress::getAddress)
-                        .ifPresent(address ->
-                                perServerContainer.putToContainerOfServer(serverUUID, PerServerKeys.JOIN_ADDRESS, address)
-                        );
-            }
-
-            DataContainer serverContainer = perServerContainer.getOrDefault(serverUUID, new SupplierDataContainer());
-            serverContainer.putRawData(PerServerKeys.SESSIONS, serverSessions);
-
-            perServerContainer.put(serverUUID, serverContainer);
+            SessionsMutator.Summary summary = entry.getValue();
+            perServerContainer.putToContainerOfServer(serverUUID, PerServerKeys.SESSION_SUMMARY, summary);
+            summary.toLatestJoinAddress().ifPresent(address ->
+                    perServerContainer.putToContainerOfServer(serverUUID, PerServerKeys.JOIN_ADDRESS, address)
+            );
         }
 
         return perServerContainer;
@@ -35,6 +35,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Used to get a PlayerContainer of a specific player.
@@ -71,12 +72,19 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
         container.putSupplier(PlayerKeys.OPERATOR, () -> new PerServerMutator(container.getValue(PlayerKeys.PER_SERVER).orElse(new PerServerContainer())).isOperator());
 
         container.putCachingSupplier(PlayerKeys.SESSIONS, () -> {
-                    List<FinishedSession> sessions = new PerServerMutator(container.getValue(PlayerKeys.PER_SERVER).orElse(new PerServerContainer())).flatMapSessions();
+                    List<FinishedSession> sessions = db.query(SessionQueries.fetchSessionsOfPlayer(uuid, Collectors.toList()));
                     container.getValue(PlayerKeys.ACTIVE_SESSION).map(ActiveSession::toFinishedSessionFromStillActive)
                             .ifPresent(sessions::add);
                     return sessions;
                 }
         );
+        container.putCachingSupplier(PlayerKeys.SESSION_SUMMARY, () -> {
+                    SessionsMutator.Summary summary = PerServerMutator.forContainer(container).toSessionSummary();
+                    container.getValue(PlayerKeys.ACTIVE_SESSION).map(ActiveSession::toFinishedSessionFromStillActive)
+                            .ifPresent(summary::add);
+                    return summary;
+                }
+        );
         container.putCachingSupplier(PlayerKeys.WORLD_TIMES, () ->
         {
             WorldTimes worldTimes = db.query(WorldTimesQueries.fetchPlayerTotalWorldTimes(uuid));
@@ -89,13 +97,13 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
         container.putSupplier(PlayerKeys.LAST_SEEN, () -> {
             Optional<ActiveSession> activeSession = container.getValue(PlayerKeys.ACTIVE_SESSION);
             if (activeSession.isPresent()) return System.currentTimeMillis();
-            return SessionsMutator.forContainer(container).toLastSeen();
+            return container.getValue(PlayerKeys.SESSION_SUMMARY).map(SessionsMutator.Summary::toLastSeen).orElse(-1L);
         });
         container.putSupplier(PlayerKeys.PLAYER_KILLS, () -> db.query(KillQueries.fetchPlayerKillsOfPlayer(uuid)));
         container.putSupplier(PlayerKeys.PLAYER_DEATHS_KILLS, () -> db.query(KillQueries.fetchPlayerDeathsOfPlayer(uuid)));
         container.putSupplier(PlayerKeys.PLAYER_KILL_COUNT, () -> container.getValue(PlayerKeys.PLAYER_KILLS).map(Collection::size).orElse(0));
-        container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-        container.putSupplier(PlayerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+        container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> container.getValue(PlayerKeys.SESSION_SUMMARY).map(SessionsMutator.Summary::toMobKillCount).orElse(0));
+        container.putSupplier(PlayerKeys.DEATH_COUNT, () -> container.getValue(PlayerKeys.SESSION_SUMMARY).map(SessionsMutator.Summary::toDeathCount).orElse(0));
 
         SessionCache.getCachedSession(uuid).ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
         return container;
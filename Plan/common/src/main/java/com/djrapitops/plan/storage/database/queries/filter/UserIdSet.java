@@ -0,0 +1,236 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Set of user ids stored as a bitmap.
+ * <p>
+ * User ids are auto incremented, so even a set of millions of players fits in a few hundred kilobytes,
+ * while a {@link HashSet} of boxed integers would take hundreds of megabytes.
+ * <p>
+ * Implements {@link Set} so that it can be given to code that expects a collection of ids,
+ * but {@link #idStream()}, {@link #forEachId(IntConsumer)} and the set operations avoid boxing.
+ *
+ * @author AuroraLS3
+ */
+public class UserIdSet extends AbstractSet<Integer> {
+
+    private final BitSet bits;
+
+    public UserIdSet() {
+        this(new BitSet());
+    }
+
+    private UserIdSet(BitSet bits) {
+        this.bits = bits;
+    }
+
+    public static UserIdSet of(int... userIds) {
+        UserIdSet set = new UserIdSet();
+        for (int userId : userIds) {
+            set.addId(userId);
+        }
+        return set;
+    }
+
+    public static UserIdSet of(Collection<Integer> userIds) {
+        if (userIds instanceof UserIdSet) return ((UserIdSet) userIds).copy();
+        UserIdSet set = new UserIdSet();
+        for (Integer userId : userIds) {
+            set.addId(userId);
+        }
+        return set;
+    }
+
+    /**
+     * Join ids into a String, for example for an IN clause.
+     *
+     * @param userIds   User ids, {@link UserIdSet} is joined without boxing.
+     * @param separator Separator between the ids.
+     * @return ids separated with the separator, in ascending order for UserIdSet.
+     */
+    public static String join(Collection<Integer> userIds, String separator) {
+        StringBuilder builder = new StringBuilder();
+        if (userIds instanceof UserIdSet) {
+            ((UserIdSet) userIds).forEachId(userId -> {
+                if (builder.length() > 0) builder.append(separator);
+                builder.append(userId);
+            });
+        } else {
+            for (Integer userId : userIds) {
+                if (builder.length() > 0) builder.append(separator);
+                builder.append(userId);
+            }
+        }
+        return builder.toString();
+    }
+
+    public boolean addId(int userId) {
+        if (userId < 0) throw new IllegalArgumentException("User id can not be negative: " + userId);
+        if (bits.get(userId)) return false;
+        bits.set(userId);
+        return true;
+    }
+
+    public boolean containsId(int userId) {
+        return userId >= 0 && bits.get(userId);
+    }
+
+    /**
+     * Intersection of the sets.
+     *
+     * @param other Another set
+     * @return New set with ids that are in both sets.
+     */
+    public UserIdSet and(UserIdSet other) {
+        BitSet result = (BitSet) bits.clone();
+        result.and(other.bits);
+        return new UserIdSet(result);
+    }
+
+    /**
+     * Union of the sets.
+     *
+     * @param other Another set
+     * @return New set with ids that are in either set.
+     */
+    public UserIdSet or(UserIdSet other) {
+        BitSet result = (BitSet) bits.clone();
+        result.or(other.bits);
+        return new UserIdSet(result);
+    }
+
+    /**
+     * Difference of the sets.
+     *
+     * @param other Another set
+     * @return New set with ids of this set that are not in the other set.
+     */
+    public UserIdSet andNot(UserIdSet other) {
+        BitSet result = (BitSet) bits.clone();
+        result.andNot(other.bits);
+        return new UserIdSet(result);
+    }
+
+    public UserIdSet copy() {
+        return new UserIdSet((BitSet) bits.clone());
+    }
+
+    public IntStream idStream() {
+        return bits.stream();
+    }
+
+    public void forEachId(IntConsumer action) {
+        for (int userId = bits.nextSetBit(0); userId >= 0; userId = bits.nextSetBit(userId + 1)) {
+            action.accept(userId);
+        }
+    }
+
+    @Override
+    public boolean add(Integer userId) {
+        return addId(userId);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && containsId((Integer) o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) return false;
+        bits.clear((Integer) o);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (c instanceof UserIdSet) {
+            int sizeBefore = size();
+            bits.or(((UserIdSet) c).bits);
+            return sizeBefore != size();
+        }
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (c instanceof UserIdSet) {
+            int sizeBefore = size();
+            bits.and(((UserIdSet) c).bits);
+            return sizeBefore != size();
+        }
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (c instanceof UserIdSet) {
+            int sizeBefore = size();
+            bits.andNot(((UserIdSet) c).bits);
+            return sizeBefore != size();
+        }
+        return super.removeAll(c);
+    }
+
+    @Override
+    public void clear() {
+        bits.clear();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int next = bits.nextSetBit(0);
+            private int current = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (next < 0) throw new NoSuchElementException();
+                current = next;
+                next = bits.nextSetBit(next + 1);
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current < 0) throw new IllegalStateException();
+                bits.clear(current);
+                current = -1;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return bits.cardinality();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+}
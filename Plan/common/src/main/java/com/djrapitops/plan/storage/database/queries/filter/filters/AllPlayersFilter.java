@@ -19,12 +19,12 @@ package com.djrapitops.plan.storage.database.queries.filter.filters;
 import com.djrapitops.plan.delivery.domain.datatransfer.InputFilterDto;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.filter.Filter;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Set;
 
 /**
  * Special filter only used in cases where no filters are specified.
@@ -52,7 +52,7 @@ public class AllPlayersFilter implements Filter {
     }
 
     @Override
-    public Set<Integer> getMatchingUserIds(@Untrusted InputFilterDto query) {
+    public UserIdSet getMatchingUserIds(@Untrusted InputFilterDto query) {
         return dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllUserIds());
     }
 }
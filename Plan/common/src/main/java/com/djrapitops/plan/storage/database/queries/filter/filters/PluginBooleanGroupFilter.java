@@ -24,6 +24,7 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -90,12 +91,12 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
         };
     }
 
-    private static Query<Set<Integer>> playersInGroups(
+    private static Query<UserIdSet> playersInGroups(
             @Untrusted Map<PluginBooleanOption, SelectedBoolean> selected,
             Map<String, ServerUUID> namesToUUIDs
     ) {
         return db -> {
-            Set<Integer> userIds = new HashSet<>();
+            UserIdSet userIds = new UserIdSet();
             for (Map.Entry<PluginBooleanOption, SelectedBoolean> option : selected.entrySet()) {
                 @Untrusted PluginBooleanOption pluginBooleanOption = option.getKey();
                 SelectedBoolean selectedBoolean = option.getValue();
@@ -112,11 +113,11 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
         };
     }
 
-    private static Query<Set<Integer>> playersInGroup(
+    private static Query<UserIdSet> playersInGroup(
             @Nullable ServerUUID serverUUID, @Untrusted String pluginName, @Untrusted String providerText, SelectedBoolean selectedBoolean
     ) {
         if (serverUUID == null) {
-            return db -> Collections.emptySet();
+            return db -> new UserIdSet();
         }
 
         String selectUUIDsWithBooleanValues = SELECT + DISTINCT + "u." + UsersTable.ID + " as id" +
@@ -141,10 +142,10 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
             }
 
             @Override
-            public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> userIds = new HashSet<>();
+            public UserIdSet processResults(ResultSet set) throws SQLException {
+                UserIdSet userIds = new UserIdSet();
                 while (set.next()) {
-                    userIds.add(set.getInt("id"));
+                    userIds.addId(set.getInt("id"));
                 }
                 return userIds;
             }
@@ -176,7 +177,7 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
     }
 
     @Override
-    public Set<Integer> getMatchingUserIds(@Untrusted InputFilterDto query) {
+    public UserIdSet getMatchingUserIds(@Untrusted InputFilterDto query) {
         @Untrusted Map<PluginBooleanOption, SelectedBoolean> selectedBooleanOptions = new HashMap<>();
         for (@Untrusted String selected : getSelected(query)) {
             @Untrusted String[] optionAndBoolean = StringUtils.split(selected, ":", 2);
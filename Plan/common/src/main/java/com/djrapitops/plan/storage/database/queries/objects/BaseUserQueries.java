@@ -20,6 +20,7 @@ import com.djrapitops.plan.gathering.domain.BaseUser;
 import com.djrapitops.plan.gathering.domain.UserInfo;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.building.Select;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import org.apache.commons.text.TextStringBuilder;
@@ -54,6 +55,21 @@ public class BaseUserQueries {
         return db -> db.queryList(sql, BaseUserQueries::extractBaseUser);
     }
 
+    /**
+     * Query database for common user information in a range of row ids.
+     *
+     * @param afterId Row id after which to fetch (exclusive).
+     * @param untilId Row id until which to fetch (inclusive).
+     * @return Collection of BaseUsers
+     */
+    public static Query<Collection<BaseUser>> fetchBaseUsersInIdRange(int afterId, int untilId) {
+        String sql = Select.all(UsersTable.TABLE_NAME)
+                .where(UsersTable.ID + ">?")
+                .and(UsersTable.ID + "<=?").toString();
+
+        return db -> db.queryList(sql, BaseUserQueries::extractBaseUser, afterId, untilId);
+    }
+
     public static Query<Map<UUID, BaseUser>> fetchAllBaseUsersByUUID() {
         String sql = Select.all(UsersTable.TABLE_NAME).toString();
 
@@ -86,13 +102,13 @@ public class BaseUserQueries {
         return db -> db.queryOptional(sql, BaseUserQueries::extractBaseUser, playerUUID);
     }
 
-    public static Query<Set<Integer>> userIdsOfRegisteredBetween(long after, long before) {
+    public static Query<UserIdSet> userIdsOfRegisteredBetween(long after, long before) {
         String sql = SELECT + DISTINCT + UsersTable.ID +
                 FROM + UsersTable.TABLE_NAME +
                 WHERE + UsersTable.REGISTERED + ">=?" +
                 AND + UsersTable.REGISTERED + "<=?";
 
-        return db -> db.querySet(sql, RowExtractors.getInt(UsersTable.ID), after, before);
+        return db -> db.queryCollection(sql, RowExtractors.getInt(UsersTable.ID), UserIdSet::new, after, before);
     }
 
     public static Query<Optional<Long>> minimumRegisterDate() {
@@ -20,7 +20,9 @@ import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -28,8 +30,8 @@ import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Lists;
-import org.apache.commons.text.TextStringBuilder;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
@@ -44,6 +46,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class GeoInfoQueries {
 
+    private static final String SELECT_GEO_INFORMATION = SELECT +
+            GeoInfoTable.GEOLOCATION + ',' +
+            GeoInfoTable.LAST_USED + ',' +
+            UsersTable.USER_UUID +
+            FROM + GeoInfoTable.TABLE_NAME + " g" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on g.user_id=u.id";
+
     private GeoInfoQueries() {
         /* Static method class */
     }
@@ -54,14 +63,33 @@ public class GeoInfoQueries {
      * @return Map: Player UUID - List of GeoInfo
      */
     public static Query<Map<UUID, List<GeoInfo>>> fetchAllGeoInformation() {
-        String sql = SELECT +
-                GeoInfoTable.GEOLOCATION + ',' +
-                GeoInfoTable.LAST_USED + ',' +
-                UsersTable.USER_UUID +
-                FROM + GeoInfoTable.TABLE_NAME + " g" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on g.user_id=u.id";
+        return new QueryAllStatement<>(SELECT_GEO_INFORMATION, 10000) {
+            @Override
+            public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
+                return extractGeoInformation(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for GeoInfo in a range of row ids.
+     *
+     * @param afterId Row id after which to fetch (exclusive).
+     * @param untilId Row id until which to fetch (inclusive).
+     * @return Map: Player UUID - List of GeoInfo
+     */
+    public static Query<Map<UUID, List<GeoInfo>>> fetchGeoInformationInIdRange(int afterId, int untilId) {
+        String sql = SELECT_GEO_INFORMATION +
+                WHERE + "g." + GeoInfoTable.ID + ">?" +
+                AND + "g." + GeoInfoTable.ID + "<=?";
+
+        return new QueryStatement<>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, untilId);
+            }
 
-        return new QueryAllStatement<>(sql, 10000) {
             @Override
             public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
                 return extractGeoInformation(set);
@@ -138,7 +166,7 @@ public class GeoInfoQueries {
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on a." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
                 AND + "u." + UsersTable.ID + " IN (" +
-                new TextStringBuilder().appendWithSeparators(userIds, ",").build() + ")" +
+                UserIdSet.join(userIds, ",") + ")" +
                 GROUP_BY + "a." + GeoInfoTable.GEOLOCATION;
 
         return db -> db.queryMap(sql, GeoInfoQueries::extractGeolocationCounts);
@@ -169,12 +197,12 @@ public class GeoInfoQueries {
         return db -> db.queryList(sql, RowExtractors.getString(GeoInfoTable.GEOLOCATION));
     }
 
-    public static Query<Set<Integer>> userIdsOfPlayersWithGeolocations(@Untrusted List<String> selected) {
+    public static Query<UserIdSet> userIdsOfPlayersWithGeolocations(@Untrusted List<String> selected) {
         String sql = SELECT + "u." + UsersTable.ID +
                 FROM + GeoInfoTable.TABLE_NAME + " g" +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=g." + GeoInfoTable.USER_ID +
                 WHERE + "LOWER(" + GeoInfoTable.GEOLOCATION + ")" +
                 " IN (" + Sql.nParameters(selected.size()) + ")";
-        return db -> db.querySet(sql, RowExtractors.getInt(UsersTable.ID), selected.stream().map(String::toLowerCase).collect(Collectors.toList()));
+        return db -> db.queryCollection(sql, RowExtractors.getInt(UsersTable.ID), UserIdSet::new, selected.stream().map(String::toLowerCase).collect(Collectors.toList()));
     }
 }
\ No newline at end of file
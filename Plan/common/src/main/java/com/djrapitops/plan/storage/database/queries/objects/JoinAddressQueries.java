@@ -22,6 +22,7 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -187,7 +188,7 @@ public class JoinAddressQueries {
         };
     }
 
-    public static Query<Set<Integer>> userIdsOfPlayersWithJoinAddresses(@Untrusted List<String> joinAddresses) {
+    public static Query<UserIdSet> userIdsOfPlayersWithJoinAddresses(@Untrusted List<String> joinAddresses) {
         String sql = SELECT + DISTINCT + SessionsTable.USER_ID +
                 FROM + JoinAddressTable.TABLE_NAME + " j" +
                 INNER_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
@@ -195,7 +196,7 @@ public class JoinAddressQueries {
                 nParameters(joinAddresses.size()) +
                 ')'; // Don't append addresses directly, SQL injection hazard
 
-        return db -> db.querySet(sql, RowExtractors.getInt(SessionsTable.USER_ID), joinAddresses.toArray());
+        return db -> db.queryCollection(sql, RowExtractors.getInt(SessionsTable.USER_ID), UserIdSet::new, joinAddresses.toArray());
     }
 
     public static Query<List<DateObj<Map<String, Integer>>>> joinAddressesPerDay(ServerUUID serverUUID, long timezoneOffset, long after, long before, @Untrusted List<String> addressFilter) {
@@ -309,7 +310,17 @@ public class JoinAddressQueries {
 
     public static Query<Optional<Integer>> getIdOfJoinAddress(String correctedAddress) {
         String sql = SELECT + JoinAddressTable.ID + FROM + JoinAddressTable.TABLE_NAME + WHERE + JoinAddressTable.JOIN_ADDRESS + "=?";
-        return db -> db.queryOptional(sql,
-                results -> results.getInt(JoinAddressTable.ID), correctedAddress);
+        // Statement so that addresses inserted earlier in the same transaction are found.
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, correctedAddress);
+            }
+
+            @Override
+            public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                return set.next() ? Optional.of(set.getInt(JoinAddressTable.ID)) : Optional.empty();
+            }
+        };
     }
 }
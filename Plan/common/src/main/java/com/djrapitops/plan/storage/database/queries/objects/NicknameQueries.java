@@ -20,10 +20,12 @@ import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.NicknamesTable;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
@@ -37,6 +39,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class NicknameQueries {
 
+    private static final String SELECT_NICKNAME_DATA = SELECT +
+            NicknamesTable.NICKNAME + ',' +
+            NicknamesTable.LAST_USED + ',' +
+            NicknamesTable.USER_UUID + ',' +
+            NicknamesTable.SERVER_UUID +
+            FROM + NicknamesTable.TABLE_NAME;
+
     private NicknameQueries() {
         /* Static method class */
     }
@@ -47,35 +56,58 @@ public class NicknameQueries {
      * @return Multimap: Server UUID - (Player UUID - List of nicknames)
      */
     public static Query<Map<ServerUUID, Map<UUID, List<Nickname>>>> fetchAllNicknameData() {
-        String sql = SELECT +
-                NicknamesTable.NICKNAME + ',' +
-                NicknamesTable.LAST_USED + ',' +
-                NicknamesTable.USER_UUID + ',' +
-                NicknamesTable.SERVER_UUID +
-                FROM + NicknamesTable.TABLE_NAME;
+        return new QueryAllStatement<>(SELECT_NICKNAME_DATA, 5000) {
+            @Override
+            public Map<ServerUUID, Map<UUID, List<Nickname>>> processResults(ResultSet set) throws SQLException {
+                return extractNicknameData(set);
+            }
+        };
+    }
+
+    /**
+     * Query database for nickname data in a range of row ids.
+     *
+     * @param afterId Row id after which to fetch (exclusive).
+     * @param untilId Row id until which to fetch (inclusive).
+     * @return Multimap: Server UUID - (Player UUID - List of nicknames)
+     */
+    public static Query<Map<ServerUUID, Map<UUID, List<Nickname>>>> fetchNicknameDataInIdRange(int afterId, int untilId) {
+        String sql = SELECT_NICKNAME_DATA +
+                WHERE + NicknamesTable.ID + ">?" +
+                AND + NicknamesTable.ID + "<=?";
+
+        return new QueryStatement<>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, untilId);
+            }
 
-        return new QueryAllStatement<>(sql, 5000) {
             @Override
             public Map<ServerUUID, Map<UUID, List<Nickname>>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, Map<UUID, List<Nickname>>> map = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString(NicknamesTable.SERVER_UUID));
-                    UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
-
-                    Map<UUID, List<Nickname>> serverMap = map.computeIfAbsent(serverUUID, Maps::create);
-                    List<Nickname> nicknames = serverMap.computeIfAbsent(uuid, Lists::create);
-
-                    nicknames.add(new Nickname(
-                            set.getString(NicknamesTable.NICKNAME),
-                            set.getLong(NicknamesTable.LAST_USED),
-                            serverUUID
-                    ));
-                }
-                return map;
+                return extractNicknameData(set);
             }
         };
     }
 
+    private static Map<ServerUUID, Map<UUID, List<Nickname>>> extractNicknameData(ResultSet set) throws SQLException {
+        Map<ServerUUID, Map<UUID, List<Nickname>>> map = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString(NicknamesTable.SERVER_UUID));
+            UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
+
+            Map<UUID, List<Nickname>> serverMap = map.computeIfAbsent(serverUUID, Maps::create);
+            List<Nickname> nicknames = serverMap.computeIfAbsent(uuid, Lists::create);
+
+            nicknames.add(new Nickname(
+                    set.getString(NicknamesTable.NICKNAME),
+                    set.getLong(NicknamesTable.LAST_USED),
+                    serverUUID
+            ));
+        }
+        return map;
+    }
+
     public static Query<Optional<Nickname>> fetchLastSeenNicknameOfPlayer(UUID playerUUID, ServerUUID serverUUID) {
         String subQuery = SELECT + "MAX(" + NicknamesTable.LAST_USED + ") FROM " + NicknamesTable.TABLE_NAME +
                 WHERE + NicknamesTable.USER_UUID + "=?" +
@@ -0,0 +1,129 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.sql.tables.KillsTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for {@link PlayerSummary} objects.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerSummaryQueries {
+
+    private PlayerSummaryQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Load totals of a player without reading every session, kill and death of the player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param now        Current epoch ms, sessions that ended {@link PlayerSummary#RECENT_MS} before are loaded one by one.
+     * @return Summary of the player.
+     */
+    public static Query<PlayerSummary> fetchPlayerSummary(UUID playerUUID, long now) {
+        String selectPlayerKillCount = SELECT + "COUNT(1) as count" +
+                FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.KILLER_UUID + "=?";
+        String selectPlayerDeathCount = SELECT + "COUNT(1) as count" +
+                FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.VICTIM_UUID + "=?";
+
+        return db -> {
+            PlayerSummary summary = new PlayerSummary(playerUUID,
+                    db.queryOptional(selectPlayerKillCount, RowExtractors.getInt("count"), playerUUID).orElse(0),
+                    db.queryOptional(selectPlayerDeathCount, RowExtractors.getInt("count"), playerUUID).orElse(0)
+            );
+            db.query(addServerTotals(summary));
+            return db.query(addRecentSessions(summary, now - PlayerSummary.RECENT_MS));
+        };
+    }
+
+    private static Query<PlayerSummary> addServerTotals(PlayerSummary summary) {
+        String sql = SELECT + "se." + ServerTable.SERVER_UUID + ',' +
+                "COUNT(1) as session_count," +
+                "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + ") as playtime," +
+                "SUM(" + SessionsTable.AFK_TIME + ") as afk_time," +
+                "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
+                "SUM(" + SessionsTable.MOB_KILLS + ") as mob_kills," +
+                "SUM(" + SessionsTable.DEATHS + ") as deaths" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " se on se." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                GROUP_BY + "se." + ServerTable.SERVER_UUID;
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, summary.getPlayerUUID().toString());
+            }
+
+            @Override
+            public PlayerSummary processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    summary.addServerTotals(ServerUUID.fromString(set.getString(ServerTable.SERVER_UUID)),
+                            set.getInt("session_count"), set.getLong("playtime"), set.getLong("afk_time"),
+                            set.getLong("last_seen"), set.getInt("mob_kills"), set.getInt("deaths"));
+                }
+                return summary;
+            }
+        };
+    }
+
+    private static Query<PlayerSummary> addRecentSessions(PlayerSummary summary, long after) {
+        String sql = SELECT + "se." + ServerTable.SERVER_UUID + ',' +
+                "s." + SessionsTable.SESSION_START + ',' +
+                "s." + SessionsTable.SESSION_END + ',' +
+                "s." + SessionsTable.AFK_TIME +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " se on se." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                AND + "s." + SessionsTable.SESSION_END + ">=?";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, summary.getPlayerUUID().toString());
+                statement.setLong(2, after);
+            }
+
+            @Override
+            public PlayerSummary processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    summary.addRecentSession(ServerUUID.fromString(set.getString(ServerTable.SERVER_UUID)),
+                            set.getLong(SessionsTable.SESSION_START), set.getLong(SessionsTable.SESSION_END),
+                            set.getLong(SessionsTable.AFK_TIME));
+                }
+                return summary;
+            }
+        };
+    }
+}
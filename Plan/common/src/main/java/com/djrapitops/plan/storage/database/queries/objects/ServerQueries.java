@@ -18,6 +18,7 @@ package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.CacheableQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -68,13 +69,15 @@ public class ServerQueries {
 
     /**
      * Query database for all Plan server information.
+     * <p>
+     * Results are cached until plan_servers is written to, or for a few seconds on MySQL where other servers write too.
      *
-     * @return Map: Server UUID - Plan Server Information
+     * @return Unmodifiable Map: Server UUID - Plan Server Information
      */
     public static Query<Map<ServerUUID, Server>> fetchPlanServerInformation() {
         String sql = SELECT + '*' + FROM + ServerTable.TABLE_NAME + WHERE + ServerTable.INSTALLED + "=?";
 
-        return new QueryStatement<>(sql, 100) {
+        Query<Map<ServerUUID, Server>> query = new QueryStatement<>(sql, 100) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setBoolean(1, true);
@@ -93,9 +96,10 @@ public class ServerQueries {
                             set.getBoolean(ServerTable.PROXY),
                             set.getString(ServerTable.PLAN_VERSION)));
                 }
-                return servers;
+                return Collections.unmodifiableMap(servers);
             }
         };
+        return CacheableQuery.of(List.of(ServerQueries.class, "fetchPlanServerInformation"), List.of(ServerTable.TABLE_NAME), query);
     }
 
     public static Query<Collection<Server>> fetchPlanServerInformationCollection() {
@@ -135,11 +139,19 @@ public class ServerQueries {
         };
     }
 
+    /**
+     * Query database for installed proxy servers.
+     * <p>
+     * Results are cached until plan_servers is written to, or for a few seconds on MySQL where other servers write too.
+     *
+     * @return Unmodifiable List of proxy servers.
+     */
     public static Query<List<Server>> fetchProxyServers() {
         String sql = SELECT + '*' + FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.INSTALLED + "=?" +
                 AND + ServerTable.PROXY + "=?";
-        return db -> db.queryList(sql, ServerQueries::extractServer, true, true);
+        return CacheableQuery.of(List.of(ServerQueries.class, "fetchProxyServers"), List.of(ServerTable.TABLE_NAME),
+                db -> Collections.unmodifiableList(db.queryList(sql, ServerQueries::extractServer, true, true)));
     }
 
     public static Query<List<Server>> fetchAllServers() {
@@ -238,6 +250,28 @@ public class ServerQueries {
         };
     }
 
+    /**
+     * Query database for the id of a server, installed or not.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Optional id, empty if the server is not in plan_servers.
+     */
+    public static Query<Optional<Integer>> fetchServerId(ServerUUID serverUUID) {
+        String sql = SELECT + ServerTable.ID + FROM + ServerTable.TABLE_NAME +
+                WHERE + ServerTable.SERVER_UUID + "=?" + LIMIT + '1';
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                return set.next() ? Optional.of(set.getInt(ServerTable.ID)) : Optional.empty();
+            }
+        };
+    }
+
     public static Query<Integer> fetchServerCount() {
         String sql = SELECT + "COUNT(1) as c" + FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.INSTALLED + "=?";
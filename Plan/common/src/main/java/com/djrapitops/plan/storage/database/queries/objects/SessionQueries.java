@@ -28,6 +28,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
@@ -38,6 +39,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -91,6 +94,10 @@ public class SessionQueries {
             INNER_JOIN + WorldTable.TABLE_NAME + " ON " + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID + '=' + WorldTable.TABLE_NAME + '.' + WorldTable.ID;
 
     private static final String ORDER_BY_SESSION_START_DESC = ORDER_BY + SessionsTable.SESSION_START + " DESC";
+    // Keeps all rows of a session next to each other so that sessions can be read from the cursor one by one.
+    private static final String ORDER_BY_SESSION_CONTIGUOUS = ORDER_BY_SESSION_START_DESC +
+            ",s." + SessionsTable.USER_ID +
+            ",s." + SessionsTable.SERVER_ID;
 
     /**
      * Query the database for Session data with kill, death or world data.
@@ -132,6 +139,83 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for Session data of a player with kill and world data, reducing the sessions while they are read.
+     * <p>
+     * Sessions are read from the cursor one at a time, streaming the rows on MySQL (see {@link QueryStatement#STREAMING}),
+     * so the whole session history is not held in memory unless the collector does so.
+     * Sessions are given to the collector in order of session start, most recent first.
+     *
+     * @param playerUUID UUID of the Player.
+     * @param collector  Collector to reduce the sessions with, eg. {@link SessionsMutator#summarizing()}.
+     * @param <R>        Type of the result.
+     * @return Result of the collector.
+     */
+    public static <R> Query<R> fetchSessionsOfPlayer(UUID playerUUID, Collector<FinishedSession, ?, R> collector) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                ORDER_BY_SESSION_CONTIGUOUS;
+        return new QueryStatement<>(sql, QueryStatement.STREAMING) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public R processResults(ResultSet set) throws SQLException {
+                return collectSessionsFromCursor(set, collector);
+            }
+        };
+    }
+
+    /**
+     * Query the database for all Session data with kill, death or world data, reducing the sessions while they are read.
+     * <p>
+     * Sessions are given to the collector in order of session start, most recent first.
+     *
+     * @param collector Collector to reduce the sessions with.
+     * @param <R>       Type of the result.
+     * @return Result of the collector.
+     * @see #fetchSessionsOfPlayer(UUID, Collector)
+     */
+    public static <R> Query<R> fetchAllSessions(Collector<FinishedSession, ?, R> collector) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                ORDER_BY_SESSION_CONTIGUOUS;
+        return new QueryAllStatement<>(sql, QueryStatement.STREAMING) {
+            @Override
+            public R processResults(ResultSet set) throws SQLException {
+                return collectSessionsFromCursor(set, collector);
+            }
+        };
+    }
+
+    /**
+     * Query the database for Session data with kill and world data in a range of session ids.
+     * <p>
+     * All kill and world data of a session is included, since the range applies to the sessions table.
+     *
+     * @param afterId Session id after which to fetch (exclusive).
+     * @param untilId Session id until which to fetch (inclusive).
+     * @return List of sessions
+     */
+    public static Query<List<FinishedSession>> fetchSessionsInIdRange(int afterId, int untilId) {
+        String sql = SELECT_SESSIONS_STATEMENT +
+                WHERE + "s." + SessionsTable.ID + ">?" +
+                AND + "s." + SessionsTable.ID + "<=?";
+        return new QueryStatement<>(sql, 500) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, untilId);
+            }
+
+            @Override
+            public List<FinishedSession> processResults(ResultSet set) throws SQLException {
+                return extractDataFromSessionSelectStatement(set);
+            }
+        };
+    }
+
     private static List<FinishedSession> extractDataFromSessionSelectStatement(ResultSet set) throws SQLException {
         // Server UUID - Player UUID - Session Start - Session
         Map<ServerUUID, Map<UUID, SortedMap<Long, FinishedSession>>> byServer = new HashMap<>();
@@ -149,75 +233,11 @@ public class SessionQueries {
             SortedMap<Long, FinishedSession> playerSessions = serverSessions.computeIfAbsent(playerUUID, key -> new TreeMap<>(longRecentComparator));
 
             long sessionStart = set.getLong(SessionsTable.SESSION_START);
-            // id, uuid, serverUUID, sessionStart, sessionEnd, mobKills, deaths, afkTime
-            FinishedSession session = playerSessions.getOrDefault(sessionStart, new FinishedSession(
-                    playerUUID,
-                    serverUUID,
-                    sessionStart,
-                    set.getLong(SessionsTable.SESSION_END),
-                    set.getLong(SessionsTable.AFK_TIME),
-                    new DataMap()
-            ));
-
-            DataMap extraData = session.getExtraData();
-            extraData.put(FinishedSession.Id.class, new FinishedSession.Id(set.getInt(SessionsTable.ID)));
-            extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
-            extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
-            extraData.put(JoinAddress.class, new JoinAddress(set.getString("join_address")));
-
-            Optional<WorldTimes> existingWorldTimes = extraData.get(WorldTimes.class);
-            Optional<PlayerKills> existingPlayerKills = extraData.get(PlayerKills.class);
-
-            WorldTimes worldTimes = existingWorldTimes.orElseGet(WorldTimes::new);
-            String worldName = set.getString(WorldTable.NAME);
-
-            if (!worldTimes.contains(worldName)) {
-                Map<String, Long> gmMap = new HashMap<>();
-                gmMap.put(gms[0], set.getLong(WorldTimesTable.SURVIVAL));
-                gmMap.put(gms[1], set.getLong(WorldTimesTable.CREATIVE));
-                gmMap.put(gms[2], set.getLong(WorldTimesTable.ADVENTURE));
-                gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
-                GMTimes gmTimes = new GMTimes(gmMap);
-                worldTimes.setGMTimesForWorld(worldName, gmTimes);
-            }
-
-            if (existingWorldTimes.isEmpty()) extraData.put(WorldTimes.class, worldTimes);
-
-            ServerName serverName = new ServerName(
-                    Server.getIdentifiableName(
-                            set.getString("server_name"),
-                            set.getInt("server_id"),
-                            false
-                    ));
-            extraData.put(ServerName.class, serverName);
-
-            PlayerKills playerKills = existingPlayerKills.orElseGet(PlayerKills::new);
-
-            String victimName = set.getString("victim_name");
-            if (victimName != null) {
-                PlayerKill.Killer killer = new PlayerKill.Killer(
-                        UUID.fromString(set.getString(KillsTable.KILLER_UUID)),
-                        set.getString("killer_name")
-                );
-                PlayerKill.Victim victim = new PlayerKill.Victim(
-                        UUID.fromString(set.getString(KillsTable.VICTIM_UUID)),
-                        victimName,
-                        set.getLong("victim_" + UsersTable.REGISTERED)
-                );
-                ServerIdentifier serverIdentifier = new ServerIdentifier(serverUUID, serverName);
-                String weapon = set.getString(KillsTable.WEAPON);
-                long date = set.getLong(KillsTable.DATE);
-                PlayerKill newKill = new PlayerKill(killer, victim, serverIdentifier, weapon, date);
-
-                if (!playerKills.contains(newKill)) {
-                    playerKills.add(newKill);
-                }
+            FinishedSession session = playerSessions.get(sessionStart);
+            if (session == null) {
+                session = newSessionFromRow(set, playerUUID, serverUUID, sessionStart);
             }
-            if (existingPlayerKills.isEmpty()) extraData.put(PlayerKills.class, playerKills);
-
-            extraData.put(PlayerName.class, new PlayerName(set.getString("name")));
-
-            session.setAsFirstSessionIfMatches(set.getLong("registered"));
+            readSessionRow(set, session, gms);
 
             playerSessions.put(sessionStart, session);
         }
@@ -231,6 +251,117 @@ public class SessionQueries {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Read sessions from a result set ordered by {@link #ORDER_BY_SESSION_CONTIGUOUS} one at a time.
+     * <p>
+     * The rows of a session are next to each other, so each session is handed to the collector as soon as the
+     * cursor moves past it, and only one session is being assembled at a time.
+     *
+     * @param set       ResultSet of {@link #SELECT_SESSIONS_STATEMENT}
+     * @param collector Collector that reduces the sessions.
+     * @return Result of the collector.
+     * @throws SQLException If reading the result set fails.
+     */
+    private static <A, R> R collectSessionsFromCursor(ResultSet set, Collector<FinishedSession, A, R> collector) throws SQLException {
+        A container = collector.supplier().get();
+        BiConsumer<A, FinishedSession> accumulator = collector.accumulator();
+        String[] gms = GMTimes.getGMKeyArray();
+
+        FinishedSession current = null;
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
+            UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
+            long sessionStart = set.getLong(SessionsTable.SESSION_START);
+
+            boolean sameSession = current != null
+                    && current.getStart() == sessionStart
+                    && current.getPlayerUUID().equals(playerUUID)
+                    && current.getServerUUID().equals(serverUUID);
+            if (!sameSession) {
+                if (current != null) accumulator.accept(container, current);
+                current = newSessionFromRow(set, playerUUID, serverUUID, sessionStart);
+            }
+            readSessionRow(set, current, gms);
+        }
+        if (current != null) accumulator.accept(container, current);
+
+        return collector.finisher().apply(container);
+    }
+
+    private static FinishedSession newSessionFromRow(ResultSet set, UUID playerUUID, ServerUUID serverUUID, long sessionStart) throws SQLException {
+        // id, uuid, serverUUID, sessionStart, sessionEnd, mobKills, deaths, afkTime
+        return new FinishedSession(
+                playerUUID,
+                serverUUID,
+                sessionStart,
+                set.getLong(SessionsTable.SESSION_END),
+                set.getLong(SessionsTable.AFK_TIME),
+                new DataMap()
+        );
+    }
+
+    private static void readSessionRow(ResultSet set, FinishedSession session, String[] gms) throws SQLException {
+        DataMap extraData = session.getExtraData();
+        extraData.put(FinishedSession.Id.class, new FinishedSession.Id(set.getInt(SessionsTable.ID)));
+        extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
+        extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
+        extraData.put(JoinAddress.class, new JoinAddress(set.getString("join_address")));
+
+        Optional<WorldTimes> existingWorldTimes = extraData.get(WorldTimes.class);
+        Optional<PlayerKills> existingPlayerKills = extraData.get(PlayerKills.class);
+
+        WorldTimes worldTimes = existingWorldTimes.orElseGet(WorldTimes::new);
+        String worldName = set.getString(WorldTable.NAME);
+
+        if (!worldTimes.contains(worldName)) {
+            Map<String, Long> gmMap = new HashMap<>();
+            gmMap.put(gms[0], set.getLong(WorldTimesTable.SURVIVAL));
+            gmMap.put(gms[1], set.getLong(WorldTimesTable.CREATIVE));
+            gmMap.put(gms[2], set.getLong(WorldTimesTable.ADVENTURE));
+            gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
+            GMTimes gmTimes = new GMTimes(gmMap);
+            worldTimes.setGMTimesForWorld(worldName, gmTimes);
+        }
+
+        if (existingWorldTimes.isEmpty()) extraData.put(WorldTimes.class, worldTimes);
+
+        ServerName serverName = new ServerName(
+                Server.getIdentifiableName(
+                        set.getString("server_name"),
+                        set.getInt("server_id"),
+                        false
+                ));
+        extraData.put(ServerName.class, serverName);
+
+        PlayerKills playerKills = existingPlayerKills.orElseGet(PlayerKills::new);
+
+        String victimName = set.getString("victim_name");
+        if (victimName != null) {
+            PlayerKill.Killer killer = new PlayerKill.Killer(
+                    UUID.fromString(set.getString(KillsTable.KILLER_UUID)),
+                    set.getString("killer_name")
+            );
+            PlayerKill.Victim victim = new PlayerKill.Victim(
+                    UUID.fromString(set.getString(KillsTable.VICTIM_UUID)),
+                    victimName,
+                    set.getLong("victim_" + UsersTable.REGISTERED)
+            );
+            ServerIdentifier serverIdentifier = new ServerIdentifier(session.getServerUUID(), serverName);
+            String weapon = set.getString(KillsTable.WEAPON);
+            long date = set.getLong(KillsTable.DATE);
+            PlayerKill newKill = new PlayerKill(killer, victim, serverIdentifier, weapon, date);
+
+            if (!playerKills.contains(newKill)) {
+                playerKills.add(newKill);
+            }
+        }
+        if (existingPlayerKills.isEmpty()) extraData.put(PlayerKills.class, playerKills);
+
+        extraData.put(PlayerName.class, new PlayerName(set.getString("name")));
+
+        session.setAsFirstSessionIfMatches(set.getLong("registered"));
+    }
+
     public static Query<List<FinishedSession>> fetchServerSessionsWithoutKillOrWorldData(long after, long before, ServerUUID serverUUID) {
         String sql = SELECT +
                 SessionsTable.TABLE_NAME + '.' + SessionsTable.ID + ',' +
@@ -927,7 +1058,7 @@ public class SessionQueries {
                 .orElse(0L);
     }
 
-    public static Query<Set<Integer>> userIdsOfPlayedBetween(long after, long before, List<ServerUUID> serverUUIDs) {
+    public static Query<UserIdSet> userIdsOfPlayedBetween(long after, long before, List<ServerUUID> serverUUIDs) {
         String selectServerIds = SELECT + ServerTable.ID +
                 FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(serverUUIDs, "','") + "')";
@@ -946,18 +1077,14 @@ public class SessionQueries {
             }
 
             @Override
-            public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> userIds = new HashSet<>();
-                while (set.next()) {
-                    userIds.add(set.getInt(UsersTable.ID));
-                }
-                return userIds;
+            public UserIdSet processResults(ResultSet set) throws SQLException {
+                return UserInfoQueries.extractUserIds(set);
             }
         };
     }
 
     public static Query<Map<String, Long>> summaryOfPlayers(Set<Integer> userIds, List<ServerUUID> serverUUIDs, long after, long before) {
-        String uuidsInSet = " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ")";
+        String uuidsInSet = " IN (" + UserIdSet.join(userIds, ",") + ")";
         String selectServerIds = SELECT + ServerTable.ID +
                 FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(serverUUIDs, "','") + "')";
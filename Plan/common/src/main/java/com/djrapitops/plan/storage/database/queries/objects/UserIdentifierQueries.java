@@ -17,9 +17,11 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.building.Select;
 import com.djrapitops.plan.storage.database.sql.tables.NicknamesTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -205,24 +207,36 @@ public class UserIdentifierQueries {
         };
     }
 
-    public static Query<Set<Integer>> fetchAllUserIds() {
+    public static Query<UserIdSet> fetchAllUserIds() {
         String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.ID).toString();
 
         return new QueryAllStatement<>(sql, 2000) {
             @Override
-            public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> playerUUIDs = new HashSet<>();
-                while (set.next()) {
-                    playerUUIDs.add(set.getInt(UsersTable.ID));
-                }
-                return playerUUIDs;
+            public UserIdSet processResults(ResultSet set) throws SQLException {
+                return UserInfoQueries.extractUserIds(set);
             }
         };
     }
 
     public static Query<Optional<Integer>> fetchUserId(UUID playerUUID) {
         String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.ID).where(UsersTable.USER_UUID + "=?").toString();
+        return fetchUserId(sql, playerUUID);
+    }
+
+    /**
+     * Fetch user id of a player that another transaction might have registered after this transaction began.
+     *
+     * @param playerUUID UUID of the player.
+     * @param dbType     Type of the database, for the locking read clause.
+     * @return Query for the id, empty if the player is not registered.
+     */
+    public static Query<Optional<Integer>> fetchCommittedUserId(UUID playerUUID, DBType dbType) {
+        String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.ID).where(UsersTable.USER_UUID + "=?").toString()
+                + dbType.getSql().lockingRead();
+        return fetchUserId(sql, playerUUID);
+    }
 
+    private static Query<Optional<Integer>> fetchUserId(String sql, UUID playerUUID) {
         return new QueryStatement<>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
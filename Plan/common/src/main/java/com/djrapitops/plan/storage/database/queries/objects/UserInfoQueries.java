@@ -21,6 +21,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -41,6 +42,17 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class UserInfoQueries {
 
+    private static final String SELECT_USER_INFORMATION = SELECT +
+            "ux." + UserInfoTable.REGISTERED + ',' +
+            UserInfoTable.BANNED + ',' +
+            UserInfoTable.OP + ',' +
+            "u." + UsersTable.USER_UUID + ',' +
+            "s." + ServerTable.SERVER_UUID + " as server_uuid," +
+            UserInfoTable.JOIN_ADDRESS +
+            FROM + UserInfoTable.TABLE_NAME + " ux" +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + '=' + "ux." + UserInfoTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.ID + '=' + "ux." + UserInfoTable.SERVER_ID;
+
     private UserInfoQueries() {
         /* Static method class */
     }
@@ -53,39 +65,58 @@ public class UserInfoQueries {
      * @return Map: Server UUID - List of user information
      */
     public static Query<Map<ServerUUID, List<UserInfo>>> fetchAllUserInformation() {
-        String sql = SELECT +
-                "ux." + UserInfoTable.REGISTERED + ',' +
-                UserInfoTable.BANNED + ',' +
-                UserInfoTable.OP + ',' +
-                "u." + UsersTable.USER_UUID + ',' +
-                "s." + ServerTable.SERVER_UUID + " as server_uuid," +
-                UserInfoTable.JOIN_ADDRESS +
-                FROM + UserInfoTable.TABLE_NAME + " ux" +
-                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + '=' + "ux." + UserInfoTable.USER_ID +
-                INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.ID + '=' + "ux." + UserInfoTable.SERVER_ID;
-
-        return new QueryAllStatement<>(sql, 50000) {
+        return new QueryAllStatement<>(SELECT_USER_INFORMATION, 50000) {
             @Override
             public Map<ServerUUID, List<UserInfo>> processResults(ResultSet set) throws SQLException {
-                Map<ServerUUID, List<UserInfo>> serverMap = new HashMap<>();
-                while (set.next()) {
-                    ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
-                    UUID uuid = UUID.fromString(set.getString(UsersTable.USER_UUID));
+                return extractUserInformation(set);
+            }
+        };
+    }
 
-                    List<UserInfo> userInfos = serverMap.computeIfAbsent(serverUUID, Lists::create);
+    /**
+     * Query database for user information in a range of row ids.
+     *
+     * @param afterId Row id after which to fetch (exclusive).
+     * @param untilId Row id until which to fetch (inclusive).
+     * @return Map: Server UUID - List of user information
+     */
+    public static Query<Map<ServerUUID, List<UserInfo>>> fetchUserInformationInIdRange(int afterId, int untilId) {
+        String sql = SELECT_USER_INFORMATION +
+                WHERE + "ux." + UserInfoTable.ID + ">?" +
+                AND + "ux." + UserInfoTable.ID + "<=?";
 
-                    long registered = set.getLong(UserInfoTable.REGISTERED);
-                    boolean banned = set.getBoolean(UserInfoTable.BANNED);
-                    boolean op = set.getBoolean(UserInfoTable.OP);
-                    String joinAddress = set.getString(UserInfoTable.JOIN_ADDRESS);
+        return new QueryStatement<>(sql, 5000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, afterId);
+                statement.setInt(2, untilId);
+            }
 
-                    userInfos.add(new UserInfo(uuid, serverUUID, registered, op, joinAddress, banned));
-                }
-                return serverMap;
+            @Override
+            public Map<ServerUUID, List<UserInfo>> processResults(ResultSet set) throws SQLException {
+                return extractUserInformation(set);
             }
         };
     }
 
+    private static Map<ServerUUID, List<UserInfo>> extractUserInformation(ResultSet set) throws SQLException {
+        Map<ServerUUID, List<UserInfo>> serverMap = new HashMap<>();
+        while (set.next()) {
+            ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
+            UUID uuid = UUID.fromString(set.getString(UsersTable.USER_UUID));
+
+            List<UserInfo> userInfos = serverMap.computeIfAbsent(serverUUID, Lists::create);
+
+            long registered = set.getLong(UserInfoTable.REGISTERED);
+            boolean banned = set.getBoolean(UserInfoTable.BANNED);
+            boolean op = set.getBoolean(UserInfoTable.OP);
+            String joinAddress = set.getString(UserInfoTable.JOIN_ADDRESS);
+
+            userInfos.add(new UserInfo(uuid, serverUUID, registered, op, joinAddress, banned));
+        }
+        return serverMap;
+    }
+
     /**
      * Query database for User information of a specific player.
      *
@@ -158,11 +189,11 @@ public class UserInfoQueries {
         };
     }
 
-    public static Query<Set<Integer>> userIdsOfOperators() {
+    public static Query<UserIdSet> userIdsOfOperators() {
         return getUserIdsForBooleanGroup(UserInfoTable.OP, true);
     }
 
-    public static Query<Set<Integer>> getUserIdsForBooleanGroup(String column, boolean value) {
+    public static Query<UserIdSet> getUserIdsForBooleanGroup(String column, boolean value) {
         String sql = SELECT + "u." + UsersTable.ID +
                 FROM + UserInfoTable.TABLE_NAME +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + '=' + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
@@ -174,37 +205,37 @@ public class UserInfoQueries {
             }
 
             @Override
-            public Set<Integer> processResults(ResultSet set) throws SQLException {
+            public UserIdSet processResults(ResultSet set) throws SQLException {
                 return extractUserIds(set);
             }
         };
     }
 
-    public static Set<Integer> extractUserIds(ResultSet set) throws SQLException {
+    public static UserIdSet extractUserIds(ResultSet set) throws SQLException {
         return extractUserIds(set, UsersTable.ID);
     }
 
-    public static Set<Integer> extractUserIds(ResultSet set, String column) throws SQLException {
-        Set<Integer> userIds = new HashSet<>();
+    public static UserIdSet extractUserIds(ResultSet set, String column) throws SQLException {
+        UserIdSet userIds = new UserIdSet();
         while (set.next()) {
-            userIds.add(set.getInt(column));
+            userIds.addId(set.getInt(column));
         }
         return userIds;
     }
 
-    public static Query<Set<Integer>> userIdsOfNonOperators() {
+    public static Query<UserIdSet> userIdsOfNonOperators() {
         return getUserIdsForBooleanGroup(UserInfoTable.OP, false);
     }
 
-    public static Query<Set<Integer>> userIdsOfBanned() {
+    public static Query<UserIdSet> userIdsOfBanned() {
         return getUserIdsForBooleanGroup(UserInfoTable.BANNED, true);
     }
 
-    public static Query<Set<Integer>> userIdsOfNotBanned() {
+    public static Query<UserIdSet> userIdsOfNotBanned() {
         return getUserIdsForBooleanGroup(UserInfoTable.BANNED, false);
     }
 
-    public static Query<Set<Integer>> userIdsOfRegisteredBetween(long after, long before, List<ServerUUID> serverUUIDs) {
+    public static Query<UserIdSet> userIdsOfRegisteredBetween(long after, long before, List<ServerUUID> serverUUIDs) {
         String selectServerIds = SELECT + ServerTable.ID +
                 FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(serverUUIDs, "','") + "')";
@@ -223,12 +254,8 @@ public class UserInfoQueries {
             }
 
             @Override
-            public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> userIds = new HashSet<>();
-                while (set.next()) {
-                    userIds.add(set.getInt(UsersTable.ID));
-                }
-                return userIds;
+            public UserIdSet processResults(ResultSet set) throws SQLException {
+                return extractUserIds(set);
             }
         };
     }
@@ -198,6 +198,31 @@ public class WorldTimesQueries {
         };
     }
 
+    /**
+     * Query database for the id of a world.
+     *
+     * @param serverUUID UUID of the server the world is on.
+     * @param worldName  Name of the world.
+     * @return Optional id, empty if the world is not in plan_worlds.
+     */
+    public static Query<Optional<Integer>> fetchWorldId(ServerUUID serverUUID, String worldName) {
+        String sql = SELECT + WorldTable.ID + FROM + WorldTable.TABLE_NAME +
+                WHERE + WorldTable.NAME + "=?" +
+                AND + WorldTable.SERVER_UUID + "=?" + LIMIT + '1';
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, worldName);
+                statement.setString(2, serverUUID.toString());
+            }
+
+            @Override
+            public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                return set.next() ? Optional.of(set.getInt(WorldTable.ID)) : Optional.empty();
+            }
+        };
+    }
+
     public static QueryStatement<Set<World>> fetchWorlds() {
         String worldNameSql = SELECT + '*' + FROM + WorldTable.TABLE_NAME;
         return new QueryAllStatement<>(worldNameSql) {
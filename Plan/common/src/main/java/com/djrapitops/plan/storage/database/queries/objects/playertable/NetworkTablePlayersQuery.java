@@ -23,12 +23,14 @@ import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,15 +46,33 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
     private final long date;
     private final long activeMsThreshold;
     private final int xMostRecentPlayers;
+    private final Collection<Integer> userIds; // null for most recent players
 
     public NetworkTablePlayersQuery(long date, long activeMsThreshold, int xMostRecentPlayers) {
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.userIds = null;
+    }
+
+    /**
+     * Query only specific players, eg. a page of the players table.
+     *
+     * @param date              Date used for activity index.
+     * @param activeMsThreshold Activity index threshold.
+     * @param userIds           Ids of the players in plan_users table, order of results is not guaranteed.
+     */
+    public NetworkTablePlayersQuery(long date, long activeMsThreshold, Collection<Integer> userIds) {
+        this.date = date;
+        this.activeMsThreshold = activeMsThreshold;
+        this.xMostRecentPlayers = userIds.size();
+        this.userIds = userIds;
     }
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        if (userIds != null && userIds.isEmpty()) return new ArrayList<>();
+
         String selectLatestGeolocations = SELECT +
                 "a." + GeoInfoTable.USER_ID + ',' +
                 "a." + GeoInfoTable.GEOLOCATION +
@@ -61,13 +81,15 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
-                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
+                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
+                restrictToUsers(AND, "a." + GeoInfoTable.USER_ID);
 
         String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
                 "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
                 "COUNT(1) as count," +
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
+                restrictToUsers(WHERE, "s." + SessionsTable.USER_ID) +
                 GROUP_BY + "s." + SessionsTable.USER_ID;
 
         String selectPingData = SELECT +
@@ -76,6 +98,7 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 "MAX(p." + PingTable.MAX_PING + ") as " + PingTable.MAX_PING + "," +
                 "MIN(p." + PingTable.MIN_PING + ") as " + PingTable.MIN_PING +
                 FROM + PingTable.TABLE_NAME + " p" +
+                restrictToUsers(WHERE, "p." + PingTable.USER_ID) +
                 GROUP_BY + "p." + PingTable.USER_ID;
 
         String selectBanned = SELECT + DISTINCT + "ub." + UserInfoTable.USER_ID +
@@ -101,6 +124,7 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + NetworkActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
+                restrictToUsers(WHERE, "u." + UsersTable.ID) +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
@@ -137,4 +161,10 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
             }
         });
     }
-}
\ No newline at end of file
+
+    private String restrictToUsers(String keyword, String userIdColumn) {
+        if (userIds == null) return "";
+        // Ids are integers from the database so they can be inlined without changing parameter indexes.
+        return keyword + userIdColumn + " IN (" + UserIdSet.join(userIds, ",") + ')';
+    }
+}
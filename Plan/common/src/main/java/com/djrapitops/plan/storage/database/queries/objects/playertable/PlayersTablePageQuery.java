@@ -0,0 +1,253 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Query for one page of players on the players table, sorted and filtered in the database.
+ * <p>
+ * Uses keyset pagination: the sort value and UUID of the last player on a page are given as a cursor to get the
+ * next page, so later pages are as fast to fetch as the first one. Page number is used with OFFSET if there is no cursor.
+ * <p>
+ * Only the user ids of the page are fetched, data of the players is fetched with {@link NetworkTablePlayersQuery}
+ * or {@link ServerTablePlayersQuery}.
+ *
+ * @author AuroraLS3
+ */
+public class PlayersTablePageQuery implements Query<PlayersTablePageQuery.Page> {
+
+    private final ServerUUID serverUUID; // null for network
+    private final PlayersTableSort sort;
+    private final boolean descending;
+    @Untrusted
+    private final String namePrefix; // null if not searching
+    private final Cursor cursor; // null for first page
+    private final int page;
+    private final int pageSize;
+
+    /**
+     * Create a new query.
+     *
+     * @param serverUUID UUID of the server to get players of, null for all players.
+     * @param sort       Column to sort by.
+     * @param descending Sort direction.
+     * @param namePrefix Only include players whose name starts with this, or null.
+     * @param cursor     Cursor given with previous page, or null.
+     * @param page       Page number starting from 0, used if there is no cursor.
+     * @param pageSize   Number of players on a page.
+     */
+    public PlayersTablePageQuery(
+            ServerUUID serverUUID, PlayersTableSort sort, boolean descending,
+            @Untrusted String namePrefix, Cursor cursor, int page, int pageSize
+    ) {
+        this.serverUUID = serverUUID;
+        this.sort = sort;
+        this.descending = descending;
+        this.namePrefix = namePrefix;
+        this.cursor = cursor;
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Page executeQuery(SQLDB db) {
+        List<Object> parameters = new ArrayList<>();
+        String sortColumn = sort.getSortColumn();
+
+        StringBuilder sql = new StringBuilder(SELECT)
+                .append("u.").append(UsersTable.ID).append(',')
+                .append("u.").append(UsersTable.USER_UUID).append(',')
+                .append(sortColumn).append(" as sort_value")
+                .append(FROM).append(UsersTable.TABLE_NAME).append(" u");
+        if (serverUUID != null) {
+            sql.append(INNER_JOIN).append(UserInfoTable.TABLE_NAME).append(" ui on ui.").append(UserInfoTable.USER_ID).append("=u.").append(UsersTable.ID)
+                    .append(AND).append("ui.").append(UserInfoTable.SERVER_ID).append('=').append(ServerTable.SELECT_SERVER_ID);
+            parameters.add(serverUUID.toString());
+        }
+        sort.getJoin(serverUUID != null).ifPresent(join -> {
+            sql.append(join);
+            if (serverUUID != null) parameters.add(serverUUID.toString());
+        });
+
+        List<String> conditions = new ArrayList<>();
+        if (namePrefix != null && !namePrefix.isEmpty()) {
+            conditions.add("u." + UsersTable.USER_NAME + " LIKE ? ESCAPE '!'");
+            parameters.add(escapeLike(namePrefix) + '%');
+        }
+        if (cursor != null) {
+            String comparison = descending ? "<" : ">";
+            conditions.add("(" + sortColumn + comparison + '?' +
+                    OR + '(' + sortColumn + "=?" + AND + "u." + UsersTable.USER_UUID + comparison + "?))");
+            Object cursorValue = cursor.getSortValue(sort);
+            parameters.add(cursorValue);
+            parameters.add(cursorValue);
+            parameters.add(cursor.getPlayerUUID().toString());
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(WHERE).append(String.join(AND, conditions));
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        // UUID breaks ties so that the order is stable between pages.
+        sql.append(ORDER_BY).append(sortColumn).append(direction)
+                .append(",u.").append(UsersTable.USER_UUID).append(direction)
+                .append(LIMIT).append('?');
+        parameters.add(pageSize + 1); // One extra to know if there is a next page
+        if (cursor == null && page > 0) {
+            sql.append(OFFSET).append('?');
+            parameters.add(page * pageSize);
+        }
+
+        return db.query(new QueryStatement<>(sql.toString(), pageSize + 1) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (Object parameter : parameters) {
+                    if (parameter instanceof Long) {
+                        statement.setLong(index, (Long) parameter);
+                    } else if (parameter instanceof Integer) {
+                        statement.setInt(index, (Integer) parameter);
+                    } else {
+                        statement.setString(index, (String) parameter);
+                    }
+                    index++;
+                }
+            }
+
+            @Override
+            public Page processResults(ResultSet set) throws SQLException {
+                List<Integer> userIds = new ArrayList<>();
+                List<UUID> playerUUIDs = new ArrayList<>();
+                String lastSortValue = null;
+                boolean hasNext = false;
+                while (set.next()) {
+                    if (userIds.size() == pageSize) {
+                        hasNext = true;
+                        break;
+                    }
+                    userIds.add(set.getInt(UsersTable.ID));
+                    playerUUIDs.add(UUID.fromString(set.getString(UsersTable.USER_UUID)));
+                    lastSortValue = set.getString("sort_value");
+                }
+                Cursor next = hasNext ? new Cursor(playerUUIDs.get(playerUUIDs.size() - 1), lastSortValue) : null;
+                return new Page(userIds, playerUUIDs, next);
+            }
+        });
+    }
+
+    private static String escapeLike(@Untrusted String value) {
+        return StringUtils.replaceEach(value, new String[]{"!", "%", "_"}, new String[]{"!!", "!%", "!_"});
+    }
+
+    /**
+     * Position after the last player of a page.
+     */
+    public static class Cursor {
+        private final UUID playerUUID;
+        @Untrusted
+        private final String sortValue;
+
+        public Cursor(UUID playerUUID, @Untrusted String sortValue) {
+            this.playerUUID = playerUUID;
+            this.sortValue = sortValue;
+        }
+
+        /**
+         * Parse a cursor given by a client.
+         *
+         * @param cursor Cursor in format {@code uuid:sortValue}, as given by {@link #toString()}.
+         * @param sort   Column the page is sorted by.
+         * @return Parsed cursor.
+         * @throws IllegalArgumentException If the cursor is not valid for the sort.
+         */
+        public static Cursor parse(@Untrusted String cursor, PlayersTableSort sort) {
+            int uuidLength = 36;
+            if (cursor == null || cursor.length() < uuidLength + 1 || cursor.charAt(uuidLength) != ':') {
+                throw new IllegalArgumentException("Cursor should be in format 'uuid:value'");
+            }
+            Cursor parsed = new Cursor(UUID.fromString(cursor.substring(0, uuidLength)), cursor.substring(uuidLength + 1));
+            parsed.getSortValue(sort); // Validates that the value is a number if necessary
+            return parsed;
+        }
+
+        public UUID getPlayerUUID() {
+            return playerUUID;
+        }
+
+        Object getSortValue(PlayersTableSort sort) {
+            if (sort.isNumeric()) {
+                try {
+                    return Long.parseLong(sortValue);
+                } catch (@Untrusted NumberFormatException e) {
+                    throw new IllegalArgumentException("Cursor value should be a number for sort '" + sort.getParameterName() + "'");
+                }
+            }
+            return sortValue;
+        }
+
+        @Override
+        public String toString() {
+            return playerUUID + ":" + sortValue;
+        }
+    }
+
+    /**
+     * User ids of players on a page in the sorted order.
+     */
+    public static class Page {
+        private final List<Integer> userIds;
+        private final List<UUID> playerUUIDs;
+        private final Cursor next;
+
+        public Page(List<Integer> userIds, List<UUID> playerUUIDs, Cursor next) {
+            this.userIds = userIds;
+            this.playerUUIDs = playerUUIDs;
+            this.next = next;
+        }
+
+        public List<Integer> getUserIds() {
+            return userIds;
+        }
+
+        public List<UUID> getPlayerUUIDs() {
+            return playerUUIDs;
+        }
+
+        public Optional<Cursor> getNext() {
+            return Optional.ofNullable(next);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.util.Optional;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Columns the players table can be sorted by in the database.
+ *
+ * @author AuroraLS3
+ */
+public enum PlayersTableSort {
+
+    LAST_SEEN("lastSeen", "COALESCE(ls.last_seen,0)", true),
+    NAME("name", "u." + UsersTable.USER_NAME, false),
+    REGISTERED("registered", "u." + UsersTable.REGISTERED, true);
+
+    private final String parameterName;
+    private final String sortColumn;
+    private final boolean numeric;
+
+    PlayersTableSort(String parameterName, String sortColumn, boolean numeric) {
+        this.parameterName = parameterName;
+        this.sortColumn = sortColumn;
+        this.numeric = numeric;
+    }
+
+    public static Optional<PlayersTableSort> fromParameter(@Untrusted String parameter) {
+        for (PlayersTableSort sort : values()) {
+            if (sort.parameterName.equalsIgnoreCase(parameter)) return Optional.of(sort);
+        }
+        return Optional.empty();
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Get SQL expression to sort by.
+     *
+     * @return Expression that uses columns of plan_users as {@code u} and the join given by {@link #getJoin(boolean)}.
+     */
+    String getSortColumn() {
+        return sortColumn;
+    }
+
+    /**
+     * Get the join the sort column needs.
+     *
+     * @param ofServer true if only sessions of the server are included, the join then has server UUID as a parameter.
+     * @return LEFT JOIN clause, empty if the sort column is in plan_users.
+     */
+    Optional<String> getJoin(boolean ofServer) {
+        if (this != LAST_SEEN) return Optional.empty();
+        // Grouped once from plan_sessions_user_end_index instead of looking up the latest session of each row separately.
+        return Optional.of(LEFT_JOIN + '(' + SELECT + SessionsTable.USER_ID + ",MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + SessionsTable.TABLE_NAME +
+                (ofServer ? WHERE + SessionsTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID : "") +
+                GROUP_BY + SessionsTable.USER_ID +
+                ") ls on ls." + SessionsTable.USER_ID + "=u." + UsersTable.ID);
+    }
+
+    boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Default sort direction, most recent first for dates and alphabetical for names.
+     *
+     * @return true if sorted in descending order by default.
+     */
+    public boolean isDescendingByDefault() {
+        return numeric;
+    }
+}
@@ -24,12 +24,14 @@ import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdSet;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -46,6 +48,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
     private final long date;
     private final long activeMsThreshold;
     private final int xMostRecentPlayers;
+    private final Collection<Integer> userIds; // null for most recent players
 
     /**
      * Create a new query.
@@ -60,10 +63,29 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.userIds = null;
+    }
+
+    /**
+     * Create a new query for specific players, eg. a page of the players table.
+     *
+     * @param serverUUID        UUID of the Plan server.
+     * @param date              Date used for Activity Index calculation
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param userIds           Ids of the players in plan_users table, order of results is not guaranteed.
+     */
+    public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, Collection<Integer> userIds) {
+        this.serverUUID = serverUUID;
+        this.date = date;
+        this.activeMsThreshold = activeMsThreshold;
+        this.xMostRecentPlayers = userIds.size();
+        this.userIds = userIds;
     }
 
     @Override
     public List<TablePlayer> executeQuery(SQLDB db) {
+        if (userIds != null && userIds.isEmpty()) return new ArrayList<>();
+
         String selectLatestGeolocations = SELECT +
                 "a." + GeoInfoTable.USER_ID + ',' +
                 "a." + GeoInfoTable.GEOLOCATION +
@@ -72,7 +94,8 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
-                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
+                WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
+                restrictToUsers("a." + GeoInfoTable.USER_ID);
 
         String selectSessionData = SELECT + "s." + SessionsTable.USER_ID + ',' +
                 "MAX(" + SessionsTable.SESSION_END + ") as last_seen," +
@@ -80,6 +103,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ") as active_playtime" +
                 FROM + SessionsTable.TABLE_NAME + " s" +
                 WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                restrictToUsers("s." + SessionsTable.USER_ID) +
                 GROUP_BY + "s." + SessionsTable.USER_ID;
 
         String selectPingData = SELECT +
@@ -89,6 +113,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 "MIN(p." + PingTable.MIN_PING + ") as " + PingTable.MIN_PING +
                 FROM + PingTable.TABLE_NAME + " p" +
                 WHERE + "p." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                restrictToUsers("p." + PingTable.USER_ID) +
                 GROUP_BY + "p." + PingTable.USER_ID;
 
         String selectBaseUsers = SELECT +
@@ -111,6 +136,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 LEFT_JOIN + '(' + selectPingData + ") pi on pi." + PingTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                restrictToUsers("u." + UsersTable.ID) +
                 ORDER_BY + "ses.last_seen DESC LIMIT ?";
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
@@ -149,4 +175,10 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
             }
         });
     }
-}
\ No newline at end of file
+
+    private String restrictToUsers(String userIdColumn) {
+        if (userIds == null) return "";
+        // Ids are integers from the database so they can be inlined without changing parameter indexes.
+        return AND + userIdColumn + " IN (" + UserIdSet.join(userIds, ",") + ')';
+    }
+}
@@ -97,6 +97,14 @@ public abstract class Sql {
         }
     }
 
+    public static void setIntOrNull(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value != null) {
+            statement.setInt(index, value);
+        } else {
+            statement.setNull(index, Types.INTEGER);
+        }
+    }
+
     public static void setDoubleOrNull(PreparedStatement statement, int index, Double value) throws SQLException {
         if (value != null) {
             statement.setDouble(index, value);
@@ -128,6 +136,22 @@ public abstract class Sql {
 
     public abstract String insertOrIgnore();
 
+    /**
+     * Clause for an INSERT statement that adds the inserted value to the existing row if the unique key is taken.
+     *
+     * @param column           Column to add the value to.
+     * @param uniqueKeyColumns Columns of the unique key, in the same order as the unique index.
+     * @return ON DUPLICATE KEY / ON CONFLICT clause
+     */
+    public abstract String addOnDuplicateKey(String column, String... uniqueKeyColumns);
+
+    /**
+     * Suffix for a SELECT that has to see rows committed by other transactions after this transaction began.
+     *
+     * @return Locking read clause, or empty if the database reads committed rows without one.
+     */
+    public abstract String lockingRead();
+
     // https://dev.mysql.com/doc/refman/5.7/en/date-and-time-functions.html
     public static class MySQL extends Sql {
 
@@ -165,6 +189,17 @@ public abstract class Sql {
         public String insertOrIgnore() {
             return "INSERT IGNORE INTO ";
         }
+
+        @Override
+        public String addOnDuplicateKey(String column, String... uniqueKeyColumns) {
+            return " ON DUPLICATE KEY UPDATE " + column + '=' + column + "+VALUES(" + column + ')';
+        }
+
+        @Override
+        public String lockingRead() {
+            // REPEATABLE READ would otherwise read from the snapshot of the transaction.
+            return " LOCK IN SHARE MODE";
+        }
     }
 
     // https://sqlite.org/lang_datefunc.html
@@ -204,5 +239,15 @@ public abstract class Sql {
         public String insertOrIgnore() {
             return "INSERT OR IGNORE INTO ";
         }
+
+        @Override
+        public String addOnDuplicateKey(String column, String... uniqueKeyColumns) {
+            return " ON CONFLICT(" + String.join(",", uniqueKeyColumns) + ") DO UPDATE SET " + column + '=' + column + "+excluded." + column;
+        }
+
+        @Override
+        public String lockingRead() {
+            return "";
+        }
     }
 }
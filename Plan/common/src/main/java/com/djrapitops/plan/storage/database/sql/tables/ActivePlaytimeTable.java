@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.patches.ActivePlaytimeTablePatch;
+import com.djrapitops.plan.storage.database.transactions.patches.ActivePlaytimeUniqueDayPatch;
+import org.intellij.lang.annotations.Language;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Table information about 'plan_active_playtime'.
+ * <p>
+ * Contains active playtime (session length - afk time) of each player on each server per day,
+ * so that activity index over time can be calculated without going through all sessions.
+ * Sessions are attributed to the (UTC) day they started on.
+ * <p>
+ * Patches related to this table:
+ * {@link ActivePlaytimeTablePatch}
+ * {@link ActivePlaytimeUniqueDayPatch}
+ *
+ * @author AuroraLS3
+ */
+public class ActivePlaytimeTable {
+
+    public static final String TABLE_NAME = "plan_active_playtime";
+
+    public static final String ID = "id";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
+    public static final String DAY_START = "day_start";
+    public static final String ACTIVE_PLAYTIME = "active_playtime";
+
+    // One row per player, server and day, see ActivePlaytimeUniqueDayPatch.
+    public static final String UNIQUE_INDEX_NAME = "plan_active_playtime_unique_index";
+
+    public static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    @Language("SQL")
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DAY_START + ',' +
+            ACTIVE_PLAYTIME +
+            ") VALUES (" + UsersTable.SELECT_USER_ID + ',' + ServerTable.SELECT_SERVER_ID + ", ?, ?)";
+
+    @Language("SQL")
+    public static final String INSERT_WITH_IDS_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DAY_START + ',' +
+            ACTIVE_PLAYTIME +
+            ") VALUES (?, ?, ?, ?)";
+
+    private static final String SESSION_DAY_START = SessionsTable.SESSION_START + "-" + SessionsTable.SESSION_START + "%" + DAY_MS;
+
+    /**
+     * Insert statement that calculates the rows from sessions table, append a WHERE clause to limit the sessions.
+     */
+    @Language("SQL")
+    public static final String INSERT_FROM_SESSIONS = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DAY_START + ',' +
+            ACTIVE_PLAYTIME +
+            ") " + SELECT +
+            SessionsTable.USER_ID + ',' +
+            SessionsTable.SERVER_ID + ',' +
+            SESSION_DAY_START + ',' +
+            "SUM(" + SessionsTable.SESSION_END + '-' + SessionsTable.SESSION_START + '-' + SessionsTable.AFK_TIME + ')' +
+            FROM + SessionsTable.TABLE_NAME;
+
+    public static final String GROUP_BY_SESSION_DAY = GROUP_BY + SessionsTable.USER_ID + ',' + SessionsTable.SERVER_ID + ',' + SESSION_DAY_START;
+
+    private ActivePlaytimeTable() {
+        /* Static information class */
+    }
+
+    /**
+     * Insert statement that adds to the existing row of the player, server and day.
+     *
+     * @param dbType Type of the database.
+     * @return {@link #INSERT_STATEMENT} that adds to the existing row.
+     */
+    public static String upsertStatement(DBType dbType) {
+        return INSERT_STATEMENT + addToExistingRow(dbType);
+    }
+
+    /**
+     * Insert statement that adds to the existing row of the player, server and day.
+     *
+     * @param dbType Type of the database.
+     * @return {@link #INSERT_WITH_IDS_STATEMENT} that adds to the existing row.
+     */
+    public static String upsertWithIdsStatement(DBType dbType) {
+        return INSERT_WITH_IDS_STATEMENT + addToExistingRow(dbType);
+    }
+
+    private static String addToExistingRow(DBType dbType) {
+        return dbType.getSql().addOnDuplicateKey(ACTIVE_PLAYTIME, USER_ID, SERVER_ID, DAY_START);
+    }
+
+    public static long getDayStart(long epochMs) {
+        return epochMs - epochMs % DAY_MS;
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(DAY_START, Sql.LONG).notNull()
+                .column(ACTIVE_PLAYTIME, Sql.LONG).notNull()
+                .toString();
+    }
+}
@@ -56,6 +56,17 @@ public class GeoInfoTable {
             WHERE + USER_ID + "=" + UsersTable.SELECT_USER_ID +
             AND + GEOLOCATION + "=?";
 
+    public static final String INSERT_WITH_USER_ID_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + USER_ID + ','
+            + GEOLOCATION + ','
+            + LAST_USED
+            + ") VALUES (?, ?, ?)";
+
+    public static final String UPDATE_WITH_USER_ID_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            LAST_USED + "=?" +
+            WHERE + USER_ID + "=?" +
+            AND + GEOLOCATION + "=?";
+
     private GeoInfoTable() {
         /* Static information class */
     }
@@ -66,6 +66,15 @@ public class KillsTable {
             + WEAPON
             + ") VALUES (" + SessionsTable.SELECT_SESSION_ID_STATEMENT + ", ?, ?, ?, ?, ?)";
 
+    public static final String INSERT_WITH_SESSION_ID_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SESSION_ID + ','
+            + KILLER_UUID + ','
+            + VICTIM_UUID + ','
+            + SERVER_UUID + ','
+            + DATE + ','
+            + WEAPON
+            + ") VALUES (?, ?, ?, ?, ?, ?)";
+
     private KillsTable() {
         /* Static information class */
     }
@@ -106,4 +115,21 @@ public class KillsTable {
             statement.addBatch();
         }
     }
+
+    public static void addSessionKillsToBatch(PreparedStatement statement, FinishedSession session, int sessionId) throws SQLException {
+        Optional<PlayerKills> playerKills = session.getExtraData().get(PlayerKills.class);
+        if (playerKills.isEmpty()) return;
+
+        String killerUUID = session.getPlayerUUID().toString();
+        String serverUUID = session.getServerUUID().toString();
+        for (PlayerKill kill : playerKills.get().asList()) {
+            statement.setInt(1, sessionId);
+            statement.setString(2, killerUUID);
+            statement.setString(3, kill.getVictim().getUuid().toString());
+            statement.setString(4, serverUUID);
+            statement.setLong(5, kill.getDate());
+            statement.setString(6, StringUtils.truncate(kill.getWeapon(), WEAPON_COLUMN_LENGTH));
+            statement.addBatch();
+        }
+    }
 }
@@ -50,6 +50,15 @@ public class PingTable {
             AVG_PING +
             ") VALUES (" + UsersTable.SELECT_USER_ID + ',' + ServerTable.SELECT_SERVER_ID + ", ?, ?, ?, ?)";
 
+    public static final String INSERT_WITH_IDS_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            DATE + ',' +
+            MIN_PING + ',' +
+            MAX_PING + ',' +
+            AVG_PING +
+            ") VALUES (?, ?, ?, ?, ?, ?)";
+
     private PingTable() {
         /* Static information class */
     }
@@ -61,6 +61,17 @@ public class SessionsTable {
             + JOIN_ADDRESS_ID
             + ") VALUES (" + UsersTable.SELECT_USER_ID + ", ?, ?, ?, ?, ?, " + ServerTable.SELECT_SERVER_ID + ", " + JoinAddressTable.SELECT_ID + ")";
 
+    public static final String INSERT_WITH_IDS_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + USER_ID + ','
+            + SESSION_START + ','
+            + SESSION_END + ','
+            + DEATHS + ','
+            + MOB_KILLS + ','
+            + AFK_TIME + ','
+            + SERVER_ID + ','
+            + JOIN_ADDRESS_ID
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     public static final String SELECT_SESSION_ID_STATEMENT = "(SELECT " + TABLE_NAME + '.' + ID + FROM + TABLE_NAME +
             WHERE + TABLE_NAME + '.' + USER_ID + "=" + UsersTable.SELECT_USER_ID +
             AND + TABLE_NAME + '.' + SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
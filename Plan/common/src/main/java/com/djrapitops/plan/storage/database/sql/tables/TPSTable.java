@@ -58,6 +58,20 @@ public class TPSTable {
             + ServerTable.SELECT_SERVER_ID + ','
             + "?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
+    public static final String INSERT_WITH_SERVER_ID_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SERVER_ID + ','
+            + DATE + ','
+            + TPS + ','
+            + PLAYERS_ONLINE + ','
+            + CPU_USAGE + ','
+            + RAM_USAGE + ','
+            + ENTITIES + ','
+            + CHUNKS + ','
+            + FREE_DISK + ','
+            + MSPT_AVERAGE + ','
+            + MSPT_95TH_PERCENTILE
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private TPSTable() {
         /* Static information class */
     }
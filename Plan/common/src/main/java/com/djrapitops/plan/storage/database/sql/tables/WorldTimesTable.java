@@ -75,6 +75,17 @@ public class WorldTimesTable {
             ServerTable.SELECT_SERVER_ID + ',' +
             "?, ?, ?, ?)";
 
+    public static final String INSERT_WITH_IDS_STATEMENT = "INSERT INTO " + WorldTimesTable.TABLE_NAME + " (" +
+            WorldTimesTable.SESSION_ID + ',' +
+            WorldTimesTable.WORLD_ID + ',' +
+            WorldTimesTable.USER_ID + ',' +
+            WorldTimesTable.SERVER_ID + ',' +
+            WorldTimesTable.SURVIVAL + ',' +
+            WorldTimesTable.CREATIVE + ',' +
+            WorldTimesTable.ADVENTURE + ',' +
+            WorldTimesTable.SPECTATOR +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private WorldTimesTable() {
         /* Static information class */
     }
@@ -126,4 +137,37 @@ public class WorldTimesTable {
             statement.addBatch();
         }
     }
+
+    /**
+     * Add world times of a session to a batch of {@link #INSERT_WITH_IDS_STATEMENT}.
+     *
+     * @param statement Statement to add the rows to.
+     * @param session   Stored session.
+     * @param gms       {@link GMTimes#getGMKeyArray()}
+     * @param sessionId Id of the stored session row.
+     * @param userId    Id of the player, null if not registered.
+     * @param serverId  Id of the server, null if not registered.
+     * @param worldIds  World ids by world name.
+     * @throws SQLException If the statement fails to be prepared.
+     */
+    public static void addSessionWorldTimesToBatch(
+            PreparedStatement statement, FinishedSession session, String[] gms,
+            int sessionId, Integer userId, Integer serverId, Map<String, Integer> worldIds
+    ) throws SQLException {
+        Optional<WorldTimes> worldTimes = session.getExtraData().get(WorldTimes.class);
+        if (worldTimes.isEmpty()) return;
+
+        for (Map.Entry<String, GMTimes> worldTimesEntry : worldTimes.get().getWorldTimes().entrySet()) {
+            GMTimes gmTimes = worldTimesEntry.getValue();
+            statement.setInt(1, sessionId);
+            Sql.setIntOrNull(statement, 2, worldIds.get(worldTimesEntry.getKey()));
+            Sql.setIntOrNull(statement, 3, userId);
+            Sql.setIntOrNull(statement, 4, serverId);
+            statement.setLong(5, gmTimes.getTime(gms[0]));
+            statement.setLong(6, gmTimes.getTime(gms[1]));
+            statement.setLong(7, gmTimes.getTime(gms[2]));
+            statement.setLong(8, gmTimes.getTime(gms[3]));
+            statement.addBatch();
+        }
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps track of how far a {@link BackupCopyTransaction} has copied the source database.
+ * <p>
+ * Steps and chunks are marked done only after they have been committed to the destination database,
+ * so giving the same progress to a new transaction resumes a copy that failed midway.
+ *
+ * @author AuroraLS3
+ */
+public class BackupCopyProgress {
+
+    private static final int REPORT_INTERVAL_PERCENT = 10;
+
+    private volatile BiConsumer<String, Integer> progressListener;
+    private final Set<String> finishedSteps;
+    private final Map<String, Integer> copiedUntilId;
+    private final Map<String, Integer> reportedPercent;
+
+    public BackupCopyProgress() {
+        this((tableName, percent) -> {});
+    }
+
+    /**
+     * Create a new progress.
+     *
+     * @param progressListener Called with table name and percentage every time another 10% of a table has been copied.
+     */
+    public BackupCopyProgress(BiConsumer<String, Integer> progressListener) {
+        this.progressListener = progressListener;
+        finishedSteps = ConcurrentHashMap.newKeySet();
+        copiedUntilId = new ConcurrentHashMap<>();
+        reportedPercent = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Change where progress is reported, for example when another user resumes the copy.
+     *
+     * @param progressListener Called with table name and percentage every time another 10% of a table has been copied.
+     */
+    public void setProgressListener(BiConsumer<String, Integer> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public boolean isStarted() {
+        return !finishedSteps.isEmpty() || !copiedUntilId.isEmpty();
+    }
+
+    boolean isFinished(String step) {
+        return finishedSteps.contains(step);
+    }
+
+    void markFinished(String step) {
+        finishedSteps.add(step);
+    }
+
+    int getCopiedUntilId(String tableName) {
+        return copiedUntilId.getOrDefault(tableName, 0);
+    }
+
+    void chunkCopied(String tableName, int untilId, int maxId) {
+        copiedUntilId.put(tableName, untilId);
+
+        int percent = maxId > 0 ? (int) (untilId * 100L / maxId) : 100;
+        int reportable = percent - percent % REPORT_INTERVAL_PERCENT;
+        Integer previouslyReported = reportedPercent.put(tableName, reportable);
+        if (previouslyReported == null || previouslyReported < reportable) {
+            progressListener.accept(tableName, reportable);
+        }
+    }
+}
@@ -16,28 +16,65 @@
  */
 package com.djrapitops.plan.storage.database.transactions;
 
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.sql.tables.webuser.SecurityTable;
+import com.djrapitops.plan.storage.database.sql.tables.webuser.WebGroupTable;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
-
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Large tables are copied in chunks of row ids, committing after each chunk, so that the whole table is never
+ * held in memory. Progress of the copy is kept in {@link BackupCopyProgress}, which allows resuming the copy.
  *
  * @author AuroraLS3
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    // Range of row ids read from the source and written to the destination before committing.
+    private static final int CHUNK_SIZE = 5000;
+    // Tables copied at the same time when the destination is MySQL.
+    private static final int PARALLEL_COPIES = 3;
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final BackupCopyProgress progress;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, new BackupCopyProgress());
+    }
+
+    /**
+     * Create a new copy transaction.
+     *
+     * @param sourceDB      Database to copy from.
+     * @param destinationDB Database to copy to, that the transaction is executed on.
+     * @param progress      Progress of an earlier copy between the same databases to resume, or a new progress.
+     */
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, BackupCopyProgress progress) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.progress = progress;
     }
 
     @Override
@@ -47,20 +84,85 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
     @Override
     protected void performOperations() {
-        // Clear the database.
-        super.performOperations();
-
-        copyPlanServerInformation();
-        copyCommonUserInformation();
-        copyWorldNames();
-        copyTPSData();
-        copyWebGroups();
-        copyPlanWebUsers();
-        copyGeoInformation();
-        copyNicknameData();
-        copySessionsWithKillAndWorldData();
-        copyPerServerUserInformation();
-        copyPingData();
+        // Clear the database, unless resuming a copy.
+        step("clear", super::performOperations);
+
+        step(ServerTable.TABLE_NAME, this::copyPlanServerInformation);
+        copyInChunks(new TableCopy<>(UsersTable.TABLE_NAME, BaseUserQueries::fetchBaseUsersInIdRange, LargeStoreQueries::storeAllCommonUserInformation),
+                this::execute, this::commitMidTransaction);
+        step(WorldTable.TABLE_NAME, this::copyWorldNames);
+        step(WebGroupTable.TABLE_NAME, this::copyWebGroups);
+        step(SecurityTable.TABLE_NAME, this::copyPlanWebUsers);
+
+        // Rest of the tables only depend on the tables above, so they can be copied independently.
+        List<List<TableCopy<?>>> independentCopies = List.of(
+                // Join addresses of per server user information are stored with the sessions.
+                List.of(
+                        new TableCopy<>(SessionsTable.TABLE_NAME, SessionQueries::fetchSessionsInIdRange, sessions -> LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions, dbType)),
+                        new TableCopy<>(UserInfoTable.TABLE_NAME, UserInfoQueries::fetchUserInformationInIdRange, LargeStoreQueries::storePerServerUserInformation)
+                ),
+                List.of(new TableCopy<>(TPSTable.TABLE_NAME, LargeFetchQueries::fetchTPSDataInIdRange, LargeStoreQueries::storeAllTPSData)),
+                List.of(new TableCopy<>(PingTable.TABLE_NAME, PingQueries::fetchPingDataInIdRange, LargeStoreQueries::storeAllPingData)),
+                List.of(new TableCopy<>(GeoInfoTable.TABLE_NAME, GeoInfoQueries::fetchGeoInformationInIdRange, LargeStoreQueries::storeAllGeoInformation)),
+                List.of(new TableCopy<>(NicknamesTable.TABLE_NAME, NicknameQueries::fetchNicknameDataInIdRange, LargeStoreQueries::storeAllNicknameData))
+        );
+        if (dbType == DBType.MYSQL && destinationDB instanceof SQLDB) {
+            copyInParallel((SQLDB) destinationDB, independentCopies);
+        } else {
+            for (List<TableCopy<?>> copies : independentCopies) {
+                for (TableCopy<?> copy : copies) {
+                    copyInChunks(copy, this::execute, this::commitMidTransaction);
+                }
+            }
+        }
+
+        // Sessions were copied in chunks, so daily totals are calculated again from all copied sessions.
+        step(ActivePlaytimeTable.TABLE_NAME, this::recalculateActivePlaytime);
+    }
+
+    private void recalculateActivePlaytime() {
+        execute(Sql.DELETE_FROM + ActivePlaytimeTable.TABLE_NAME);
+        execute(ActivePlaytimeTable.INSERT_FROM_SESSIONS + ActivePlaytimeTable.GROUP_BY_SESSION_DAY);
+    }
+
+    private void step(String name, Runnable operations) {
+        if (progress.isFinished(name)) return;
+        operations.run();
+        commitMidTransaction();
+        progress.markFinished(name);
+    }
+
+    private <T> void copyInChunks(TableCopy<T> copy, Consumer<Executable> execute, Runnable commit) {
+        String tableName = copy.tableName;
+        if (progress.isFinished(tableName)) return;
+
+        int maxId = sourceDB.query(LargeFetchQueries.fetchMaxId(tableName));
+        for (int afterId = progress.getCopiedUntilId(tableName); afterId < maxId; afterId = progress.getCopiedUntilId(tableName)) {
+            int untilId = (int) Math.min((long) afterId + CHUNK_SIZE, maxId);
+            execute.accept(copy.copyRange(sourceDB, afterId, untilId));
+            commit.run();
+            progress.chunkCopied(tableName, untilId, maxId);
+        }
+        progress.markFinished(tableName);
+    }
+
+    private void copyInParallel(SQLDB destination, List<List<TableCopy<?>>> independentCopies) {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_COPIES, new BasicThreadFactory.Builder()
+                .namingPattern("Plan BackupCopy-thread-%d")
+                .build());
+        try {
+            List<CompletableFuture<Void>> copying = new ArrayList<>();
+            for (List<TableCopy<?>> copies : independentCopies) {
+                copying.add(CompletableFuture.runAsync(() -> new TableCopyTransaction(copies).executeTransaction(destination), executor));
+            }
+            CompletableFuture.allOf(copying.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DBOpException) throw (DBOpException) cause;
+            throw new DBOpException("Copying tables failed: " + cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private void copyWebGroups() {
@@ -74,18 +176,6 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         execute(executableCreator.apply(sourceDB.query(dataQuery)));
     }
 
-    private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
-    }
-
-    private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
-    }
-
-    private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
-    }
-
     private void copyPlanWebUsers() {
         copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllUsers());
         copy(LargeStoreQueries::storeAllPreferences, WebUserQueries.fetchAllPreferences());
@@ -96,23 +186,46 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
     }
 
-    private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
-    }
-
-    private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
-    }
-
     private void copyWorldNames() {
         copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
     }
 
-    private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+    /**
+     * Copies a table from the source database in ranges of row ids.
+     *
+     * @param <T> Type of the data of a range.
+     */
+    private static class TableCopy<T> {
+        private final String tableName;
+        private final BiFunction<Integer, Integer, Query<T>> rangeQuery;
+        private final Function<T, Executable> executableCreator;
+
+        TableCopy(String tableName, BiFunction<Integer, Integer, Query<T>> rangeQuery, Function<T, Executable> executableCreator) {
+            this.tableName = tableName;
+            this.rangeQuery = rangeQuery;
+            this.executableCreator = executableCreator;
+        }
+
+        Executable copyRange(Database sourceDB, int afterId, int untilId) {
+            return executableCreator.apply(sourceDB.query(rangeQuery.apply(afterId, untilId)));
+        }
     }
 
-    private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+    /**
+     * Copies tables on its own connection, so that several tables can be copied at the same time.
+     */
+    private class TableCopyTransaction extends Transaction {
+        private final List<TableCopy<?>> copies;
+
+        TableCopyTransaction(List<TableCopy<?>> copies) {
+            this.copies = copies;
+        }
+
+        @Override
+        protected void performOperations() {
+            for (TableCopy<?> copy : copies) {
+                copyInChunks(copy, this::execute, this::commitMidTransaction);
+            }
+        }
     }
-}
\ No newline at end of file
+}
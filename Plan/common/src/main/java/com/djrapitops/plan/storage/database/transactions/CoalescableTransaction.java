@@ -0,0 +1,36 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+/**
+ * Interface for {@link Transaction}s that can be executed together with other transactions under a single commit.
+ * <p>
+ * Transactions with equal coalescing keys are gathered for a short while and then executed as a
+ * {@link CoalescedTransaction}. Each transaction is isolated with a save point, so a failure only rolls back its own changes.
+ *
+ * @author AuroraLS3
+ */
+public interface CoalescableTransaction {
+
+    /**
+     * Get the key that decides which transactions can be executed together.
+     *
+     * @return Key with proper equals and hashCode, eg. transaction class and server UUID.
+     */
+    Object getCoalescingKey();
+
+}
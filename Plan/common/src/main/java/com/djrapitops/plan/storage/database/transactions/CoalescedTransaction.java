@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import java.util.*;
+
+/**
+ * Transaction that executes multiple {@link CoalescableTransaction}s with a single connection and commit.
+ *
+ * @author AuroraLS3
+ */
+public class CoalescedTransaction extends Transaction {
+
+    private final List<Transaction> transactions;
+    private final Map<Transaction, RuntimeException> failures;
+
+    public CoalescedTransaction(List<Transaction> transactions) {
+        this.transactions = transactions;
+        failures = new IdentityHashMap<>();
+    }
+
+    @Override
+    protected void performOperations() {
+        // Transaction may be attempted again on deadlock
+        failures.clear();
+        for (Transaction transaction : transactions) {
+            try {
+                executeOtherIsolated(transaction);
+            } catch (RuntimeException failed) {
+                // Earlier members might have been rolled back too, so the whole batch fails or is attempted again.
+                if (failsWholeTransaction(failed)) throw failed;
+                failures.put(transaction, failed);
+            }
+        }
+    }
+
+    @Override
+    protected Collection<String> getWrittenTables() {
+        Set<String> writtenTables = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            writtenTables.addAll(transaction.getWrittenTables());
+        }
+        return writtenTables;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public Optional<RuntimeException> getFailure(Transaction transaction) {
+        return Optional.ofNullable(failures.get(transaction));
+    }
+
+    @Override
+    public String getName() {
+        return "Coalesced " + transactions.size() + "x " + (transactions.isEmpty() ? "" : transactions.get(0).getName());
+    }
+}
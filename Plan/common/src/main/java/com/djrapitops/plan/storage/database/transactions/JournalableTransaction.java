@@ -0,0 +1,40 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+/**
+ * Interface for event {@link Transaction}s that can be written to the transaction journal and executed later.
+ * <p>
+ * Transactions are journaled instead of queued while the database is unavailable or under high load,
+ * and are replayed in journal order once it is available again.
+ * Transactions that were already queued when the database became unavailable are journaled when they fail,
+ * which can be after newer transactions, so implementations should not depend on the order of execution.
+ * Each implementation needs a static {@code fromJournalEntry(String)} method registered in
+ * {@link com.djrapitops.plan.storage.database.TransactionJournal}.
+ *
+ * @author AuroraLS3
+ */
+public interface JournalableTransaction {
+
+    /**
+     * Serialize the data stored by this transaction.
+     *
+     * @return Entry that can be given to {@code fromJournalEntry} to create an equal transaction.
+     */
+    String toJournalEntry();
+
+}
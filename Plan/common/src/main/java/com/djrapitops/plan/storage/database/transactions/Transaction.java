@@ -17,23 +17,36 @@
 package com.djrapitops.plan.storage.database.transactions;
 
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.exceptions.database.DBUnavailableException;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.IdentityCache;
+import com.djrapitops.plan.storage.database.QueryCache;
 import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.CacheableQuery;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAPIQuery;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.objects.JoinAddressQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
 import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
 import com.djrapitops.plan.storage.database.queries.schema.SQLiteSchemaQueries;
 import com.djrapitops.plan.storage.database.transactions.patches.Patch;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
+import com.djrapitops.plan.utilities.metrics.Metric;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 
 import java.sql.*;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Represents a database transaction.
@@ -52,6 +65,8 @@ public abstract class Transaction {
 
     private Connection connection;
     private Savepoint savepoint;
+    private List<Consumer<IdentityCache>> identityCacheUpdates = new ArrayList<>();
+    private boolean isolationRollbackFailed;
 
     protected boolean success;
     protected int attempts;
@@ -69,6 +84,7 @@ public abstract class Transaction {
         this.dbType = db.getType();
 
         attempts++; // Keeps track how many attempts have been made to avoid infinite recursion.
+        long start = System.nanoTime();
 
         if (db.isUnderHeavyLoad()) {
             try {
@@ -79,6 +95,8 @@ public abstract class Transaction {
             }
         }
 
+        identityCacheUpdates.clear();
+        isolationRollbackFailed = false;
         try {
             initializeConnection(db);
             if (shouldBeExecuted()) {
@@ -88,12 +106,20 @@ public abstract class Transaction {
                 }
                 performOperations();
                 if (connection != null) connection.commit();
+                db.tablesWritten(getWrittenTables());
+                applyIdentityCacheUpdates();
             }
             success = true;
         } catch (SQLException statementFail) {
             manageFailure(statementFail); // Throws a DBOpException.
+        } catch (DBOpException statementFail) {
+            // Deadlocked statements roll back the whole transaction, so it is attempted again like a deadlocked commit.
+            Optional<SQLException> deadlock = getDeadlockOrLockWait(statementFail);
+            if (deadlock.isEmpty()) throw statementFail;
+            manageFailure(deadlock.get());
         } finally {
             db.returnToPool(connection);
+            Metric.TRANSACTION.recordFor(this, System.nanoTime() - start);
         }
     }
 
@@ -107,12 +133,12 @@ public abstract class Transaction {
         boolean mySQLDeadlock = dbType == DBType.MYSQL && errorCode == 1213;
         boolean deadlocked = mySQLDeadlock || statementFail instanceof SQLTransactionRollbackException;
         boolean lockWaitTimeout = errorCode == 1205;
-        if (mysqlOutdatedRead || deadlocked || lockWaitTimeout && attempts < ATTEMPT_LIMIT) {
+        if ((mysqlOutdatedRead || deadlocked || lockWaitTimeout) && attempts < ATTEMPT_LIMIT) {
             executeTransaction(db); // Recurse to attempt again.
             return;
         }
 
-        if (dbType == DBType.MYSQL && lockWaitTimeout) {
+        if (dbType == DBType.MYSQL && lockWaitTimeout && attempts == ATTEMPT_LIMIT) {
             if (!db.isUnderHeavyLoad()) {
                 db.getLogger().warn("Database appears to be under heavy load. Dropping some unimportant transactions and adding short pauses for next 10 minutes.");
                 db.getRunnableFactory().create(db::assumeNoMoreHeavyLoad)
@@ -127,6 +153,10 @@ public abstract class Transaction {
             failMsg += " (Attempted " + attempts + " times)";
         }
 
+        if (DBUnavailableException.isCausedByUnavailableDatabase(statementFail)) {
+            throw new DBUnavailableException(failMsg + rollbackStatusMsg, statementFail);
+        }
+
         throw new DBOpException(failMsg + rollbackStatusMsg, statementFail, ErrorContext.builder()
                 .related("Attempts: " + attempts)
                 .build());
@@ -153,12 +183,111 @@ public abstract class Transaction {
     protected void commitMidTransaction() {
         try {
             connection.commit();
+            db.tablesWritten(getWrittenTables());
+            applyIdentityCacheUpdates();
             initializeTransaction();
         } catch (SQLException e) {
             manageFailure(e);
         }
     }
 
+    private void applyIdentityCacheUpdates() {
+        IdentityCache identityCache = db.getIdentityCache();
+        for (Consumer<IdentityCache> update : identityCacheUpdates) {
+            update.accept(identityCache);
+        }
+        identityCacheUpdates.clear();
+    }
+
+    /**
+     * Update cached ids after this transaction has been committed.
+     * <p>
+     * Changes are discarded if the transaction is rolled back, so rows inserted or removed by it
+     * are not seen by other transactions too early.
+     *
+     * @param update Change to the cache, eg. removing ids of a removed player.
+     */
+    protected void updateIdentityCache(Consumer<IdentityCache> update) {
+        identityCacheUpdates.add(update);
+    }
+
+    /**
+     * Remove a cached user id that turned out to be outdated, eg. because another server removed the player.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    protected void evictUserId(UUID playerUUID) {
+        db.getIdentityCache().getUserIds().remove(playerUUID);
+    }
+
+    protected Optional<Integer> getUserId(UUID playerUUID) {
+        return getId(IdentityCache::getUserIds, playerUUID, () -> UserIdentifierQueries.fetchUserId(playerUUID));
+    }
+
+    /**
+     * Get the user id of a player from the database instead of the cache.
+     * <p>
+     * Use when a cached id should not be trusted, eg. on join, since another server might have removed the player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Id of the player, empty if the player is not registered.
+     */
+    protected Optional<Integer> getUserIdFromDatabase(UUID playerUUID) {
+        evictUserId(playerUUID);
+        return getUserId(playerUUID);
+    }
+
+    /**
+     * Register a player that was not found and get the id they were registered with.
+     * <p>
+     * Coalesced event batches of different servers are executed in parallel, so another batch might register the
+     * same player at the same time. The insert that loses the race waits for the other one and fails on the unique
+     * uuid, after which the id is read with a locking read, since a plain read could use a snapshot that was taken
+     * before the other transaction committed.
+     *
+     * @param playerUUID   UUID of the player.
+     * @param registration Insert of the player.
+     * @return Id of the player.
+     * @throws DBOpException If the insert failed and no other transaction registered the player either.
+     */
+    protected Optional<Integer> registerUser(UUID playerUUID, Executable registration) {
+        DBOpException failedInsert = null;
+        try {
+            execute(registration);
+        } catch (DBOpException failed) {
+            if (failsWholeTransaction(failed)) throw failed;
+            failedInsert = failed;
+        }
+
+        Optional<Integer> found = query(UserIdentifierQueries.fetchCommittedUserId(playerUUID, dbType));
+        if (found.isEmpty() && failedInsert != null) throw failedInsert;
+        found.ifPresent(id -> updateIdentityCache(cache -> cache.getUserIds().put(playerUUID, id)));
+        return found;
+    }
+
+    protected Optional<Integer> getServerId(ServerUUID serverUUID) {
+        return getId(IdentityCache::getServerIds, serverUUID, () -> ServerQueries.fetchServerId(serverUUID));
+    }
+
+    protected Optional<Integer> getWorldId(ServerUUID serverUUID, String worldName) {
+        return getId(IdentityCache::getWorldIds, IdentityCache.worldKey(serverUUID, worldName),
+                () -> WorldTimesQueries.fetchWorldId(serverUUID, worldName));
+    }
+
+    protected Optional<Integer> getJoinAddressId(String joinAddress) {
+        return getId(IdentityCache::getJoinAddressIds, joinAddress, () -> JoinAddressQueries.getIdOfJoinAddress(joinAddress));
+    }
+
+    private <K> Optional<Integer> getId(Function<IdentityCache, IdentityCache.Ids<K>> table, K key, Supplier<Query<Optional<Integer>>> lookup) {
+        Optional<Integer> cached = table.apply(db.getIdentityCache()).get(key);
+        if (cached.isPresent()) return cached;
+
+        Optional<Integer> found = query(lookup.get());
+        // The row might have been inserted by this transaction, so it is not cached before commit.
+        found.ifPresent(id -> updateIdentityCache(cache -> table.apply(cache).put(key, id)));
+        return found;
+    }
+
     /**
      * Override this method for conditional execution.
      * <p>
@@ -176,11 +305,25 @@ public abstract class Transaction {
      */
     protected abstract void performOperations();
 
+    /**
+     * Get the tables this transaction writes to, cached query results that read them are invalidated after commit.
+     * <p>
+     * Override for frequent transactions that only write to some tables.
+     * Tables written by transactions executed with {@link #executeOther(Transaction)} need to be included.
+     *
+     * @return Names of the written tables, by default {@link QueryCache#ANY_TABLE}.
+     */
+    protected Collection<String> getWrittenTables() {
+        return List.of(QueryCache.ANY_TABLE);
+    }
+
     private void initializeConnection(SQLDB db) {
+        long start = System.nanoTime();
         try {
             this.connection = db.getConnection();
+            Metric.CONNECTION_ACQUIRE.record(dbType.getName(), System.nanoTime() - start);
         } catch (SQLException e) {
-            throw new DBOpException(getClass().getSimpleName() + " initialization failed: " + e.getMessage(), e);
+            throw new DBUnavailableException(getClass().getSimpleName() + " initialization failed: " + e.getMessage(), e);
         }
     }
 
@@ -212,17 +355,31 @@ public abstract class Transaction {
     }
 
     protected <T> T query(Query<T> query) {
-        if (query instanceof QueryStatement) {
-            return ((QueryStatement<T>) query).executeWithConnection(connection);
-        } else if (query instanceof QueryAPIQuery) {
-            return ((QueryAPIQuery<T>) query).executeWithConnection(connection);
-        } else {
-            return db.queryWithinTransaction(query, this);
+        if (query instanceof CacheableQuery) {
+            // Uncommitted changes of this transaction should be visible to the query.
+            return query(((CacheableQuery<T>) query).getQuery());
+        }
+        long start = System.nanoTime();
+        try {
+            if (query instanceof QueryStatement) {
+                return ((QueryStatement<T>) query).executeWithConnection(connection);
+            } else if (query instanceof QueryAPIQuery) {
+                return ((QueryAPIQuery<T>) query).executeWithConnection(connection);
+            } else {
+                return db.queryWithinTransaction(query, this);
+            }
+        } finally {
+            Metric.QUERY.recordFor(query, System.nanoTime() - start);
         }
     }
 
     protected boolean execute(Executable executable) {
-        return executable.execute(connection);
+        long start = System.nanoTime();
+        try {
+            return executable.execute(connection);
+        } finally {
+            Metric.STATEMENT.recordFor(executable, System.nanoTime() - start);
+        }
     }
 
     protected int executeReturningId(ExecStatement executable) {
@@ -254,14 +411,99 @@ public abstract class Transaction {
         transaction.db = db;
         transaction.dbType = dbType;
         transaction.connection = this.connection;
-        if (transaction.shouldBeExecuted()) {
-            transaction.performOperations();
+        List<Consumer<IdentityCache>> ownIdentityCacheUpdates = transaction.identityCacheUpdates;
+        transaction.identityCacheUpdates = identityCacheUpdates;
+        try {
+            if (transaction.shouldBeExecuted()) {
+                transaction.performOperations();
+            }
+        } finally {
+            transaction.identityCacheUpdates = ownIdentityCacheUpdates;
         }
         transaction.connection = null;
         transaction.dbType = null;
         transaction.db = null;
     }
 
+    /**
+     * Execute another transaction inside this one, rolling back only its changes if it fails.
+     *
+     * @param transaction Transaction to execute.
+     * @throws RuntimeException If the other transaction fails, after its changes have been rolled back.
+     */
+    protected void executeOtherIsolated(Transaction transaction) {
+        Savepoint isolationPoint = createIsolationPoint();
+        int identityCacheUpdateCount = identityCacheUpdates.size();
+        try {
+            executeOther(transaction);
+        } catch (RuntimeException failed) {
+            identityCacheUpdates.subList(identityCacheUpdateCount, identityCacheUpdates.size()).clear();
+            if (isolationPoint != null) {
+                try {
+                    connection.rollback(isolationPoint);
+                } catch (SQLException rollbackFail) {
+                    // Eg. MySQL rolls back the whole transaction on deadlock, so earlier changes are gone too.
+                    isolationRollbackFailed = true;
+                    failed.addSuppressed(rollbackFail);
+                }
+            }
+            throw failed;
+        }
+        if (isolationPoint != null) {
+            try {
+                connection.releaseSavepoint(isolationPoint);
+            } catch (SQLException ignored) {
+                // Save point is released at commit in any case.
+            }
+        }
+    }
+
+    /**
+     * Check if a failure of a transaction executed with {@link #executeOtherIsolated(Transaction)} should fail this
+     * whole transaction instead of only the other one.
+     * <p>
+     * This is the case when the database is unavailable, on deadlocks and lock wait timeouts that are retried by
+     * attempting this whole transaction again, and when changes of the other transaction could not be rolled back.
+     *
+     * @param failed Exception thrown by {@link #executeOtherIsolated(Transaction)}.
+     * @return true if the exception should be rethrown.
+     */
+    protected boolean failsWholeTransaction(RuntimeException failed) {
+        return isolationRollbackFailed
+                || DBUnavailableException.isCausedByUnavailableDatabase(failed)
+                || getDeadlockOrLockWait(failed).isPresent();
+    }
+
+    private static Optional<SQLException> getDeadlockOrLockWait(Throwable failure) {
+        Throwable cause = failure;
+        while (cause != null) {
+            if (cause instanceof SQLException && isDeadlockOrLockWait((SQLException) cause)) {
+                return Optional.of((SQLException) cause);
+            }
+            cause = cause.getCause() != cause ? cause.getCause() : null;
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isDeadlockOrLockWait(SQLException failure) {
+        int errorCode = failure.getErrorCode();
+        return failure instanceof SQLTransactionRollbackException
+                || "40001".equals(failure.getSQLState())
+                || errorCode == 1213 || errorCode == 1205;
+    }
+
+    private Savepoint createIsolationPoint() {
+        if (!SUPPORTS_SAVE_POINTS.get()) return null;
+        try {
+            return connection.setSavepoint();
+        } catch (SQLFeatureNotSupportedException noSavePoints) {
+            SUPPORTS_SAVE_POINTS.set(false);
+            return null;
+        } catch (SQLException e) {
+            throw new DBOpException(getClass().getSimpleName() + " save point initialization failed: " + e.getMessage(), e);
+        }
+    }
+
     protected Database.State getDBState() {
         return db.getState();
     }
@@ -283,6 +525,17 @@ public abstract class Transaction {
         return !db.isUnderHeavyLoad() && !db.shouldDropUnimportantTransactions();
     }
 
+    /**
+     * Get the lane this transaction is scheduled on.
+     * <p>
+     * Override for transactions that should not be executed as gathered data, eg. cleanup.
+     *
+     * @return Lane that decides the priority of the transaction.
+     */
+    public TransactionLane getLane() {
+        return TransactionLane.EVENT;
+    }
+
     public String getName() {
         String simpleName = getClass().getSimpleName();
         return simpleName.isEmpty() ? getClass().getName() : simpleName;
@@ -0,0 +1,63 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+/**
+ * Lanes of the transaction scheduler, in order of priority.
+ * <p>
+ * Each lane has its own queue, so slow maintenance work does not hold back data gathering.
+ *
+ * @author AuroraLS3
+ */
+public enum TransactionLane {
+
+    /**
+     * Transactions required for the database to be operable, executed alone.
+     */
+    CRITICAL(true),
+    /**
+     * Schema patches and other transactions that modify large parts of the database, executed alone.
+     */
+    PATCH(true),
+    /**
+     * Transactions that store gathered data, may be executed in parallel on databases that support it.
+     */
+    EVENT(false),
+    /**
+     * Cleanup and other upkeep transactions that can wait.
+     */
+    MAINTENANCE(false),
+    /**
+     * Bulk writes of the web server access log, executed when there is time for it.
+     */
+    ACCESS_LOG(false);
+
+    private final boolean exclusive;
+
+    TransactionLane(boolean exclusive) {
+        this.exclusive = exclusive;
+    }
+
+    /**
+     * Check if transactions on this lane are executed while no other transactions are running.
+     *
+     * @return true if executed alone.
+     */
+    public boolean isExclusive() {
+        return exclusive;
+    }
+}
@@ -52,6 +52,10 @@ public class ChangeUserUUIDTransaction extends Transaction {
         execute(updateUUID(ExtensionPlayerTableValueTable.TABLE_NAME, ExtensionPlayerTableValueTable.USER_UUID));
         execute(updateUUID(NicknamesTable.TABLE_NAME, NicknamesTable.USER_UUID));
         execute(updateUUID(UsersTable.TABLE_NAME, UsersTable.USER_UUID));
+        updateIdentityCache(cache -> {
+            cache.getUserIds().remove(oldUUID);
+            cache.getUserIds().remove(newUUID);
+        });
         execute(updateUUID(KillsTable.TABLE_NAME, KillsTable.VICTIM_UUID));
         execute(updateUUID(KillsTable.TABLE_NAME, KillsTable.KILLER_UUID));
 
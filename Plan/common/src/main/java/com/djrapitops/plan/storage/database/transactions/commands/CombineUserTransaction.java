@@ -52,6 +52,7 @@ public class CombineUserTransaction extends ChangeUserUUIDTransaction {
         execute(updateUserId(PingTable.TABLE_NAME, PingTable.USER_ID, oldId, newId));
         execute(updateUserId(SessionsTable.TABLE_NAME, SessionsTable.USER_ID, oldId, newId));
         execute(updateUserId(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID, oldId, newId));
+        recalculateActivePlaytime(oldId, newId);
 
         execute(updateUserInfo(newId, oldId));
         execute(DELETE_FROM + UserInfoTable.TABLE_NAME + WHERE + UserInfoTable.USER_ID + "=" + oldId);
@@ -60,6 +61,11 @@ public class CombineUserTransaction extends ChangeUserUUIDTransaction {
         super.performOperations(); // Change UUID fields to match where user_id is not used
     }
 
+    private void recalculateActivePlaytime(Integer oldId, Integer newId) {
+        execute(DELETE_FROM + ActivePlaytimeTable.TABLE_NAME + WHERE + ActivePlaytimeTable.USER_ID + " IN (" + oldId + ',' + newId + ')');
+        execute(ActivePlaytimeTable.INSERT_FROM_SESSIONS + WHERE + SessionsTable.USER_ID + "=" + newId + ActivePlaytimeTable.GROUP_BY_SESSION_DAY);
+    }
+
     private Executable updateUserInfo(Integer newId, Integer oldId) {
         String sql = "UPDATE " + UserInfoTable.TABLE_NAME +
                 " SET " + UserInfoTable.USER_ID + "=?" +
@@ -57,9 +57,11 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromKillsTable();
         deleteFromUserIdTable(WorldTimesTable.TABLE_NAME);
         deleteFromUserIdTable(SessionsTable.TABLE_NAME);
+        deleteFromUserIdTable(ActivePlaytimeTable.TABLE_NAME);
         deleteFromUserIdTable(PingTable.TABLE_NAME);
         deleteFromUserIdTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
+        updateIdentityCache(cache -> cache.getUserIds().remove(playerUUID));
 
         deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
         deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME);
@@ -21,13 +21,18 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
-import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.CoalescableTransaction;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.utilities.Predicates;
 import com.djrapitops.plan.utilities.analysis.Median;
 import com.djrapitops.plan.utilities.java.Lists;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -35,33 +40,70 @@ import java.util.UUID;
  *
  * @author AuroraLS3
  */
-public class PingStoreTransaction extends Transaction {
+public class PingStoreTransaction extends Transaction implements CoalescableTransaction, JournalableTransaction {
 
     private final UUID playerUUID;
     private final ServerUUID serverUUID;
-    private final List<DateObj<Integer>> pingList;
-
+    private final Ping aggregatedPing;
+
+    /**
+     * Store ping samples of a player as a single aggregated row.
+     *
+     * @param playerUUID UUID of the player.
+     * @param serverUUID UUID of the server the samples were taken on.
+     * @param pingList   Ping samples, last sample decides the date of the row.
+     */
     public PingStoreTransaction(UUID playerUUID, ServerUUID serverUUID, List<DateObj<Integer>> pingList) {
+        this(playerUUID, aggregate(serverUUID, pingList));
+    }
+
+    /**
+     * Store a ping row that was already aggregated from samples, eg. by {@link com.djrapitops.plan.gathering.timed.PingSampler}.
+     *
+     * @param playerUUID     UUID of the player.
+     * @param aggregatedPing Aggregated ping row.
+     */
+    public PingStoreTransaction(UUID playerUUID, Ping aggregatedPing) {
         this.playerUUID = playerUUID;
-        this.serverUUID = serverUUID;
-        this.pingList = pingList;
+        this.serverUUID = aggregatedPing.getServerUUID();
+        this.aggregatedPing = aggregatedPing;
+    }
+
+    public static PingStoreTransaction fromJournalEntry(String entry) {
+        String[] values = entry.split(";");
+        Ping ping = new Ping(Long.parseLong(values[2]), ServerUUID.fromString(values[1]),
+                Integer.parseInt(values[3]), Integer.parseInt(values[4]), Double.parseDouble(values[5]));
+        return new PingStoreTransaction(UUID.fromString(values[0]), ping);
     }
 
     @Override
-    protected void performOperations() {
-        Ping ping = calculateAggregatePing();
+    public String toJournalEntry() {
+        return String.valueOf(playerUUID) + ';' + serverUUID + ';' + aggregatedPing.getDate() + ';' +
+                aggregatedPing.getMin() + ';' + aggregatedPing.getMax() + ';' + aggregatedPing.getAverage();
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return List.of(getClass(), serverUUID);
+    }
+
+    @Override
+    protected Collection<String> getWrittenTables() {
+        return List.of(PingTable.TABLE_NAME, UsersTable.TABLE_NAME);
+    }
 
-        DBOpException userInsertError = null;
-        if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(playerUUID)))) {
-            userInsertError = tryToRegisterUser(ping.getDate());
+    @Override
+    protected void performOperations() {
+        Optional<Integer> userId = getUserId(playerUUID);
+        if (userId.isEmpty()) {
+            userId = registerUser(aggregatedPing.getDate());
         }
 
         try {
-            execute(DataStoreQueries.storePing(playerUUID, serverUUID, ping));
+            storePing(userId.orElse(null), aggregatedPing);
         } catch (DBOpException failed) {
-            if (userInsertError != null) failed.addSuppressed(userInsertError);
             if (failed.isUserIdConstraintViolation() || failed.isDuplicateKeyViolation()) {
-                retry(ping, failed);
+                retry(aggregatedPing, failed);
             } else {
                 throw failed;
             }
@@ -69,53 +111,55 @@ public class PingStoreTransaction extends Transaction {
     }
 
     private void retry(Ping ping, DBOpException failed) {
-        DBOpException userInsertError = null;
         try {
-            userInsertError = tryToRegisterUser(ping.getDate());
-            execute(DataStoreQueries.storePing(playerUUID, serverUUID, ping));
+            evictUserId(playerUUID);
+            storePing(registerUser(ping.getDate()).orElse(null), ping);
         } catch (DBOpException failedAgain) {
-            if (userInsertError != null) failedAgain.addSuppressed(userInsertError);
             failedAgain.addSuppressed(failed);
             throw failedAgain;
         }
     }
 
-    private DBOpException tryToRegisterUser(long date) {
-        try {
-            execute(DataStoreQueries.registerBaseUser(playerUUID, date, playerUUID.toString()));
-            return null;
-        } catch (DBOpException failedInsert) {
-            return failedInsert;
-        }
+    private void storePing(Integer userId, Ping ping) {
+        Integer serverId = getServerId(serverUUID).orElse(null);
+        execute(DataStoreQueries.storePing(userId, serverId, ping));
+    }
+
+    private Optional<Integer> registerUser(long date) {
+        return registerUser(playerUUID, DataStoreQueries.registerBaseUser(playerUUID, date, playerUUID.toString()));
     }
 
-    private Ping calculateAggregatePing() {
-        long lastDate = pingList.get(pingList.size() - 1).getDate();
+    private static Ping aggregate(ServerUUID serverUUID, List<DateObj<Integer>> pingList) {
+        long lastDate = pingList.isEmpty() ? 0L : pingList.get(pingList.size() - 1).getDate();
 
-        int minValue = getMinValue();
-        int meanValue = getMeanValue();
-        int maxValue = getMax();
+        int minValue = getMinValue(pingList);
+        int meanValue = getMeanValue(pingList);
+        int maxValue = getMax(pingList);
 
         return new Ping(lastDate, serverUUID, minValue, maxValue, meanValue);
     }
 
-    private int getMinValue() {
+    private static int getMinValue(List<DateObj<Integer>> pingList) {
         return pingList.stream()
                 .mapToInt(DateObj::getValue)
                 .filter(Predicates::pingInRange)
                 .min().orElse(-1);
     }
 
-    private int getMax() {
+    private static int getMax(List<DateObj<Integer>> pingList) {
         return pingList.stream()
                 .mapToInt(DateObj::getValue)
                 .filter(Predicates::pingInRange)
                 .max().orElse(-1);
     }
 
-    // VisibleForTesting
-    int getMeanValue() {
+    private static int getMeanValue(List<DateObj<Integer>> pingList) {
         List<Integer> values = Lists.map(pingList, DateObj::getValue);
         return (int) Median.forList(values).calculate();
     }
-}
\ No newline at end of file
+
+    // VisibleForTesting
+    int getMeanValue() {
+        return (int) aggregatedPing.getAverage();
+    }
+}
@@ -19,7 +19,6 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
-import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.util.Optional;
@@ -52,7 +51,7 @@ public class PlayerRegisterTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
-        if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(playerUUID)))) {
+        if (getUserIdFromDatabase(playerUUID).isEmpty()) {
             long registerDate = registered.getAsLong();
             insertUser(registerDate);
             SessionCache.getCachedSession(playerUUID).ifPresent(session -> session.setAsFirstSessionIfMatches(registerDate));
@@ -65,6 +64,10 @@ public class PlayerRegisterTransaction extends Transaction {
     private void insertUser(long registerDate) {
         try {
             userId = executeReturningId(DataStoreQueries.registerBaseUser(playerUUID, registerDate, playerName));
+            if (userId > 0) {
+                int insertedId = userId;
+                updateIdentityCache(cache -> cache.getUserIds().put(playerUUID, insertedId));
+            }
         } catch (DBOpException failed) {
             boolean alreadySaved = failed.getMessage().contains("Duplicate entry");
             if (!alreadySaved) {
@@ -38,7 +38,7 @@ public class ServerShutdownTransaction extends ThrowawayTransaction {
 
     @Override
     protected void performOperations() {
-        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions));
+        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions, dbType));
         SessionCache.clear();
     }
 }
\ No newline at end of file
@@ -39,7 +39,7 @@ public class ShutdownDataPreservationTransaction extends Transaction {
     protected void performOperations() {
         ensureAllPlayersAreRegistered();
 
-        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(finishedSessions));
+        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(finishedSessions, dbType));
     }
 
     private void ensureAllPlayersAreRegistered() {
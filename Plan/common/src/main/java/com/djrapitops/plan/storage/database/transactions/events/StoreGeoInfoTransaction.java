@@ -19,10 +19,14 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
-import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 
 import java.net.InetAddress;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 
@@ -31,7 +35,7 @@ import java.util.function.UnaryOperator;
  *
  * @author AuroraLS3
  */
-public class StoreGeoInfoTransaction extends Transaction {
+public class StoreGeoInfoTransaction extends Transaction implements JournalableTransaction {
 
     private final UUID playerUUID;
     private String ip;
@@ -64,23 +68,42 @@ public class StoreGeoInfoTransaction extends Transaction {
         this.geoInfo = geoInfo;
     }
 
+    public static StoreGeoInfoTransaction fromJournalEntry(String entry) {
+        String[] values = entry.split(";", 3);
+        String geolocation = values[2].isEmpty() ? null : values[2];
+        return new StoreGeoInfoTransaction(UUID.fromString(values[0]), new GeoInfo(geolocation, Long.parseLong(values[1])));
+    }
+
+    @Override
+    public String toJournalEntry() {
+        // The IP is not journaled, so geolocation is resolved before writing.
+        if (geoInfo == null) geoInfo = createGeoInfo();
+        String geolocation = geoInfo.getGeolocation();
+        return String.valueOf(playerUUID) + ';' + geoInfo.getDate() + ';' + (geolocation != null ? geolocation : "");
+    }
+
     private GeoInfo createGeoInfo() {
         // Can return null
         String country = geolocationFunction.apply(ip);
         return new GeoInfo(country, time);
     }
 
+    @Override
+    protected Collection<String> getWrittenTables() {
+        return List.of(GeoInfoTable.TABLE_NAME, UsersTable.TABLE_NAME);
+    }
+
     @Override
     protected void performOperations() {
         if (geoInfo == null) geoInfo = createGeoInfo();
         if (geoInfo.getGeolocation() == null) return; // Don't save null geolocation.
 
-        if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(playerUUID)))) {
+        if (getUserId(playerUUID).isEmpty()) {
             registerPlayer();
         }
 
         try {
-            execute(DataStoreQueries.storeGeoInfo(playerUUID, geoInfo));
+            storeGeoInfo();
         } catch (DBOpException failed) {
             if (failed.isUserIdConstraintViolation()) {
                 retry(failed);
@@ -92,14 +115,19 @@ public class StoreGeoInfoTransaction extends Transaction {
 
     private void retry(DBOpException failed) {
         try {
+            evictUserId(playerUUID);
             executeOther(new PlayerRegisterTransaction(playerUUID, System::currentTimeMillis, playerUUID.toString()));
-            execute(DataStoreQueries.storeGeoInfo(playerUUID, geoInfo));
+            storeGeoInfo();
         } catch (DBOpException failedAgain) {
             failedAgain.addSuppressed(failed);
             throw failedAgain;
         }
     }
 
+    private void storeGeoInfo() {
+        execute(DataStoreQueries.storeGeoInfo(getUserId(playerUUID).orElse(null), geoInfo));
+    }
+
     private void registerPlayer() {
         try {
             execute(DataStoreQueries.registerBaseUser(playerUUID, geoInfo.getDate(), playerUUID.toString()));
@@ -17,9 +17,14 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.sql.tables.NicknamesTable;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 
@@ -28,7 +33,7 @@ import java.util.function.BiPredicate;
  *
  * @author AuroraLS3
  */
-public class StoreNicknameTransaction extends ThrowawayTransaction {
+public class StoreNicknameTransaction extends ThrowawayTransaction implements JournalableTransaction {
 
     private final UUID playerUUID;
     private final Nickname nickname;
@@ -40,11 +45,28 @@ public class StoreNicknameTransaction extends ThrowawayTransaction {
         this.isNicknameCachedCheck = isNicknameCachedCheck;
     }
 
+    public static StoreNicknameTransaction fromJournalEntry(String entry) {
+        String[] values = entry.split(";", 4);
+        Nickname nickname = new Nickname(values[3], Long.parseLong(values[2]), ServerUUID.fromString(values[1]));
+        // Nickname cache is not available during replay, storing the nickname again only updates the last seen date.
+        return new StoreNicknameTransaction(UUID.fromString(values[0]), nickname, (uuid, name) -> false);
+    }
+
+    @Override
+    public String toJournalEntry() {
+        return String.valueOf(playerUUID) + ';' + nickname.getServerUUID() + ';' + nickname.getDate() + ';' + nickname.getName();
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return !isNicknameCachedCheck.test(playerUUID, nickname.getName());
     }
 
+    @Override
+    protected Collection<String> getWrittenTables() {
+        return List.of(NicknamesTable.TABLE_NAME);
+    }
+
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storePlayerNickname(playerUUID, nickname));
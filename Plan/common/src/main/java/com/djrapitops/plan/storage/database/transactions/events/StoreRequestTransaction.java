@@ -19,27 +19,27 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.webserver.http.InternalRequest;
 import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
-import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * Stores a batch of web server access log entries.
+ *
+ * @author AuroraLS3
+ */
 public class StoreRequestTransaction extends ThrowawayTransaction {
 
-    private final long timestamp;
-    private final String accessAddress;
-    private final String method;
-    private final String url;
-    private final int responseCode;
+    private final List<Entry> requests;
 
-    public StoreRequestTransaction(long timestamp, String accessAddress, String method, String url, int responseCode) {
-        this.timestamp = timestamp;
-        this.accessAddress = accessAddress;
-        this.method = method;
-        this.url = url;
-        this.responseCode = responseCode;
+    public StoreRequestTransaction(List<Entry> requests) {
+        this.requests = requests;
     }
 
     public static String getTruncatedURI(Request request, InternalRequest internalRequest) {
@@ -51,17 +51,54 @@ public class StoreRequestTransaction extends ThrowawayTransaction {
         return StringUtils.truncate(uri, 65000);
     }
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.ACCESS_LOG;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !requests.isEmpty();
+    }
+
+    @Override
+    protected Collection<String> getWrittenTables() {
+        return List.of(AccessLogTable.TABLE_NAME);
+    }
+
     @Override
     protected void performOperations() {
-        execute(new ExecStatement(AccessLogTable.INSERT_NO_USER) {
+        execute(new ExecBatchStatement(AccessLogTable.INSERT_NO_USER) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, timestamp);
-                statement.setString(2, StringUtils.truncate(accessAddress, 45));
-                statement.setString(3, method);
-                statement.setString(4, url);
-                statement.setInt(5, responseCode);
+                for (Entry request : requests) {
+                    statement.setLong(1, request.timestamp);
+                    statement.setString(2, StringUtils.truncate(request.accessAddress, 45));
+                    statement.setString(3, request.method);
+                    statement.setString(4, request.url);
+                    statement.setInt(5, request.responseCode);
+                    statement.addBatch();
+                }
             }
         });
     }
+
+    /**
+     * A single row of the access log.
+     */
+    public static class Entry {
+        private final long timestamp;
+        private final String accessAddress;
+        private final String method;
+        private final String url;
+        private final int responseCode;
+
+        public Entry(long timestamp, String accessAddress, String method, String url, int responseCode) {
+            this.timestamp = timestamp;
+            this.accessAddress = accessAddress;
+            this.method = method;
+            this.url = url;
+            this.responseCode = responseCode;
+        }
+    }
 }
@@ -19,19 +19,23 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
-import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.transactions.CoalescableTransaction;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import org.apache.commons.lang3.StringUtils;
 
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Transaction for storing a session after a session has ended.
  *
  * @author AuroraLS3
  */
-public class StoreSessionTransaction extends Transaction {
+public class StoreSessionTransaction extends Transaction implements CoalescableTransaction, JournalableTransaction {
 
     private final FinishedSession session;
 
@@ -39,13 +43,36 @@ public class StoreSessionTransaction extends Transaction {
         this.session = session;
     }
 
+    public static StoreSessionTransaction fromJournalEntry(String entry) {
+        return FinishedSession.deserializeCSV(entry)
+                .map(StoreSessionTransaction::new)
+                .orElseThrow(() -> new IllegalArgumentException("Malformed session journal entry"));
+    }
+
+    @Override
+    public String toJournalEntry() {
+        return session.serializeCSV();
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return List.of(getClass(), session.getServerUUID());
+    }
+
+    @Override
+    protected Collection<String> getWrittenTables() {
+        return List.of(SessionsTable.TABLE_NAME, KillsTable.TABLE_NAME, ActivePlaytimeTable.TABLE_NAME,
+                WorldTimesTable.TABLE_NAME, JoinAddressTable.TABLE_NAME, UsersTable.TABLE_NAME);
+    }
+
     @Override
     protected void performOperations() {
-        if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(session.getPlayerUUID())))) {
-            registerPlayer();
+        Optional<Integer> userId = getUserId(session.getPlayerUUID());
+        if (userId.isEmpty()) {
+            userId = registerPlayer();
         }
         try {
-            storeSession();
+            storeSession(userId.orElse(null));
         } catch (DBOpException failed) {
             if (failed.isUserIdConstraintViolation()) {
                 retry(failed);
@@ -55,37 +82,52 @@ public class StoreSessionTransaction extends Transaction {
         }
     }
 
-    private void storeSession() {
-        storeJoinAddressIfPresent();
-        execute(DataStoreQueries.storeSession(session));
+    private void storeSession(Integer userId) {
+        Integer serverId = getServerId(session.getServerUUID()).orElse(null);
+        Integer joinAddressId = getOrStoreJoinAddressId().orElse(null);
+        execute(DataStoreQueries.storeSession(session, userId, serverId, joinAddressId, getWorldIds(), dbType));
     }
 
-    private void storeJoinAddressIfPresent() {
-        session.getExtraData(JoinAddress.class)
+    private Optional<Integer> getOrStoreJoinAddressId() {
+        Optional<String> joinAddress = session.getExtraData(JoinAddress.class)
                 .map(JoinAddress::getAddress)
-                .map(StoreJoinAddressTransaction::new)
-                .ifPresent(this::executeOther);
+                .map(address -> StringUtils.truncate(address, JoinAddressTable.JOIN_ADDRESS_MAX_LENGTH));
+        if (joinAddress.isEmpty()) return getJoinAddressId(JoinAddressTable.DEFAULT_VALUE_FOR_LOOKUP);
+
+        Optional<Integer> joinAddressId = getJoinAddressId(joinAddress.get());
+        if (joinAddressId.isPresent()) return joinAddressId;
+
+        executeOther(new StoreJoinAddressTransaction(joinAddress.get()));
+        return getJoinAddressId(joinAddress.get());
+    }
+
+    private Map<String, Integer> getWorldIds() {
+        Map<String, Integer> worldIds = new HashMap<>();
+        session.getExtraData(WorldTimes.class).ifPresent(worldTimes -> {
+            for (String worldName : worldTimes.getWorldTimes().keySet()) {
+                getWorldId(session.getServerUUID(), worldName)
+                        .ifPresent(worldId -> worldIds.put(worldName, worldId));
+            }
+        });
+        return worldIds;
     }
 
     private void retry(DBOpException failed) {
         try {
-            registerPlayer();
-            storeSession();
+            // Player might have been removed by another server since the id was cached.
+            evictUserId(session.getPlayerUUID());
+            storeSession(registerPlayer().orElse(null));
         } catch (DBOpException anotherFail) {
             anotherFail.addSuppressed(failed);
             throw anotherFail;
         }
     }
 
-    private void registerPlayer() {
-        try {
-            UUID playerUUID = session.getPlayerUUID();
-            String playerName = session.getExtraData(PlayerName.class)
-                    .map(PlayerName::get)
-                    .orElseGet(playerUUID::toString);
-            execute(DataStoreQueries.registerBaseUser(playerUUID, session.getStart(), playerName));
-        } catch (DBOpException ignored) {
-            // Ignored. Likely that another transaction managed to insert first.
-        }
+    private Optional<Integer> registerPlayer() {
+        UUID playerUUID = session.getPlayerUUID();
+        String playerName = session.getExtraData(PlayerName.class)
+                .map(PlayerName::get)
+                .orElseGet(playerUUID::toString);
+        return registerUser(playerUUID, DataStoreQueries.registerBaseUser(playerUUID, session.getStart(), playerName));
     }
-}
\ No newline at end of file
+}
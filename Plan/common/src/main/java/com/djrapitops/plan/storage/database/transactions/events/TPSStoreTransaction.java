@@ -20,9 +20,15 @@ import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
+import com.djrapitops.plan.storage.database.transactions.CoalescableTransaction;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import net.playeranalytics.plugin.server.PluginLogger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -30,30 +36,76 @@ import java.util.concurrent.TimeUnit;
  *
  * @author AuroraLS3
  */
-public class TPSStoreTransaction extends Transaction {
+public class TPSStoreTransaction extends Transaction implements CoalescableTransaction, JournalableTransaction {
 
     private static long lastStorageCheck = 0L;
 
     private final PluginLogger logger;
     private final ServerUUID serverUUID;
-    private final TPS tps;
+    private final List<TPS> tpsList;
 
     public TPSStoreTransaction(PluginLogger logger, ServerUUID serverUUID, TPS tps) {
+        this(logger, serverUUID, List.of(tps));
+    }
+
+    /**
+     * Store multiple buffered TPS data points in one batch.
+     *
+     * @param logger     Logger for warning about duplicate server UUIDs.
+     * @param serverUUID UUID of the server.
+     * @param tpsList    TPS data points in the order they were gathered.
+     */
+    public TPSStoreTransaction(PluginLogger logger, ServerUUID serverUUID, List<TPS> tpsList) {
         this.serverUUID = serverUUID;
-        this.tps = tps;
+        this.tpsList = tpsList;
         this.logger = logger;
     }
 
     public TPSStoreTransaction(ServerUUID serverUUID, TPS tps) {
-        this.serverUUID = serverUUID;
-        this.tps = tps;
-        logger = null;
+        this(null, serverUUID, List.of(tps));
+    }
+
+    public static TPSStoreTransaction fromJournalEntry(String entry) {
+        String[] values = entry.split(";");
+        List<TPS> tpsList = new ArrayList<>();
+        // Server UUID is followed by 10 values for each data point
+        for (int i = 1; i + 9 < values.length; i += 10) {
+            TPS tps = new TPS(Long.parseLong(values[i]), Double.parseDouble(values[i + 1]), Integer.parseInt(values[i + 2]),
+                    Double.parseDouble(values[i + 3]), Long.parseLong(values[i + 4]), Integer.parseInt(values[i + 5]),
+                    Integer.parseInt(values[i + 6]), Long.parseLong(values[i + 7]));
+            if (!"null".equals(values[i + 8])) tps.setMsptAverage(Double.parseDouble(values[i + 8]));
+            if (!"null".equals(values[i + 9])) tps.setMspt95thPercentile(Double.parseDouble(values[i + 9]));
+            tpsList.add(tps);
+        }
+        return new TPSStoreTransaction(null, ServerUUID.fromString(values[0]), tpsList);
+    }
+
+    @Override
+    public String toJournalEntry() {
+        StringBuilder entry = new StringBuilder().append(serverUUID);
+        for (TPS tps : tpsList) {
+            entry.append(';').append(tps.getDate()).append(';').append(tps.getTicksPerSecond()).append(';')
+                    .append(tps.getPlayers()).append(';').append(tps.getCPUUsage()).append(';').append(tps.getUsedMemory()).append(';')
+                    .append(tps.getEntityCount()).append(';').append(tps.getChunksLoaded()).append(';').append(tps.getFreeDiskSpace()).append(';')
+                    .append(tps.getMsptAverage()).append(';').append(tps.getMspt95thPercentile());
+        }
+        return entry.toString();
     }
 
     public static void setLastStorageCheck(long lastStorageCheck) {
         TPSStoreTransaction.lastStorageCheck = lastStorageCheck;
     }
 
+    @Override
+    public Object getCoalescingKey() {
+        return List.of(getClass(), serverUUID);
+    }
+
+    @Override
+    protected Collection<String> getWrittenTables() {
+        return List.of(TPSTable.TABLE_NAME);
+    }
+
     @Override
     protected void performOperations() {
         long now = System.currentTimeMillis();
@@ -62,7 +114,7 @@ public class TPSStoreTransaction extends Transaction {
             TPSStoreTransaction.setLastStorageCheck(now);
         }
 
-        execute(DataStoreQueries.storeTPS(serverUUID, tps));
+        execute(DataStoreQueries.storeTPS(getServerId(serverUUID).orElse(null), tpsList));
     }
 
     private void performDuplicateServerUUIDServerCheck(long now) {
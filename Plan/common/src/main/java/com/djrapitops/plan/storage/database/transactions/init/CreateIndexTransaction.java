@@ -20,6 +20,7 @@ import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 import org.apache.commons.text.TextStringBuilder;
 
 /**
@@ -29,6 +30,11 @@ import org.apache.commons.text.TextStringBuilder;
  */
 public class CreateIndexTransaction extends Transaction {
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.MAINTENANCE;
+    }
+
     @Override
     protected void performOperations() {
         createIndex(UsersTable.TABLE_NAME, "plan_users_uuid_index",
@@ -66,6 +72,33 @@ public class CreateIndexTransaction extends Transaction {
 
         createIndex(SessionsTable.TABLE_NAME, "plan_session_join_address_index",
                 SessionsTable.JOIN_ADDRESS_ID);
+
+        createIndex(ActivePlaytimeTable.TABLE_NAME, "plan_active_playtime_day_index",
+                ActivePlaytimeTable.DAY_START,
+                ActivePlaytimeTable.SERVER_ID
+        );
+        // Replaced by unique index, see ActivePlaytimeUniqueDayPatch
+        dropIndex(ActivePlaytimeTable.TABLE_NAME, "plan_active_playtime_user_index");
+
+        // Sorting, search and keyset pagination of players table, uuid is the tiebreaker between pages.
+        createIndex(UsersTable.TABLE_NAME, "plan_users_name_index",
+                UsersTable.USER_NAME,
+                UsersTable.USER_UUID
+        );
+        createIndex(UsersTable.TABLE_NAME, "plan_users_registered_index",
+                UsersTable.REGISTERED,
+                UsersTable.USER_UUID
+        );
+        // Last seen of players table without reading the session rows.
+        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_user_end_index",
+                SessionsTable.USER_ID,
+                SessionsTable.SERVER_ID,
+                SessionsTable.SESSION_END
+        );
+
+        createIndex(AccessLogTable.TABLE_NAME, "plan_access_log_time_index",
+                AccessLogTable.TIME
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
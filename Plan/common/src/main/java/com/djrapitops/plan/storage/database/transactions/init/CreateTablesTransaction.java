@@ -43,6 +43,7 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(JoinAddressTable.createTableSQL(dbType));
         executeOther(new StoreJoinAddressTransaction(JoinAddressTable.DEFAULT_VALUE_FOR_LOOKUP));
         execute(SessionsTable.createTableSQL(dbType));
+        execute(ActivePlaytimeTable.createTableSQL(dbType));
         execute(KillsTable.createTableSQL(dbType));
         execute(PingTable.createTableSQL(dbType));
         execute(TPSTable.createTableSQL(dbType));
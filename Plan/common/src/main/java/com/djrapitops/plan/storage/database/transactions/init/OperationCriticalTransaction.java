@@ -20,6 +20,7 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 
 /**
  * Transaction that is required to be executed before a database is operable.
@@ -30,6 +31,11 @@ import com.djrapitops.plan.storage.database.transactions.Transaction;
  */
 public abstract class OperationCriticalTransaction extends Transaction {
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.CRITICAL;
+    }
+
     @Override
     public void executeTransaction(SQLDB db) {
         try {
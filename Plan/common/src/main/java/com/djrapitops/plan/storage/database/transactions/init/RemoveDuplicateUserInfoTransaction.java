@@ -20,6 +20,7 @@ import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -49,6 +50,11 @@ public class RemoveDuplicateUserInfoTransaction extends ThrowawayTransaction {
                     "u1." + UserInfoTable.SERVER_ID + "=u2." + UserInfoTable.SERVER_ID + AND +
                     "u1." + UserInfoTable.ID + "<u2." + UserInfoTable.ID;
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.MAINTENANCE;
+    }
+
     @Override
     protected void performOperations() {
         Collection<Integer> duplicateIDs = getDuplicates();
@@ -16,12 +16,24 @@
  */
 package com.djrapitops.plan.storage.database.transactions.init;
 
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 
-import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
-import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Removes access log entries older than the threshold.
+ * <p>
+ * Ids grow with time, so the rows are deleted as a range of the primary key instead of scanning the table.
+ */
 public class RemoveOldAccessLogTransaction extends ThrowawayTransaction {
 
     private final long thresholdMs;
@@ -30,8 +42,45 @@ public class RemoveOldAccessLogTransaction extends ThrowawayTransaction {
         this.thresholdMs = thresholdMs;
     }
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.MAINTENANCE;
+    }
+
     @Override
     protected void performOperations() {
-        execute(DELETE_FROM + AccessLogTable.TABLE_NAME + WHERE + AccessLogTable.TIME + "<" + (System.currentTimeMillis() - thresholdMs));
+        long olderThan = System.currentTimeMillis() - thresholdMs;
+        int lastOldId = query(lastIdOlderThan(olderThan));
+        if (lastOldId == -1) return;
+
+        // Time is checked as well since a batch of entries is not necessarily stored in time order.
+        execute(new ExecStatement(DELETE_FROM + AccessLogTable.TABLE_NAME +
+                WHERE + AccessLogTable.ID + "<=?" +
+                AND + AccessLogTable.TIME + "<?") {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, lastOldId);
+                statement.setLong(2, olderThan);
+            }
+        });
+    }
+
+    private Query<Integer> lastIdOlderThan(long olderThan) {
+        String sql = SELECT + "MAX(" + AccessLogTable.ID + ") as last_id" +
+                FROM + AccessLogTable.TABLE_NAME +
+                WHERE + AccessLogTable.TIME + "<?";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, olderThan);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                if (!set.next()) return -1;
+                int lastId = set.getInt("last_id");
+                return set.wasNull() ? -1 : lastId;
+            }
+        };
     }
 }
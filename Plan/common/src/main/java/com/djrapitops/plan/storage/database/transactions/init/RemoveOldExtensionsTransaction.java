@@ -23,6 +23,7 @@ import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.extension.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -49,6 +50,11 @@ public class RemoveOldExtensionsTransaction extends ThrowawayTransaction {
         this.serverUUID = serverUUID;
     }
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.MAINTENANCE;
+    }
+
     @Override
     protected void performOperations() {
         for (Integer providerID : query(inactiveProviderIDsQuery())) {
@@ -0,0 +1,53 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
+import com.djrapitops.plan.storage.database.queries.schema.SQLiteSchemaQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
+
+/**
+ * Adds a unique key for player, server and day to plan_active_playtime table.
+ * <p>
+ * Rows are added to with an upsert that relies on the key, without it concurrent sessions could insert the same day twice.
+ *
+ * @author AuroraLS3
+ */
+public class ActivePlaytimeUniqueDayPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        if (dbType == DBType.MYSQL) {
+            return query(MySQLSchemaQueries.doesIndexExist(ActivePlaytimeTable.UNIQUE_INDEX_NAME, ActivePlaytimeTable.TABLE_NAME));
+        }
+        return query(SQLiteSchemaQueries.doesIndexExist(ActivePlaytimeTable.UNIQUE_INDEX_NAME));
+    }
+
+    @Override
+    protected void applyPatch() {
+        // Rows written before the key existed may have duplicates, so the table is calculated again from sessions.
+        execute(DELETE_FROM + ActivePlaytimeTable.TABLE_NAME);
+        execute(ActivePlaytimeTable.INSERT_FROM_SESSIONS + ActivePlaytimeTable.GROUP_BY_SESSION_DAY);
+        execute("CREATE UNIQUE INDEX " + ActivePlaytimeTable.UNIQUE_INDEX_NAME + " ON " + ActivePlaytimeTable.TABLE_NAME + " (" +
+                ActivePlaytimeTable.USER_ID + ',' +
+                ActivePlaytimeTable.SERVER_ID + ',' +
+                ActivePlaytimeTable.DAY_START + ')');
+    }
+}
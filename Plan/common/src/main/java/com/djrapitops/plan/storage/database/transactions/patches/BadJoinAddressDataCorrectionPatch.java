@@ -66,6 +66,7 @@ public class BadJoinAddressDataCorrectionPatch extends Patch {
         }
         updateOldIds(oldToNewIds);
         deleteOldIds(removeIds);
+        updateIdentityCache(cache -> cache.getJoinAddressIds().clear());
     }
 
     private void deleteOldIds(Set<Integer> removeIds) {
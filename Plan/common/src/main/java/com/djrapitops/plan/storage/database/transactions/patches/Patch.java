@@ -21,6 +21,7 @@ import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
 import com.djrapitops.plan.storage.database.queries.schema.SQLiteSchemaQueries;
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
 import com.djrapitops.plan.storage.database.transactions.init.OperationCriticalTransaction;
 
 import java.sql.PreparedStatement;
@@ -38,6 +39,11 @@ public abstract class Patch extends OperationCriticalTransaction {
 
     public abstract boolean hasBeenApplied();
 
+    @Override
+    public TransactionLane getLane() {
+        return TransactionLane.PATCH;
+    }
+
     protected abstract void applyPatch();
 
     public boolean isApplied() {
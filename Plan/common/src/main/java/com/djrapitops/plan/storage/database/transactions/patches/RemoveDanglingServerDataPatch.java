@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.patches;
 
+import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.sql.tables.*;
@@ -28,15 +29,20 @@ import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.Set;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
 /**
  * Takes care of data without foreign keys that is missing the foreign key target in plan_servers.
  */
 public class RemoveDanglingServerDataPatch extends Patch {
 
+    private static final String DANGLING_ACTIVE_PLAYTIME = ActivePlaytimeTable.SERVER_ID + " NOT IN (" + SELECT + ServerTable.ID + FROM + ServerTable.TABLE_NAME + ')';
+
     private boolean userInfoTableOk;
     private boolean pingTableOk;
     private boolean worldTimesTableOk;
     private boolean sessionsTableOk;
+    private boolean activePlaytimeTableOk;
     private boolean pingOptimizationFailed;
     private boolean userInfoOptimizationFailed;
     private boolean worldTimesOptimizationFailed;
@@ -48,6 +54,7 @@ public class RemoveDanglingServerDataPatch extends Patch {
         pingTableOk = hasColumn(PingTable.TABLE_NAME, PingTable.SERVER_ID);
         worldTimesTableOk = hasColumn(WorldTimesTable.TABLE_NAME, WorldTimesTable.SERVER_ID);
         sessionsTableOk = hasColumn(SessionsTable.TABLE_NAME, SessionsTable.SERVER_ID);
+        activePlaytimeTableOk = !query(hasDanglingActivePlaytime());
         pingOptimizationFailed = hasTable("temp_ping");
         userInfoOptimizationFailed = hasTable("temp_user_info");
         worldTimesOptimizationFailed = hasTable("temp_world_times");
@@ -57,6 +64,7 @@ public class RemoveDanglingServerDataPatch extends Patch {
                 && pingTableOk
                 && worldTimesTableOk
                 && sessionsTableOk
+                && activePlaytimeTableOk
                 && !pingOptimizationFailed
                 && !userInfoOptimizationFailed
                 && !worldTimesOptimizationFailed
@@ -70,6 +78,7 @@ public class RemoveDanglingServerDataPatch extends Patch {
         if (!userInfoTableOk) fixTable(UserInfoTable.TABLE_NAME, serverUuids);
         if (!pingTableOk) fixTable(PingTable.TABLE_NAME, serverUuids);
         if (!worldTimesTableOk) fixTable(WorldTimesTable.TABLE_NAME, serverUuids);
+        if (!activePlaytimeTableOk) execute(DELETE_FROM + ActivePlaytimeTable.TABLE_NAME + WHERE + DANGLING_ACTIVE_PLAYTIME);
         if (!sessionsTableOk) fixTable(SessionsTable.TABLE_NAME, serverUuids);
 
         if (pingOptimizationFailed) fixTable("temp_ping", serverUuids);
@@ -87,6 +96,16 @@ public class RemoveDanglingServerDataPatch extends Patch {
         }
     }
 
+    private Query<Boolean> hasDanglingActivePlaytime() {
+        String sql = SELECT + "COUNT(1) as c" + FROM + ActivePlaytimeTable.TABLE_NAME + WHERE + DANGLING_ACTIVE_PLAYTIME;
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+        };
+    }
+
     private Executable deleteBadUuids(String tableName, Set<String> badUuids) {
         String sql = "DELETE FROM " + tableName + " WHERE server_uuid=?";
         return new ExecBatchStatement(sql) {
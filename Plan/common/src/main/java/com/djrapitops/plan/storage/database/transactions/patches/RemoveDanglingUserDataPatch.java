@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.transactions.patches;
 
+import com.djrapitops.plan.storage.database.queries.HasMoreThanZeroQueryStatement;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.sql.tables.*;
@@ -28,16 +29,21 @@ import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.Set;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
 /**
  * Takes care of data without foreign keys that is missing the foreign key target in plan_users.
  */
 public class RemoveDanglingUserDataPatch extends Patch {
 
+    private static final String DANGLING_ACTIVE_PLAYTIME = ActivePlaytimeTable.USER_ID + " NOT IN (" + SELECT + UsersTable.ID + FROM + UsersTable.TABLE_NAME + ')';
+
     private boolean userInfoTableOk;
     private boolean geolocationsTableOk;
     private boolean pingTableOk;
     private boolean worldTimesTableOk;
     private boolean sessionsTableOk;
+    private boolean activePlaytimeTableOk;
     private boolean pingOptimizationFailed;
     private boolean userInfoOptimizationFailed;
     private boolean worldTimesOptimizationFailed;
@@ -51,6 +57,7 @@ public class RemoveDanglingUserDataPatch extends Patch {
         pingTableOk = hasColumn(PingTable.TABLE_NAME, PingTable.USER_ID);
         worldTimesTableOk = hasColumn(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID);
         sessionsTableOk = hasColumn(SessionsTable.TABLE_NAME, SessionsTable.USER_ID);
+        activePlaytimeTableOk = !query(hasDanglingActivePlaytime());
         pingOptimizationFailed = hasTable("temp_ping");
         userInfoOptimizationFailed = hasTable("temp_user_info");
         worldTimesOptimizationFailed = hasTable("temp_world_times");
@@ -62,6 +69,7 @@ public class RemoveDanglingUserDataPatch extends Patch {
                 && pingTableOk
                 && worldTimesTableOk
                 && sessionsTableOk
+                && activePlaytimeTableOk
                 && !pingOptimizationFailed
                 && !userInfoOptimizationFailed
                 && !worldTimesOptimizationFailed
@@ -77,6 +85,7 @@ public class RemoveDanglingUserDataPatch extends Patch {
         if (!geolocationsTableOk) fixTable(GeoInfoTable.TABLE_NAME, uuids);
         if (!pingTableOk) fixTable(PingTable.TABLE_NAME, uuids);
         if (!worldTimesTableOk) fixTable(WorldTimesTable.TABLE_NAME, uuids);
+        if (!activePlaytimeTableOk) execute(DELETE_FROM + ActivePlaytimeTable.TABLE_NAME + WHERE + DANGLING_ACTIVE_PLAYTIME);
         if (!sessionsTableOk) fixTable(SessionsTable.TABLE_NAME, uuids);
 
         if (pingOptimizationFailed) fixTable("temp_ping", uuids);
@@ -95,6 +104,16 @@ public class RemoveDanglingUserDataPatch extends Patch {
         }
     }
 
+    private Query<Boolean> hasDanglingActivePlaytime() {
+        String sql = SELECT + "COUNT(1) as c" + FROM + ActivePlaytimeTable.TABLE_NAME + WHERE + DANGLING_ACTIVE_PLAYTIME;
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                /* Nothing to prepare */
+            }
+        };
+    }
+
     private Executable deleteBadUuids(String tableName, Set<String> badUuids) {
         String sql = "DELETE FROM " + tableName + " WHERE uuid=?";
         return new ExecBatchStatement(sql) {
@@ -0,0 +1,50 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utility for compressing bytes with gzip.
+ *
+ * @author AuroraLS3
+ */
+public class GzipUtil {
+
+    /**
+     * Hides public constructor.
+     */
+    private GzipUtil() {
+    }
+
+    public static byte[] gzip(byte[] bytes) {
+        try (ByteArrayOutputStream bufferStream = new ByteArrayOutputStream(Math.max(32, bytes.length / 4));
+             GZIPOutputStream gzipStream = new GZIPOutputStream(bufferStream)
+        ) {
+            gzipStream.write(bytes);
+            gzipStream.finish();
+            gzipStream.flush();
+            return bufferStream.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw IOExceptions
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timing metrics recorded by Plan, each a family of {@link Histogram}s with one label.
+ * <p>
+ * Metrics are kept for the lifetime of the JVM, so they survive plugin reloads like the JVM metrics do.
+ *
+ * @author AuroraLS3
+ * @see PrometheusTextFormat for exposing these.
+ */
+public enum Metric {
+
+    QUERY("plan_query_duration_seconds", "query", "Time taken by database queries"),
+    STATEMENT("plan_statement_duration_seconds", "statement", "Time taken by statements executed inside transactions"),
+    TRANSACTION("plan_transaction_duration_seconds", "transaction", "Time taken by database transactions, including retries"),
+    TRANSACTION_QUEUE_WAIT("plan_transaction_queue_wait_seconds", "lane", "Time transactions spent queued before execution"),
+    CONNECTION_ACQUIRE("plan_connection_acquire_seconds", "database", "Time taken to get a database connection"),
+    RESOLVER("plan_resolver_duration_seconds", "resolver", "Time taken by webserver resolvers to create a response");
+
+    private static final ClassValue<String> NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return stableNameOf(type);
+        }
+    };
+
+    private final String name;
+    private final String label;
+    private final String help;
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    Metric(String name, String label, String help) {
+        this.name = name;
+        this.label = label;
+        this.help = help;
+    }
+
+    /**
+     * Get the name used to group measurements of instances of a class.
+     *
+     * @param type Class of the query, transaction or resolver.
+     * @return Class name without the package. Anonymous classes are named after the class and method they are
+     * defined in, like {@code SessionQueries.fetchAllSessions}, lambdas after the class they are defined in.
+     */
+    public static String nameOf(Class<?> type) {
+        return NAMES.get(type);
+    }
+
+    private static String stableNameOf(Class<?> type) {
+        if (type.isAnonymousClass()) {
+            // Anonymous classes are numbered in order of declaration, like SessionQueries$17
+            String enclosingName = stableNameOf(type.getEnclosingClass());
+            Method enclosingMethod = type.getEnclosingMethod();
+            return enclosingMethod != null ? enclosingName + '.' + methodNameOf(enclosingMethod) : enclosingName;
+        }
+        String name = type.getName();
+        // Lambdas are numbered at runtime, like SessionQueries$$Lambda$1234/0x0000000800c03000
+        int lambdaSuffix = name.indexOf("$$Lambda");
+        if (lambdaSuffix != -1) name = name.substring(0, lambdaSuffix);
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static String methodNameOf(Method method) {
+        String name = method.getName();
+        // Anonymous classes inside a lambda are enclosed by a synthetic method like lambda$fetchAllSessions$3
+        if (name.startsWith("lambda$")) {
+            int end = name.indexOf('$', 7);
+            return end != -1 ? name.substring(7, end) : name.substring(7);
+        }
+        return name;
+    }
+
+    public void record(String labelValue, long durationNanos) {
+        Histogram histogram = histograms.get(labelValue);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(labelValue, key -> new Histogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    public void recordFor(Object measured, long durationNanos) {
+        record(nameOf(measured.getClass()), durationNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public Map<String, Histogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Writes {@link Metric}s in Prometheus text exposition format (version 0.0.4).
+ *
+ * @author AuroraLS3
+ */
+public class PrometheusTextFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4";
+
+    private PrometheusTextFormat() {
+        /* Static method class */
+    }
+
+    public static String format(Metric... metrics) {
+        StringBuilder builder = new StringBuilder();
+        for (Metric metric : metrics) {
+            appendMetric(builder, metric);
+        }
+        return builder.toString();
+    }
+
+    private static void appendMetric(StringBuilder builder, Metric metric) {
+        String name = metric.getName();
+        builder.append("# HELP ").append(name).append(' ').append(metric.getHelp()).append('\n')
+                .append("# TYPE ").append(name).append(" histogram\n");
+        for (Map.Entry<String, Histogram> entry : metric.getHistograms().entrySet()) {
+            String labels = metric.getLabel() + "=\"" + escape(entry.getKey()) + '"';
+            Histogram histogram = entry.getValue();
+            long[] counts = histogram.getCumulativeCounts();
+            for (int i = 0; i < Histogram.BOUNDS_SECONDS.length; i++) {
+                String bound = BigDecimal.valueOf(Histogram.BOUNDS_SECONDS[i]).stripTrailingZeros().toPlainString();
+                appendBucket(builder, name, labels, bound, counts[i]);
+            }
+            long count = counts[counts.length - 1];
+            appendBucket(builder, name, labels, "+Inf", count);
+            builder.append(name).append("_sum{").append(labels).append("} ").append(histogram.getSumSeconds()).append('\n')
+                    .append(name).append("_count{").append(labels).append("} ").append(count).append('\n');
+        }
+    }
+
+    private static void appendBucket(StringBuilder builder, String name, String labels, String bound, long count) {
+        builder.append(name).append("_bucket{").append(labels).append(",le=\"").append(bound).append("\"} ")
+                .append(count).append('\n');
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n");
+    }
+}
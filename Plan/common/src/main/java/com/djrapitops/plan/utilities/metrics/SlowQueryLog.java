@@ -0,0 +1,120 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log of database queries that took longer than a configured threshold.
+ * <p>
+ * Bound parameters are only captured while the log is enabled, so a disabled log costs one volatile read per query.
+ *
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.settings.config.paths.DatabaseSettings#SLOW_QUERY_LOG
+ */
+public class SlowQueryLog {
+
+    public static final String FILE_NAME = "slow-queries.txt";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static volatile long thresholdNanos = -1;
+    private static volatile File logFile;
+
+    private SlowQueryLog() {
+        /* Static method class */
+    }
+
+    /**
+     * Enable the log.
+     *
+     * @param thresholdMs Queries that take longer than this are logged.
+     * @param logFile     File the queries are appended to.
+     */
+    public static void enable(long thresholdMs, File logFile) {
+        SlowQueryLog.logFile = logFile;
+        SlowQueryLog.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+    }
+
+    public static void disable() {
+        thresholdNanos = -1;
+    }
+
+    public static boolean isEnabled() {
+        return thresholdNanos >= 0;
+    }
+
+    /**
+     * Wrap a statement so that the parameters set to it are recorded.
+     *
+     * @param statement  Statement to wrap, calls are passed to it.
+     * @param parameters Map to record the parameters to, by parameter index.
+     * @return Statement that should be given to {@code prepare}.
+     */
+    public static PreparedStatement recordingParameters(PreparedStatement statement, Map<Integer, Object> parameters) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                SlowQueryLog.class.getClassLoader(),
+                new Class[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (isParameterSetter(method, args)) {
+                        parameters.put((Integer) args[0], args[1]);
+                    }
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static boolean isParameterSetter(Method method, Object[] args) {
+        return method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
+    public static void logIfSlow(String sql, Map<Integer, Object> parameters, long durationNanos) {
+        long threshold = thresholdNanos;
+        if (threshold < 0 || durationNanos <= threshold) return;
+
+        String line = '[' + LocalDateTime.now().format(TIMESTAMP) + "] "
+                + TimeUnit.NANOSECONDS.toMillis(durationNanos) + " ms | "
+                + sql.replace('\n', ' ') + " | parameters: " + parameters + System.lineSeparator();
+        write(line);
+    }
+
+    private static synchronized void write(String line) {
+        File file = logFile;
+        if (file == null) return;
+        try {
+            Files.createDirectories(file.toPath().getParent());
+            Files.write(file.toPath(), line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ignored) {
+            // Slow query log is best effort, failing to write it should not fail the query.
+        }
+    }
+}
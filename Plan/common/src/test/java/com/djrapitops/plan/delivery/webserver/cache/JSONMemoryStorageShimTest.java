@@ -0,0 +1,123 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class JSONMemoryStorageShimTest {
+
+    private JSONFileStorage fileStorage;
+    private JSONMemoryStorageShim underTest;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        PlanFiles files = Mockito.mock(PlanFiles.class);
+        when(files.getJSONStorageDirectory()).thenReturn(tempDir);
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(WebserverSettings.INVALIDATE_MEMORY_CACHE)).thenReturn(TimeUnit.MINUTES.toMillis(5L));
+
+        fileStorage = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+        underTest = new JSONMemoryStorageShim(config, fileStorage);
+        underTest.enable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.disable();
+    }
+
+    @Test
+    void newestJsonIsFetchedFromMemory() {
+        underTest.storeJson("Identifier", "old", 1000L);
+        underTest.storeJson("Identifier", "new", 2000L);
+
+        assertEquals("new", underTest.fetchJSON("Identifier").map(JSONStorage.StoredJSON::getJson).orElse(null));
+        assertEquals(Optional.of(2000L), underTest.getTimestamp("Identifier"));
+    }
+
+    @Test
+    void jsonMadeBeforeAndAfterIsFetchedByTimestamp() {
+        underTest.storeJson("Identifier", "first", 1000L);
+        underTest.storeJson("Identifier", "second", 2000L);
+        underTest.storeJson("Identifier", "third", 3000L);
+
+        assertEquals("second", underTest.fetchJsonMadeBefore("Identifier", 3000L).map(JSONStorage.StoredJSON::getJson).orElse(null));
+        assertEquals("third", underTest.fetchJsonMadeAfter("Identifier", 1500L).map(JSONStorage.StoredJSON::getJson).orElse(null));
+        assertFalse(underTest.fetchJsonMadeAfter("Identifier", 3000L).isPresent());
+    }
+
+    @Test
+    void jsonIsWrittenToDisk() {
+        underTest.storeJson("Identifier", "data", 1000L);
+        underTest.disable(); // Waits for pending writes
+
+        assertEquals("data", fileStorage.fetchExactJson("Identifier", 1000L).map(JSONStorage.StoredJSON::getJson).orElse(null));
+    }
+
+    @Test
+    void olderJsonIsInvalidated() {
+        underTest.storeJson("Identifier", "old", 1000L);
+        underTest.storeJson("Identifier", "new", 2000L);
+        underTest.invalidateOlder("Identifier", 2000L);
+        underTest.disable(); // Waits for pending writes
+
+        assertFalse(underTest.fetchExactJson("Identifier", 1000L).isPresent());
+        assertTrue(underTest.fetchExactJson("Identifier", 2000L).isPresent());
+    }
+
+    @Test
+    void gzippedJsonIsCreatedOnce() {
+        JSONStorage.StoredJSON stored = underTest.storeJson("Identifier", "data", 1000L);
+        JSONStorage.StoredJSON found = underTest.fetchExactJson("Identifier", 1000L).orElseThrow(AssertionError::new);
+
+        assertSame(stored.getGzipped(), found.getGzipped());
+    }
+
+    @Test
+    void identifiersAreMatchedCaseInsensitively() {
+        underTest.storeJson("Identifier", "data", 1000L);
+
+        assertEquals("data", underTest.fetchJSON("identifier").map(JSONStorage.StoredJSON::getJson).orElse(null));
+        assertEquals(Optional.of(1000L), underTest.getTimestamp("IDENTIFIER"));
+        assertTrue(underTest.fetchExactJson("identifier", 1000L).isPresent());
+    }
+
+    @Test
+    void identifierWithoutCachedJsonIsRemovedFromIndex() {
+        underTest.storeJson("Identifier", "old", 1000L);
+        underTest.storeJson("Other", "data", 1000L);
+        underTest.getCache().invalidateAll();
+
+        assertEquals(0, underTest.getIndexedIdentifierCount());
+        assertFalse(underTest.getTimestamp("Identifier").isPresent());
+    }
+}
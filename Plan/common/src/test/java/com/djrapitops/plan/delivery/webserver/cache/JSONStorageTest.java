@@ -37,16 +37,18 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 class JSONStorageTest {
 
     private JSONStorage UNDER_TEST;
+    private PlanFiles files;
     private Path tempDir;
 
     @BeforeEach
     void setUp(@TempDir Path tempDir) {
-        PlanFiles files = Mockito.mock(PlanFiles.class);
+        files = Mockito.mock(PlanFiles.class);
         this.tempDir = tempDir;
         when(files.getJSONStorageDirectory()).thenReturn(this.tempDir);
 
@@ -176,4 +178,38 @@ class JSONStorageTest {
         UNDER_TEST.storeJson(DataID.SESSIONS_OVERVIEW.of(ServerUUID.randomUUID()), Collections.singletonList("data"), timestamp);
         assertFalse(UNDER_TEST.fetchJsonMadeBefore(DataID.SESSIONS_OVERVIEW.name(), timestamp + TimeUnit.DAYS.toMillis(1L)).isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void newestJsonMadeBeforeIsFetched() {
+        UNDER_TEST.storeJson("Identifier", "first", 1000L);
+        UNDER_TEST.storeJson("Identifier", "second", 2000L);
+        UNDER_TEST.storeJson("Identifier", "third", 3000L);
+
+        JSONStorage.StoredJSON found = UNDER_TEST.fetchJsonMadeBefore("Identifier", 3000L).orElseThrow(AssertionError::new);
+        assertEquals(2000L, found.timestamp);
+        assertEquals(Optional.of(3000L), UNDER_TEST.getTimestamp("Identifier"));
+    }
+
+    @Test
+    void indexIsBuiltFromExistingFiles() {
+        UNDER_TEST.storeJson("Identifier", "first", 1000L);
+        UNDER_TEST.storeJson("Identifier", "second", 2000L);
+
+        JSONStorage restarted = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+        restarted.enable();
+
+        JSONStorage.StoredJSON found = restarted.fetchJsonMadeAfter("Identifier", 1000L).orElseThrow(AssertionError::new);
+        assertEquals(2000L, found.timestamp);
+    }
+
+    @Test
+    void invalidatedJsonIsRemovedFromDiskAndIndex() {
+        UNDER_TEST.storeJson("Identifier", "first", 1000L);
+        UNDER_TEST.storeJson("Identifier", "second", 2000L);
+        UNDER_TEST.invalidateOlder("Identifier", 2000L);
+
+        assertFalse(UNDER_TEST.fetchJsonMadeBefore("Identifier", 2000L).isPresent());
+        assertFalse(tempDir.resolve("Identifier-1000.json").toFile().exists());
+        assertTrue(UNDER_TEST.fetchExactJson("Identifier", 2000L).isPresent());
+    }
+}
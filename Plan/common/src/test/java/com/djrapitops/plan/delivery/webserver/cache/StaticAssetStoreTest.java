@@ -0,0 +1,83 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticAssetStoreTest {
+
+    private StaticAssetStore underTest;
+    private AtomicInteger reads;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new StaticAssetStore();
+        reads = new AtomicInteger();
+    }
+
+    private byte[] read(String content) {
+        reads.incrementAndGet();
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void assetIsCompressedOnce() {
+        StaticAssetStore.StaticAsset first = underTest.get("static/index.js", 1000L, "address", () -> read("content"));
+        StaticAssetStore.StaticAsset second = underTest.get("static/index.js", 1000L, "address", () -> read("content"));
+
+        assertEquals(1, reads.get());
+        assertSame(first.getGzipped(), second.getGzipped());
+        assertEquals(1000L, second.getEtag());
+    }
+
+    @Test
+    void gzippedFormMatchesContent() throws IOException {
+        StaticAssetStore.StaticAsset asset = underTest.get("static/index.css", 1000L, "address", () -> read("body {}"));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(asset.getGzipped()))) {
+            assertArrayEquals(asset.getContent(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void modifiedFileIsRead() {
+        underTest.get("static/index.js", 1000L, "address", () -> read("old"));
+        StaticAssetStore.StaticAsset found = underTest.get("static/index.js", 2000L, "address", () -> read("new"));
+
+        assertEquals(2, reads.get());
+        assertEquals("new", new String(found.getContent(), StandardCharsets.UTF_8));
+        assertEquals(2000L, found.getEtag());
+    }
+
+    @Test
+    void changedAddressIsRead() {
+        underTest.get("static/index.js", 1000L, "http://localhost:8804", () -> read("old"));
+        StaticAssetStore.StaticAsset found = underTest.get("static/index.js", 1000L, "https://plan.example.com", () -> read("new"));
+
+        assertEquals(2, reads.get());
+        assertEquals("new", new String(found.getContent(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreRequestTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AccessLogger}.
+ *
+ * @author AuroraLS3
+ */
+class AccessLoggerTest {
+
+    private Database database;
+    private AccessLogger underTest;
+
+    @BeforeEach
+    void setUp() {
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        database = Mockito.mock(Database.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        // Previous batch never finishes storing
+        doReturn(new CompletableFuture<>()).when(database).executeTransaction(any(Transaction.class));
+
+        underTest = new AccessLogger(Mockito.mock(WebserverConfiguration.class), dbSystem,
+                new TestPluginLogger(), Mockito.mock(ErrorLogger.class));
+    }
+
+    private void logRequests(int count) {
+        InternalRequest request = Mockito.mock(InternalRequest.class);
+        Response response = Response.builder().setStatus(200).setContent(new byte[0]).build();
+        for (int i = 0; i < count; i++) {
+            underTest.log(request, null, response);
+        }
+    }
+
+    @Test
+    void requestsAreStoredInBatches() {
+        logRequests(AccessLogger.FLUSH_SIZE - 1);
+        verify(database, never()).executeTransaction(any(Transaction.class));
+
+        logRequests(1);
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+    }
+
+    @Test
+    void flushWaitsForPreviousBatch() {
+        logRequests(AccessLogger.FLUSH_SIZE + 10);
+        underTest.flush();
+
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+    }
+
+    @Test
+    void remainingRequestsAreStoredOnDisable() {
+        logRequests(AccessLogger.FLUSH_SIZE + 10);
+        new AccessLogger.FlushTask(underTest).onDisable();
+
+        verify(database, times(2)).executeTransaction(any(StoreRequestTransaction.class));
+    }
+}
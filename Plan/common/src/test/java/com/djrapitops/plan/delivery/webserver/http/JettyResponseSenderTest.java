@@ -0,0 +1,43 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JettyResponseSenderTest {
+
+    @Test
+    void gzipIsAccepted() {
+        assertTrue(JettyResponseSender.acceptsGzip("gzip"));
+        assertTrue(JettyResponseSender.acceptsGzip("gzip, deflate, br"));
+        assertTrue(JettyResponseSender.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(JettyResponseSender.acceptsGzip("*"));
+    }
+
+    @Test
+    void gzipIsNotAccepted() {
+        assertFalse(JettyResponseSender.acceptsGzip(null));
+        assertFalse(JettyResponseSender.acceptsGzip(""));
+        assertFalse(JettyResponseSender.acceptsGzip("identity"));
+        assertFalse(JettyResponseSender.acceptsGzip("br, deflate"));
+        assertFalse(JettyResponseSender.acceptsGzip("gzip;q=0"));
+        assertFalse(JettyResponseSender.acceptsGzip("gzip; q=0.000, br"));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.exceptions.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link DBUnavailableException}.
+ *
+ * @author AuroraLS3
+ */
+class DBUnavailableExceptionTest {
+
+    @Test
+    void connectionExceptionsAreUnavailable() {
+        assertTrue(DBUnavailableException.isCausedByUnavailableDatabase(new SQLTransientConnectionException("Connection is not available")));
+        assertTrue(DBUnavailableException.isCausedByUnavailableDatabase(new SQLNonTransientConnectionException("Connection closed")));
+        assertTrue(DBUnavailableException.isCausedByUnavailableDatabase(new SQLException("Communications link failure", "08S01")));
+        assertTrue(DBUnavailableException.isCausedByUnavailableDatabase(new DBUnavailableException("Is MySQL down?", null)));
+    }
+
+    @Test
+    void connectionExceptionIsFoundFromCauses() {
+        SQLException lostConnection = new SQLException("Communications link failure", "08S01");
+        assertTrue(DBUnavailableException.isCausedByUnavailableDatabase(DBOpException.forCause("SELECT 1", lostConnection)));
+    }
+
+    @Test
+    void otherSQLExceptionsAreNotUnavailable() {
+        assertFalse(DBUnavailableException.isCausedByUnavailableDatabase(new SQLSyntaxErrorException("Syntax error", "42000")));
+        assertFalse(DBUnavailableException.isCausedByUnavailableDatabase(new SQLException("No state")));
+        assertFalse(DBUnavailableException.isCausedByUnavailableDatabase(new DBOpException("Constraint violation")));
+    }
+}
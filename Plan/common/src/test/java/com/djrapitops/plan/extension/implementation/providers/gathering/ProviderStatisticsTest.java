@@ -0,0 +1,94 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ProviderStatistics}.
+ *
+ * @author AuroraLS3
+ */
+class ProviderStatisticsTest {
+
+    private static final long SLOW = ProviderStatistics.SLOW_CALL_NS;
+
+    @Test
+    void slowCallsInARowDisableMethod() {
+        ProviderStatistics underTest = new ProviderStatistics("Test");
+        assertFalse(underTest.record("value", SLOW, 0L));
+        assertFalse(underTest.record("value", SLOW, 0L));
+        assertTrue(underTest.record("value", SLOW, 0L));
+
+        assertTrue(underTest.isDisabled("value", 1L));
+        assertFalse(underTest.isDisabled("other", 1L));
+        assertFalse(underTest.isDisabled("value", ProviderStatistics.DISABLE_MS));
+    }
+
+    @Test
+    void fastCallResetsSlowCalls() {
+        ProviderStatistics underTest = new ProviderStatistics("Test");
+        underTest.record("value", SLOW, 0L);
+        underTest.record("value", SLOW, 0L);
+        underTest.record("value", 0L, 0L);
+        assertFalse(underTest.record("value", SLOW, 0L));
+        assertFalse(underTest.isDisabled("value", 1L));
+    }
+
+    @Test
+    void slowCallAfterWaitDisablesMethodAgain() {
+        ProviderStatistics underTest = new ProviderStatistics("Test");
+        for (int i = 0; i < ProviderStatistics.SLOW_CALLS_BEFORE_DISABLE; i++) {
+            underTest.record("value", SLOW, 0L);
+        }
+        long afterWait = ProviderStatistics.DISABLE_MS;
+        assertTrue(underTest.record("value", SLOW, afterWait));
+        assertTrue(underTest.isDisabled("value", afterWait + 1L));
+    }
+
+    @Test
+    void timeoutDisablesRunningMethod() {
+        ProviderStatistics underTest = new ProviderStatistics("Test");
+        assertTrue(underTest.recordTimeout("value", 0L));
+        assertTrue(underTest.isDisabled("value", 1L));
+
+        assertFalse(underTest.recordTimeout("", 0L));
+        assertEquals(1L, underTest.getSnapshots().stream()
+                .filter(snapshot -> "value".equals(snapshot.getMethodName()))
+                .mapToLong(ProviderStatistics.Snapshot::getTimeouts).sum());
+    }
+
+    @Test
+    void snapshotContainsLatency() {
+        ProviderStatistics underTest = new ProviderStatistics("Test");
+        underTest.record("value", 2_000_000L, 0L);
+        underTest.record("value", 4_000_000L, 0L);
+
+        List<ProviderStatistics.Snapshot> snapshots = underTest.getSnapshots();
+        assertEquals(1, snapshots.size());
+        ProviderStatistics.Snapshot snapshot = snapshots.get(0);
+        assertEquals("Test", snapshot.getPluginName());
+        assertEquals("value", snapshot.getMethodName());
+        assertEquals(2L, snapshot.getCalls());
+        assertEquals(3.0, snapshot.getAverageMs());
+        assertEquals(4.0, snapshot.getMaxMs());
+    }
+}
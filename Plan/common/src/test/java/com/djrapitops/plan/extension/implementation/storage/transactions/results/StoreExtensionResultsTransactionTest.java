@@ -0,0 +1,63 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLTransactionRollbackException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link StoreExtensionResultsTransaction}.
+ *
+ * @author AuroraLS3
+ */
+public interface StoreExtensionResultsTransactionTest extends DatabaseTestPreparer {
+
+    @Test
+    default void resultsAreReportedStoredOnlyFromCommittedAttempt() {
+        Transaction storedFirst = new StoreWorldNameTransaction(serverUUID(), worlds[0]);
+        AtomicInteger attempts = new AtomicInteger();
+        Transaction deadlockedOnce = new Transaction() {
+            @Override
+            protected void performOperations() {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new DBOpException("Deadlock", new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213));
+                }
+                executeOther(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+            }
+        };
+        List<Transaction> reportedStored = new ArrayList<>();
+
+        executeTransactions(new StoreExtensionResultsTransaction(List.of(storedFirst, deadlockedOnce), reportedStored::add));
+
+        assertEquals(2, attempts.get());
+        assertEquals(List.of(storedFirst, deadlockedOnce), reportedStored);
+        assertTrue(db().query(WorldTimesQueries.fetchWorldId(serverUUID(), worlds[0])).isPresent());
+        assertTrue(db().query(WorldTimesQueries.fetchWorldId(serverUUID(), worlds[1])).isPresent());
+    }
+}
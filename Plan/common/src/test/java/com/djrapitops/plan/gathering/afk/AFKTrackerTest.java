@@ -28,6 +28,8 @@ import utilities.TestConstants;
 
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -98,6 +100,39 @@ class AFKTrackerTest {
         assertEquals(afkThreshold * 2, afkTime);
     }
 
+    @Test
+    void someoneIsAfkAfterAfkCommandUntilNextAction() {
+        long time = System.currentTimeMillis();
+        underTest.usedAfkCommand(playerUUID, time);
+        assertTrue(underTest.isAfk(playerUUID));
+
+        underTest.performedAction(playerUUID, time);
+        assertFalse(underTest.isAfk(playerUUID));
+    }
+
+    @Test
+    void afkTimeIsAddedToSessionWhenPlayerReturns() {
+        underTest.performedAction(playerUUID, 0L);
+        underTest.performedAction(playerUUID, afkThreshold * 3);
+
+        long afkTime = SessionCache.getCachedSession(playerUUID)
+                .map(session -> session.toFinishedSession(afkThreshold * 4).getAfkTime())
+                .orElse(-1L);
+        assertEquals(afkThreshold * 3, afkTime);
+    }
+
+    @Test
+    void ignorePermissionIsCheckedOnFirstActionOfSession() {
+        AtomicInteger checks = new AtomicInteger();
+        Predicate<AtomicInteger> hasIgnorePermission = counter -> counter.incrementAndGet() > 0;
+
+        underTest.performedAction(playerUUID, 0L, checks, hasIgnorePermission);
+        long afkTime = underTest.performedAction(playerUUID, afkThreshold * 2, checks, hasIgnorePermission);
+
+        assertEquals(0L, afkTime);
+        assertEquals(1, checks.get());
+    }
+
     @Test
     void someoneIsAFKForAwhileWithAfkCommandButHasIgnorePermission() {
         underTest.hasIgnorePermission(playerUUID);
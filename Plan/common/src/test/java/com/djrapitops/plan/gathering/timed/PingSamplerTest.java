@@ -0,0 +1,111 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.storage.database.Backpressure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PingSampler}.
+ *
+ * @author AuroraLS3
+ */
+class PingSamplerTest {
+
+    private static final UUID PLAYER = TestConstants.PLAYER_ONE_UUID;
+
+    private PingSampler underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new PingSampler(() -> TestConstants.SERVER_UUID);
+        underTest.addPlayer(PLAYER);
+    }
+
+    @Test
+    void rowIsAggregatedWhenBufferIsFull() {
+        int[] values = {50, 10, 40, 20, 30};
+        Optional<Ping> row = Optional.empty();
+        for (int i = 0; i < values.length; i++) {
+            row = underTest.addSample(PLAYER, i * 1000L, values[i], values.length);
+            if (i < values.length - 1) assertFalse(row.isPresent());
+        }
+
+        Ping ping = row.orElseThrow(AssertionError::new);
+        assertEquals(4000L, ping.getDate());
+        assertEquals(TestConstants.SERVER_UUID, ping.getServerUUID());
+        assertEquals(10, ping.getMin());
+        assertEquals(50, ping.getMax());
+        assertEquals(30.0, ping.getAverage());
+    }
+
+    @Test
+    void medianOfEvenAmountOfSamplesIsAverageOfMiddleValues() {
+        underTest.addSample(PLAYER, 0L, 10, 4);
+        underTest.addSample(PLAYER, 1L, 40, 4);
+        underTest.addSample(PLAYER, 2L, 20, 4);
+        Ping ping = underTest.addSample(PLAYER, 3L, 30, 4).orElseThrow(AssertionError::new);
+
+        assertEquals(25.0, ping.getAverage());
+    }
+
+    @Test
+    void badValuesAreIgnored() {
+        assertFalse(underTest.addSample(PLAYER, 0L, -1, 1).isPresent());
+        assertFalse(underTest.addSample(PLAYER, 0L, 9000, 1).isPresent());
+        Ping ping = underTest.addSample(PLAYER, 0L, 60, 1).orElseThrow(AssertionError::new);
+
+        assertEquals(60, ping.getMin());
+        assertEquals(60, ping.getMax());
+    }
+
+    @Test
+    void bufferIsEmptyAfterRow() {
+        underTest.addSample(PLAYER, 0L, 100, 2);
+        underTest.addSample(PLAYER, 1L, 100, 2);
+
+        assertFalse(underTest.addSample(PLAYER, 2L, 10, 2).isPresent());
+        Ping ping = underTest.addSample(PLAYER, 3L, 20, 2).orElseThrow(AssertionError::new);
+        assertEquals(20, ping.getMax());
+    }
+
+    @Test
+    void samplesOfUnknownPlayersAreIgnored() {
+        assertFalse(underTest.addSample(UUID.randomUUID(), 0L, 50, 1).isPresent());
+    }
+
+    @Test
+    void moreSamplesArePutInRowUnderBackpressure() {
+        assertEquals(PingSampler.SAMPLES_PER_ROW, PingSampler.getSamplesPerRow(Backpressure.NONE));
+        assertEquals(PingSampler.SAMPLES_PER_ROW * 4, PingSampler.getSamplesPerRow(Backpressure.HIGH));
+    }
+
+    @Test
+    void removedPlayerIsNoLongerSampled() {
+        underTest.removePlayer(PLAYER);
+        assertTrue(underTest.isEmpty());
+        assertFalse(underTest.players().hasNext());
+    }
+}
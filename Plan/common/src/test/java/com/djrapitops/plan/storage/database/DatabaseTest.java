@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
@@ -149,7 +150,7 @@ public interface DatabaseTest extends DatabaseTestPreparer {
                 config(),
                 new Locale(),
                 dbSystem(),
-                new QuerySvc(config(), dbSystem(), serverInfo(), null),
+                new QuerySvc(config(), dbSystem(), serverInfo(), null, new PlayerSummaryCache(dbSystem(), serverInfo())),
                 serverInfo(),
                 logger,
                 null
@@ -17,12 +17,17 @@
 package com.djrapitops.plan.storage.database;
 
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionQueryResultTableDataQueryTest;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreExtensionResultsTransactionTest;
 import com.djrapitops.plan.storage.database.queries.*;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueriesTest;
 import com.djrapitops.plan.storage.database.queries.analysis.TopListQueriesTest;
+import com.djrapitops.plan.storage.database.queries.objects.PlayerSummaryQueriesTest;
 import com.djrapitops.plan.storage.database.queries.objects.PluginMetadataQueriesTest;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePageQueryTest;
+import com.djrapitops.plan.storage.database.transactions.CoalescedTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.commands.ChangeUserUUIDTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.commands.CombineUserTransactionTest;
+import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.patches.AfterBadJoinAddressDataCorrectionPatchTest;
 import com.djrapitops.plan.storage.database.transactions.patches.BadJoinAddressDataCorrectionPatchTest;
 
@@ -42,12 +47,17 @@ public interface DatabaseTestAggregate extends
         WebUserQueriesTest,
         FilterQueryTest,
         JoinAddressQueriesTest,
+        CoalescedTransactionTest,
         ChangeUserUUIDTransactionTest,
         CombineUserTransactionTest,
+        PlayerRegisterTransactionTest,
         ExtensionQueryResultTableDataQueryTest,
+        StoreExtensionResultsTransactionTest,
         BadJoinAddressDataCorrectionPatchTest,
         AfterBadJoinAddressDataCorrectionPatchTest,
         PlayerRetentionQueriesTest,
+        PlayerSummaryQueriesTest,
+        PlayersTablePageQueryTest,
         PluginMetadataQueriesTest {
     /* Collects all query tests together so its easier to implement database tests */
 }
@@ -0,0 +1,98 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IdentityCache}.
+ *
+ * @author AuroraLS3
+ */
+class IdentityCacheTest {
+
+    private final IdentityCache underTest = new IdentityCache();
+
+    @Test
+    void cachedIdIsReturned() {
+        UUID playerUUID = UUID.randomUUID();
+        underTest.getUserIds().put(playerUUID, 5);
+        assertEquals(Optional.of(5), underTest.getUserIds().get(playerUUID));
+    }
+
+    @Test
+    void removedIdIsNotReturned() {
+        UUID playerUUID = UUID.randomUUID();
+        underTest.getUserIds().put(playerUUID, 5);
+        underTest.getUserIds().remove(playerUUID);
+        assertTrue(underTest.getUserIds().get(playerUUID).isEmpty());
+    }
+
+    @Test
+    void worldsAreCachedPerServer() {
+        ServerUUID server = ServerUUID.randomUUID();
+        ServerUUID otherServer = ServerUUID.randomUUID();
+        underTest.getWorldIds().put(IdentityCache.worldKey(server, "world"), 1);
+        underTest.getWorldIds().put(IdentityCache.worldKey(otherServer, "world"), 2);
+
+        assertEquals(Optional.of(1), underTest.getWorldIds().get(IdentityCache.worldKey(server, "world")));
+        assertEquals(Optional.of(2), underTest.getWorldIds().get(IdentityCache.worldKey(otherServer, "world")));
+    }
+
+    @Test
+    void clearRemovesAllIds() {
+        underTest.getUserIds().put(UUID.randomUUID(), 1);
+        underTest.getServerIds().put(ServerUUID.randomUUID(), 1);
+        underTest.getJoinAddressIds().put("play.example.com", 1);
+        underTest.clear();
+
+        assertEquals(0, underTest.getUserIds().size());
+        assertEquals(0, underTest.getServerIds().size());
+        assertEquals(0, underTest.getJoinAddressIds().size());
+    }
+
+    @Test
+    void cacheSizeIsBounded() {
+        for (int i = 0; i < IdentityCache.MAX_CACHED_IDS + 100; i++) {
+            underTest.getJoinAddressIds().put("address" + i, i);
+        }
+        assertTrue(underTest.getJoinAddressIds().size() <= IdentityCache.MAX_CACHED_IDS);
+    }
+
+    @Test
+    void idsExpireAfterWrite() {
+        AtomicLong time = new AtomicLong();
+        IdentityCache cache = new IdentityCache(time::get);
+        UUID playerUUID = UUID.randomUUID();
+        cache.getUserIds().put(playerUUID, 5);
+
+        time.addAndGet(TimeUnit.MINUTES.toNanos(IdentityCache.EXPIRE_AFTER_WRITE_MINUTES) - 1);
+        assertEquals(Optional.of(5), cache.getUserIds().get(playerUUID));
+
+        time.addAndGet(1);
+        assertTrue(cache.getUserIds().get(playerUUID).isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.queries.CacheableQuery;
+import com.djrapitops.plan.storage.database.queries.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link QueryCache}.
+ *
+ * @author AuroraLS3
+ */
+class QueryCacheTest {
+
+    private final QueryCache underTest = new QueryCache();
+    private final AtomicInteger executions = new AtomicInteger();
+    private ExecutorService executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    private CacheableQuery<Integer> countingQuery(Object parameter, String table) {
+        return CacheableQuery.of(List.of("counting", parameter), List.of(table), db -> executions.incrementAndGet());
+    }
+
+    private <T> T execute(Query<T> query) {
+        return query.executeQuery(null);
+    }
+
+    @Test
+    void resultIsCachedUntilReadTableIsWritten() {
+        CacheableQuery<Integer> query = countingQuery(1, "plan_servers");
+        assertEquals(1, underTest.query(query, this::execute));
+        assertEquals(1, underTest.query(query, this::execute));
+
+        underTest.tablesWritten(List.of("plan_tps"));
+        assertEquals(1, underTest.query(query, this::execute));
+
+        underTest.tablesWritten(List.of("plan_servers"));
+        assertEquals(2, underTest.query(query, this::execute));
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void writeToAnyTableInvalidatesEverything() {
+        CacheableQuery<Integer> query = countingQuery(1, "plan_servers");
+        underTest.query(query, this::execute);
+        underTest.tablesWritten(List.of(QueryCache.ANY_TABLE));
+        underTest.query(query, this::execute);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void parametersAreCachedSeparately() {
+        assertEquals(1, underTest.query(countingQuery(1, "plan_servers"), this::execute));
+        assertEquals(2, underTest.query(countingQuery(2, "plan_servers"), this::execute));
+        assertEquals(1, underTest.query(countingQuery(1, "plan_servers"), this::execute));
+    }
+
+    @Test
+    void writeDuringExecutionIsNotHiddenByCache() {
+        CacheableQuery<Integer> query = CacheableQuery.of(List.of("writing"), List.of("plan_servers"), db -> {
+            underTest.tablesWritten(List.of("plan_servers"));
+            return executions.incrementAndGet();
+        });
+        underTest.query(query, this::execute);
+        underTest.query(query, this::execute);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void concurrentExecutionsAreCoalesced() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CacheableQuery<Integer> query = CacheableQuery.of(List.of("slow"), List.of("plan_servers"), db -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return executions.incrementAndGet();
+        });
+
+        Future<Integer> first = executor.submit(() -> underTest.query(query, this::execute));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        List<Future<Integer>> others = List.of(
+                executor.submit(() -> underTest.query(query, this::execute)),
+                executor.submit(() -> underTest.query(query, this::execute))
+        );
+        Thread.sleep(100); // Let the other queries start waiting
+        release.countDown();
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        for (Future<Integer> other : others) {
+            assertEquals(1, other.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        CacheableQuery<Integer> failing = CacheableQuery.of(List.of("failing"), List.of("plan_servers"), db -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("Test failure");
+        });
+        assertThrows(IllegalStateException.class, () -> underTest.query(failing, this::execute));
+        assertThrows(IllegalStateException.class, () -> underTest.query(failing, this::execute));
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void resultsExpireAfterMaxAge() {
+        AtomicLong time = new AtomicLong();
+        QueryCache cache = new QueryCache(time::get);
+        cache.setMaxAge(TimeUnit.SECONDS.toMillis(10L));
+
+        CacheableQuery<Integer> query = countingQuery(1, "plan_servers");
+        assertEquals(1, cache.query(query, this::execute));
+        time.addAndGet(TimeUnit.SECONDS.toMillis(10L));
+        assertEquals(1, cache.query(query, this::execute));
+        time.incrementAndGet();
+        assertEquals(2, cache.query(query, this::execute));
+        assertEquals(2, executions.get());
+    }
+}
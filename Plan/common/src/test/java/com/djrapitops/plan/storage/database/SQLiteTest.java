@@ -24,15 +24,19 @@ import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
 import com.djrapitops.plan.storage.database.queries.ExtensionsDatabaseTest;
+import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.queries.filter.QueryFilters;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.patches.Patch;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
@@ -43,8 +47,12 @@ import utilities.TestConstants;
 import utilities.TestErrorLogger;
 
 import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
 /**
@@ -98,6 +106,34 @@ public class SQLiteTest implements DatabaseTest, DatabaseTestAggregate {
         assertEquals(serverUUID(), ((SQLDB) db()).getServerUUIDSupplier().get());
     }
 
+    @Test
+    void queriesUseSeparateConnectionFromRunningTransaction() throws Exception {
+        UUID playerUUID = UUID.randomUUID();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch queried = new CountDownLatch(1);
+
+        CompletableFuture<?> transaction = db().executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(DataStoreQueries.registerBaseUser(playerUUID, System.currentTimeMillis(), "Test"));
+                inserted.countDown();
+                try {
+                    queried.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        assertTrue(inserted.await(10, TimeUnit.SECONDS));
+        // Uncommitted insert is not visible to the read connection
+        assertFalse(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+        queried.countDown();
+        transaction.get();
+
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+    }
+
     @AfterAll
     static void disableSystem() {
         if (database != null) database.close();
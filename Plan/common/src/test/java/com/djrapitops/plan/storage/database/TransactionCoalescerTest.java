@@ -0,0 +1,140 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TransactionCoalescer}.
+ *
+ * @author AuroraLS3
+ */
+class TransactionCoalescerTest {
+
+    private List<TransactionCoalescer.Batch> flushed;
+    private TransactionCoalescer underTest;
+
+    @BeforeEach
+    void setUp() {
+        flushed = new ArrayList<>();
+        underTest = new TransactionCoalescer(batch -> {
+            synchronized (flushed) {
+                flushed.add(batch);
+            }
+        });
+    }
+
+    private static TPSStoreTransaction tpsTransaction() {
+        return new TPSStoreTransaction(TestConstants.SERVER_UUID, RandomData.randomTPS().get(0));
+    }
+
+    @Test
+    void batchIsFlushedWhenFull() {
+        for (int i = 0; i < TransactionCoalescer.MAX_BATCH_SIZE; i++) {
+            underTest.add(tpsTransaction(), null);
+        }
+        assertEquals(1, flushed.size());
+        assertEquals(TransactionCoalescer.MAX_BATCH_SIZE, flushed.get(0).size());
+    }
+
+    @Test
+    void batchIsFlushedAfterWindow() {
+        underTest.add(tpsTransaction(), null);
+        underTest.add(tpsTransaction(), null);
+        assertTrue(flushed.isEmpty());
+
+        await().atMost(TransactionCoalescer.FLUSH_WINDOW_MS * 10, TimeUnit.MILLISECONDS)
+                .until(() -> {
+                    synchronized (flushed) {
+                        return flushed.size() == 1;
+                    }
+                });
+        assertEquals(2, flushed.get(0).size());
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() {
+        underTest.add(tpsTransaction(), null);
+        underTest.add(new TPSStoreTransaction(ServerUUID.randomUUID(), RandomData.randomTPS().get(0)), null);
+        underTest.flushAll();
+
+        assertEquals(2, flushed.size());
+        assertEquals(1, flushed.get(0).size());
+        assertEquals(1, flushed.get(1).size());
+    }
+
+    @Test
+    void futuresAreCompletedIndividually() {
+        CompletableFuture<Object> first = underTest.add(tpsTransaction(), null);
+        CompletableFuture<Object> second = underTest.add(tpsTransaction(), null);
+        underTest.flushAll();
+
+        TransactionCoalescer.Batch batch = flushed.get(0);
+        batch.getFuture(0).complete(null);
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+    }
+
+    @Test
+    void batchFailureIsPassedToEveryMember() {
+        CompletableFuture<Object> first = underTest.add(tpsTransaction(), null);
+        CompletableFuture<Object> second = underTest.add(tpsTransaction(), null);
+        underTest.flushAll();
+
+        flushed.get(0).complete(new IllegalStateException("Batch failed"), transaction -> Optional.empty());
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    @Test
+    void memberFailureIsPassedOnlyToThatMember() {
+        TPSStoreTransaction failing = tpsTransaction();
+        CompletableFuture<Object> first = underTest.add(failing, null);
+        CompletableFuture<Object> second = underTest.add(tpsTransaction(), null);
+        underTest.flushAll();
+
+        flushed.get(0).complete(null, transaction -> transaction == failing
+                ? Optional.of(new IllegalStateException("Rolled back"))
+                : Optional.empty());
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isDone());
+        assertFalse(second.isCompletedExceptionally());
+    }
+
+    @Test
+    void nextTransactionIsQueuedAfterPendingBatches() {
+        underTest.add(tpsTransaction(), null);
+        List<Integer> flushedBeforeNext = new ArrayList<>();
+        underTest.flushAllThen(() -> flushedBeforeNext.add(flushed.size()));
+
+        assertEquals(List.of(1), flushedBeforeNext);
+    }
+}
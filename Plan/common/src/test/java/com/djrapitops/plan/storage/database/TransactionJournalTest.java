@@ -0,0 +1,169 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.transactions.JournalableTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.RandomData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TransactionJournal}.
+ *
+ * @author AuroraLS3
+ */
+class TransactionJournalTest {
+
+    private static final ServerUUID SERVER_UUID = ServerUUID.randomUUID();
+
+    @TempDir
+    Path tempDir;
+    private Path journalDir;
+
+    @BeforeEach
+    void setUp() {
+        journalDir = tempDir.resolve(TransactionJournal.DIRECTORY_NAME);
+    }
+
+    private static PingStoreTransaction ping(long date) {
+        return new PingStoreTransaction(UUID.randomUUID(), new Ping(date, SERVER_UUID, 10, 50, 25.5));
+    }
+
+    private static List<String> entries(List<Transaction> transactions) {
+        List<String> entries = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            entries.add(((JournalableTransaction) transaction).toJournalEntry());
+        }
+        return entries;
+    }
+
+    private static List<String> replayAll(TransactionJournal journal, int batchSize) throws IOException {
+        List<String> replayed = new ArrayList<>();
+        while (true) {
+            Optional<TransactionJournal.Batch> batch = journal.readBatch(batchSize);
+            if (batch.isEmpty()) return replayed;
+            replayed.addAll(entries(batch.get().getTransactions()));
+            journal.markReplayed(batch.get());
+        }
+    }
+
+    @Test
+    void emptyJournalCreatesNoFiles() throws IOException {
+        TransactionJournal journal = new TransactionJournal(journalDir);
+        journal.open();
+        assertTrue(journal.isEmpty());
+        assertTrue(journal.readBatch(10).isEmpty());
+        assertFalse(Files.exists(journalDir));
+    }
+
+    @Test
+    void entriesAreReplayedInOrder() throws IOException {
+        TransactionJournal journal = new TransactionJournal(journalDir);
+        journal.open();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            PingStoreTransaction transaction = ping(i);
+            expected.add(transaction.toJournalEntry());
+            assertTrue(journal.append(transaction));
+        }
+        assertEquals(10, journal.getPendingCount());
+
+        assertEquals(expected, replayAll(journal, 3));
+        assertTrue(journal.isEmpty());
+    }
+
+    @Test
+    void unreplayedEntriesSurviveReopen() throws IOException {
+        TransactionJournal journal = new TransactionJournal(journalDir);
+        journal.open();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PingStoreTransaction transaction = ping(i);
+            expected.add(transaction.toJournalEntry());
+            journal.append(transaction);
+        }
+        journal.markReplayed(journal.readBatch(2).orElseThrow());
+        journal.close();
+
+        TransactionJournal reopened = new TransactionJournal(journalDir);
+        reopened.open();
+        assertEquals(3, reopened.getPendingCount());
+        assertEquals(expected.subList(2, 5), replayAll(reopened, 10));
+    }
+
+    @Test
+    void segmentsAreRolledOverAndDeletedAfterReplay() throws IOException {
+        TransactionJournal journal = new TransactionJournal(journalDir, 512);
+        journal.open();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PingStoreTransaction transaction = ping(i);
+            expected.add(transaction.toJournalEntry());
+            journal.append(transaction);
+        }
+        assertTrue(countSegments() > 1);
+
+        assertEquals(expected, replayAll(journal, 100));
+        journal.close();
+
+        TransactionJournal reopened = new TransactionJournal(journalDir, 512);
+        reopened.open();
+        assertTrue(reopened.isEmpty());
+        assertEquals(0, countSegments());
+    }
+
+    @Test
+    void batchedTPSEntryIsReplayedWithAllDataPoints() throws IOException {
+        TransactionJournal journal = new TransactionJournal(journalDir);
+        journal.open();
+        TPSStoreTransaction transaction = new TPSStoreTransaction(null, SERVER_UUID, RandomData.randomTPS());
+        journal.append(transaction);
+
+        assertEquals(List.of(transaction.toJournalEntry()), replayAll(journal, 10));
+    }
+
+    @Test
+    void tooLargeEntryIsNotJournaled() throws IOException {
+        TransactionJournal journal = new TransactionJournal(journalDir, 32);
+        journal.open();
+        assertFalse(journal.append(ping(0)));
+        assertTrue(journal.isEmpty());
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.count();
+        }
+    }
+}
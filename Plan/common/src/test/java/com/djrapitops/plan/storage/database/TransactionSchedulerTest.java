@@ -0,0 +1,168 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.TransactionLane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TransactionScheduler}.
+ *
+ * @author AuroraLS3
+ */
+class TransactionSchedulerTest {
+
+    private AtomicBoolean operable;
+    private TransactionScheduler underTest;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        operable = new AtomicBoolean(true);
+        underTest = new TransactionScheduler(operable::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    @Test
+    void lanesAreExecutedInPriorityOrder() {
+        List<String> executed = new ArrayList<>();
+        underTest.submit(TransactionLane.MAINTENANCE, null, () -> executed.add("maintenance"));
+        underTest.submit(TransactionLane.EVENT, null, () -> executed.add("event"));
+        underTest.submit(TransactionLane.PATCH, null, () -> executed.add("patch"));
+        underTest.submit(TransactionLane.CRITICAL, null, () -> executed.add("critical"));
+
+        underTest.setExecutor(Runnable::run, 1);
+
+        assertEquals(List.of("patch", "critical", "event", "maintenance"), executed);
+    }
+
+    @Test
+    void accessLogIsExecutedAfterEvents() {
+        List<String> executed = new ArrayList<>();
+        underTest.submit(TransactionLane.ACCESS_LOG, null, () -> executed.add("access log"));
+        underTest.submit(TransactionLane.EVENT, null, () -> executed.add("event 1"));
+        underTest.submit(TransactionLane.EVENT, null, () -> executed.add("event 2"));
+
+        underTest.setExecutor(Runnable::run, 1);
+
+        assertEquals(List.of("event 1", "event 2", "access log"), executed);
+    }
+
+    @Test
+    void eventsWaitUntilOperable() {
+        List<String> executed = new ArrayList<>();
+        operable.set(false);
+        underTest.setExecutor(Runnable::run, 1);
+        underTest.submit(TransactionLane.EVENT, null, () -> executed.add("event"));
+        underTest.submit(TransactionLane.CRITICAL, null, () -> executed.add("critical"));
+        assertEquals(List.of("critical"), executed);
+
+        operable.set(true);
+        underTest.dispatch();
+        assertEquals(List.of("critical", "event"), executed);
+    }
+
+    @Test
+    void transactionsQueuedDuringExecutionAreExecutedAfterwards() {
+        List<String> executed = new ArrayList<>();
+        underTest.setExecutor(Runnable::run, 1);
+        underTest.submit(TransactionLane.EVENT, null, () -> {
+            underTest.submit(TransactionLane.EVENT, null, () -> executed.add("second"));
+            executed.add("first");
+        });
+        assertEquals(List.of("first", "second"), executed);
+    }
+
+    @Test
+    void partitionedEventsAreExecutedInParallel() throws InterruptedException {
+        executor = Executors.newFixedThreadPool(TransactionScheduler.getMaxConcurrency(2));
+        underTest.setExecutor(executor, 2);
+
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        AtomicInteger sawOtherRunning = new AtomicInteger();
+        Runnable task = () -> {
+            bothRunning.countDown();
+            try {
+                if (bothRunning.await(5, TimeUnit.SECONDS)) sawOtherRunning.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        underTest.submit(TransactionLane.EVENT, "ping", task);
+        underTest.submit(TransactionLane.EVENT, "tps", task);
+
+        assertTrue(underTest.awaitIdle(TimeUnit.SECONDS.toMillis(10L)));
+        assertEquals(2, sawOtherRunning.get());
+    }
+
+    @Test
+    void orderedEventWaitsForPartitionedEvents() throws InterruptedException {
+        executor = Executors.newFixedThreadPool(TransactionScheduler.getMaxConcurrency(2));
+        underTest.setExecutor(executor, 2);
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        underTest.submit(TransactionLane.EVENT, "ping", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executed.add("ping");
+        });
+        underTest.submit(TransactionLane.EVENT, null, () -> executed.add("ordered"));
+        release.countDown();
+
+        assertTrue(underTest.awaitIdle(TimeUnit.SECONDS.toMillis(10L)));
+        assertEquals(List.of("ping", "ordered"), executed);
+    }
+
+    @Test
+    void pausedSchedulerKeepsTransactionsQueued() {
+        List<String> executed = new ArrayList<>();
+        assertEquals(0, underTest.pause(List.of()));
+        underTest.submit(TransactionLane.EVENT, null, () -> executed.add("event"));
+        assertTrue(executed.isEmpty());
+        assertEquals(1, underTest.getQueueSize());
+
+        underTest.setExecutor(Runnable::run, 1);
+        assertEquals(List.of("event"), executed);
+    }
+
+    @Test
+    void backpressureRisesWithQueuedEvents() {
+        assertEquals(Backpressure.NONE, underTest.getBackpressure());
+        for (int i = 0; i < 1000; i++) {
+            underTest.submit(TransactionLane.EVENT, null, () -> {});
+        }
+        assertEquals(Backpressure.HIGH, underTest.getBackpressure());
+    }
+}
@@ -19,12 +19,15 @@ package com.djrapitops.plan.storage.database.queries;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.gathering.domain.DataMap;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
+import com.djrapitops.plan.storage.database.sql.tables.ActivePlaytimeTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
@@ -38,8 +41,10 @@ import utilities.TestConstants;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -238,6 +243,50 @@ public interface ActivityIndexQueriesTest extends DatabaseTestPreparer {
         };
     }
 
+    @Test
+    default void activePlaytimeTableMatchesSessions() {
+        storeSessions(session -> true);
+
+        Long expected = db().query(SessionQueries.activePlaytime(0, System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1L), serverUUID()));
+        Long result = db().query(new QueryAllStatement<>(SELECT + "SUM(" + ActivePlaytimeTable.ACTIVE_PLAYTIME + ") as active_playtime" + FROM + ActivePlaytimeTable.TABLE_NAME) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getLong("active_playtime") : 0L;
+            }
+        });
+        assertEquals(expected, result);
+    }
+
+    @Test
+    default void sessionsOnSameDayAreAddedToSameActivePlaytimeRow() {
+        storeSessions(session -> false);
+        long dayStart = ActivePlaytimeTable.getDayStart(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1L));
+        db().executeTransaction(new StoreSessionTransaction(new FinishedSession(playerUUID, serverUUID(), dayStart, dayStart + 1000L, 0L, new DataMap())));
+        db().executeTransaction(new StoreSessionTransaction(new FinishedSession(playerUUID, serverUUID(), dayStart + 2000L, dayStart + 4000L, 500L, new DataMap())));
+
+        List<Long> rows = db().query(new QueryAllStatement<>(SELECT + ActivePlaytimeTable.ACTIVE_PLAYTIME + FROM + ActivePlaytimeTable.TABLE_NAME) {
+            @Override
+            public List<Long> processResults(ResultSet set) throws SQLException {
+                List<Long> playtimes = new ArrayList<>();
+                while (set.next()) playtimes.add(set.getLong(ActivePlaytimeTable.ACTIVE_PLAYTIME));
+                return playtimes;
+            }
+        });
+        assertEquals(List.of(2500L), rows);
+    }
+
+    @Test
+    default void activityIndexGroupingsQueryHasAllParametersSet() {
+        storeSessions(session -> true);
+        long date = System.currentTimeMillis();
+        long playtimeThreshold = TimeUnit.HOURS.toMillis(2L);
+
+        Map<String, Integer> groupings = db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID(), playtimeThreshold));
+        assertEquals(2, groupings.values().stream().mapToInt(Integer::intValue).sum());
+        Map<String, Integer> networkGroupings = db().query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(date, playtimeThreshold));
+        assertEquals(2, networkGroupings.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
     @Test
     default void activeTurnedInactiveQueryHasAllParametersSet() {
         Integer result = db().query(ActivityIndexQueries.countRegularPlayersTurnedInactive(
@@ -26,6 +26,9 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.SQLiteDB;
 import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
+import com.djrapitops.plan.storage.database.transactions.BackupCopyProgress;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
 import com.djrapitops.plan.storage.database.transactions.commands.StoreWebUserTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
@@ -40,7 +43,9 @@ import utilities.TestConstants;
 import java.io.File;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -111,6 +116,35 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
         }
     }
 
+    @Test
+    default void resumedBackupCopySkipsCopiedData() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            saveDataForBackup();
+
+            Map<String, Integer> reported = new HashMap<>();
+            BackupCopyProgress progress = new BackupCopyProgress(reported::put);
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup, progress));
+            assertEquals(100, reported.get(SessionsTable.TABLE_NAME));
+            assertEquals(100, reported.get(TPSTable.TABLE_NAME));
+
+            // Everything has been copied, so resuming with the same progress should not copy anything again.
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup, progress));
+
+            assertQueryResultIsEqual(db(), backup, BaseUserQueries.fetchAllBaseUsers());
+            assertQueryResultIsEqual(db(), backup, SessionQueries.fetchAllSessions());
+            assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllTPSData());
+            assertQueryResultIsEqual(db(), backup, WebUserQueries.fetchAllUsers());
+        } finally {
+            backup.close();
+        }
+    }
+
     default <T> void assertQueryResultIsEqual(Database one, Database two, Query<T> query) {
         assertEquals(one.query(query), two.query(query));
     }
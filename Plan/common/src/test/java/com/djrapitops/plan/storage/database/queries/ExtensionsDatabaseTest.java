@@ -26,6 +26,7 @@ import com.djrapitops.plan.extension.annotation.*;
 import com.djrapitops.plan.extension.builder.ExtensionDataBuilder;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderStatistics;
 import com.djrapitops.plan.extension.implementation.results.*;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerDataQuery;
@@ -49,10 +50,9 @@ import utilities.RandomData;
 import utilities.TestConstants;
 import utilities.TestErrorLogger;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,6 +73,7 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         extensionService.unregister(new ConditionalExtension());
         extensionService.unregister(new TableExtension());
         extensionService.unregister(new ThrowingExtension());
+        extensionService.unregister(new BlockingExtension());
     }
 
     @Test
@@ -173,6 +174,39 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         OptionalAssert.equals("Something", tabData.getString("stringVal").map(ExtensionStringData::getFormattedValue));
     }
 
+    @Test
+    default void blockingProviderIsSkippedAfterTimeoutWhileOtherExtensionsAreGathered() {
+        ExtensionSvc extensionService = extensionService();
+        BlockingExtension blocking = new BlockingExtension();
+        try {
+            extensionService.register(blocking);
+            extensionService.register(new ServerExtension());
+            extensionService.updateServerValues(CallEvents.MANUAL); // Waits until gathering times out
+
+            ProviderStatistics.Snapshot statistics = extensionService.getProviderStatistics().stream()
+                    .filter(snapshot -> "blockingValue".equals(snapshot.getMethodName()))
+                    .findAny().orElseThrow(AssertionError::new);
+            assertEquals(1L, statistics.getTimeouts());
+            assertTrue(statistics.getDisabledUntil() > System.currentTimeMillis());
+
+            // More gatherings than there are gathering threads, would take minutes if the blocking method was called again.
+            long start = System.currentTimeMillis();
+            for (int i = 0; i < 20; i++) {
+                extensionService.updateServerValues(CallEvents.MANUAL);
+            }
+            assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5L));
+
+            List<ExtensionData> ofServer = db().query(new ExtensionServerDataQuery(serverUUID()));
+            OptionalAssert.equals("5", ofServer.stream()
+                    .flatMap(extensionData -> extensionData.getTabs().stream())
+                    .map(tab -> tab.getNumber("value"))
+                    .flatMap(Optional::stream)
+                    .findAny().map(data -> data.getFormattedValue(Object::toString)));
+        } finally {
+            blocking.release.countDown();
+        }
+    }
+
     @Test
     default void extensionServerAggregateQueriesWork() {
         ExtensionSvc extensionService = extensionService();
@@ -260,6 +294,26 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         assertEquals(RemovingConditionalExtension.condition, tabData.getString("conditionalValue").isPresent());
     }
 
+    @Test
+    default void conditionalResultsAreStoredAgainWhenConditionIsFulfilledAgain() {
+        db().executeTransaction(new PlayerRegisterTransaction(playerUUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME));
+
+        ExtensionSvc extensionService = extensionService();
+
+        extensionService.register(new RemovingConditionalExtension());
+
+        // Unchanged values are not stored again, which should not apply to values removed with the condition.
+        for (boolean condition : new boolean[]{true, false, true}) {
+            RemovingConditionalExtension.condition = condition;
+            extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        }
+
+        List<ExtensionData> ofServer = db().query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID());
+        assertTrue(ofServer != null && !ofServer.isEmpty() && !ofServer.get(0).getTabs().isEmpty(), "There was no data left");
+        ExtensionTabData tabData = ofServer.get(0).getTabs().get(0);
+        assertTrue(tabData.getString("conditionalValue").isPresent());
+    }
+
     @Test
     default void unsatisfiedServerConditionalResultsAreCleanedCompletely() {
         db().executeTransaction(new PlayerRegisterTransaction(playerUUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME));
@@ -606,6 +660,29 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         }
     }
 
+    @PluginInfo(name = "BlockingExtension")
+    class BlockingExtension implements DataExtension {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public CallEvents[] callExtensionMethodsOn() {
+            return new CallEvents[]{CallEvents.MANUAL};
+        }
+
+        @NumberProvider(text = "a number")
+        public long blockingValue() {
+            // Ignores interrupts, like a provider stuck on a lock of another plugin.
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // Keep waiting
+                }
+            }
+            return 1L;
+        }
+    }
+
     @PluginInfo(name = "ThrowingExtension")
     class ThrowingExtension implements DataExtension {
         @BooleanProvider(text = "a boolean")
@@ -18,8 +18,10 @@ package com.djrapitops.plan.storage.database.queries;
 
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
@@ -45,7 +47,10 @@ import utilities.TestConstants;
 
 import java.sql.PreparedStatement;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -203,6 +208,29 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
                 TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
     }
 
+    @Test
+    default void newPlayerIsRegisteredOnceWhenServersStoreSessionsInParallel() throws ExecutionException, InterruptedException {
+        ServerUUID serverTwoUuid = TestConstants.SERVER_TWO_UUID;
+        executeTransactions(
+                new StoreServerInformationTransaction(new Server(serverTwoUuid, TestConstants.SERVER_TWO_NAME, "", TestConstants.VERSION)),
+                new StoreWorldNameTransaction(serverUUID(), worlds[0]),
+                new StoreWorldNameTransaction(serverUUID(), worlds[1]),
+                new StoreWorldNameTransaction(serverTwoUuid, worlds[0]),
+                new StoreWorldNameTransaction(serverTwoUuid, worlds[1])
+        );
+
+        // Sessions of different servers are coalesced to different batches, which can be executed at the same time.
+        CompletableFuture<?> storeFirst = db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID)));
+        CompletableFuture<?> storeSecond = db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverTwoUuid, worlds, playerUUID)));
+        storeFirst.get();
+        storeSecond.get();
+
+        assertEquals(1, db().query(BaseUserQueries.fetchAllBaseUsers()).size());
+        Map<ServerUUID, List<FinishedSession>> sessions = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID));
+        assertEquals(1, sessions.getOrDefault(serverUUID(), Collections.emptyList()).size());
+        assertEquals(1, sessions.getOrDefault(serverTwoUuid, Collections.emptyList()).size());
+    }
+
     @Test
     default void sessionsAreStoredWithAllData() {
         prepareForSessionSave();
@@ -220,6 +248,64 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    default void streamedSessionsMatchFetchedSessions() {
+        prepareForSessionSave();
+        for (int i = 0; i < 5; i++) {
+            db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        }
+
+        forcePersistenceCheck();
+
+        Map<ServerUUID, List<FinishedSession>> expected = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID));
+        Map<ServerUUID, List<FinishedSession>> result = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID,
+                Collectors.groupingBy(FinishedSession::getServerUUID)));
+        assertEquals(expected, result);
+
+        List<FinishedSession> allSessions = db().query(SessionQueries.fetchAllSessions());
+        assertEquals(allSessions, db().query(SessionQueries.fetchAllSessions(Collectors.toList())));
+
+        SessionsMutator sessionsMutator = new SessionsMutator(expected.get(serverUUID()));
+        SessionsMutator.Summary summary = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID, SessionsMutator.summarizing()));
+        assertEquals(sessionsMutator.count(), summary.count());
+        assertEquals(sessionsMutator.toPlaytime(), summary.toPlaytime());
+        assertEquals(sessionsMutator.toAfkTime(), summary.toAfkTime());
+        assertEquals(sessionsMutator.toActivePlaytime(), summary.toActivePlaytime());
+        assertEquals(sessionsMutator.toLongestSessionLength(), summary.toLongestSessionLength());
+        assertEquals(sessionsMutator.toLastSeen(), summary.toLastSeen());
+        assertEquals(sessionsMutator.toPlayerKillCount(), summary.toPlayerKillCount());
+        assertEquals(sessionsMutator.toMobKillCount(), summary.toMobKillCount());
+        assertEquals(sessionsMutator.toDeathCount(), summary.toDeathCount());
+        assertEquals(sessionsMutator.toTotalWorldTimes(), summary.toTotalWorldTimes());
+    }
+
+    @Test
+    default void playerContainerSessionSummaryMatchesSessions() {
+        prepareForSessionSave();
+        for (int i = 0; i < 5; i++) {
+            db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        }
+
+        forcePersistenceCheck();
+
+        PlayerContainer playerContainer = db().query(new PlayerContainerQuery(playerUUID));
+        SessionsMutator sessionsMutator = SessionsMutator.forContainer(playerContainer);
+        SessionsMutator.Summary summary = playerContainer.getValue(PlayerKeys.SESSION_SUMMARY).orElseThrow(AssertionError::new);
+
+        assertEquals(5, sessionsMutator.count());
+        assertEquals(sessionsMutator.count(), summary.count());
+        assertEquals(sessionsMutator.toPlaytime(), summary.toPlaytime());
+        assertEquals(sessionsMutator.toLastSeen(), summary.toLastSeen());
+        assertEquals(sessionsMutator.toLastSeen(), playerContainer.getValue(PlayerKeys.LAST_SEEN).orElseThrow(AssertionError::new));
+        assertEquals(sessionsMutator.toMobKillCount(), playerContainer.getValue(PlayerKeys.MOB_KILL_COUNT).orElseThrow(AssertionError::new));
+        assertEquals(sessionsMutator.toDeathCount(), playerContainer.getValue(PlayerKeys.DEATH_COUNT).orElseThrow(AssertionError::new));
+
+        Optional<String> expectedJoinAddress = sessionsMutator.latestSession()
+                .flatMap(session -> session.getExtraData(JoinAddress.class))
+                .map(JoinAddress::getAddress);
+        assertEquals(expectedJoinAddress, summary.toLatestJoinAddress());
+    }
+
     @Test
     default void mostRecentSessionsCanBeQueried() {
         prepareForSessionSave();
@@ -242,7 +328,7 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         db().executeTransaction(new Transaction() {
             @Override
             protected void performOperations() {
-                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions, dbType));
             }
         });
 
@@ -263,7 +349,7 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         db().executeTransaction(new Transaction() {
             @Override
             protected void performOperations() {
-                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions, dbType));
             }
         });
 
@@ -292,7 +378,7 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         db().executeTransaction(new Transaction() {
             @Override
             protected void performOperations() {
-                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions, dbType));
             }
         });
 
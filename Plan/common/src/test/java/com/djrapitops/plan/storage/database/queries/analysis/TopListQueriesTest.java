@@ -25,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import utilities.RandomData;
 import utilities.TestConstants;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public interface TopListQueriesTest extends DatabaseTestPreparer {
@@ -62,4 +64,19 @@ public interface TopListQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, result);
     }
 
-}
\ No newline at end of file
+    @Test
+    default void topPlaytimePlayersQueryMatchesNthPlayerQuery() {
+        storeSessionForTopListQueries();
+
+        long now = System.currentTimeMillis();
+        TopListQueries.TopListEntry<Long> expected = db().query(TopListQueries.fetchNthTop10PlaytimePlayerOn(serverUUID(), 0, 0, now))
+                .orElseThrow(AssertionError::new);
+        List<TopListQueries.TopListEntry<Long>> result = db().query(TopListQueries.fetchTopPlaytimePlayers(serverUUID(), 0, now, 10));
+
+        assertEquals(1, result.size());
+        assertEquals(playerUUID, result.get(0).getPlayerUUID());
+        assertEquals(expected.getPlayerName(), result.get(0).getPlayerName());
+        assertEquals(expected.getValue(), result.get(0).getValue());
+    }
+
+}
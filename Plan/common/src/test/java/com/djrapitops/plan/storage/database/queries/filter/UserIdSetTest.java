@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserIdSetTest {
+
+    @Test
+    void equalsRegularSet() {
+        assertEquals(Set.of(1, 5, 100_000), UserIdSet.of(100_000, 1, 5));
+        assertEquals(UserIdSet.of(100_000, 1, 5), Set.of(1, 5, 100_000));
+    }
+
+    @Test
+    void and() {
+        UserIdSet result = UserIdSet.of(1, 2, 3, 4).and(UserIdSet.of(3, 4, 5));
+        assertEquals(Set.of(3, 4), result);
+    }
+
+    @Test
+    void or() {
+        UserIdSet result = UserIdSet.of(1, 2).or(UserIdSet.of(2, 3));
+        assertEquals(Set.of(1, 2, 3), result);
+    }
+
+    @Test
+    void andNot() {
+        UserIdSet result = UserIdSet.of(1, 2, 3).andNot(UserIdSet.of(2));
+        assertEquals(Set.of(1, 3), result);
+    }
+
+    @Test
+    void operationsDoNotModifyOriginal() {
+        UserIdSet original = UserIdSet.of(1, 2, 3);
+        original.and(UserIdSet.of(1));
+        original.andNot(UserIdSet.of(2));
+        assertEquals(Set.of(1, 2, 3), original);
+    }
+
+    @Test
+    void retainAllWithRegularSet() {
+        UserIdSet set = UserIdSet.of(1, 2, 3);
+        assertTrue(set.retainAll(Set.of(2, 3, 4)));
+        assertEquals(Set.of(2, 3), set);
+    }
+
+    @Test
+    void idsAreStreamedInOrder() {
+        UserIdSet set = UserIdSet.of(30, 10, 20);
+        assertEquals(List.of(10, 20, 30), set.idStream().boxed().collect(Collectors.toList()));
+        assertEquals("10,20,30", UserIdSet.join(set, ","));
+    }
+
+    @Test
+    void sizeAndContains() {
+        UserIdSet set = UserIdSet.of(7, 7, 8);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(7));
+        assertFalse(set.contains(9));
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains("7"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link PlayerSummaryQueries}.
+ *
+ * @author AuroraLS3
+ */
+public interface PlayerSummaryQueriesTest extends DatabaseTestPreparer {
+
+    private void storePlayers() {
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+    }
+
+    private FinishedSession recentSession() {
+        long start = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2L);
+        return RandomData.randomSession(serverUUID(), worlds, start, playerUUID, player2UUID);
+    }
+
+    @Test
+    default void playerSummaryMatchesSessionsOfPlayer() {
+        storePlayers();
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+        db().executeTransaction(new StoreSessionTransaction(recentSession()));
+
+        long now = System.currentTimeMillis();
+        List<FinishedSession> sessions = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID());
+        SessionsMutator sessionsMutator = new SessionsMutator(sessions);
+        long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
+        PlayerSummary summary = db().query(PlayerSummaryQueries.fetchPlayerSummary(playerUUID, now));
+
+        assertEquals(sessionsMutator.count(), summary.getSessionCount());
+        assertEquals(sessionsMutator.toPlaytime(), summary.getPlaytime(null, 0L));
+        assertEquals(sessionsMutator.toAfkTime(), summary.getAfkTime(serverUUID(), 0L));
+        assertEquals(sessionsMutator.filterSessionsBetween(dayAgo, now).toPlaytime(), summary.getPlaytime(serverUUID(), dayAgo));
+        assertEquals(sessionsMutator.toMobKillCount(), summary.getMobKillCount());
+        assertEquals(sessionsMutator.toDeathCount(), summary.getDeathCount());
+        assertEquals(sessionsMutator.toLastSeen(), summary.getLastSeen());
+        assertEquals(db().query(KillQueries.fetchPlayerKillsOfPlayer(playerUUID)).size(), summary.getPlayerKillCount());
+        assertEquals(db().query(KillQueries.fetchPlayerDeathsOfPlayer(player2UUID)).size(),
+                db().query(PlayerSummaryQueries.fetchPlayerSummary(player2UUID, now)).getPlayerDeathCount());
+    }
+
+    @Test
+    default void playerSummaryUpdatedWithSessionMatchesStoredSummary() {
+        storePlayers();
+        db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+
+        PlayerSummary summary = db().query(PlayerSummaryQueries.fetchPlayerSummary(playerUUID, System.currentTimeMillis()));
+        FinishedSession session = recentSession();
+        summary.addSession(session);
+        db().executeTransaction(new StoreSessionTransaction(session));
+
+        long now = System.currentTimeMillis();
+        long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
+        PlayerSummary expected = db().query(PlayerSummaryQueries.fetchPlayerSummary(playerUUID, now));
+        assertEquals(expected.getSessionCount(), summary.getSessionCount());
+        assertEquals(expected.getPlaytime(null, 0L), summary.getPlaytime(null, 0L));
+        assertEquals(expected.getActivePlaytime(serverUUID(), weekAgo), summary.getActivePlaytime(serverUUID(), weekAgo));
+        assertEquals(expected.getPlayerKillCount(), summary.getPlayerKillCount());
+        assertEquals(expected.getLastSeen(), summary.getLastSeen());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.delivery.domain.TablePlayer;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PlayersTablePageQuery}.
+ *
+ * @author AuroraLS3
+ */
+public interface PlayersTablePageQueryTest extends DatabaseTestPreparer {
+
+    private void storePlayersWithSessions() {
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, RandomData::randomTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, RandomData::randomTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID)
+                .forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+        RandomData.randomSessions(serverUUID(), worlds, player2UUID, playerUUID)
+                .forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+    }
+
+    private List<UUID> expectedByLastSeen() {
+        Map<UUID, Long> lastSeen = db().query(SessionQueries.lastSeen(serverUUID()));
+        return Stream.of(playerUUID, player2UUID)
+                .sorted(Comparator.comparing((UUID uuid) -> lastSeen.getOrDefault(uuid, 0L)).thenComparing(UUID::toString).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    default void playersTableCanBePagedByName() {
+        storePlayersWithSessions();
+
+        PlayersTablePageQuery.Page firstPage = db().query(new PlayersTablePageQuery(serverUUID(), PlayersTableSort.NAME, false, null, null, 0, 1));
+        assertEquals(List.of(playerUUID), firstPage.getPlayerUUIDs());
+        PlayersTablePageQuery.Cursor cursor = firstPage.getNext().orElseThrow(AssertionError::new);
+
+        PlayersTablePageQuery.Page secondPage = db().query(new PlayersTablePageQuery(serverUUID(), PlayersTableSort.NAME, false, null,
+                PlayersTablePageQuery.Cursor.parse(cursor.toString(), PlayersTableSort.NAME), 0, 1));
+        assertEquals(List.of(player2UUID), secondPage.getPlayerUUIDs());
+        assertFalse(secondPage.getNext().isPresent());
+
+        PlayersTablePageQuery.Page offsetPage = db().query(new PlayersTablePageQuery(serverUUID(), PlayersTableSort.NAME, false, null, null, 1, 1));
+        assertEquals(secondPage.getPlayerUUIDs(), offsetPage.getPlayerUUIDs());
+
+        List<TablePlayer> players = db().query(new ServerTablePlayersQuery(serverUUID(), System.currentTimeMillis(), TimeUnit.HOURS.toMillis(1L), secondPage.getUserIds()));
+        assertEquals(List.of(player2UUID), players.stream().map(TablePlayer::getPlayerUUID).collect(Collectors.toList()));
+    }
+
+    @Test
+    default void playersTableCanBeSortedByLastSeen() {
+        storePlayersWithSessions();
+        List<UUID> expected = expectedByLastSeen();
+
+        PlayersTablePageQuery.Page ofServer = db().query(new PlayersTablePageQuery(serverUUID(), PlayersTableSort.LAST_SEEN, true, null, null, 0, 10));
+        assertEquals(expected, ofServer.getPlayerUUIDs());
+        PlayersTablePageQuery.Page ofNetwork = db().query(new PlayersTablePageQuery(null, PlayersTableSort.LAST_SEEN, true, null, null, 0, 10));
+        assertEquals(expected, ofNetwork.getPlayerUUIDs());
+    }
+
+    @Test
+    default void playersTableCanBePagedByLastSeen() {
+        storePlayersWithSessions();
+        List<UUID> expected = expectedByLastSeen();
+
+        PlayersTablePageQuery.Page firstPage = db().query(new PlayersTablePageQuery(serverUUID(), PlayersTableSort.LAST_SEEN, true, null, null, 0, 1));
+        assertEquals(expected.subList(0, 1), firstPage.getPlayerUUIDs());
+        PlayersTablePageQuery.Cursor cursor = firstPage.getNext().orElseThrow(AssertionError::new);
+
+        PlayersTablePageQuery.Page secondPage = db().query(new PlayersTablePageQuery(serverUUID(), PlayersTableSort.LAST_SEEN, true, null,
+                PlayersTablePageQuery.Cursor.parse(cursor.toString(), PlayersTableSort.LAST_SEEN), 0, 1));
+        assertEquals(expected.subList(1, 2), secondPage.getPlayerUUIDs());
+        assertFalse(secondPage.getNext().isPresent());
+    }
+
+    @Test
+    default void playersTableSearchMatchesNamePrefixLiterally() {
+        storePlayersWithSessions();
+
+        PlayersTablePageQuery.Page found = db().query(new PlayersTablePageQuery(null, PlayersTableSort.LAST_SEEN, true, "Test_Player_t", null, 0, 10));
+        assertEquals(List.of(player2UUID), found.getPlayerUUIDs());
+
+        PlayersTablePageQuery.Page wildcard = db().query(new PlayersTablePageQuery(null, PlayersTableSort.LAST_SEEN, true, "Test%", null, 0, 10));
+        assertTrue(wildcard.getPlayerUUIDs().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLTransactionRollbackException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CoalescedTransaction}.
+ *
+ * @author AuroraLS3
+ */
+public interface CoalescedTransactionTest extends DatabaseTestPreparer {
+
+    @Test
+    default void deadlockedMemberAttemptsWholeBatchAgain() {
+        AtomicInteger attempts = new AtomicInteger();
+        Transaction deadlockedOnce = new Transaction() {
+            @Override
+            protected void performOperations() {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new DBOpException("Deadlock", new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213));
+                }
+                executeOther(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+            }
+        };
+        CoalescedTransaction batch = new CoalescedTransaction(List.of(
+                new StoreWorldNameTransaction(serverUUID(), worlds[0]),
+                deadlockedOnce
+        ));
+
+        executeTransactions(batch);
+
+        assertEquals(2, attempts.get());
+        assertTrue(batch.getFailure(deadlockedOnce).isEmpty());
+        assertTrue(db().query(WorldTimesQueries.fetchWorldId(serverUUID(), worlds[0])).isPresent());
+        assertTrue(db().query(WorldTimesQueries.fetchWorldId(serverUUID(), worlds[1])).isPresent());
+    }
+
+    @Test
+    default void failedMemberDoesNotFailOtherMembers() {
+        Transaction failing = new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+                throw new DBOpException("Failure after the world was stored");
+            }
+        };
+        CoalescedTransaction batch = new CoalescedTransaction(List.of(
+                new StoreWorldNameTransaction(serverUUID(), worlds[0]),
+                failing
+        ));
+
+        executeTransactions(batch);
+
+        assertTrue(batch.getFailure(failing).isPresent());
+        assertTrue(db().query(WorldTimesQueries.fetchWorldId(serverUUID(), worlds[0])).isPresent());
+        assertTrue(db().query(WorldTimesQueries.fetchWorldId(serverUUID(), worlds[1])).isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.IdentityCache;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.storage.database.transactions.CoalescedTransaction;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PlayerRegisterTransaction} and the {@link IdentityCache} updates of transactions.
+ *
+ * @author AuroraLS3
+ */
+public interface PlayerRegisterTransactionTest extends DatabaseTestPreparer {
+
+    default IdentityCache.Ids<UUID> cachedUserIds() {
+        return ((SQLDB) db()).getIdentityCache().getUserIds();
+    }
+
+    @Test
+    default void registeredUserIdIsCachedOnlyAfterCommit() {
+        cachedUserIds().remove(playerUUID);
+        AtomicReference<Optional<Integer>> cachedBeforeCommit = new AtomicReference<>();
+
+        executeTransactions(new PlayerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME) {
+            @Override
+            protected void performOperations() {
+                super.performOperations();
+                cachedBeforeCommit.set(cachedUserIds().get(playerUUID));
+            }
+        });
+
+        assertTrue(cachedBeforeCommit.get().isEmpty());
+        Optional<Integer> storedId = db().query(BaseUserQueries.fetchUserId(playerUUID));
+        assertTrue(storedId.isPresent());
+        assertEquals(storedId, cachedUserIds().get(playerUUID));
+    }
+
+    @Test
+    default void userIdOfRolledBackRegisterIsNotCached() {
+        cachedUserIds().remove(playerUUID);
+        PlayerRegisterTransaction failing = new PlayerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME) {
+            @Override
+            protected void performOperations() {
+                super.performOperations();
+                throw new DBOpException("Failure after the player was inserted");
+            }
+        };
+
+        executeTransactions(new CoalescedTransaction(List.of(failing)));
+
+        assertTrue(db().query(BaseUserQueries.fetchUserId(playerUUID)).isEmpty());
+        assertTrue(cachedUserIds().get(playerUUID).isEmpty());
+    }
+
+    @Test
+    default void registerChecksDatabaseInsteadOfOutdatedCache() {
+        // Another server might have removed the player after the id was cached.
+        cachedUserIds().put(playerUUID, 999999);
+
+        executeTransactions(new PlayerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME));
+
+        Optional<Integer> storedId = db().query(BaseUserQueries.fetchUserId(playerUUID));
+        assertTrue(storedId.isPresent());
+        assertEquals(storedId, cachedUserIds().get(playerUUID));
+    }
+}
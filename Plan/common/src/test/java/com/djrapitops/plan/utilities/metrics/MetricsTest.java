@@ -0,0 +1,126 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Metric}, {@link PrometheusTextFormat} and {@link SlowQueryLog}.
+ *
+ * @author AuroraLS3
+ */
+class MetricsTest {
+
+    @AfterEach
+    void disableSlowQueryLog() {
+        SlowQueryLog.disable();
+    }
+
+    @Test
+    void histogramCountsAreCumulative() {
+        Histogram histogram = new Histogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.SECONDS.toNanos(20));
+
+        long[] counts = histogram.getCumulativeCounts();
+        assertEquals(1, counts[0]); // <= 0.5ms
+        assertEquals(1, counts[2]); // <= 2.5ms
+        assertEquals(2, counts[3]); // <= 5ms
+        assertEquals(2, counts[counts.length - 2]); // <= 10s
+        assertEquals(3, counts[counts.length - 1]); // +Inf
+        assertEquals(3, histogram.getCount());
+        assertEquals(20.0031, histogram.getSumSeconds(), 0.00001);
+    }
+
+    @Test
+    void lambdaClassesAreNamedAfterDefiningClass() {
+        Runnable lambda = () -> {};
+        assertEquals("MetricsTest", Metric.nameOf(lambda.getClass()));
+        assertEquals("MetricsTest", Metric.nameOf(MetricsTest.class));
+    }
+
+    @Test
+    void anonymousClassesAreNamedAfterDefiningMethod() {
+        Runnable anonymous = new Runnable() {
+            @Override
+            public void run() {
+                // Only the class is needed
+            }
+        };
+        assertEquals("MetricsTest.anonymousClassesAreNamedAfterDefiningMethod", Metric.nameOf(anonymous.getClass()));
+
+        Supplier<Runnable> lambda = () -> new Runnable() {
+            @Override
+            public void run() {
+                // Only the class is needed
+            }
+        };
+        Runnable anonymousInLambda = lambda.get();
+        assertEquals("MetricsTest.anonymousClassesAreNamedAfterDefiningMethod", Metric.nameOf(anonymousInLambda.getClass()));
+    }
+
+    @Test
+    void histogramsAreWrittenInPrometheusFormat() {
+        Metric.QUERY.record("PrometheusFormatTestQuery", TimeUnit.MILLISECONDS.toNanos(2));
+
+        String written = PrometheusTextFormat.format(Metric.QUERY);
+        assertTrue(written.contains("# TYPE plan_query_duration_seconds histogram\n"), written);
+        assertTrue(written.contains("plan_query_duration_seconds_bucket{query=\"PrometheusFormatTestQuery\",le=\"0.001\"} 0\n"), written);
+        assertTrue(written.contains("plan_query_duration_seconds_bucket{query=\"PrometheusFormatTestQuery\",le=\"0.0025\"} 1\n"), written);
+        assertTrue(written.contains("plan_query_duration_seconds_bucket{query=\"PrometheusFormatTestQuery\",le=\"+Inf\"} 1\n"), written);
+        assertTrue(written.contains("plan_query_duration_seconds_count{query=\"PrometheusFormatTestQuery\"} 1\n"), written);
+    }
+
+    @Test
+    void onlySlowQueriesAreLoggedWithParameters(@TempDir Path dir) throws IOException {
+        File logFile = dir.resolve(SlowQueryLog.FILE_NAME).toFile();
+        SlowQueryLog.enable(100, logFile);
+        assertTrue(SlowQueryLog.isEnabled());
+
+        SlowQueryLog.logIfSlow("SELECT fast", Map.of(1, "a"), TimeUnit.MILLISECONDS.toNanos(5));
+        SlowQueryLog.logIfSlow("SELECT slow WHERE uuid=?", Map.of(1, "b"), TimeUnit.MILLISECONDS.toNanos(250));
+
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        assertEquals(1, lines.size(), () -> "Unexpected lines: " + lines);
+        assertTrue(lines.get(0).contains("250 ms | SELECT slow WHERE uuid=? | parameters: {1=b}"), lines.get(0));
+    }
+
+    @Test
+    void disabledSlowQueryLogDoesNotWrite(@TempDir Path dir) {
+        File logFile = dir.resolve(SlowQueryLog.FILE_NAME).toFile();
+        SlowQueryLog.enable(100, logFile);
+        SlowQueryLog.disable();
+
+        SlowQueryLog.logIfSlow("SELECT slow", Map.of(), TimeUnit.SECONDS.toNanos(5));
+        assertFalse(SlowQueryLog.isEnabled());
+        assertFalse(logFile.exists());
+    }
+}
@@ -22,7 +22,6 @@ import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import me.lucko.fabric.api.permissions.v0.Permissions;
 import net.fabricmc.fabric.api.message.v1.ServerMessageEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.playeranalytics.plan.commands.FabricCommandManager;
 import net.playeranalytics.plan.gathering.listeners.FabricListener;
@@ -30,16 +29,13 @@ import net.playeranalytics.plan.gathering.listeners.events.PlanFabricEvents;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
 public class FabricAFKListener implements FabricListener {
 
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker afkTracker;
-    private final Map<UUID, Boolean> ignorePermissionInfo;
     private final ErrorLogger errorLogger;
     private boolean isEnabled = false;
     private boolean wasRegistered = false;
@@ -47,7 +43,6 @@ public class FabricAFKListener implements FabricListener {
     @Inject
     public FabricAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         FabricAFKListener.assignAFKTracker(config);
     }
@@ -64,25 +59,17 @@ public class FabricAFKListener implements FabricListener {
 
     private void event(ServerPlayerEntity player) {
         try {
-            UUID uuid = player.getUuid();
-            long time = System.currentTimeMillis();
-
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> checkPermission(player, com.djrapitops.plan.settings.Permissions.IGNORE_AFK.getPermission()));
-            if (ignored) {
-                afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-                return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
-            }
-
-            afkTracker.performedAction(uuid, time);
+            afkTracker.performedAction(player.getUuid(), System.currentTimeMillis(), player, FabricAFKListener::hasIgnorePermission);
         } catch (Exception e) {
             errorLogger.error(e, ErrorContext.builder().related(getClass(), player).build());
         }
     }
 
-    private boolean checkPermission(ServerPlayerEntity player, String permission) {
+    private static boolean hasIgnorePermission(ServerPlayerEntity player) {
+        return checkPermission(player, com.djrapitops.plan.settings.Permissions.IGNORE_AFK.getPermission());
+    }
+
+    private static boolean checkPermission(ServerPlayerEntity player, String permission) {
         if (FabricCommandManager.isPermissionsApiAvailable()) {
             return Permissions.check(player, permission);
         } else {
@@ -113,12 +100,6 @@ public class FabricAFKListener implements FabricListener {
                 afkTracker.usedAfkCommand(uuid, System.currentTimeMillis());
             }
         });
-        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
-            if (!this.isEnabled) {
-                return;
-            }
-            ignorePermissionInfo.remove(handler.player.getUuid());
-        });
         PlanFabricEvents.ON_MOVE.register((handler, packet) -> {
             if (!this.isEnabled) {
                 return;
@@ -24,7 +24,8 @@
 package net.playeranalytics.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.gathering.timed.PingSampler;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -53,7 +54,7 @@ import java.util.concurrent.TimeUnit;
 public class FabricPingCounter extends TaskSystem.Task implements FabricListener {
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -77,7 +78,7 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
         this.serverInfo = serverInfo;
         this.server = server;
         startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        playerHistory = new PingSampler(() -> serverInfo.getServerUUID());
         ServerPlayConnectionEvents.JOIN.register((handler, sender, minecraftServer) -> onPlayerJoin(handler.player));
         ServerPlayConnectionEvents.DISCONNECT.register((handler, minecraftServer) -> onPlayerQuit(handler.player));
     }
@@ -98,25 +99,17 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = playerHistory.players();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
             if (player != null) {
                 int ping = getPing(player);
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                int samplesPerRow = PingSampler.getSamplesPerRow(dbSystem.getDatabase().getBackpressure());
+                Optional<Ping> row = playerHistory.addSample(uuid, time, ping, samplesPerRow);
+                if (row.isPresent()) {
+                    dbSystem.getDatabase().executeTransaction(new PingStoreTransaction(uuid, row.get()));
                 }
             } else {
                 iterator.remove();
@@ -137,11 +130,11 @@ public class FabricPingCounter extends TaskSystem.Task implements FabricListener
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.addPlayer(uuid);
     }
 
     public void removePlayer(ServerPlayerEntity player) {
-        playerHistory.remove(player.getUuid());
+        playerHistory.removePlayer(player.getUuid());
         startRecording.remove(player.getUuid());
     }
 
@@ -28,9 +28,7 @@ import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 
 import javax.inject.Inject;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -45,7 +43,6 @@ public class NukkitAFKListener implements Listener {
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker afkTracker;
 
-    private final Map<UUID, Boolean> ignorePermissionInfo;
     private final ErrorLogger errorLogger;
 
     @Inject
@@ -54,7 +51,6 @@ public class NukkitAFKListener implements Listener {
             ErrorLogger errorLogger
     ) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         NukkitAFKListener.assignAFKTracker(config);
     }
@@ -69,22 +65,14 @@ public class NukkitAFKListener implements Listener {
         return afkTracker;
     }
 
+    private static boolean hasIgnorePermission(Player player) {
+        return player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+    }
+
     private void event(PlayerEvent event) {
         try {
             Player player = event.getPlayer();
-            UUID uuid = player.getUniqueId();
-            long time = System.currentTimeMillis();
-
-            boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
-            if (ignored) {
-                afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-                return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
-            }
-
-            afkTracker.performedAction(uuid, time);
+            afkTracker.performedAction(player.getUniqueId(), System.currentTimeMillis(), player, NukkitAFKListener::hasIgnorePermission);
         } catch (Exception e) {
             errorLogger.error(e, ErrorContext.builder().related(event).build());
         }
@@ -110,9 +98,4 @@ public class NukkitAFKListener implements Listener {
         }
     }
 
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onLeave(PlayerQuitEvent event) {
-        ignorePermissionInfo.remove(event.getPlayer().getUniqueId());
-    }
-
 }
\ No newline at end of file
@@ -30,7 +30,7 @@ import cn.nukkit.event.Listener;
 import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -56,7 +56,7 @@ import java.util.concurrent.TimeUnit;
 public class NukkitPingCounter extends TaskSystem.Task implements Listener {
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -75,7 +75,7 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        playerHistory = new PingSampler(() -> serverInfo.getServerUUID());
     }
 
     @Override
@@ -91,25 +91,17 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = playerHistory.players();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             Optional<Player> player = Server.getInstance().getPlayer(uuid);
             if (player.isPresent()) {
                 int ping = player.get().getPing();
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                int samplesPerRow = PingSampler.getSamplesPerRow(dbSystem.getDatabase().getBackpressure());
+                Optional<Ping> row = playerHistory.addSample(uuid, time, ping, samplesPerRow);
+                if (row.isPresent()) {
+                    dbSystem.getDatabase().executeTransaction(new PingStoreTransaction(uuid, row.get()));
                 }
             } else {
                 iterator.remove();
@@ -129,11 +121,11 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.addPlayer(uuid);
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.getUniqueId());
+        playerHistory.removePlayer(player.getUniqueId());
         startRecording.remove(player.getUniqueId());
     }
 
@@ -24,6 +24,9 @@ export const CurrentPlayerbaseCardWithData = ({data, title}) => {
                 </h6>
             </Card.Header>
             <GroupVisualizer groups={actualGroups} name={t('html.label.players')}/>
+            <Card.Footer>
+                <small>{t('html.text.activityApproximate')}</small>
+            </Card.Footer>
         </Card>
     )
 }
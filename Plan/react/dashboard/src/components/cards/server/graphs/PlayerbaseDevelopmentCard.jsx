@@ -29,6 +29,9 @@ export const PlayerbaseDevelopmentCardWithData = ({data, title}) => {
                 </h6>
             </Card.Header>
             <PlayerbaseGraph data={data}/>
+            <Card.Footer>
+                <small>{t('html.text.activityApproximate')}</small>
+            </Card.Footer>
         </Card>
     )
 }
@@ -30,13 +30,8 @@ import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.entity.living.player.PlayerChangeClientSettingsEvent;
 import org.spongepowered.api.event.filter.cause.First;
 import org.spongepowered.api.event.message.PlayerChatEvent;
-import org.spongepowered.api.event.network.ServerSideConnectionEvent;
-import org.spongepowered.api.profile.GameProfile;
 
 import javax.inject.Inject;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -51,13 +46,11 @@ public class SpongeAFKListener {
     // Static so that /reload does not cause afk tracking to fail.
     static AFKTracker afkTracker;
 
-    private final Map<UUID, Boolean> ignorePermissionInfo;
     private final ErrorLogger errorLogger;
 
     @Inject
     public SpongeAFKListener(PlanConfig config, ErrorLogger errorLogger) {
         this.errorLogger = errorLogger;
-        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         SpongeAFKListener.assignAFKTracker(config);
     }
@@ -90,20 +83,12 @@ public class SpongeAFKListener {
         performedAction(player);
     }
 
-    private void performedAction(ServerPlayer player) {
-        UUID uuid = player.uniqueId();
-        long time = System.currentTimeMillis();
-
-        boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
-        if (ignored) {
-            afkTracker.hasIgnorePermission(uuid);
-            ignorePermissionInfo.put(uuid, true);
-            return;
-        } else {
-            ignorePermissionInfo.put(uuid, false);
-        }
+    private static boolean hasIgnorePermission(ServerPlayer player) {
+        return player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+    }
 
-        afkTracker.performedAction(uuid, time);
+    private void performedAction(ServerPlayer player) {
+        afkTracker.performedAction(player.uniqueId(), System.currentTimeMillis(), player, SpongeAFKListener::hasIgnorePermission);
     }
 
     @Listener(order = Order.POST)
@@ -120,9 +105,4 @@ public class SpongeAFKListener {
     public void onSettingsChange(PlayerChangeClientSettingsEvent event) {
         event(event, event.player());
     }
-
-    @Listener(order = Order.POST)
-    public void onLeave(ServerSideConnectionEvent.Disconnect event) {
-        event.profile().map(GameProfile::uuid).ifPresent(ignorePermissionInfo::remove);
-    }
 }
@@ -24,7 +24,7 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
@@ -55,7 +55,7 @@ import java.util.concurrent.TimeUnit;
 public class SpongePingCounter extends TaskSystem.Task {
 
     private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingSampler playerHistory;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -73,7 +73,7 @@ public class SpongePingCounter extends TaskSystem.Task {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
-        playerHistory = new HashMap<>();
+        playerHistory = new PingSampler(() -> serverInfo.getServerUUID());
         startRecording = new ConcurrentHashMap<>();
     }
 
@@ -90,25 +90,17 @@ public class SpongePingCounter extends TaskSystem.Task {
             }
         }
 
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
+        Iterator<UUID> iterator = playerHistory.players();
 
         while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
+            UUID uuid = iterator.next();
             Optional<ServerPlayer> player = Sponge.server().player(uuid);
             if (player.isPresent()) {
                 int ping = getPing(player.get());
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
+                int samplesPerRow = PingSampler.getSamplesPerRow(dbSystem.getDatabase().getBackpressure());
+                Optional<Ping> row = playerHistory.addSample(uuid, time, ping, samplesPerRow);
+                if (row.isPresent()) {
+                    dbSystem.getDatabase().executeTransaction(new PingStoreTransaction(uuid, row.get()));
                 }
             } else {
                 iterator.remove();
@@ -128,11 +120,11 @@ public class SpongePingCounter extends TaskSystem.Task {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        playerHistory.addPlayer(uuid);
     }
 
     public void removePlayer(UUID uuid) {
-        playerHistory.remove(uuid);
+        playerHistory.removePlayer(uuid);
         startRecording.remove(uuid);
     }
 